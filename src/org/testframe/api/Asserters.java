@@ -3,11 +3,16 @@ package org.testframe.api;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Static class containing procedures to simplify writing assertions in tests. 
@@ -16,6 +21,13 @@ import java.util.function.Predicate;
  * bit of information is not repeated in any procedure's Javadoc, but I do try 
  * to make a note of other throwables that might arise even if they seem obvious 
  * (e.g., <code>NullPointerException</code>).
+ * <p>The test failure explanation is only put together if the assertion 
+ * fails, so an assertion that passes doesn't build any strings, not even from 
+ * the values it's given. For a message that's costly to build in the first 
+ * place, each assertion that takes a message also takes a 
+ * <code>Supplier&lt;String&gt;</code> instead, which is only called if the 
+ * assertion fails. For example, <code>assertEquals(expected, actual, () -&gt; 
+ * "Balance of " + account.describe() + " should match")</code>.</p>
  * <p>The following assertions will not be provided:</p>
  * <ul>
  * <li>No <code>assertArrayEquals()</code> will be provided. Just use 
@@ -39,6 +51,14 @@ public class Asserters {
     
     private static final int TIMEOUT_POLLING_FREQUENCY_MILLISECONDS = 128;
     
+    private static final int HEX_WINDOW_RADIUS = 8;
+    
+    private static final int ARRAY_EXCERPT_LENGTH = 2 * HEX_WINDOW_RADIUS;
+    
+    private static final int TOLERANCE_BLOCK_LENGTH = 1024;
+    
+    private static final int MULTISET_REPORT_LIMIT = 32;
+    
     private static String prepMsg(String intermediate) {
         if (intermediate.startsWith(". ")) {
             return intermediate.substring(2);
@@ -47,6 +67,69 @@ public class Asserters {
         }
     }
 
+    private static String supplyMsg(Object msg) {
+        if (msg instanceof Supplier<?>) {
+            return String.valueOf(((Supplier<?>) msg).get());
+        }
+        return String.valueOf(msg);
+    }
+    
+    private static String prepMsg(Object msg, String details) {
+        return prepMsg(supplyMsg(msg) + ". " + details);
+    }
+    
+    private static void checkLengths(int expLen, int actLen, Object msg) {
+        if (expLen != actLen) {
+            String errMsg = prepMsg(msg, 
+                    "Arrays differ in length: expected has " + expLen 
+                    + " elements but actual has " + actLen + " elements");
+            throw new AssertionError(errMsg);
+        }
+    }
+    
+    private static String toHex(byte b) {
+        return String.format("0x%02X", b & 0xFF);
+    }
+    
+    private static String hexWindow(byte[] bytes, int index) {
+        int start = Math.max(0, index - HEX_WINDOW_RADIUS);
+        int end = Math.min(bytes.length, index + HEX_WINDOW_RADIUS + 1);
+        StringBuilder builder = new StringBuilder();
+        if (start > 0) {
+            builder.append("... ");
+        }
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                builder.append(' ');
+            }
+            String hex = String.format("%02X", bytes[i] & 0xFF);
+            if (i == index) {
+                builder.append('[').append(hex).append(']');
+            } else {
+                builder.append(hex);
+            }
+        }
+        if (end < bytes.length) {
+            builder.append(" ...");
+        }
+        return builder.toString();
+    }
+    
+    private static String excerpt(int length, IntFunction<String> element) {
+        int end = Math.min(length, ARRAY_EXCERPT_LENGTH);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < end; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(element.apply(i));
+        }
+        if (end < length) {
+            builder.append(", ...");
+        }
+        return builder.append("] of length ").append(length).toString();
+    }
+    
     /**
      * Asserts that two integers are equal. If they are indeed equal and there 
      * are no other assertions in the test, the test should pass. But if they 
@@ -72,10 +155,29 @@ public class Asserters {
      * explanation.
      */
     public static void assertEquals(int expected, int actual, String msg) {
-        String intermediate = msg + ". Expected = " + expected + ". Actual = " 
-                + actual;
-        String errMsg = prepMsg(intermediate);
-        assert expected == actual : errMsg;
+        checkEquals(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two integers are equal. If they are indeed equal and there 
+     * are no other assertions in the test, the test should pass. But if they 
+     * are not equal, the test should fail.
+     * @param expected The expected integer. For example, &minus;489.
+     * @param actual The actual integer. For example, 22050.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. For example, "The two lists 
+     * have the same elements and should therefore they should be the same 
+     * size." The expected and actual values will be appended to the test 
+     * failure explanation. The supplier is only called if the assertion fails.
+     */
+    public static void assertEquals(int expected, int actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
+    }
+    
+    private static void checkEquals(int expected, int actual, Object msg) {
+        assert expected == actual : prepMsg(msg, "Expected = " + expected 
+                + ". Actual = " + actual);
     }
     
     /**
@@ -103,10 +205,29 @@ public class Asserters {
      * explanation.
      */
     public static void assertEquals(long expected, long actual, String msg) {
-        String intermediate = msg + ". Expected = " + expected + ". Actual = " 
-                + actual;
-        String errMsg = prepMsg(intermediate);
-        assert expected == actual : errMsg;
+        checkEquals(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two integers are equal. If they are indeed equal and there 
+     * are no other assertions in the test, the test should pass. But if they 
+     * are not equal, the test should fail.
+     * @param expected The expected integer. For example, &minus;4294968268.
+     * @param actual The actual integer. For example, 4294990318.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. For example, "The two lists 
+     * have the same elements and should therefore they should be the same 
+     * size." The expected and actual values will be appended to the test 
+     * failure explanation. The supplier is only called if the assertion fails.
+     */
+    public static void assertEquals(long expected, long actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
+    }
+    
+    private static void checkEquals(long expected, long actual, Object msg) {
+        assert expected == actual : prepMsg(msg, "Expected = " + expected 
+                + ". Actual = " + actual);
     }
     
     /**
@@ -162,6 +283,24 @@ public class Asserters {
          assertEquals(expected, actual, DEFAULT_TEST_DELTA, msg);
     }
     
+    /**
+     * Asserts that two floating point numbers are equal, or very close to 
+     * equal, according to the default variance, {@link #DEFAULT_TEST_DELTA}.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values are NaN, regardless of their bit patterns.</p>
+     * @param expected The expected value. For example, 3.14159.
+     * @param actual The actual value. For example, 3.14161.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. For example, "The number 
+     * should converge to &pi;." The expected, actual and default delta values 
+     * will be appended to the test failure explanation. The supplier is only 
+     * called if the assertion fails.
+     */
+    public static void assertEquals(double expected, double actual, 
+            Supplier<String> msg) {
+         assertEquals(expected, actual, DEFAULT_TEST_DELTA, msg);
+    }
+    
     /**
      * Asserts that two floating point numbers are equal, or very close to 
      * equal, according to a specified variance.
@@ -182,10 +321,38 @@ public class Asserters {
      */
     public static void assertEquals(double expected, double actual, 
             double delta, String msg) {
+        checkEquals(expected, actual, delta, msg);
+    }
+    
+    /**
+     * Asserts that two floating point numbers are equal, or very close to 
+     * equal, according to a specified variance.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values are NaN, regardless of their bit patterns.</p>
+     * @param expected The expected value. For example, 3.14159.
+     * @param actual The actual value. For example, 3.14161.
+     * @param delta The maximum allowed variance for <code>expected</code> and 
+     * <code>actual</code> to differ and still be considered close enough to be 
+     * equal. For example, 0.00001. Ought to be at least 0.0 but is preferably 
+     * positive, though less than 1.0. Negative variances are not recommended, 
+     * and the behavior is not at all guaranteed to remain consistent from one 
+     * version of this framework to the next.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. For example, "The number 
+     * should converge to &pi;." The expected, actual and delta values will be 
+     * appended to the test failure explanation. The supplier is only called if 
+     * the assertion fails.
+     */
+    public static void assertEquals(double expected, double actual, 
+            double delta, Supplier<String> msg) {
+        checkEquals(expected, actual, delta, msg);
+    }
+    
+    private static void checkEquals(double expected, double actual, 
+            double delta, Object msg) {
         double difference = Math.abs(expected - actual);
-        String message = prepMsg(msg + ". Expected " + expected 
+        assert delta >= difference : prepMsg(msg, "Expected " + expected 
                 + " to not differ from " + actual + " by more than " + delta);
-        assert delta >= difference : message;
     }
     
     /**
@@ -225,10 +392,36 @@ public class Asserters {
      */
     public static void assertEquals(Object expected, Object actual, 
             String msg) {
-        String intermediate = msg + ". Expected = " + expected.toString() 
-                + ". Actual = " + actual;
-        String errMsg = prepMsg(intermediate);
-        assert expected.equals(actual) : errMsg;
+        checkEquals(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two objects are equal according to the pertinent 
+     * <code>equals()</code> function. If they are indeed equal and there are no 
+     * other assertions in the test, the test should pass. But if they are not 
+     * equal, the test should fail. The test failure explanation will state what 
+     * the expected value was and what the actual value was.
+     * @param expected The expected object. For example, a 
+     * <code>LocalDateTime</code> object for right now. Note that it is this 
+     * parameter's <code>equals()</code> function that will be called.
+     * @param actual The actual object. For example, a 
+     * <code>LocalDateTime</code> object for this time of day tomorrow.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. For example, "Transaction 
+     * date of withdrawal from account A should match date of deposit to account 
+     * B." The expected and actual values will be appended to the test failure 
+     * explanation. The supplier is only called if the assertion fails.
+     * @throws NullPointerException If <code>expected</code> is null.
+     */
+    public static void assertEquals(Object expected, Object actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
+    }
+    
+    private static void checkEquals(Object expected, Object actual, 
+            Object msg) {
+        assert expected.equals(actual) : prepMsg(msg, "Expected = " 
+                + expected.toString() + ". Actual = " + actual);
     }
     
     /**
@@ -257,20 +450,31 @@ public class Asserters {
      * @param msg A message for the test failure explanation.
      */
     public static void assertEquals(int[] expected, int[] actual, String msg) {
-        if (expected.length != actual.length) {
-            String intermediate = msg 
-                    + ". Arrays differ in length: expected has " 
-                    + expected.length + " elements but actual has " 
-                    + actual.length + " elements";
-            String errMsg = prepMsg(intermediate);
-            throw new AssertionError(errMsg);
-        }
-        for (int i = 0; i < expected.length; i++) {
-            String intermediate = msg + ". Arrays first differ at index " + i 
-                    + ", expected " + expected[i] + " but was " + actual[i];
-            String errMsg = prepMsg(intermediate);
-            assert expected[i] == actual[i] : errMsg;
-        }
+        checkEquals(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts the two arrays of integers are of the same length and contain the 
+     * same numbers. The contents of the arrays will be compared only if the 
+     * arrays match in length.
+     * @param expected The expected array. For example, {1, 3, 4, 7, 11, 18, 29, 
+     * 47, 76}.
+     * @param actual The actual array. Examples: {2, 1, 3, 4, 7, 11, 18, 29, 47, 
+     * 76}, {1, 3, 4, 7, 11, 12, 18, 21, 28}.
+     * @param msg Supplies a message for the test failure explanation. The 
+     * supplier is only called if the assertion fails.
+     */
+    public static void assertEquals(int[] expected, int[] actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
+    }
+    
+    private static void checkEquals(int[] expected, int[] actual, Object msg) {
+        checkLengths(expected.length, actual.length, msg);
+        int index = Arrays.mismatch(expected, actual);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected " + expected[index] + " but was " 
+                + actual[index]);
     }
     
     /**
@@ -340,6 +544,28 @@ public class Asserters {
         assertEquals(expected, actual, DEFAULT_TEST_DELTA, msg);
     }
     
+    /**
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order within {@link #DEFAULT_TEST_DELTA}. This 
+     * procedure stops at the first evidence of failure. First, it checks that 
+     * the arrays are of the same length. If they are, it proceeds to compare 
+     * the numbers index by index, stopping on finding a difference in excess of 
+     * the variance even if there are more numbers to compare.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 4.0, 3.0, 3.25, 3.16 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 4.0, 3.0, 3.2507, 3.15999 in that order.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. For example, "Numbers should converge to &pi;." 
+     * The supplier is only called if the assertion fails.
+     */
+    public static void assertEquals(double[] expected, double[] actual, 
+            Supplier<String> msg) {
+        assertEquals(expected, actual, DEFAULT_TEST_DELTA, msg);
+    }
+    
     /**
      * Asserts that two arrays of 64-bit floating point values have the same 
      * numbers in the same order within a specified variance. This procedure 
@@ -365,21 +591,76 @@ public class Asserters {
      */
     public static void assertEquals(double[] expected, double[] actual, 
             double delta, String msg) {
+        checkEquals(expected, actual, delta, msg);
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order within a specified variance. This procedure 
+     * stops at the first evidence of failure. First, it checks that the arrays 
+     * are of the same length. If they are, it proceeds to compare the numbers 
+     * index by index, stopping on finding a difference in excess of the 
+     * variance even if there are more numbers to compare.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 4.0, 3.0, 3.25, 3.16 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 4.0, 3.0, 3.2507, 3.15999 in that order.
+     * @param delta The maximum allowed variance for the numbers in 
+     * <code>expected</code> and <code>actual</code> to differ and still be 
+     * considered close enough to be equal. For example, 0.00001. Ought to be at 
+     * least 0.0 but is preferably positive and not subnormal, though less than 
+     * 1.0. Negative variances are not recommended, and the behavior is not at 
+     * all guaranteed to remain consistent from one version of this framework to 
+     * the next.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. For example, "Numbers should converge to &pi;." 
+     * The supplier is only called if the assertion fails.
+     */
+    public static void assertEquals(double[] expected, double[] actual, 
+            double delta, Supplier<String> msg) {
+        checkEquals(expected, actual, delta, msg);
+    }
+    
+    private static void checkEquals(double[] expected, double[] actual, 
+            double delta, Object msg) {
         int expLen = expected.length;
         int actLen = actual.length;
-        String lenMsg = msg + ". Arrays differ in length: expected has " 
-                + expLen + " elements but actual has " + actLen + " elements";
-        String intermediateLenMsg = prepMsg(lenMsg);
-        assert expLen == actLen : intermediateLenMsg;
-        for (int i = 0; i < expLen; i++) {
-            double difference = Math.abs(expected[i] - actual[i]);
-            String intermediate = msg + ". Arrays first differ at index " + i 
-                    + ", expected at least " + (expected[i] - delta) 
-                    + " or at most " + (expected[i] + delta) + " but was " 
-                    + actual[i];
-            String errMsg = prepMsg(intermediate);
-            assert delta >= difference : errMsg;
+        assert expLen == actLen : prepMsg(msg, 
+                "Arrays differ in length: expected has " + expLen 
+                + " elements but actual has " + actLen + " elements");
+        // Arrays.mismatch() can't be used here, since it takes NaN to be 
+        // equal to NaN and it doesn't allow for a variance
+        int index = firstBeyondDelta(expected, actual, delta);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected at least " + (expected[index] - delta) 
+                + " or at most " + (expected[index] + delta) + " but was " 
+                + actual[index]);
+    }
+    
+    // The inner loop of each block has no early exit and reduces to a single 
+    // maximum, which the JIT compiler can turn into vector instructions. Only 
+    // a block whose maximum is beyond the variance, or NaN, is scanned again 
+    // element by element to find the index
+    private static int firstBeyondDelta(double[] expected, double[] actual, 
+            double delta) {
+        int len = expected.length;
+        for (int start = 0; start < len; start += TOLERANCE_BLOCK_LENGTH) {
+            int end = Math.min(len, start + TOLERANCE_BLOCK_LENGTH);
+            double maxDiff = 0.0;
+            for (int i = start; i < end; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+            }
+            if (!(maxDiff <= delta)) {
+                for (int i = start; i < end; i++) {
+                    if (!(Math.abs(expected[i] - actual[i]) <= delta)) {
+                        return i;
+                    }
+                }
+            }
         }
+        return -1;
     }
     
     /**
@@ -400,674 +681,1891 @@ public class Asserters {
      * Asserts that two arrays of <code>Object</code> instances are equal. The 
      * elements are the same and in the same order. 
      * @param expected The expected array. For example, the colors cyan, 
-     * magenta, yellow and black. Should not contain any nulls.
+     * magenta, yellow and black. May contain nulls, which are only equal to 
+     * nulls.
      * @param actual The actual array. For example, the colors cyan, black, 
      * yellow and magenta.
      * @param msg A message to include in the test failure explanation if the 
      * test fails.
-     * @throws NullPointerException If two arrays are of the same length and 
-     * <code>expected</code> contains even just one null.
      */
     public static void assertEquals(Object[] expected, Object[] actual, 
             String msg) {
-        int expLen = expected.length;
-        int actLen = actual.length;
-        String diffLenMsgIntermediate = msg 
-                + ". Arrays differ in length: expected has " + expLen 
-                + " elements but actual has " + actLen + " elements";
-        String diffLenMsg = prepMsg(diffLenMsgIntermediate);
-        assert expLen == actLen : diffLenMsg;
-        int index = 0;
-        boolean equalSoFar = true;
-        while (index < expLen && equalSoFar) {
-            equalSoFar = expected[index].equals(actual[index]);
-            index++;
-        }
-        String intermediate = msg + ". Expected " + Arrays.toString(expected) 
-                + " but was " + Arrays.toString(actual);
-        String errMsg = prepMsg(intermediate);
-        assert equalSoFar : errMsg;
+        checkEquals(expected, actual, msg);
     }
     
     /**
-     * Asserts that an object is null. If the object is not null, the test 
-     * failure explanation will include the object's <code>toString()</code>.
-     * <p>To assert that an object is <em>not</em> null, use a plain Java assert 
-     * with an appropriate message.</p>
-     * @param object The object to assert is null. For example, a field that is 
-     * not supposed to be initialized at construction time.
+     * Asserts that two arrays of <code>Object</code> instances are equal. The 
+     * elements are the same and in the same order.
+     * @param expected The expected array. For example, the colors cyan, 
+     * magenta, yellow and black. May contain nulls, which are only equal to 
+     * nulls.
+     * @param actual The actual array. For example, the colors cyan, black, 
+     * yellow and magenta.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the test fails. The supplier is only called if the assertion fails.
      */
-    public static void assertNull(Object object) {
-        assertNull(object, "");
+    public static void assertEquals(Object[] expected, Object[] actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
+    }
+    
+    private static void checkEquals(Object[] expected, Object[] actual, 
+            Object msg) {
+        int expLen = expected.length;
+        int actLen = actual.length;
+        assert expLen == actLen : prepMsg(msg, 
+                "Arrays differ in length: expected has " + expLen 
+                + " elements but actual has " + actLen + " elements");
+        int index = Arrays.mismatch(expected, actual);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected " + expected[index] + " but was " 
+                + actual[index]);
     }
     
     /**
-     * Asserts that an object is null. To assert that an object is <em>not</em> 
-     * null, use a plain Java assert with an appropriate message.
-     * @param object The object to assert is null. For example, a field that is 
-     * not supposed to be initialized at construction time.
-     * @param msg A message for the test failure explanation, to which will be 
-     * appended a message saying a null object was expected but instead a 
-     * non-null object was found, if the test fails.
+     * Asserts that two arrays of 64-bit integers are of the same length and 
+     * contain the same values in the same order. The arrays are compared 
+     * without boxing the values. The test failure explanation will either state 
+     * that the arrays differ in length or at what index the first difference 
+     * was encountered if they do match in length.
+     * @param expected The expected array. For example, {4294967296, 8589934592, 
+     * 17179869184}.
+     * @param actual The actual array. For example, {4294967296, 8589934592, 
+     * 17179869185}.
      */
-    public static void assertNull(Object object, String msg) {
-        if (object != null) {
-            String intermediate = msg + ". Expected null object but found " 
-                    + object.toString();
-            String errMsg = prepMsg(intermediate);
-            throw new AssertionError(errMsg);
-        }
+    public static void assertEquals(long[] expected, long[] actual) {
+        assertEquals(expected, actual, "");
     }
     
     /**
-     * Asserts that an integer is greater than or equal to a specified minimum. 
-     * The test failure explanation will include both the expected minimum and 
-     * the actual number if it's below the minimum.
-     * @param minimum The minimum permissible value. For example, 100.
-     * @param actual The value to compare against the specified minimum. For 
-     * example, 95.
+     * Asserts that two arrays of 64-bit integers are of the same length and 
+     * contain the same values in the same order. The arrays are compared 
+     * without boxing the values.
+     * @param expected The expected array. For example, {4294967296, 8589934592, 
+     * 17179869184}.
+     * @param actual The actual array. For example, {4294967296, 8589934592, 
+     * 17179869185}.
+     * @param msg A message for the test failure explanation. For example, 
+     * "Decoded payload should match original."
      */
-    public static void assertMinimum(long minimum, long actual) {
-        assertMinimum(minimum, actual, "");
+    public static void assertEquals(long[] expected, long[] actual, 
+            String msg) {
+        checkEquals(expected, actual, msg);
     }
     
     /**
-     * Asserts that an integer is greater than or equal to a specified minimum. 
-     * The test failure explanation will include both the expected minimum and 
-     * the actual number if it's below the minimum.
-     * @param minimum The minimum permissible value. For example, 100.
-     * @param actual The value to compare against the specified minimum. For 
-     * example, 95.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. For example, "List should have at 
-     * least as many elements as the set." The minimum and actual values will be 
-     * appended to the test failure explanation.
+     * Asserts that two arrays of 64-bit integers are of the same length and 
+     * contain the same values in the same order. The arrays are compared 
+     * without boxing the values.
+     * @param expected The expected array. For example, {4294967296, 8589934592, 
+     * 17179869184}.
+     * @param actual The actual array. For example, {4294967296, 8589934592, 
+     * 17179869185}.
+     * @param msg Supplies a message for the test failure explanation. The 
+     * supplier is only called if the assertion fails.
      */
-    public static void assertMinimum(long minimum, long actual, String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be at least " + minimum;
-        String errMsg = prepMsg(intermediate);
-        assert actual >= minimum : errMsg;
+    public static void assertEquals(long[] expected, long[] actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
+    }
+    
+    private static void checkEquals(long[] expected, long[] actual, 
+            Object msg) {
+        checkLengths(expected.length, actual.length, msg);
+        int index = Arrays.mismatch(expected, actual);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected " + expected[index] + " but was " 
+                + actual[index]);
     }
     
     /**
-     * Asserts that a floating point number is equal to or greater than a 
-     * specified minimum. Due to the vagaries of floating point, numbers 
-     * slightly below the minimum might register as equal to the minimum. The 
-     * test failure explanation will include both the expected minimum and the 
-     * actual number if it's below the minimum.
-     * @param minimum The minimum possible number. For example, &minus;0.5.
-     * @param actual The number to compare against the specified minimum. For 
-     * example, &minus;1.83.
+     * Asserts that two arrays of 16-bit integers are of the same length and 
+     * contain the same values in the same order. The arrays are compared 
+     * without boxing the values. The test failure explanation will either state 
+     * that the arrays differ in length or at what index the first difference 
+     * was encountered if they do match in length.
+     * @param expected The expected array. For example, {1, &minus;1, 32767}.
+     * @param actual The actual array. For example, {1, &minus;1, &minus;32768}.
      */
-    public static void assertMinimum(double minimum, double actual) {
-        assertMinimum(minimum, actual, "");
+    public static void assertEquals(short[] expected, short[] actual) {
+        assertEquals(expected, actual, "");
     }
-
+    
     /**
-     * Asserts that a floating point number is equal to or greater than a 
-     * specified minimum. Due to the vagaries of floating point, numbers 
-     * slightly below the minimum might register as equal to the minimum. The 
-     * test failure explanation will include both the expected minimum and the 
-     * actual number if it's below the minimum.
-     * @param minimum The minimum possible number. For example, &minus;0.5.
-     * @param actual The number to compare against the specified minimum. For 
-     * example, &minus;1.83.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The minimum and actual values will 
-     * be appended to the test failure explanation.
+     * Asserts that two arrays of 16-bit integers are of the same length and 
+     * contain the same values in the same order. The arrays are compared 
+     * without boxing the values.
+     * @param expected The expected array. For example, {1, &minus;1, 32767}.
+     * @param actual The actual array. For example, {1, &minus;1, &minus;32768}.
+     * @param msg A message for the test failure explanation. For example, 
+     * "Decoded payload should match original."
      */
-    public static void assertMinimum(double minimum, double actual, 
+    public static void assertEquals(short[] expected, short[] actual, 
             String msg) {
-        String intermediate = msg + ". Value " + actual 
-                + " expected to be at least " + minimum;
-        String errMsg = prepMsg(intermediate);
-        assert actual >= minimum : errMsg;
+        checkEquals(expected, actual, msg);
     }
-
+    
     /**
-     * Asserts that the value held by a <code>Comparable</code> object is 
-     * greater than or equal to a specified minimum.
-     * @param <T> The type of the <code>minimum</code> and <code>actual</code> 
-     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
-     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
-     * @param minimum The minimum permissible value. For example, 
-     * <sup>3</sup>&frasl;<sub>2</sub>.
-     * @param actual The value to compare against the specified minimum. For 
-     * example, <sup>21</sup>&frasl;<sub>16</sub>.
+     * Asserts that two arrays of 16-bit integers are of the same length and 
+     * contain the same values in the same order. The arrays are compared 
+     * without boxing the values.
+     * @param expected The expected array. For example, {1, &minus;1, 32767}.
+     * @param actual The actual array. For example, {1, &minus;1, &minus;32768}.
+     * @param msg Supplies a message for the test failure explanation. The 
+     * supplier is only called if the assertion fails.
      */
-    public static <T extends Comparable<T>> void assertMinimum(T minimum, 
-            T actual) {
-        assertMinimum(minimum, actual, "");
+    public static void assertEquals(short[] expected, short[] actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
     }
-
+    
+    private static void checkEquals(short[] expected, short[] actual, 
+            Object msg) {
+        checkLengths(expected.length, actual.length, msg);
+        int index = Arrays.mismatch(expected, actual);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected " + expected[index] + " but was " 
+                + actual[index]);
+    }
+    
     /**
-     * Asserts that the value held by a <code>Comparable</code> object is 
-     * greater than or equal to a specified minimum.
-     * @param <T> The type of the <code>minimum</code> and <code>actual</code> 
-     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
-     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
-     * @param minimum The minimum permissible value. For example, 
-     * <sup>3</sup>&frasl;<sub>2</sub>.
-     * @param actual The value to compare against the specified minimum. For 
-     * example, <sup>21</sup>&frasl;<sub>16</sub>.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The minimum and actual values will 
-     * be appended to the test failure explanation.
+     * Asserts that two arrays of bytes are of the same length and contain the 
+     * same values in the same order. The arrays are compared without boxing the 
+     * values. The test failure explanation will either state that the arrays 
+     * differ in length or at what index the first difference was encountered if 
+     * they do match in length. If the arrays match in length but not in 
+     * content, the bytes around the first difference will be quoted in 
+     * hexadecimal.
+     * @param expected The expected array. For example, {0x50, 0x4B, 0x03, 
+     * 0x04}.
+     * @param actual The actual array. For example, {0x50, 0x4B, 0x05, 0x06}.
      */
-    public static <T extends Comparable<T>> void assertMinimum(T minimum, 
-            T actual, String msg) {
-        String intermediate = msg + ". Value " + actual.toString() 
-                + " expected to be at least " + minimum.toString();
-        String errMsg = prepMsg(intermediate);
-        int comparison = minimum.compareTo(actual);
-        assert comparison < 1 : errMsg;
+    public static void assertEquals(byte[] expected, byte[] actual) {
+        assertEquals(expected, actual, "");
     }
-
+    
     /**
-     * Asserts that an integer is negative. The actual number and the maximum 
-     * &minus;1 will be included in the test failure explanation if the 
-     * assertion fails.
-     * @param actual The number to check. For example, &minus;14370899.
+     * Asserts that two arrays of bytes are of the same length and contain the 
+     * same values in the same order. The arrays are compared without boxing the 
+     * values. If the arrays match in length but not in content, the bytes 
+     * around the first difference will be quoted in hexadecimal.
+     * @param expected The expected array. For example, {0x50, 0x4B, 0x03, 
+     * 0x04}.
+     * @param actual The actual array. For example, {0x50, 0x4B, 0x05, 0x06}.
+     * @param msg A message for the test failure explanation. For example, 
+     * "Decoded payload should match original."
      */
-    public static void assertNegative(long actual) {
-        assertNegative(actual, "");
+    public static void assertEquals(byte[] expected, byte[] actual, 
+            String msg) {
+        checkEquals(expected, actual, msg);
     }
-
+    
     /**
-     * Asserts that an integer is negative.
-     * @param actual The number to check. For example, &minus;14370899.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The number <code>actual</code> and 
-     * the maximum &minus;1 will be appended to the test failure explanation.
+     * Asserts that two arrays of bytes are of the same length and contain the 
+     * same values in the same order. The arrays are compared without boxing the 
+     * values. If the arrays match in length but not in content, the bytes 
+     * around the first difference will be quoted in hexadecimal.
+     * @param expected The expected array. For example, {0x50, 0x4B, 0x03, 
+     * 0x04}.
+     * @param actual The actual array. For example, {0x50, 0x4B, 0x05, 0x06}.
+     * @param msg Supplies a message for the test failure explanation. The 
+     * supplier is only called if the assertion fails.
      */
-    public static void assertNegative(long actual, String msg) {
-        assertMaximum(actual, -1, msg);
+    public static void assertEquals(byte[] expected, byte[] actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
     }
-
+    
+    private static void checkEquals(byte[] expected, byte[] actual, 
+            Object msg) {
+        checkLengths(expected.length, actual.length, msg);
+        int index = Arrays.mismatch(expected, actual);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected " + toHex(expected[index]) 
+                + " but was " + toHex(actual[index]) + ", expected bytes " 
+                + hexWindow(expected, index) + " but actual bytes " 
+                + hexWindow(actual, index));
+    }
+    
     /**
-     * Asserts that a floating point number is negative. However, due to the 
-     * vagaries of floating point, negative subnormal numbers might be 
-     * erroneously regarded as not negative.
-     * <p>Other special cases to be aware of:</p>
-     * <ul>
-     * <li>Negative infinity should not fail the assertion, same as finite 
-     * negative numbers.</li>
-     * <li>Negative zero, an oddity of the floating point specification, should 
-     * nevertheless be considered not negative.</li>
-     * <li>Positive zero should of course fail the assertion, the same as 
-     * positive numbers.</li>
-     * <li>Positive infinity should fail the assertion, same as finite positive 
-     * numbers.</li>
-     * <li>NaN should fail the assertion even if the bit pattern is negative. 
-     * And in any case, it's difficult to access NaN values other than the 
-     * "canonical" NaN through the Java Virtual Machine.</li>
-     * </ul>
-     * <p>If the test fails, the test failure explanation will include the 
-     * number <code>actual</code> and the threshold 0.0, except in the case of 
-     * asserting on NaN, in which case the test failure explanation will state 
-     * that NaN is not considered negative, zero or positive.</p>
-     * @param actual The number to check. For example, &minus;2.6065827580858707 
-     * &times; 10<sup>8</sup>.
+     * Asserts that two arrays of characters are of the same length and contain 
+     * the same values in the same order. The arrays are compared without boxing 
+     * the values. The test failure explanation will either state that the 
+     * arrays differ in length or at what index the first difference was 
+     * encountered if they do match in length.
+     * @param expected The expected array. For example, {'h', 'e', 'l', 'l', 
+     * 'o'}.
+     * @param actual The actual array. For example, {'h', 'e', 'l', 'p'}.
      */
-    public static void assertNegative(double actual) {
-        assertNegative(actual, "");
+    public static void assertEquals(char[] expected, char[] actual) {
+        assertEquals(expected, actual, "");
     }
-
+    
     /**
-     * Asserts that a floating point number is negative. However, due to the 
-     * vagaries of floating point, negative subnormal numbers might be 
-     * erroneously regarded as not negative.
-     * <p>Other special cases to be aware of:</p>
-     * <ul>
-     * <li>Negative infinity should not fail the assertion, same as finite 
-     * negative numbers.</li>
-     * <li>Negative zero, an oddity of the floating point specification, should 
-     * nevertheless be considered not negative.</li>
-     * <li>Positive zero should of course fail the assertion, the same as 
-     * positive numbers.</li>
-     * <li>Positive infinity should fail the assertion, same as finite positive 
-     * numbers.</li>
-     * <li>NaN should fail the assertion even if the bit pattern is negative. 
-     * And in any case, it's difficult to access NaN values other than the 
-     * "canonical" NaN through the Java Virtual Machine.</li>
-     * </ul>
-     * @param actual The number to check. For example, &minus;2.6065827580858707 
-     * &times; 10<sup>8</sup>.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The number <code>actual</code> and 
-     * the threshold 0.0 will be appended to the test failure explanation, or, 
-     * in the case of NaN, the appended explanation will say that NaN "is not 
-     * considered negative, zero or positive."
+     * Asserts that two arrays of characters are of the same length and contain 
+     * the same values in the same order. The arrays are compared without boxing 
+     * the values.
+     * @param expected The expected array. For example, {'h', 'e', 'l', 'l', 
+     * 'o'}.
+     * @param actual The actual array. For example, {'h', 'e', 'l', 'p'}.
+     * @param msg A message for the test failure explanation. For example, 
+     * "Decoded payload should match original."
      */
-    public static void assertNegative(double actual, String msg) {
-        if (Double.isNaN(actual)) {
-            String intermediate = msg + ". Number " + actual 
-                    + " is not considered negative, zero or positive";
-            String errMsg = prepMsg(intermediate);
-            throw new AssertionError(errMsg);
-        }
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be less than 0.0";
-        String errMsg = prepMsg(intermediate);
-        assert actual < 0.0 : errMsg;
+    public static void assertEquals(char[] expected, char[] actual, 
+            String msg) {
+        checkEquals(expected, actual, msg);
     }
-
+    
     /**
-     * Asserts that an integer is not positive. Remember that 0 is not positive. 
-     * If the test fails because of the assertion, the number 
-     * <code>actual</code> and the threshold 1 will be appended to the test 
-     * failure explanation.
-     * @param actual The number to assert is not positive. For example, 
-     * &minus;47.
+     * Asserts that two arrays of characters are of the same length and contain 
+     * the same values in the same order. The arrays are compared without boxing 
+     * the values.
+     * @param expected The expected array. For example, {'h', 'e', 'l', 'l', 
+     * 'o'}.
+     * @param actual The actual array. For example, {'h', 'e', 'l', 'p'}.
+     * @param msg Supplies a message for the test failure explanation. The 
+     * supplier is only called if the assertion fails.
      */
-    public static void assertNotPositive(long actual) {
-        assertNotPositive(actual, "");
+    public static void assertEquals(char[] expected, char[] actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
     }
-
+    
+    private static void checkEquals(char[] expected, char[] actual, 
+            Object msg) {
+        checkLengths(expected.length, actual.length, msg);
+        int index = Arrays.mismatch(expected, actual);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected '" + expected[index] + "' but was '" 
+                + actual[index] + "'");
+    }
+    
     /**
-     * Asserts that an integer is not positive. Remember that 0 is not positive.
-     * @param actual The number to assert is not positive. For example, 
-     * &minus;47.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The number <code>actual</code> and 
-     * the threshold 1 will be appended to the test failure explanation.
+     * Asserts that two arrays of Booleans are of the same length and contain 
+     * the same values in the same order. The arrays are compared without boxing 
+     * the values. The test failure explanation will either state that the 
+     * arrays differ in length or at what index the first difference was 
+     * encountered if they do match in length.
+     * @param expected The expected array. For example, {true, false, true}.
+     * @param actual The actual array. For example, {true, true, true}.
      */
-    public static void assertNotPositive(long actual, String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be less than 1";
-        String errMsg = prepMsg(intermediate);
-        assert actual < 1 : errMsg;
+    public static void assertEquals(boolean[] expected, boolean[] actual) {
+        assertEquals(expected, actual, "");
     }
-
+    
     /**
-     * Asserts a given number is not positive. The number may be &minus;0.0 or 
-     * 0.0 without failing the assertion. It may also be NaN and not fail the 
-     * assertion (remember that NaN is neither positive nor negative even though 
-     * the bit pattern may be negative, zero or positive), and obviously 
-     * &minus;&infin; won't either. However, +&infin; will fail the assertion.
-     * @param actual The number to be checked. For example, 10.843979291045144. 
-     * This number will be included in the test failure explanation if the test 
-     * fails because of this assertion.
+     * Asserts that two arrays of Booleans are of the same length and contain 
+     * the same values in the same order. The arrays are compared without boxing 
+     * the values.
+     * @param expected The expected array. For example, {true, false, true}.
+     * @param actual The actual array. For example, {true, true, true}.
+     * @param msg A message for the test failure explanation. For example, 
+     * "Decoded payload should match original."
      */
-    public static void assertNotPositive(double actual) {
-        assertNotPositive(actual, "");
+    public static void assertEquals(boolean[] expected, boolean[] actual, 
+            String msg) {
+        checkEquals(expected, actual, msg);
     }
-
+    
     /**
-     * Asserts a given number is not positive. The number may be &minus;0.0 or 
-     * 0.0 without failing the assertion. It may also be NaN and not fail the 
-     * assertion (remember that NaN is neither positive nor negative even though 
-     * the bit pattern may be negative, zero or positive), and obviously 
-     * &minus;&infin; won't either. However, +&infin; will fail the assertion.
-     * @param actual The number to be checked. For example, 10.843979291045144.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The actual value will be included in 
-     * the test failure explanation.
+     * Asserts that two arrays of Booleans are of the same length and contain 
+     * the same values in the same order. The arrays are compared without boxing 
+     * the values.
+     * @param expected The expected array. For example, {true, false, true}.
+     * @param actual The actual array. For example, {true, true, true}.
+     * @param msg Supplies a message for the test failure explanation. The 
+     * supplier is only called if the assertion fails.
      */
-    public static void assertNotPositive(double actual, String msg) {
-        if (Double.isNaN(actual)) {
-            return;
-        }
-        String intermediate = msg + ". Number " + actual 
-                + " expected to not be positive";
-        String errMsg = prepMsg(intermediate);
-        assert actual <= 0.0 : errMsg;
+    public static void assertEquals(boolean[] expected, boolean[] actual, 
+            Supplier<String> msg) {
+        checkEquals(expected, actual, msg);
     }
-
+    
+    private static void checkEquals(boolean[] expected, boolean[] actual, 
+            Object msg) {
+        checkLengths(expected.length, actual.length, msg);
+        int index = Arrays.mismatch(expected, actual);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected " + expected[index] + " but was " 
+                + actual[index]);
+    }
+    
     /**
-     * Asserts that an integer is equal to zero. This has the same effect as an 
-     * {@link #assertEquals(long, long) assertEquals()} with 0 as the 
-     * <code>expected</code> value, though the test failure messages might 
-     * differ in their wording. The number actual number and the expected value 
-     * of 0 will be appended to the test failure explanation.
-     * @param actual The number to assert is equal to 0. For example, 133.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order within {@link #DEFAULT_TEST_DELTA}. The arrays 
+     * are compared without boxing the values. First, this procedure checks 
+     * that the arrays are of the same length. If they are, it looks for the 
+     * first index at which the numbers differ by more than the variance. The 
+     * test failure explanation will depend on how far along the process came 
+     * along.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 1.5, 2.25, 3.125 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1.5, 2.25, 3.25 in that order.
      */
-    public static void assertZero(long actual) {
-        assertZero(actual, "");
+    public static void assertEquals(float[] expected, float[] actual) {
+        assertEquals(expected, actual, DEFAULT_TEST_DELTA, "");
     }
-
+    
     /**
-     * Asserts that an integer is equal to zero. This has the same effect as an 
-     * {@link #assertEquals(long, long, String) assertEquals()} with 0 as the 
-     * <code>expected</code> value, though the test failure messages might 
-     * differ in their wording.
-     * @param actual The number to assert is equal to 0. For example, 133.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The number <code>actual</code> and 
-     * the expected value of 0 will be appended to the test failure explanation.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order within a specified variance. The arrays are 
+     * compared without boxing the values. First, this procedure checks that 
+     * the arrays are of the same length. If they are, it looks for the first 
+     * index at which the numbers differ by more than the variance. The test 
+     * failure explanation will depend on how far along the process came along.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 1.5, 2.25, 3.125 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1.5, 2.25, 3.25 in that order.
+     * @param delta The maximum allowed variance for the numbers in 
+     * <code>expected</code> and <code>actual</code> to differ and still be 
+     * considered close enough to be equal. For example, 0.001. Ought to be 
+     * positive, and not so small that it's lost in the precision of 32-bit 
+     * floating point.
      */
-    public static void assertZero(long actual, String msg) {
-        String intermediate = msg + ". Number " + actual + " expected to be 0";
-        String errMsg = prepMsg(intermediate);
-        assert actual == 0 : errMsg;
+    public static void assertEquals(float[] expected, float[] actual, 
+            double delta) {
+        assertEquals(expected, actual, delta, "");
     }
-
+    
     /**
-     * Asserts that a 64-bit floating point number is equal to 0.0 (or to 
-     * &minus;0.0). However, if a nonzero subnormal number is acceptable to pass 
-     * the test, then use {@link #assertEquals(double, double, double)} with a 
-     * small delta or {@link #assertEquals(double, double)} which uses {@link 
-     * #DEFAULT_TEST_DELTA} as the delta instead. The default test failure 
-     * explanation will include the numbers <code>actual</code> and 0.0.
-     * @param actual The floating point number to assert is equal to &pm;0.0. 
-     * For example, &minus;0.0078125.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order within {@link #DEFAULT_TEST_DELTA}. The arrays 
+     * are compared without boxing the values.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 1.5, 2.25, 3.125 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1.5, 2.25, 3.25 in that order.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Samples should survive round trip."
      */
-    public static void assertZero(double actual) {
-        assertZero(actual, "");
+    public static void assertEquals(float[] expected, float[] actual, 
+            String msg) {
+        assertEquals(expected, actual, DEFAULT_TEST_DELTA, msg);
     }
-
+    
     /**
-     * Asserts that a 64-bit floating point number is equal to 0.0 (or to 
-     * &minus;0.0). However, if a nonzero subnormal number is acceptable to pass 
-     * the test, then use {@link #assertEquals(double, double, double, String)} 
-     * with a small delta or {@link #assertEquals(double, double, String)} which 
-     * uses {@link #DEFAULT_TEST_DELTA} as the delta instead.
-     * @param actual The floating point number to assert is equal to &pm;0.0. 
-     * For example, &minus;0.0078125.
-     * @param msg The message for the test failure explanation. The numbers 
-     * <code>actual</code> and 0.0 will be appended to this message.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order within {@link #DEFAULT_TEST_DELTA}. The arrays 
+     * are compared without boxing the values.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 1.5, 2.25, 3.125 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1.5, 2.25, 3.25 in that order.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
      */
-    public static void assertZero(double actual, String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be 0.0";
-        String errMsg = prepMsg(intermediate);
-        assert actual == 0.0 : errMsg;
+    public static void assertEquals(float[] expected, float[] actual, 
+            Supplier<String> msg) {
+        assertEquals(expected, actual, DEFAULT_TEST_DELTA, msg);
     }
-
+    
     /**
-     * Asserts a given number is not negative. The number may be 0 without 
-     * failing the assertion. The number will be included in the test failure 
-     * explanation if the test fails because of this assertion.
-     * @param actual The number to be checked. For example, &minus;103.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order within a specified variance. The arrays are 
+     * compared without boxing the values.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 1.5, 2.25, 3.125 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1.5, 2.25, 3.25 in that order.
+     * @param delta The maximum allowed variance for the numbers in 
+     * <code>expected</code> and <code>actual</code> to differ and still be 
+     * considered close enough to be equal. For example, 0.001. Ought to be 
+     * positive, and not so small that it's lost in the precision of 32-bit 
+     * floating point.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Samples should survive round trip."
      */
-    public static void assertNotNegative(long actual) {
-        assertMinimum(0, actual);
+    public static void assertEquals(float[] expected, float[] actual, 
+            double delta, String msg) {
+        checkEquals(expected, actual, delta, msg);
     }
-
+    
     /**
-     * Asserts a given number is not negative. The number may be 0 without 
-     * failing the assertion.
-     * @param actual The number to be checked. For example, &minus;103.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The actual value will be appended to 
-     * the test failure explanation.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order within a specified variance. The arrays are 
+     * compared without boxing the values.
+     * <p>Note however that the test will fail if both of the floating point 
+     * values at a given index are NaN, regardless of their bit patterns.</p>
+     * @param expected The array of expected values. For example, an array 
+     * containing 1.5, 2.25, 3.125 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1.5, 2.25, 3.25 in that order.
+     * @param delta The maximum allowed variance for the numbers in 
+     * <code>expected</code> and <code>actual</code> to differ and still be 
+     * considered close enough to be equal. For example, 0.001. Ought to be 
+     * positive, and not so small that it's lost in the precision of 32-bit 
+     * floating point.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
      */
-    public static void assertNotNegative(long actual, String msg) {
-        assertMinimum(0, actual, msg);
+    public static void assertEquals(float[] expected, float[] actual, 
+            double delta, Supplier<String> msg) {
+        checkEquals(expected, actual, delta, msg);
     }
-
-    /**
-     * Asserts a given number is not negative. The number may be -0.0 or 0.0 
-     * without failing the assertion.
-     * @param actual The number to be checked. For example, 10.843979291045144.
-     */
-    public static void assertNotNegative(double actual) {
-        assertNotNegative(actual, "");
+    
+    private static void checkEquals(float[] expected, float[] actual, 
+            double delta, Object msg) {
+        checkLengths(expected.length, actual.length, msg);
+        // Same as for double[], Arrays.mismatch() would take NaN to be equal 
+        // to NaN
+        int index = firstBeyondDelta(expected, actual, delta);
+        assert index < 0 : prepMsg(msg, "Arrays first differ at index " 
+                + index + ", expected at least " + (expected[index] - delta) 
+                + " or at most " + (expected[index] + delta) + " but was " 
+                + actual[index]);
     }
-
-    /**
-     * Asserts a given number is not negative. The number may be &minus;0.0 or 
-     * 0.0 without failing the assertion. Note that a NaN value is considered 
-     * not negative even if its bit pattern is negative.
-     * @param actual The number to be checked. For example, 10.843979291045144.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The actual value will be included in 
-     * the test failure explanation.
-     */
-    public static void assertNotNegative(double actual, String msg) {
-        if (Double.isNaN(actual)) {
-            return;
+    
+    private static int firstBeyondDelta(float[] expected, float[] actual, 
+            double delta) {
+        int len = expected.length;
+        for (int start = 0; start < len; start += TOLERANCE_BLOCK_LENGTH) {
+            int end = Math.min(len, start + TOLERANCE_BLOCK_LENGTH);
+            float maxDiff = 0.0F;
+            for (int i = start; i < end; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+            }
+            if (!(maxDiff <= delta)) {
+                for (int i = start; i < end; i++) {
+                    if (!(Math.abs(expected[i] - actual[i]) <= delta)) {
+                        return i;
+                    }
+                }
+            }
         }
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be at least 0.0";
-        String errMsg = prepMsg(intermediate);
-        assert actual >= 0.0 : errMsg;
+        return -1;
     }
-
+    
     /**
-     * Asserts that an integer is positive. The number must be 1 or greater to 
-     * pass the assertion.
-     * @param actual The number to assert is positive. For example, &minus;347.
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order to within a specified number of units in the 
+     * last place (ULPs). Unlike a fixed variance, this scales with the 
+     * magnitude of the numbers, so that it's as strict for numbers close to 
+     * zero as it is for very large numbers. Positive and negative zero are 
+     * considered equal, but NaN is not equal to anything, not even NaN. 
+     * The test failure explanation will either state that the arrays differ in 
+     * length or at what index the first difference was encountered if they do 
+     * match in length.
+     * @param expected The array of expected values. For example, an array 
+     * containing 0.1, 0.2, 0.3 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 0.1, 0.2, 0.30000000000000004 in that order.
+     * @param ulps How many representable 64-bit floating point values apart the 
+     * numbers at a given index may be and still be considered equal. For 
+     * example, 1. Should not be negative.
+     * @throws IllegalArgumentException If <code>ulps</code> is negative.
      */
-    public static void assertPositive(long actual) {
-        assertPositive(actual, "");
+    public static void assertEqualsWithinULPs(double[] expected, 
+            double[] actual, int ulps) {
+        assertEqualsWithinULPs(expected, actual, ulps, "");
     }
-
+    
     /**
-     * Asserts that an integer is positive. The number must be 1 or greater to 
-     * pass the assertion.
-     * @param actual The number to assert is positive. For example, &minus;347.
-     * @param msg The message for the test failure explanation.
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order to within a specified number of units in the 
+     * last place (ULPs). Unlike a fixed variance, this scales with the 
+     * magnitude of the numbers, so that it's as strict for numbers close to 
+     * zero as it is for very large numbers. Positive and negative zero are 
+     * considered equal, but NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 0.1, 0.2, 0.3 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 0.1, 0.2, 0.30000000000000004 in that order.
+     * @param ulps How many representable 64-bit floating point values apart the 
+     * numbers at a given index may be and still be considered equal. For 
+     * example, 1. Should not be negative.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Sums should be correctly rounded."
+     * @throws IllegalArgumentException If <code>ulps</code> is negative.
      */
-    public static void assertPositive(long actual, String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be greater than 0";
-        String errMsg = prepMsg(intermediate);
-        assert actual > 0 : errMsg;
+    public static void assertEqualsWithinULPs(double[] expected, 
+            double[] actual, int ulps, String msg) {
+        checkEqualsWithinULPs(expected, actual, ulps, msg);
     }
-
+    
     /**
-     * Asserts that a floating point number is positive. If the test fails, the 
-     * actual number and the threshold 0.0 will be included in the test failure 
-     * explanation, or, in the case of NaN, the explanation will say that NaN 
-     * "is not considered negative, zero or positive."
-     * <p>Due to the vagaries of floating point, positive subnormal numbers 
-     * might be erroneously regarded as not positive.</p>
-     * <p>Other special cases to be aware of:</p>
-     * <ul>
-     * <li>Positive infinity should not fail the assertion, same as most finite 
-     * positive numbers.</li>
-     * <li>Negative zero, an oddity of the floating point specification, should 
-     * nevertheless be considered not positive.</li>
-     * <li>Positive zero should of course fail the assertion.</li>
-     * <li>Negative infinity should fail the assertion, same as finite negative 
-     * numbers.</li>
-     * </ul>
-     * @param actual The number to check. For example, &minus;2.6065827580858707 
-     * &times; 10<sup>8</sup>.
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order to within a specified number of units in the 
+     * last place (ULPs). Unlike a fixed variance, this scales with the 
+     * magnitude of the numbers, so that it's as strict for numbers close to 
+     * zero as it is for very large numbers. Positive and negative zero are 
+     * considered equal, but NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 0.1, 0.2, 0.3 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 0.1, 0.2, 0.30000000000000004 in that order.
+     * @param ulps How many representable 64-bit floating point values apart the 
+     * numbers at a given index may be and still be considered equal. For 
+     * example, 1. Should not be negative.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws IllegalArgumentException If <code>ulps</code> is negative.
      */
-    public static void assertPositive(double actual) {
-        assertPositive(actual, "");
+    public static void assertEqualsWithinULPs(double[] expected, 
+            double[] actual, int ulps, Supplier<String> msg) {
+        checkEqualsWithinULPs(expected, actual, ulps, msg);
     }
-
-    /**
-     * Asserts that a floating point number is positive. However, due to the 
-     * vagaries of floating point, positive subnormal numbers might be 
-     * erroneously regarded as not positive.
-     * <p>Other special cases to be aware of:</p>
-     * <ul>
-     * <li>Positive infinity should not fail the assertion, same as most finite 
-     * positive numbers.</li>
-     * <li>Negative zero, an oddity of the floating point specification, should 
-     * nevertheless be considered not positive.</li>
-     * <li>Positive zero should of course fail the assertion.</li>
-     * <li>Negative infinity should fail the assertion, same as finite negative 
-     * numbers.</li>
-     * <li>NaN should fail the assertion even if the bit pattern is positive. 
-     * And in any case, it's difficult to access NaN values other than the 
-     * "canonical" NaN through the Java Virtual Machine.</li>
-     * </ul>
-     * @param actual The number to check. For example, &minus;2.6065827580858707 
-     * &times; 10<sup>8</sup>.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The number <code>actual</code> and 
-     * the threshold 0.0 will be appended to the test failure explanation, or, 
-     * in the case of NaN, the appended explanation will say that NaN "is not 
-     * considered negative, zero or positive."
-     */
-    public static void assertPositive(double actual, String msg) {
-        if (Double.isNaN(actual)) {
-            String intermediate = msg + ". Number " + actual 
-                    + " is not considered negative, zero or positive";
-            String errMsg = prepMsg(intermediate);
-            throw new AssertionError(errMsg);
+    
+    private static void checkEqualsWithinULPs(double[] expected, 
+            double[] actual, int ulps, Object msg) {
+        if (ulps < 0) {
+            String excMsg = "ULPs " + ulps + " should not be negative";
+            throw new IllegalArgumentException(excMsg);
+        }
+        checkLengths(expected.length, actual.length, msg);
+        int index = 0;
+        while (index < expected.length 
+                && withinULPs(expected[index], actual[index], ulps)) {
+            index++;
         }
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be greater than 0.0";
-        String errMsg = prepMsg(intermediate);
-        assert actual > 0.0 : errMsg;
+        assert index == expected.length : prepMsg(msg, 
+                "Arrays first differ at index " + index + " by more than " 
+                + ulps + " ULPs, expected " + expected[index] + " but was " 
+                + actual[index]);
     }
-
+    
+    // Maps the bit patterns of floating point numbers onto integers in the 
+    // same order as the numbers, so that the distance between two integers is 
+    // how many representable numbers apart the floating point numbers are
+    private static long orderedBits(double number) {
+        long bits = Double.doubleToRawLongBits(number);
+        return bits < 0 ? Long.MIN_VALUE - bits : bits;
+    }
+    
+    private static boolean withinULPs(double expected, double actual, 
+            int ulps) {
+        if (Double.isNaN(expected) || Double.isNaN(actual)) {
+            return false;
+        }
+        long expBits = orderedBits(expected);
+        long actBits = orderedBits(actual);
+        long distance = expBits > actBits ? expBits - actBits 
+                : actBits - expBits;
+        return Long.compareUnsigned(distance, ulps) <= 0;
+    }
+    
     /**
-     * Asserts an integer is not greater than a specified maximum. The test 
-     * failure explanation will include the expected maximum and the actual 
-     * value if the assertion fails.
-     * @param actual The number to test for not going over the maximum. For 
-     * example, 1000.
-     * @param maximum The maximum that <code>actual</code> can be without 
-     * failing the assertion. For example, 973.
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order to within a specified relative tolerance. The 
+     * numbers at a given index are considered equal if they differ by no more 
+     * than the tolerance times the greater of their absolute values. Numbers 
+     * that are exactly equal are considered equal, infinities included, but 
+     * NaN is not equal to anything, not even NaN. 
+     * The test failure explanation will either state that the arrays differ in 
+     * length or at what index the first difference was encountered if they do 
+     * match in length.
+     * @param expected The array of expected values. For example, an array 
+     * containing 1000.0, 2000.0, 3000.0 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1000.5, 2000.0, 2999.0 in that order.
+     * @param tolerance The fraction of the greater absolute value by which the 
+     * numbers at a given index may differ and still be considered equal. For 
+     * example, 0.001, which in this example allows 1000.0 and 1000.5 to differ 
+     * by up to 1.0005. Should not be negative.
+     * @throws IllegalArgumentException If <code>tolerance</code> is negative 
+     * or NaN.
      */
-    public static void assertMaximum(long actual, long maximum) {
-        assertMaximum(actual, maximum, "");
+    public static void assertEqualsRelative(double[] expected, 
+            double[] actual, double tolerance) {
+        assertEqualsRelative(expected, actual, tolerance, "");
     }
     
     /**
-     * Asserts an integer is not greater than a specified maximum.
-     * @param actual The number to test for not going over the maximum. For 
-     * example, 1000.
-     * @param maximum The maximum that <code>actual</code> can be without 
-     * failing the assertion. For example, 973.
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order to within a specified relative tolerance. The 
+     * numbers at a given index are considered equal if they differ by no more 
+     * than the tolerance times the greater of their absolute values. Numbers 
+     * that are exactly equal are considered equal, infinities included, but 
+     * NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 1000.0, 2000.0, 3000.0 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1000.5, 2000.0, 2999.0 in that order.
+     * @param tolerance The fraction of the greater absolute value by which the 
+     * numbers at a given index may differ and still be considered equal. For 
+     * example, 0.001, which in this example allows 1000.0 and 1000.5 to differ 
+     * by up to 1.0005. Should not be negative.
      * @param msg A message to include in the test failure explanation if the 
-     * assertion fails.
+     * assertion fails. For example, "Sums should be correctly rounded."
+     * @throws IllegalArgumentException If <code>tolerance</code> is negative 
+     * or NaN.
      */
-    public static void assertMaximum(long actual, long maximum, String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be at most " + maximum;
-        String errMsg = prepMsg(intermediate);
-        assert maximum >= actual : errMsg;
+    public static void assertEqualsRelative(double[] expected, 
+            double[] actual, double tolerance, String msg) {
+        checkEqualsRelative(expected, actual, tolerance, msg);
     }
     
     /**
-     * Asserts a floating point number is less than or equal to a specified 
-     * maximum. The maximum and the actual number will be included in the test 
-     * failure explanation if the assertion fails.
-     * @param actual The number to assert is less than a given maximum. For 
-     * example, 99.890773.
-     * @param maximum The number <code>actual</code> is expected to be less than 
-     * or equal to. For example, 100.0.
+     * Asserts that two arrays of 64-bit floating point values have the same 
+     * numbers in the same order to within a specified relative tolerance. The 
+     * numbers at a given index are considered equal if they differ by no more 
+     * than the tolerance times the greater of their absolute values. Numbers 
+     * that are exactly equal are considered equal, infinities included, but 
+     * NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 1000.0, 2000.0, 3000.0 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1000.5, 2000.0, 2999.0 in that order.
+     * @param tolerance The fraction of the greater absolute value by which the 
+     * numbers at a given index may differ and still be considered equal. For 
+     * example, 0.001, which in this example allows 1000.0 and 1000.5 to differ 
+     * by up to 1.0005. Should not be negative.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws IllegalArgumentException If <code>tolerance</code> is negative 
+     * or NaN.
      */
-    public static void assertMaximum(double actual, double maximum) {
-        assertMaximum(actual, maximum, "");
+    public static void assertEqualsRelative(double[] expected, 
+            double[] actual, double tolerance, Supplier<String> msg) {
+        checkEqualsRelative(expected, actual, tolerance, msg);
     }
-
-    /**
-     * Asserts a floating point number is less than or equal to a specified 
-     * maximum.
-     * @param actual The number to assert is less than a given maximum. For 
-     * example, 99.890773.
-     * @param maximum The number <code>actual</code> is expected to be less than 
-     * or equal to. For example, 100.0.
-     * @param msg A message to include in the test failure explanation if the 
-     * assertion fails.
-     */
-    public static void assertMaximum(double actual, double maximum,  
-            String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be at most " + maximum;
-        String errMsg = prepMsg(intermediate);
-        assert maximum >= actual : errMsg;
+    
+    private static void checkEqualsRelative(double[] expected, 
+            double[] actual, double tolerance, Object msg) {
+        if (!(tolerance >= 0.0)) {
+            String excMsg = "Tolerance " + tolerance 
+                    + " should not be negative or NaN";
+            throw new IllegalArgumentException(excMsg);
+        }
+        checkLengths(expected.length, actual.length, msg);
+        int index = 0;
+        while (index < expected.length 
+                && withinRelative(expected[index], actual[index], tolerance)) {
+            index++;
+        }
+        assert index == expected.length : prepMsg(msg, 
+                "Arrays first differ at index " + index 
+                + " by more than relative tolerance " + tolerance 
+                + ", expected " + expected[index] + " but was " 
+                + actual[index]);
     }
-
+    
     /**
-     * Asserts that the value held by a <code>Comparable</code> object is 
-     * less than or equal to a specified maximum. The test failure explanation 
-     * will include the actual value and the maximum if the assertion fails.
-     * @param <T> The type of the <code>maximum</code> and <code>actual</code> 
-     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
-     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
-     * @param actual The value to compare against the specified maximum. For 
-     * example, <sup>25</sup>&frasl;<sub>16</sub>.
-     * @param maximum The maximum permissible value. For example, 
-     * <sup>3</sup>&frasl;<sub>2</sub>.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order to within a specified number of units in the 
+     * last place (ULPs). Unlike a fixed variance, this scales with the 
+     * magnitude of the numbers, so that it's as strict for numbers close to 
+     * zero as it is for very large numbers. Positive and negative zero are 
+     * considered equal, but NaN is not equal to anything, not even NaN. 
+     * The test failure explanation will either state that the arrays differ in 
+     * length or at what index the first difference was encountered if they do 
+     * match in length.
+     * @param expected The array of expected values. For example, an array 
+     * containing 0.1, 0.2, 0.3 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 0.1, 0.2, 0.3000001 in that order.
+     * @param ulps How many representable 32-bit floating point values apart the 
+     * numbers at a given index may be and still be considered equal. For 
+     * example, 1. Should not be negative.
+     * @throws IllegalArgumentException If <code>ulps</code> is negative.
      */
-    public static <T extends Comparable<T>> void assertMaximum(T actual, 
-            T maximum) {
-        assertMaximum(actual, maximum, "");
+    public static void assertEqualsWithinULPs(float[] expected, 
+            float[] actual, int ulps) {
+        assertEqualsWithinULPs(expected, actual, ulps, "");
     }
-
+    
     /**
-     * Asserts that the value held by a <code>Comparable</code> object is 
-     * less than or equal to a specified maximum.
-     * @param <T> The type of the <code>maximum</code> and <code>actual</code> 
-     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
-     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
-     * @param actual The value to compare against the specified maximum. For 
-     * example, <sup>25</sup>&frasl;<sub>16</sub>.
-     * @param maximum The maximum permissible value. For example, 
-     * <sup>3</sup>&frasl;<sub>2</sub>.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion. The maximum and actual values will 
-     * be appended to the test failure explanation.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order to within a specified number of units in the 
+     * last place (ULPs). Unlike a fixed variance, this scales with the 
+     * magnitude of the numbers, so that it's as strict for numbers close to 
+     * zero as it is for very large numbers. Positive and negative zero are 
+     * considered equal, but NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 0.1, 0.2, 0.3 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 0.1, 0.2, 0.3000001 in that order.
+     * @param ulps How many representable 32-bit floating point values apart the 
+     * numbers at a given index may be and still be considered equal. For 
+     * example, 1. Should not be negative.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Sums should be correctly rounded."
+     * @throws IllegalArgumentException If <code>ulps</code> is negative.
      */
-    public static <T extends Comparable<T>> void assertMaximum(T actual, 
-            T maximum, String msg) {
-        String intermediate = msg + ". Value " + actual.toString() 
-                + " expected to be at most " + maximum.toString();
-        String errMsg = prepMsg(intermediate);
-        assert maximum.compareTo(actual) >= 0 : errMsg;
+    public static void assertEqualsWithinULPs(float[] expected, 
+            float[] actual, int ulps, String msg) {
+        checkEqualsWithinULPs(expected, actual, ulps, msg);
     }
-
+    
     /**
-     * Asserts that a 64-bit floating point number is NaN (not a number). Don't 
-     * use {@link #assertEquals(double, double) assertEquals()} because NaN is 
-     * never equal to itself. The test failure explanation will include NaN and 
-     * the actual number if the test fails.
-     * @param actual The number to assert is NaN. For example, negative 
-     * infinity.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order to within a specified number of units in the 
+     * last place (ULPs). Unlike a fixed variance, this scales with the 
+     * magnitude of the numbers, so that it's as strict for numbers close to 
+     * zero as it is for very large numbers. Positive and negative zero are 
+     * considered equal, but NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 0.1, 0.2, 0.3 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 0.1, 0.2, 0.3000001 in that order.
+     * @param ulps How many representable 32-bit floating point values apart the 
+     * numbers at a given index may be and still be considered equal. For 
+     * example, 1. Should not be negative.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws IllegalArgumentException If <code>ulps</code> is negative.
      */
-    public static void assertNaN(double actual) {
-        assertNaN(actual, "");
+    public static void assertEqualsWithinULPs(float[] expected, 
+            float[] actual, int ulps, Supplier<String> msg) {
+        checkEqualsWithinULPs(expected, actual, ulps, msg);
+    }
+    
+    private static void checkEqualsWithinULPs(float[] expected, 
+            float[] actual, int ulps, Object msg) {
+        if (ulps < 0) {
+            String excMsg = "ULPs " + ulps + " should not be negative";
+            throw new IllegalArgumentException(excMsg);
+        }
+        checkLengths(expected.length, actual.length, msg);
+        int index = 0;
+        while (index < expected.length 
+                && withinULPs(expected[index], actual[index], ulps)) {
+            index++;
+        }
+        assert index == expected.length : prepMsg(msg, 
+                "Arrays first differ at index " + index + " by more than " 
+                + ulps + " ULPs, expected " + expected[index] + " but was " 
+                + actual[index]);
+    }
+    
+    private static int orderedBits(float number) {
+        int bits = Float.floatToRawIntBits(number);
+        return bits < 0 ? Integer.MIN_VALUE - bits : bits;
+    }
+    
+    private static boolean withinULPs(float expected, float actual, int ulps) {
+        if (Float.isNaN(expected) || Float.isNaN(actual)) {
+            return false;
+        }
+        int expBits = orderedBits(expected);
+        int actBits = orderedBits(actual);
+        int distance = expBits > actBits ? expBits - actBits 
+                : actBits - expBits;
+        return Integer.compareUnsigned(distance, ulps) <= 0;
     }
     
     /**
-     * Asserts that a 64-bit floating point number is NaN (not a number). Note 
-     * that if the number to be checked is indeed NaN, it will almost certainly 
-     * be the "canonical" NaN. Don't use {@link #assertEquals(double, double, 
-     * String) assertEquals()} because no NaN is ever equal to itself, not even 
-     * canonical NaN.
-     * @param actual The number to assert is NaN. For example, positive 
-     * infinity.
-     * @param msg The message to put into the test failure explanation if the 
-     * test fails because of the assertion.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order to within a specified relative tolerance. The 
+     * numbers at a given index are considered equal if they differ by no more 
+     * than the tolerance times the greater of their absolute values. Numbers 
+     * that are exactly equal are considered equal, infinities included, but 
+     * NaN is not equal to anything, not even NaN. 
+     * The test failure explanation will either state that the arrays differ in 
+     * length or at what index the first difference was encountered if they do 
+     * match in length.
+     * @param expected The array of expected values. For example, an array 
+     * containing 1000.0, 2000.0, 3000.0 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1000.5, 2000.0, 2999.0 in that order.
+     * @param tolerance The fraction of the greater absolute value by which the 
+     * numbers at a given index may differ and still be considered equal. For 
+     * example, 0.001, which in this example allows 1000.0 and 1000.5 to differ 
+     * by up to 1.0005. Should not be negative.
+     * @throws IllegalArgumentException If <code>tolerance</code> is negative 
+     * or NaN.
      */
-    public static void assertNaN(double actual, String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to be NaN";
-        String errMsg = prepMsg(intermediate);
-        assert Double.isNaN(actual) : errMsg;
+    public static void assertEqualsRelative(float[] expected, 
+            float[] actual, double tolerance) {
+        assertEqualsRelative(expected, actual, tolerance, "");
     }
     
     /**
-     * Asserts that a 64-bit floating point number is not NaN (not a number). 
-     * The test failure explanation will state that the number is expected to 
-     * not be NaN.
-     * @param actual The number to assert is not NaN. For example, 
-     * <code>Math.PI</code>.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order to within a specified relative tolerance. The 
+     * numbers at a given index are considered equal if they differ by no more 
+     * than the tolerance times the greater of their absolute values. Numbers 
+     * that are exactly equal are considered equal, infinities included, but 
+     * NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 1000.0, 2000.0, 3000.0 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1000.5, 2000.0, 2999.0 in that order.
+     * @param tolerance The fraction of the greater absolute value by which the 
+     * numbers at a given index may differ and still be considered equal. For 
+     * example, 0.001, which in this example allows 1000.0 and 1000.5 to differ 
+     * by up to 1.0005. Should not be negative.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Sums should be correctly rounded."
+     * @throws IllegalArgumentException If <code>tolerance</code> is negative 
+     * or NaN.
      */
-    public static void assertNotNaN(double actual) {
-        assertNotNaN(actual, "");
+    public static void assertEqualsRelative(float[] expected, 
+            float[] actual, double tolerance, String msg) {
+        checkEqualsRelative(expected, actual, tolerance, msg);
     }
     
     /**
-     * Asserts that a 64-bit floating point number is not NaN (not a number).
-     * @param actual The number to assert is not NaN. For example, 
-     * <code>Math.PI</code>.
-     * @param msg The message to be included in the test failure explanation if 
-     * the number is indeed NaN.
+     * Asserts that two arrays of 32-bit floating point values have the same 
+     * numbers in the same order to within a specified relative tolerance. The 
+     * numbers at a given index are considered equal if they differ by no more 
+     * than the tolerance times the greater of their absolute values. Numbers 
+     * that are exactly equal are considered equal, infinities included, but 
+     * NaN is not equal to anything, not even NaN.
+     * @param expected The array of expected values. For example, an array 
+     * containing 1000.0, 2000.0, 3000.0 in that order.
+     * @param actual The array of actual values. For example, an array 
+     * containing 1000.5, 2000.0, 2999.0 in that order.
+     * @param tolerance The fraction of the greater absolute value by which the 
+     * numbers at a given index may differ and still be considered equal. For 
+     * example, 0.001, which in this example allows 1000.0 and 1000.5 to differ 
+     * by up to 1.0005. Should not be negative.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws IllegalArgumentException If <code>tolerance</code> is negative 
+     * or NaN.
      */
-    public static void assertNotNaN(double actual, String msg) {
-        String intermediate = msg + ". Number " + actual 
-                + " expected to not be NaN";
-        String errMsg = prepMsg(intermediate);
-        assert !Double.isNaN(actual) : errMsg;
+    public static void assertEqualsRelative(float[] expected, 
+            float[] actual, double tolerance, Supplier<String> msg) {
+        checkEqualsRelative(expected, actual, tolerance, msg);
+    }
+    
+    private static void checkEqualsRelative(float[] expected, 
+            float[] actual, double tolerance, Object msg) {
+        if (!(tolerance >= 0.0)) {
+            String excMsg = "Tolerance " + tolerance 
+                    + " should not be negative or NaN";
+            throw new IllegalArgumentException(excMsg);
+        }
+        checkLengths(expected.length, actual.length, msg);
+        int index = 0;
+        while (index < expected.length 
+                && withinRelative(expected[index], actual[index], tolerance)) {
+            index++;
+        }
+        assert index == expected.length : prepMsg(msg, 
+                "Arrays first differ at index " + index 
+                + " by more than relative tolerance " + tolerance 
+                + ", expected " + expected[index] + " but was " 
+                + actual[index]);
+    }
+    
+    private static boolean withinRelative(double expected, double actual, 
+            double tolerance) {
+        if (expected == actual) {
+            return true;
+        }
+        double magnitude = Math.max(Math.abs(expected), Math.abs(actual));
+        return Math.abs(expected - actual) <= tolerance * magnitude;
     }
     
     /**
-     * Asserts that an integer is in a given range. Using this assertion is 
-     * similar to combining {@link #assertMinimum(long, long)} and {@link 
-     * #assertMaximum(long, long)} in a single test, but with this assertion, if 
-     * the assertion fails, the test failure explanation will include both the 
+     * Asserts that an object is null. If the object is not null, the test 
+     * failure explanation will include the object's <code>toString()</code>.
+     * <p>To assert that an object is <em>not</em> null, use a plain Java assert 
+     * with an appropriate message.</p>
+     * @param object The object to assert is null. For example, a field that is 
+     * not supposed to be initialized at construction time.
+     */
+    public static void assertNull(Object object) {
+        assertNull(object, "");
+    }
+    
+    /**
+     * Asserts that an object is null. To assert that an object is <em>not</em> 
+     * null, use a plain Java assert with an appropriate message.
+     * @param object The object to assert is null. For example, a field that is 
+     * not supposed to be initialized at construction time.
+     * @param msg A message for the test failure explanation, to which will be 
+     * appended a message saying a null object was expected but instead a 
+     * non-null object was found, if the test fails.
+     */
+    public static void assertNull(Object object, String msg) {
+        checkNull(object, msg);
+    }
+    
+    /**
+     * Asserts that an object is null. To assert that an object is <em>not</em> 
+     * null, use a plain Java assert with an appropriate message.
+     * @param object The object to assert is null. For example, a field that is 
+     * not supposed to be initialized at construction time.
+     * @param msg Supplies a message for the test failure explanation, to which 
+     * will be appended a message saying a null object was expected but instead 
+     * a non-null object was found, if the test fails. The supplier is only 
+     * called if the assertion fails.
+     */
+    public static void assertNull(Object object, Supplier<String> msg) {
+        checkNull(object, msg);
+    }
+    
+    private static void checkNull(Object object, Object msg) {
+        if (object != null) {
+            String errMsg = prepMsg(msg, "Expected null object but found " 
+                    + object.toString());
+            throw new AssertionError(errMsg);
+        }
+    }
+    
+    /**
+     * Asserts that an integer is greater than or equal to a specified minimum. 
+     * The test failure explanation will include both the expected minimum and 
+     * the actual number if it's below the minimum.
+     * @param minimum The minimum permissible value. For example, 100.
+     * @param actual The value to compare against the specified minimum. For 
+     * example, 95.
+     */
+    public static void assertMinimum(long minimum, long actual) {
+        assertMinimum(minimum, actual, "");
+    }
+    
+    /**
+     * Asserts that an integer is greater than or equal to a specified minimum. 
+     * The test failure explanation will include both the expected minimum and 
+     * the actual number if it's below the minimum.
+     * @param minimum The minimum permissible value. For example, 100.
+     * @param actual The value to compare against the specified minimum. For 
+     * example, 95.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. For example, "List should have at 
+     * least as many elements as the set." The minimum and actual values will be 
+     * appended to the test failure explanation.
+     */
+    public static void assertMinimum(long minimum, long actual, String msg) {
+        checkMinimum(minimum, actual, msg);
+    }
+    
+    /**
+     * Asserts that an integer is greater than or equal to a specified minimum. 
+     * The test failure explanation will include both the expected minimum and 
+     * the actual number if it's below the minimum.
+     * @param minimum The minimum permissible value. For example, 100.
+     * @param actual The value to compare against the specified minimum. For 
+     * example, 95.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. For example, "List should 
+     * have at least as many elements as the set." The minimum and actual values 
+     * will be appended to the test failure explanation. The supplier is only 
+     * called if the assertion fails.
+     */
+    public static void assertMinimum(long minimum, long actual, 
+            Supplier<String> msg) {
+        checkMinimum(minimum, actual, msg);
+    }
+    
+    private static void checkMinimum(long minimum, long actual, Object msg) {
+        assert actual >= minimum : prepMsg(msg, "Number " + actual 
+                + " expected to be at least " + minimum);
+    }
+    
+    /**
+     * Asserts that a floating point number is equal to or greater than a 
+     * specified minimum. Due to the vagaries of floating point, numbers 
+     * slightly below the minimum might register as equal to the minimum. The 
+     * test failure explanation will include both the expected minimum and the 
+     * actual number if it's below the minimum.
+     * @param minimum The minimum possible number. For example, &minus;0.5.
+     * @param actual The number to compare against the specified minimum. For 
+     * example, &minus;1.83.
+     */
+    public static void assertMinimum(double minimum, double actual) {
+        assertMinimum(minimum, actual, "");
+    }
+
+    /**
+     * Asserts that a floating point number is equal to or greater than a 
+     * specified minimum. Due to the vagaries of floating point, numbers 
+     * slightly below the minimum might register as equal to the minimum. The 
+     * test failure explanation will include both the expected minimum and the 
+     * actual number if it's below the minimum.
+     * @param minimum The minimum possible number. For example, &minus;0.5.
+     * @param actual The number to compare against the specified minimum. For 
+     * example, &minus;1.83.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The minimum and actual values will 
+     * be appended to the test failure explanation.
+     */
+    public static void assertMinimum(double minimum, double actual, 
+            String msg) {
+        checkMinimum(minimum, actual, msg);
+    }
+    
+    /**
+     * Asserts that a floating point number is equal to or greater than a 
+     * specified minimum. Due to the vagaries of floating point, numbers 
+     * slightly below the minimum might register as equal to the minimum. The 
+     * test failure explanation will include both the expected minimum and the 
+     * actual number if it's below the minimum.
+     * @param minimum The minimum possible number. For example, &minus;0.5.
+     * @param actual The number to compare against the specified minimum. For 
+     * example, &minus;1.83.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The minimum and actual values 
+     * will be appended to the test failure explanation. The supplier is only 
+     * called if the assertion fails.
+     */
+    public static void assertMinimum(double minimum, double actual, 
+            Supplier<String> msg) {
+        checkMinimum(minimum, actual, msg);
+    }
+    
+    private static void checkMinimum(double minimum, double actual, 
+            Object msg) {
+        assert actual >= minimum : prepMsg(msg, "Value " + actual 
+                + " expected to be at least " + minimum);
+    }
+
+    /**
+     * Asserts that the value held by a <code>Comparable</code> object is 
+     * greater than or equal to a specified minimum.
+     * @param <T> The type of the <code>minimum</code> and <code>actual</code> 
+     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
+     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
+     * @param minimum The minimum permissible value. For example, 
+     * <sup>3</sup>&frasl;<sub>2</sub>.
+     * @param actual The value to compare against the specified minimum. For 
+     * example, <sup>21</sup>&frasl;<sub>16</sub>.
+     */
+    public static <T extends Comparable<T>> void assertMinimum(T minimum, 
+            T actual) {
+        assertMinimum(minimum, actual, "");
+    }
+
+    /**
+     * Asserts that the value held by a <code>Comparable</code> object is 
+     * greater than or equal to a specified minimum.
+     * @param <T> The type of the <code>minimum</code> and <code>actual</code> 
+     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
+     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
+     * @param minimum The minimum permissible value. For example, 
+     * <sup>3</sup>&frasl;<sub>2</sub>.
+     * @param actual The value to compare against the specified minimum. For 
+     * example, <sup>21</sup>&frasl;<sub>16</sub>.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The minimum and actual values will 
+     * be appended to the test failure explanation.
+     */
+    public static <T extends Comparable<T>> void assertMinimum(T minimum, 
+            T actual, String msg) {
+        checkMinimum(minimum, actual, msg);
+    }
+    
+    /**
+     * Asserts that the value held by a <code>Comparable</code> object is 
+     * greater than or equal to a specified minimum.
+     * @param <T> The type of the <code>minimum</code> and <code>actual</code> 
+     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
+     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
+     * @param minimum The minimum permissible value. For example, 
+     * <sup>3</sup>&frasl;<sub>2</sub>.
+     * @param actual The value to compare against the specified minimum. For 
+     * example, <sup>21</sup>&frasl;<sub>16</sub>.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The minimum and actual values 
+     * will be appended to the test failure explanation. The supplier is only 
+     * called if the assertion fails.
+     */
+    public static <T extends Comparable<T>> void assertMinimum(T minimum, 
+            T actual, Supplier<String> msg) {
+        checkMinimum(minimum, actual, msg);
+    }
+    
+    private static <T extends Comparable<T>> void checkMinimum(T minimum, 
+            T actual, Object msg) {
+        int comparison = minimum.compareTo(actual);
+        assert comparison < 1 : prepMsg(msg, "Value " + actual.toString() 
+                + " expected to be at least " + minimum.toString());
+    }
+
+    /**
+     * Asserts that an integer is negative. The actual number and the maximum 
+     * &minus;1 will be included in the test failure explanation if the 
+     * assertion fails.
+     * @param actual The number to check. For example, &minus;14370899.
+     */
+    public static void assertNegative(long actual) {
+        assertNegative(actual, "");
+    }
+
+    /**
+     * Asserts that an integer is negative.
+     * @param actual The number to check. For example, &minus;14370899.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The number <code>actual</code> and 
+     * the maximum &minus;1 will be appended to the test failure explanation.
+     */
+    public static void assertNegative(long actual, String msg) {
+        assertMaximum(actual, -1, msg);
+    }
+    
+    /**
+     * Asserts that an integer is negative.
+     * @param actual The number to check. For example, &minus;14370899.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The number 
+     * <code>actual</code> and the maximum &minus;1 will be appended to the test 
+     * failure explanation. The supplier is only called if the assertion fails.
+     */
+    public static void assertNegative(long actual, Supplier<String> msg) {
+        assertMaximum(actual, -1, msg);
+    }
+
+    /**
+     * Asserts that a floating point number is negative. However, due to the 
+     * vagaries of floating point, negative subnormal numbers might be 
+     * erroneously regarded as not negative.
+     * <p>Other special cases to be aware of:</p>
+     * <ul>
+     * <li>Negative infinity should not fail the assertion, same as finite 
+     * negative numbers.</li>
+     * <li>Negative zero, an oddity of the floating point specification, should 
+     * nevertheless be considered not negative.</li>
+     * <li>Positive zero should of course fail the assertion, the same as 
+     * positive numbers.</li>
+     * <li>Positive infinity should fail the assertion, same as finite positive 
+     * numbers.</li>
+     * <li>NaN should fail the assertion even if the bit pattern is negative. 
+     * And in any case, it's difficult to access NaN values other than the 
+     * "canonical" NaN through the Java Virtual Machine.</li>
+     * </ul>
+     * <p>If the test fails, the test failure explanation will include the 
+     * number <code>actual</code> and the threshold 0.0, except in the case of 
+     * asserting on NaN, in which case the test failure explanation will state 
+     * that NaN is not considered negative, zero or positive.</p>
+     * @param actual The number to check. For example, &minus;2.6065827580858707 
+     * &times; 10<sup>8</sup>.
+     */
+    public static void assertNegative(double actual) {
+        assertNegative(actual, "");
+    }
+
+    /**
+     * Asserts that a floating point number is negative. However, due to the 
+     * vagaries of floating point, negative subnormal numbers might be 
+     * erroneously regarded as not negative.
+     * <p>Other special cases to be aware of:</p>
+     * <ul>
+     * <li>Negative infinity should not fail the assertion, same as finite 
+     * negative numbers.</li>
+     * <li>Negative zero, an oddity of the floating point specification, should 
+     * nevertheless be considered not negative.</li>
+     * <li>Positive zero should of course fail the assertion, the same as 
+     * positive numbers.</li>
+     * <li>Positive infinity should fail the assertion, same as finite positive 
+     * numbers.</li>
+     * <li>NaN should fail the assertion even if the bit pattern is negative. 
+     * And in any case, it's difficult to access NaN values other than the 
+     * "canonical" NaN through the Java Virtual Machine.</li>
+     * </ul>
+     * @param actual The number to check. For example, &minus;2.6065827580858707 
+     * &times; 10<sup>8</sup>.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The number <code>actual</code> and 
+     * the threshold 0.0 will be appended to the test failure explanation, or, 
+     * in the case of NaN, the appended explanation will say that NaN "is not 
+     * considered negative, zero or positive."
+     */
+    public static void assertNegative(double actual, String msg) {
+        checkNegative(actual, msg);
+    }
+    
+    /**
+     * Asserts that a floating point number is negative. However, due to the 
+     * vagaries of floating point, negative subnormal numbers might be 
+     * erroneously regarded as not negative.
+     * <p>Other special cases to be aware of:</p> 
+     * <ul> 
+     * <li>Negative infinity should not fail the assertion, same as finite 
+     * negative numbers.</li> 
+     * <li>Negative zero, an oddity of the floating point specification, should 
+     * nevertheless be considered not negative.</li> 
+     * <li>Positive zero should of course fail the assertion, the same as 
+     * positive numbers.</li> 
+     * <li>Positive infinity should fail the assertion, same as finite positive 
+     * numbers.</li> 
+     * <li>NaN should fail the assertion even if the bit pattern is negative. 
+     * And in any case, it's difficult to access NaN values other than the 
+     * "canonical" NaN through the Java Virtual Machine.</li> 
+     * </ul>
+     * @param actual The number to check. For example, &minus;2.6065827580858707 
+     * &times; 10<sup>8</sup>.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The number 
+     * <code>actual</code> and the threshold 0.0 will be appended to the test 
+     * failure explanation, or, in the case of NaN, the appended explanation 
+     * will say that NaN "is not considered negative, zero or positive." The 
+     * supplier is only called if the assertion fails.
+     */
+    public static void assertNegative(double actual, Supplier<String> msg) {
+        checkNegative(actual, msg);
+    }
+    
+    private static void checkNegative(double actual, Object msg) {
+        if (Double.isNaN(actual)) {
+            String errMsg = prepMsg(msg, "Number " + actual 
+                    + " is not considered negative, zero or positive");
+            throw new AssertionError(errMsg);
+        }
+        assert actual < 0.0 : prepMsg(msg, "Number " + actual 
+                + " expected to be less than 0.0");
+    }
+
+    /**
+     * Asserts that an integer is not positive. Remember that 0 is not positive. 
+     * If the test fails because of the assertion, the number 
+     * <code>actual</code> and the threshold 1 will be appended to the test 
+     * failure explanation.
+     * @param actual The number to assert is not positive. For example, 
+     * &minus;47.
+     */
+    public static void assertNotPositive(long actual) {
+        assertNotPositive(actual, "");
+    }
+
+    /**
+     * Asserts that an integer is not positive. Remember that 0 is not positive.
+     * @param actual The number to assert is not positive. For example, 
+     * &minus;47.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The number <code>actual</code> and 
+     * the threshold 1 will be appended to the test failure explanation.
+     */
+    public static void assertNotPositive(long actual, String msg) {
+        checkNotPositive(actual, msg);
+    }
+    
+    /**
+     * Asserts that an integer is not positive. Remember that 0 is not positive.
+     * @param actual The number to assert is not positive. For example, 
+     * &minus;47.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The number 
+     * <code>actual</code> and the threshold 1 will be appended to the test 
+     * failure explanation. The supplier is only called if the assertion fails.
+     */
+    public static void assertNotPositive(long actual, Supplier<String> msg) {
+        checkNotPositive(actual, msg);
+    }
+    
+    private static void checkNotPositive(long actual, Object msg) {
+        assert actual < 1 : prepMsg(msg, "Number " + actual 
+                + " expected to be less than 1");
+    }
+
+    /**
+     * Asserts a given number is not positive. The number may be &minus;0.0 or 
+     * 0.0 without failing the assertion. It may also be NaN and not fail the 
+     * assertion (remember that NaN is neither positive nor negative even though 
+     * the bit pattern may be negative, zero or positive), and obviously 
+     * &minus;&infin; won't either. However, +&infin; will fail the assertion.
+     * @param actual The number to be checked. For example, 10.843979291045144. 
+     * This number will be included in the test failure explanation if the test 
+     * fails because of this assertion.
+     */
+    public static void assertNotPositive(double actual) {
+        assertNotPositive(actual, "");
+    }
+
+    /**
+     * Asserts a given number is not positive. The number may be &minus;0.0 or 
+     * 0.0 without failing the assertion. It may also be NaN and not fail the 
+     * assertion (remember that NaN is neither positive nor negative even though 
+     * the bit pattern may be negative, zero or positive), and obviously 
+     * &minus;&infin; won't either. However, +&infin; will fail the assertion.
+     * @param actual The number to be checked. For example, 10.843979291045144.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The actual value will be included in 
+     * the test failure explanation.
+     */
+    public static void assertNotPositive(double actual, String msg) {
+        checkNotPositive(actual, msg);
+    }
+    
+    /**
+     * Asserts a given number is not positive. The number may be &minus;0.0 or 
+     * 0.0 without failing the assertion. It may also be NaN and not fail the 
+     * assertion (remember that NaN is neither positive nor negative even though 
+     * the bit pattern may be negative, zero or positive), and obviously 
+     * &minus;&infin; won't either. However, +&infin; will fail the assertion.
+     * @param actual The number to be checked. For example, 10.843979291045144.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The actual value will be 
+     * included in the test failure explanation. The supplier is only called if 
+     * the assertion fails.
+     */
+    public static void assertNotPositive(double actual, Supplier<String> msg) {
+        checkNotPositive(actual, msg);
+    }
+    
+    private static void checkNotPositive(double actual, Object msg) {
+        if (Double.isNaN(actual)) {
+            return;
+        }
+        assert actual <= 0.0 : prepMsg(msg, "Number " + actual 
+                + " expected to not be positive");
+    }
+
+    /**
+     * Asserts that an integer is equal to zero. This has the same effect as an 
+     * {@link #assertEquals(long, long) assertEquals()} with 0 as the 
+     * <code>expected</code> value, though the test failure messages might 
+     * differ in their wording. The number actual number and the expected value 
+     * of 0 will be appended to the test failure explanation.
+     * @param actual The number to assert is equal to 0. For example, 133.
+     */
+    public static void assertZero(long actual) {
+        assertZero(actual, "");
+    }
+
+    /**
+     * Asserts that an integer is equal to zero. This has the same effect as an 
+     * {@link #assertEquals(long, long, String) assertEquals()} with 0 as the 
+     * <code>expected</code> value, though the test failure messages might 
+     * differ in their wording.
+     * @param actual The number to assert is equal to 0. For example, 133.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The number <code>actual</code> and 
+     * the expected value of 0 will be appended to the test failure explanation.
+     */
+    public static void assertZero(long actual, String msg) {
+        checkZero(actual, msg);
+    }
+    
+    /**
+     * Asserts that an integer is equal to zero. This has the same effect as an 
+     * {@link #assertEquals(long, long, String) assertEquals()} with 0 as the 
+     * <code>expected</code> value, though the test failure messages might 
+     * differ in their wording.
+     * @param actual The number to assert is equal to 0. For example, 133.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The number 
+     * <code>actual</code> and the expected value of 0 will be appended to the 
+     * test failure explanation. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertZero(long actual, Supplier<String> msg) {
+        checkZero(actual, msg);
+    }
+    
+    private static void checkZero(long actual, Object msg) {
+        assert actual == 0 : prepMsg(msg, "Number " + actual 
+                + " expected to be 0");
+    }
+
+    /**
+     * Asserts that a 64-bit floating point number is equal to 0.0 (or to 
+     * &minus;0.0). However, if a nonzero subnormal number is acceptable to pass 
+     * the test, then use {@link #assertEquals(double, double, double)} with a 
+     * small delta or {@link #assertEquals(double, double)} which uses {@link 
+     * #DEFAULT_TEST_DELTA} as the delta instead. The default test failure 
+     * explanation will include the numbers <code>actual</code> and 0.0.
+     * @param actual The floating point number to assert is equal to &pm;0.0. 
+     * For example, &minus;0.0078125.
+     */
+    public static void assertZero(double actual) {
+        assertZero(actual, "");
+    }
+
+    /**
+     * Asserts that a 64-bit floating point number is equal to 0.0 (or to 
+     * &minus;0.0). However, if a nonzero subnormal number is acceptable to pass 
+     * the test, then use {@link #assertEquals(double, double, double, String)} 
+     * with a small delta or {@link #assertEquals(double, double, String)} which 
+     * uses {@link #DEFAULT_TEST_DELTA} as the delta instead.
+     * @param actual The floating point number to assert is equal to &pm;0.0. 
+     * For example, &minus;0.0078125.
+     * @param msg The message for the test failure explanation. The numbers 
+     * <code>actual</code> and 0.0 will be appended to this message.
+     */
+    public static void assertZero(double actual, String msg) {
+        checkZero(actual, msg);
+    }
+    
+    /**
+     * Asserts that a 64-bit floating point number is equal to 0.0 (or to 
+     * &minus;0.0). However, if a nonzero subnormal number is acceptable to pass 
+     * the test, then use {@link #assertEquals(double, double, double, String)} 
+     * with a small delta or {@link #assertEquals(double, double, String)} which 
+     * uses {@link #DEFAULT_TEST_DELTA} as the delta instead.
+     * @param actual The floating point number to assert is equal to &pm;0.0. 
+     * For example, &minus;0.0078125.
+     * @param msg Supplies the message for the test failure explanation. The 
+     * numbers <code>actual</code> and 0.0 will be appended to this message. The 
+     * supplier is only called if the assertion fails.
+     */
+    public static void assertZero(double actual, Supplier<String> msg) {
+        checkZero(actual, msg);
+    }
+    
+    private static void checkZero(double actual, Object msg) {
+        assert actual == 0.0 : prepMsg(msg, "Number " + actual 
+                + " expected to be 0.0");
+    }
+
+    /**
+     * Asserts a given number is not negative. The number may be 0 without 
+     * failing the assertion. The number will be included in the test failure 
+     * explanation if the test fails because of this assertion.
+     * @param actual The number to be checked. For example, &minus;103.
+     */
+    public static void assertNotNegative(long actual) {
+        assertMinimum(0, actual);
+    }
+
+    /**
+     * Asserts a given number is not negative. The number may be 0 without 
+     * failing the assertion.
+     * @param actual The number to be checked. For example, &minus;103.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The actual value will be appended to 
+     * the test failure explanation.
+     */
+    public static void assertNotNegative(long actual, String msg) {
+        assertMinimum(0, actual, msg);
+    }
+
+    /**
+     * Asserts a given number is not negative. The number may be 0 without 
+     * failing the assertion.
+     * @param actual The number to be checked. For example, &minus;103.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The actual value will be 
+     * appended to the test failure explanation. The supplier is only called if 
+     * the assertion fails.
+     */
+    public static void assertNotNegative(long actual, Supplier<String> msg) {
+        assertMinimum(0, actual, msg);
+    }
+    
+    /**
+     * Asserts a given number is not negative. The number may be -0.0 or 0.0 
+     * without failing the assertion.
+     * @param actual The number to be checked. For example, 10.843979291045144.
+     */
+    public static void assertNotNegative(double actual) {
+        assertNotNegative(actual, "");
+    }
+
+    /**
+     * Asserts a given number is not negative. The number may be &minus;0.0 or 
+     * 0.0 without failing the assertion. Note that a NaN value is considered 
+     * not negative even if its bit pattern is negative.
+     * @param actual The number to be checked. For example, 10.843979291045144.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The actual value will be included in 
+     * the test failure explanation.
+     */
+    public static void assertNotNegative(double actual, String msg) {
+        checkNotNegative(actual, msg);
+    }
+    
+    /**
+     * Asserts a given number is not negative. The number may be &minus;0.0 or 
+     * 0.0 without failing the assertion. Note that a NaN value is considered 
+     * not negative even if its bit pattern is negative.
+     * @param actual The number to be checked. For example, 10.843979291045144.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The actual value will be 
+     * included in the test failure explanation. The supplier is only called if 
+     * the assertion fails.
+     */
+    public static void assertNotNegative(double actual, Supplier<String> msg) {
+        checkNotNegative(actual, msg);
+    }
+    
+    private static void checkNotNegative(double actual, Object msg) {
+        if (Double.isNaN(actual)) {
+            return;
+        }
+        assert actual >= 0.0 : prepMsg(msg, "Number " + actual 
+                + " expected to be at least 0.0");
+    }
+
+    /**
+     * Asserts that an integer is positive. The number must be 1 or greater to 
+     * pass the assertion.
+     * @param actual The number to assert is positive. For example, &minus;347.
+     */
+    public static void assertPositive(long actual) {
+        assertPositive(actual, "");
+    }
+
+    /**
+     * Asserts that an integer is positive. The number must be 1 or greater to 
+     * pass the assertion.
+     * @param actual The number to assert is positive. For example, &minus;347.
+     * @param msg The message for the test failure explanation.
+     */
+    public static void assertPositive(long actual, String msg) {
+        checkPositive(actual, msg);
+    }
+    
+    /**
+     * Asserts that an integer is positive. The number must be 1 or greater to 
+     * pass the assertion.
+     * @param actual The number to assert is positive. For example, &minus;347.
+     * @param msg Supplies the message for the test failure explanation. The 
+     * supplier is only called if the assertion fails.
+     */
+    public static void assertPositive(long actual, Supplier<String> msg) {
+        checkPositive(actual, msg);
+    }
+    
+    private static void checkPositive(long actual, Object msg) {
+        assert actual > 0 : prepMsg(msg, "Number " + actual 
+                + " expected to be greater than 0");
+    }
+
+    /**
+     * Asserts that a floating point number is positive. If the test fails, the 
+     * actual number and the threshold 0.0 will be included in the test failure 
+     * explanation, or, in the case of NaN, the explanation will say that NaN 
+     * "is not considered negative, zero or positive."
+     * <p>Due to the vagaries of floating point, positive subnormal numbers 
+     * might be erroneously regarded as not positive.</p>
+     * <p>Other special cases to be aware of:</p>
+     * <ul>
+     * <li>Positive infinity should not fail the assertion, same as most finite 
+     * positive numbers.</li>
+     * <li>Negative zero, an oddity of the floating point specification, should 
+     * nevertheless be considered not positive.</li>
+     * <li>Positive zero should of course fail the assertion.</li>
+     * <li>Negative infinity should fail the assertion, same as finite negative 
+     * numbers.</li>
+     * </ul>
+     * @param actual The number to check. For example, &minus;2.6065827580858707 
+     * &times; 10<sup>8</sup>.
+     */
+    public static void assertPositive(double actual) {
+        assertPositive(actual, "");
+    }
+
+    /**
+     * Asserts that a floating point number is positive. However, due to the 
+     * vagaries of floating point, positive subnormal numbers might be 
+     * erroneously regarded as not positive.
+     * <p>Other special cases to be aware of:</p>
+     * <ul>
+     * <li>Positive infinity should not fail the assertion, same as most finite 
+     * positive numbers.</li>
+     * <li>Negative zero, an oddity of the floating point specification, should 
+     * nevertheless be considered not positive.</li>
+     * <li>Positive zero should of course fail the assertion.</li>
+     * <li>Negative infinity should fail the assertion, same as finite negative 
+     * numbers.</li>
+     * <li>NaN should fail the assertion even if the bit pattern is positive. 
+     * And in any case, it's difficult to access NaN values other than the 
+     * "canonical" NaN through the Java Virtual Machine.</li>
+     * </ul>
+     * @param actual The number to check. For example, &minus;2.6065827580858707 
+     * &times; 10<sup>8</sup>.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The number <code>actual</code> and 
+     * the threshold 0.0 will be appended to the test failure explanation, or, 
+     * in the case of NaN, the appended explanation will say that NaN "is not 
+     * considered negative, zero or positive."
+     */
+    public static void assertPositive(double actual, String msg) {
+        checkPositive(actual, msg);
+    }
+    
+    /**
+     * Asserts that a floating point number is positive. However, due to the 
+     * vagaries of floating point, positive subnormal numbers might be 
+     * erroneously regarded as not positive.
+     * <p>Other special cases to be aware of:</p> 
+     * <ul> 
+     * <li>Positive infinity should not fail the assertion, same as most finite 
+     * positive numbers.</li> 
+     * <li>Negative zero, an oddity of the floating point specification, should 
+     * nevertheless be considered not positive.</li> 
+     * <li>Positive zero should of course fail the assertion.</li> 
+     * <li>Negative infinity should fail the assertion, same as finite negative 
+     * numbers.</li> 
+     * <li>NaN should fail the assertion even if the bit pattern is positive. 
+     * And in any case, it's difficult to access NaN values other than the 
+     * "canonical" NaN through the Java Virtual Machine.</li> 
+     * </ul>
+     * @param actual The number to check. For example, &minus;2.6065827580858707 
+     * &times; 10<sup>8</sup>.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The number 
+     * <code>actual</code> and the threshold 0.0 will be appended to the test 
+     * failure explanation, or, in the case of NaN, the appended explanation 
+     * will say that NaN "is not considered negative, zero or positive." The 
+     * supplier is only called if the assertion fails.
+     */
+    public static void assertPositive(double actual, Supplier<String> msg) {
+        checkPositive(actual, msg);
+    }
+    
+    private static void checkPositive(double actual, Object msg) {
+        if (Double.isNaN(actual)) {
+            String errMsg = prepMsg(msg, "Number " + actual 
+                    + " is not considered negative, zero or positive");
+            throw new AssertionError(errMsg);
+        }
+        assert actual > 0.0 : prepMsg(msg, "Number " + actual 
+                + " expected to be greater than 0.0");
+    }
+
+    /**
+     * Asserts an integer is not greater than a specified maximum. The test 
+     * failure explanation will include the expected maximum and the actual 
+     * value if the assertion fails.
+     * @param actual The number to test for not going over the maximum. For 
+     * example, 1000.
+     * @param maximum The maximum that <code>actual</code> can be without 
+     * failing the assertion. For example, 973.
+     */
+    public static void assertMaximum(long actual, long maximum) {
+        assertMaximum(actual, maximum, "");
+    }
+    
+    /**
+     * Asserts an integer is not greater than a specified maximum.
+     * @param actual The number to test for not going over the maximum. For 
+     * example, 1000.
+     * @param maximum The maximum that <code>actual</code> can be without 
+     * failing the assertion. For example, 973.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     */
+    public static void assertMaximum(long actual, long maximum, String msg) {
+        checkMaximum(actual, maximum, msg);
+    }
+    
+    /**
+     * Asserts an integer is not greater than a specified maximum.
+     * @param actual The number to test for not going over the maximum. For 
+     * example, 1000.
+     * @param maximum The maximum that <code>actual</code> can be without 
+     * failing the assertion. For example, 973.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertMaximum(long actual, long maximum, 
+            Supplier<String> msg) {
+        checkMaximum(actual, maximum, msg);
+    }
+    
+    private static void checkMaximum(long actual, long maximum, Object msg) {
+        assert maximum >= actual : prepMsg(msg, "Number " + actual 
+                + " expected to be at most " + maximum);
+    }
+    
+    /**
+     * Asserts a floating point number is less than or equal to a specified 
+     * maximum. The maximum and the actual number will be included in the test 
+     * failure explanation if the assertion fails.
+     * @param actual The number to assert is less than a given maximum. For 
+     * example, 99.890773.
+     * @param maximum The number <code>actual</code> is expected to be less than 
+     * or equal to. For example, 100.0.
+     */
+    public static void assertMaximum(double actual, double maximum) {
+        assertMaximum(actual, maximum, "");
+    }
+
+    /**
+     * Asserts a floating point number is less than or equal to a specified 
+     * maximum.
+     * @param actual The number to assert is less than a given maximum. For 
+     * example, 99.890773.
+     * @param maximum The number <code>actual</code> is expected to be less than 
+     * or equal to. For example, 100.0.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     */
+    public static void assertMaximum(double actual, double maximum,  
+            String msg) {
+        checkMaximum(actual, maximum, msg);
+    }
+    
+    /**
+     * Asserts a floating point number is less than or equal to a specified 
+     * maximum.
+     * @param actual The number to assert is less than a given maximum. For 
+     * example, 99.890773.
+     * @param maximum The number <code>actual</code> is expected to be less than 
+     * or equal to. For example, 100.0.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertMaximum(double actual, double maximum, 
+            Supplier<String> msg) {
+        checkMaximum(actual, maximum, msg);
+    }
+    
+    private static void checkMaximum(double actual, double maximum, 
+            Object msg) {
+        assert maximum >= actual : prepMsg(msg, "Number " + actual 
+                + " expected to be at most " + maximum);
+    }
+
+    /**
+     * Asserts that the value held by a <code>Comparable</code> object is 
+     * less than or equal to a specified maximum. The test failure explanation 
+     * will include the actual value and the maximum if the assertion fails.
+     * @param <T> The type of the <code>maximum</code> and <code>actual</code> 
+     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
+     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
+     * @param actual The value to compare against the specified maximum. For 
+     * example, <sup>25</sup>&frasl;<sub>16</sub>.
+     * @param maximum The maximum permissible value. For example, 
+     * <sup>3</sup>&frasl;<sub>2</sub>.
+     */
+    public static <T extends Comparable<T>> void assertMaximum(T actual, 
+            T maximum) {
+        assertMaximum(actual, maximum, "");
+    }
+
+    /**
+     * Asserts that the value held by a <code>Comparable</code> object is 
+     * less than or equal to a specified maximum.
+     * @param <T> The type of the <code>maximum</code> and <code>actual</code> 
+     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
+     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
+     * @param actual The value to compare against the specified maximum. For 
+     * example, <sup>25</sup>&frasl;<sub>16</sub>.
+     * @param maximum The maximum permissible value. For example, 
+     * <sup>3</sup>&frasl;<sub>2</sub>.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion. The maximum and actual values will 
+     * be appended to the test failure explanation.
+     */
+    public static <T extends Comparable<T>> void assertMaximum(T actual, 
+            T maximum, String msg) {
+        checkMaximum(actual, maximum, msg);
+    }
+    
+    /**
+     * Asserts that the value held by a <code>Comparable</code> object is 
+     * less than or equal to a specified maximum.
+     * @param <T> The type of the <code>maximum</code> and <code>actual</code> 
+     * parameters. Must implement <code>Comparable&lt;T&gt;</code>. For example, 
+     * <code>Fraction implements Comparable&lt;Fraction&gt;</code>.
+     * @param actual The value to compare against the specified maximum. For 
+     * example, <sup>25</sup>&frasl;<sub>16</sub>.
+     * @param maximum The maximum permissible value. For example, 
+     * <sup>3</sup>&frasl;<sub>2</sub>.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The maximum and actual values 
+     * will be appended to the test failure explanation. The supplier is only 
+     * called if the assertion fails.
+     */
+    public static <T extends Comparable<T>> void assertMaximum(T actual, 
+            T maximum, Supplier<String> msg) {
+        checkMaximum(actual, maximum, msg);
+    }
+    
+    private static <T extends Comparable<T>> void checkMaximum(T actual, 
+            T maximum, Object msg) {
+        assert maximum.compareTo(actual) >= 0 : prepMsg(msg, "Value " 
+                + actual.toString() + " expected to be at most " 
+                + maximum.toString());
+    }
+
+    /**
+     * Asserts that a 64-bit floating point number is NaN (not a number). Don't 
+     * use {@link #assertEquals(double, double) assertEquals()} because NaN is 
+     * never equal to itself. The test failure explanation will include NaN and 
+     * the actual number if the test fails.
+     * @param actual The number to assert is NaN. For example, negative 
+     * infinity.
+     */
+    public static void assertNaN(double actual) {
+        assertNaN(actual, "");
+    }
+    
+    /**
+     * Asserts that a 64-bit floating point number is NaN (not a number). Note 
+     * that if the number to be checked is indeed NaN, it will almost certainly 
+     * be the "canonical" NaN. Don't use {@link #assertEquals(double, double, 
+     * String) assertEquals()} because no NaN is ever equal to itself, not even 
+     * canonical NaN.
+     * @param actual The number to assert is NaN. For example, positive 
+     * infinity.
+     * @param msg The message to put into the test failure explanation if the 
+     * test fails because of the assertion.
+     */
+    public static void assertNaN(double actual, String msg) {
+        checkNaN(actual, msg);
+    }
+    
+    /**
+     * Asserts that a 64-bit floating point number is NaN (not a number). Note 
+     * that if the number to be checked is indeed NaN, it will almost certainly 
+     * be the "canonical" NaN. Don't use {@link #assertEquals(double, double, 
+     * String) assertEquals()} because no NaN is ever equal to itself, not even 
+     * canonical NaN.
+     * @param actual The number to assert is NaN. For example, positive 
+     * infinity.
+     * @param msg Supplies the message to put into the test failure explanation 
+     * if the test fails because of the assertion. The supplier is only called 
+     * if the assertion fails.
+     */
+    public static void assertNaN(double actual, Supplier<String> msg) {
+        checkNaN(actual, msg);
+    }
+    
+    private static void checkNaN(double actual, Object msg) {
+        assert Double.isNaN(actual) : prepMsg(msg, "Number " + actual 
+                + " expected to be NaN");
+    }
+    
+    /**
+     * Asserts that a 64-bit floating point number is not NaN (not a number). 
+     * The test failure explanation will state that the number is expected to 
+     * not be NaN.
+     * @param actual The number to assert is not NaN. For example, 
+     * <code>Math.PI</code>.
+     */
+    public static void assertNotNaN(double actual) {
+        assertNotNaN(actual, "");
+    }
+    
+    /**
+     * Asserts that a 64-bit floating point number is not NaN (not a number).
+     * @param actual The number to assert is not NaN. For example, 
+     * <code>Math.PI</code>.
+     * @param msg The message to be included in the test failure explanation if 
+     * the number is indeed NaN.
+     */
+    public static void assertNotNaN(double actual, String msg) {
+        checkNotNaN(actual, msg);
+    }
+    
+    /**
+     * Asserts that a 64-bit floating point number is not NaN (not a number).
+     * @param actual The number to assert is not NaN. For example, 
+     * <code>Math.PI</code>.
+     * @param msg Supplies the message to be included in the test failure 
+     * explanation if the number is indeed NaN. The supplier is only called if 
+     * the assertion fails.
+     */
+    public static void assertNotNaN(double actual, Supplier<String> msg) {
+        checkNotNaN(actual, msg);
+    }
+    
+    private static void checkNotNaN(double actual, Object msg) {
+        assert !Double.isNaN(actual) : prepMsg(msg, "Number " + actual 
+                + " expected to not be NaN");
+    }
+    
+    /**
+     * Asserts that an integer is in a given range. Using this assertion is 
+     * similar to combining {@link #assertMinimum(long, long)} and {@link 
+     * #assertMaximum(long, long)} in a single test, but with this assertion, if 
+     * the assertion fails, the test failure explanation will include both the 
      * minimum and the maximum regardless of whether or not the failure was for 
      * the actual number being too low or too high.
      * @param minimum The lowest number that <code>actual</code> can be without 
@@ -1086,504 +2584,1252 @@ public class Asserters {
      * #assertEquals(long, long)} in that case. This parameter must not be less 
      * than <code>minimum</code>.
      * @throws IllegalArgumentException If <code>minimum</code> is greater than 
-     * <code>maximum</code>, without regard for what <code>actual</code> is. The 
-     * exception message will include <code>minimum</code> and 
-     * <code>maximum</code> but not <code>actual</code>.
+     * <code>maximum</code>, without regard for what <code>actual</code> is. The 
+     * exception message will include <code>minimum</code> and 
+     * <code>maximum</code> but not <code>actual</code>.
+     */
+    public static void assertInRange(long minimum, long actual, long maximum) {
+        assertInRange(minimum, actual, maximum, "");
+    }
+    
+    /**
+     * Asserts that an integer is in a given range. Using this assertion is 
+     * similar to combining {@link #assertMinimum(long, long, String)} and 
+     * {@link #assertMaximum(long, long, String)} in a single test, but with  
+     * this assertion, if the assertion fails, the test failure explanation will 
+     * include both the minimum and the maximum regardless of whether or not the 
+     * failure was for the actual number being too low or too high.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;163. If this parameter is 0 or 1 
+     * and <code>maximum</code> is <code>Long.MAX_VALUE</code>, then it might be 
+     * better to use {@link #assertNotNegative(long, String)} or {@link 
+     * #assertPositive(long, String)} instead. This parameter may be equal to 
+     * <code>maximum</code>, but must not be greater.
+     * @param actual The number said to be between <code>minimum</code> and 
+     * <code>maximum</code>. For example, &minus;1. This number may be equal to 
+     * either <code>minimum</code> or <code>maximum</code> and still not cause 
+     * the assertion to fail.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 73. This parameter is allowed to be equal 
+     * to <code>minimum</code>, but generally it makes more sense to use {@link 
+     * #assertEquals(long, long, String)} in that case. This parameter must not 
+     * be less than <code>minimum</code>.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for what <code>actual</code> is. The 
+     * exception message will include <code>minimum</code> and 
+     * <code>maximum</code> but not <code>actual</code>.
+     */
+    public static void assertInRange(long minimum, long actual, long maximum, 
+            String msg) {
+        checkInRange(minimum, actual, maximum, msg);
+    }
+    
+    /**
+     * Asserts that an integer is in a given range. Using this assertion is 
+     * similar to combining {@link #assertMinimum(long, long, String)} and 
+     * {@link #assertMaximum(long, long, String)} in a single test, but with 
+     * this assertion, if the assertion fails, the test failure explanation will 
+     * include both the minimum and the maximum regardless of whether or not the 
+     * failure was for the actual number being too low or too high.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;163. If this parameter is 0 or 1 
+     * and <code>maximum</code> is <code>Long.MAX_VALUE</code>, then it might be 
+     * better to use {@link #assertNotNegative(long, String)} or {@link 
+     * #assertPositive(long, String)} instead. This parameter may be equal to 
+     * <code>maximum</code>, but must not be greater.
+     * @param actual The number said to be between <code>minimum</code> and 
+     * <code>maximum</code>. For example, &minus;1. This number may be equal to 
+     * either <code>minimum</code> or <code>maximum</code> and still not cause 
+     * the assertion to fail.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 73. This parameter is allowed to be equal 
+     * to <code>minimum</code>, but generally it makes more sense to use {@link 
+     * #assertEquals(long, long, String)} in that case. This parameter must not 
+     * be less than <code>minimum</code>.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for what <code>actual</code> is. The 
+     * exception message will include <code>minimum</code> and 
+     * <code>maximum</code> but not <code>actual</code>.
+     */
+    public static void assertInRange(long minimum, long actual, long maximum, 
+            Supplier<String> msg) {
+        checkInRange(minimum, actual, maximum, msg);
+    }
+    
+    private static void checkInRange(long minimum, long actual, long maximum, 
+            Object msg) {
+        if (minimum > maximum) {
+            String excMsg = "Combination of minimum " + minimum 
+                    + " and maximum " + maximum + " is invalid";
+            throw new IllegalArgumentException(excMsg);
+        }
+        boolean inRange = minimum <= actual && actual <= maximum;
+        assert inRange : prepMsg(msg, "Expected " + actual 
+                + " to be in range from " + minimum + " to " + maximum);
+    }
+    
+    /**
+     * Asserts that a floating point number is in a given range. In most cases, 
+     * the test failure explanation will include the minimum and the maximum.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
+     * but in that case it might make more sense to use {@link 
+     * #assertMaximum(double, double, String) assertMaximum()} instead.
+     * @param actual The actual number. For example, 0.0.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 0.5. Positive infinity may be used, but in 
+     * that case it might make more sense to use {@link #assertMinimum(double, 
+     * double, String) assertMinimum()} instead.
+     * @throws IllegalArgumentException If either <code>minimum</code> or 
+     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for the variance.
+     */
+    public static void assertInRange(double minimum, double actual, 
+            double maximum) {
+        assertInRange(minimum, actual, maximum, DEFAULT_TEST_DELTA, "");
+    }
+    
+    /**
+     * Asserts that a floating point number is in a given range. In most cases, 
+     * the test failure explanation will include the minimum and the maximum.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
+     * but in that case it might make more sense to use {@link 
+     * #assertMaximum(double, double, String) assertMaximum()} instead.
+     * @param actual The actual number. For example, 0.0.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 0.5. Positive infinity may be used, but in 
+     * that case it might make more sense to use {@link #assertMinimum(double, 
+     * double, String) assertMinimum()} instead.
+     * @param delta How much variance is allowed for <code>actual</code> to be 
+     * below <code>minimum</code> or above <code>maximum</code> and still pass 
+     * the test. For example, 0.1.
+     * @throws IllegalArgumentException If either <code>minimum</code> or 
+     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for the variance.
+     */
+    public static void assertInRange(double minimum, double actual, 
+            double maximum, double delta) {
+        assertInRange(minimum, actual, maximum, delta, "");
+    }
+    
+    /**
+     * Asserts that a floating point number is in a given range. In most cases, 
+     * the test failure explanation will include the minimum and the maximum. 
+     * The default variance {@link #DEFAULT_TEST_DELTA} will be used.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
+     * but in that case it might make more sense to use {@link 
+     * #assertMaximum(double, double, String) assertMaximum()} instead.
+     * @param actual The actual number. For example, 0.0.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 0.5. Positive infinity may be used, but in 
+     * that case it might make more sense to use {@link #assertMinimum(double, 
+     * double, String) assertMinimum()} instead.
+     * @param msg A message to include in the test failure explanation.
+     * @throws IllegalArgumentException If either <code>minimum</code> or 
+     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for the variance.
+     */
+    public static void assertInRange(double minimum, double actual, 
+            double maximum, String msg) {
+        assertInRange(minimum, actual, maximum, DEFAULT_TEST_DELTA, msg);
+    }
+    
+    /**
+     * Asserts that a floating point number is in a given range. In most cases, 
+     * the test failure explanation will include the minimum and the maximum.
+     * The default variance {@link #DEFAULT_TEST_DELTA} will be used.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
+     * but in that case it might make more sense to use {@link 
+     * #assertMaximum(double, double, String) assertMaximum()} instead.
+     * @param actual The actual number. For example, 0.0.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 0.5. Positive infinity may be used, but in 
+     * that case it might make more sense to use {@link #assertMinimum(double, 
+     * double, String) assertMinimum()} instead.
+     * @param msg Supplies a message to include in the test failure explanation. 
+     * The supplier is only called if the assertion fails.
+     * @throws IllegalArgumentException If either <code>minimum</code> or 
+     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for the variance.
+     */
+    public static void assertInRange(double minimum, double actual, 
+            double maximum, Supplier<String> msg) {
+        assertInRange(minimum, actual, maximum, DEFAULT_TEST_DELTA, msg);
+    }
+    
+    /**
+     * Asserts that a floating point number is in a given range. In most cases, 
+     * the test failure explanation will include the minimum and the maximum.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
+     * but in that case it might make more sense to use {@link 
+     * #assertMaximum(double, double, String) assertMaximum()} instead.
+     * @param actual The actual number. For example, 0.0.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 0.5. Positive infinity may be used, but in 
+     * that case it might make more sense to use {@link #assertMinimum(double, 
+     * double, String) assertMinimum()} instead.
+     * @param delta How much variance is allowed for <code>actual</code> to be 
+     * below <code>minimum</code> or above <code>maximum</code> and still pass 
+     * the test. For example, 0.1.
+     * @param msg A message to include in the test failure explanation.
+     * @throws IllegalArgumentException If either <code>minimum</code> or 
+     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for the variance.
+     */
+    public static void assertInRange(double minimum, double actual, 
+            double maximum, double delta, String msg) {
+        checkInRange(minimum, actual, maximum, delta, msg);
+    }
+    
+    /**
+     * Asserts that a floating point number is in a given range. In most cases, 
+     * the test failure explanation will include the minimum and the maximum.
+     * @param minimum The lowest number that <code>actual</code> can be without 
+     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
+     * but in that case it might make more sense to use {@link 
+     * #assertMaximum(double, double, String) assertMaximum()} instead.
+     * @param actual The actual number. For example, 0.0.
+     * @param maximum The highest number that <code>actual</code> can be without 
+     * failing the test. For example, 0.5. Positive infinity may be used, but in 
+     * that case it might make more sense to use {@link #assertMinimum(double, 
+     * double, String) assertMinimum()} instead.
+     * @param delta How much variance is allowed for <code>actual</code> to be 
+     * below <code>minimum</code> or above <code>maximum</code> and still pass 
+     * the test. For example, 0.1.
+     * @param msg Supplies a message to include in the test failure explanation. 
+     * The supplier is only called if the assertion fails.
+     * @throws IllegalArgumentException If either <code>minimum</code> or 
+     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
+     * <code>maximum</code>, without regard for the variance.
+     */
+    public static void assertInRange(double minimum, double actual, 
+            double maximum, double delta, Supplier<String> msg) {
+        checkInRange(minimum, actual, maximum, delta, msg);
+    }
+    
+    private static void checkInRange(double minimum, double actual, 
+            double maximum, double delta, Object msg) {
+        if (Double.isNaN(minimum) || Double.isNaN(maximum) 
+                || Double.isNaN(delta)) {
+            String excMsg = "Minimum, maximum, delta should not be NaN";
+            throw new IllegalArgumentException(excMsg);
+        }
+        if (minimum > maximum) {
+            String excMsg = "Combination of minimum " + minimum 
+                    + " and maximum " + maximum + " is invalid";
+            throw new IllegalArgumentException(excMsg);
+        }
+        double adjustedMininum = minimum - delta;
+        double adjustedMaxinum = maximum + delta;
+        if (actual < adjustedMininum || adjustedMaxinum < actual) {
+            String errMsg = prepMsg(msg, "Expected " + actual 
+                    + " to be in range from " + minimum + " to " + maximum 
+                    + " with variance " + delta);
+            throw new AssertionError(errMsg);
+        }
+    }
+    
+    /**
+     * Asserts that an object is in a given range. Using this assertion is 
+     * similar to combining {@link #assertMinimum(Comparable, Comparable)} and 
+     * {@link #assertMaximum(Comparable, Comparable)} in a single test. But if 
+     * this assertion fails, the test failure explanation will include both the 
+     * minimum and the maximum, regardless of whether it's because the actual 
+     * value was too low or too high. The actual value will be included as well.
+     * @param <T> The type for <code>minimum</code>, <code>actual</code> and 
+     * <code>maximum</code>. Must implement <code>Comparable&lt;T&gt;</code>. 
+     * For example, <code>DayOfWeek</code>.    
+     * @param minimum The lowest value <code>actual</code> can be and still pass 
+     * the assertion. For example, Monday.
+     * @param actual The actual value. For example, Tuesday.
+     * @param maximum The highest value <code>actual</code> can be and still 
+     * pass the assertion. For example, Friday.
+     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
+     * <code>maximum</code>.
+     */
+    public static <T extends Comparable<T>> void assertInRange(T minimum, 
+            T actual, T maximum) {
+        assertInRange(minimum, actual, maximum, "");
+    }
+    
+    /**
+     * Asserts that an object is in a given range. Using this assertion is 
+     * similar to combining {@link #assertMinimum(Comparable, Comparable, 
+     * String)} and {@link #assertMaximum(Comparable, Comparable, String)} in a 
+     * single test. But if this assertion fails, the test failure explanation 
+     * will include both the minimum and the maximum, regardless of whether it's 
+     * because the actual value was too low or too high. The actual value will 
+     * be included as well.
+     * @param <T> The type for <code>minimum</code>, <code>actual</code> and 
+     * <code>maximum</code>. Must implement <code>Comparable&lt;T&gt;</code>. 
+     * For example, <code>DayOfWeek</code>.    
+     * @param minimum The lowest value <code>actual</code> can be and still pass 
+     * the assertion. For example, Monday.
+     * @param actual The actual value. For example, Tuesday.
+     * @param maximum The highest value <code>actual</code> can be and still 
+     * pass the assertion. For example, Friday.  
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Assigned day expected to be a weekday."
+     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
+     * <code>maximum</code>.
+     */
+    public static <T extends Comparable<T>> void assertInRange(T minimum, 
+            T actual, T maximum, String msg) {
+        checkInRange(minimum, actual, maximum, msg);
+    }
+    
+    /**
+     * Asserts that an object is in a given range. Using this assertion is 
+     * similar to combining {@link #assertMinimum(Comparable, Comparable, 
+     * String)} and {@link #assertMaximum(Comparable, Comparable, String)} in a 
+     * single test. But if this assertion fails, the test failure explanation 
+     * will include both the minimum and the maximum, regardless of whether it's 
+     * because the actual value was too low or too high. The actual value will 
+     * be included as well.
+     * @param <T> The type for <code>minimum</code>, <code>actual</code> and 
+     * <code>maximum</code>. Must implement <code>Comparable&lt;T&gt;</code>. 
+     * For example, <code>DayOfWeek</code>.
+     * @param minimum The lowest value <code>actual</code> can be and still pass 
+     * the assertion. For example, Monday.
+     * @param actual The actual value. For example, Tuesday.
+     * @param maximum The highest value <code>actual</code> can be and still 
+     * pass the assertion. For example, Friday.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. For example, "Assigned day expected to be a 
+     * weekday." The supplier is only called if the assertion fails.
+     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
+     * <code>maximum</code>.
+     */
+    public static <T extends Comparable<T>> void assertInRange(T minimum, 
+            T actual, T maximum, Supplier<String> msg) {
+        checkInRange(minimum, actual, maximum, msg);
+    }
+    
+    private static <T extends Comparable<T>> void checkInRange(T minimum, 
+            T actual, T maximum, Object msg) {
+        if (minimum.compareTo(maximum) > 0) {
+            String excMsg = "Combination of minimum " + minimum.toString() 
+                    + " and maximum " + maximum.toString() + " is invalid";
+            throw new IllegalArgumentException(excMsg);
+        }
+        boolean inRange = actual.compareTo(minimum) >= 0 
+                && actual.compareTo(maximum) <= 0;
+        assert inRange : prepMsg(msg, "Expected " + actual.toString() 
+                + " to be in range from " + minimum.toString() + " to " 
+                + maximum.toString());
+    }
+    
+    /**
+     * Asserts that an integer value is different from some other integer value. 
+     * The test failure explanation will include the number that was supposed to 
+     * be different if the assertion fails.
+     * @param some The integer the other integer should not be. For example, 
+     * 5777096943112551843.
+     * @param other The other integer. For example, &minus;6892550187484447930.
+     */
+    public static void assertDifferent(long some, long other) {
+        assertDifferent(some, other, "");
+    }
+    
+    /**
+     * Asserts that an integer value is different from some other integer value.
+     * @param some The integer the other integer should not be. For example, 
+     * &minus;1674271114479202609.
+     * @param other The other integer. For example, &minus;3348542228958405218.
+     * @param msg A message for the test failure explanation. If the assertion 
+     * fails, the explanation will include the number that was expected to be 
+     * different.
+     */
+    public static void assertDifferent(long some, long other, String msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    /**
+     * Asserts that an integer value is different from some other integer value.
+     * @param some The integer the other integer should not be. For example, 
+     * &minus;1674271114479202609.
+     * @param other The other integer. For example, &minus;3348542228958405218.
+     * @param msg Supplies a message for the test failure explanation. If the 
+     * assertion fails, the explanation will include the number that was 
+     * expected to be different. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(long some, long other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(long some, long other, Object msg) {
+        assert some != other : prepMsg(msg, "Expected " + some 
+                + " to be different from " + other);
+    }
+    
+    /**
+     * Asserts that a floating point value is different from some floating point 
+     * value by more than {@link #DEFAULT_TEST_DELTA}. The actual and expected  
+     * differences will be included in the test explanation failure if the test 
+     * fails because of the assertion.
+     * @param some A floating point value. For example, 3.141592653589793.
+     * @param other A floating point value said to be different from 
+     * <code>some</code> by more than the default variance. For example, 
+     * 3.142857142857143.
+     */
+    public static void assertDifferent(double some, double other) {
+         assertDifferent(some, other, DEFAULT_TEST_DELTA, "");
+    }
+    
+    /**
+     * Asserts that a floating point value is different from some floating point 
+     * value by more than a specified variance. The actual and expected 
+     * differences will be included in the test explanation failure if the test 
+     * fails because of the assertion.
+     * @param some A floating point value. For example, 3.141592653589793.
+     * @param other A floating point value said to be different from 
+     * <code>some</code> by more than a specified variance. For example, 
+     * 3.142857142857143.
+     * @param delta The maximum allowable variance. For example, 0.00125. Should 
+     * almost never be a subnormal value (remember that 0.0 is subnormal). We 
+     * make no promises whatsoever regarding the accuracy of assertions 
+     * involving subnormal values.
+     */
+    public static void assertDifferent(double some, double other, 
+            double delta) {
+         assertDifferent(some, other, delta, "");
+    }
+    
+    /**
+     * Asserts that a floating point value is different from some floating point 
+     * value by more than {@link #DEFAULT_TEST_DELTA}. The actual and expected  
+     * differences will be included in the test explanation failure if the test 
+     * fails because of the assertion.
+     * @param some A floating point value. For example, 3.141592653589793.
+     * @param other A floating point value said to be different from 
+     * <code>some</code> by more than the default variance. For example, 
+     * 3.142857142857143.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     */
+    public static void assertDifferent(double some, double other, 
+            String msg) {
+         assertDifferent(some, other, DEFAULT_TEST_DELTA, msg);
+    }
+    
+    /**
+     * Asserts that a floating point value is different from some floating point 
+     * value by more than {@link #DEFAULT_TEST_DELTA}. The actual and expected 
+     * differences will be included in the test explanation failure if the test 
+     * fails because of the assertion.
+     * @param some A floating point value. For example, 3.141592653589793.
+     * @param other A floating point value said to be different from 
+     * <code>some</code> by more than the default variance. For example, 
+     * 3.142857142857143.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(double some, double other, 
+            Supplier<String> msg) {
+         assertDifferent(some, other, DEFAULT_TEST_DELTA, msg);
+    }
+    
+    /**
+     * Asserts that a floating point value is different from some floating point 
+     * value by more than a specified variance. The actual and expected 
+     * differences will be included in the test explanation failure if the test 
+     * fails because of the assertion.
+     * @param some A floating point value. For example, 3.141592653589793.
+     * @param other A floating point value said to be different from 
+     * <code>some</code> by more than a specified variance. For example, 
+     * 3.142857142857143.
+     * @param delta The maximum allowable variance. For example, 0.00125. Should 
+     * almost never be a subnormal value (remember that 0.0 is subnormal). We 
+     * make no promises whatsoever regarding the accuracy of assertions 
+     * involving subnormal values.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     */
+    public static void assertDifferent(double some, double other, 
+            double delta, String msg) {
+        checkDifferent(some, other, delta, msg);
+    }
+    
+    /**
+     * Asserts that a floating point value is different from some floating point 
+     * value by more than a specified variance. The actual and expected 
+     * differences will be included in the test explanation failure if the test 
+     * fails because of the assertion.
+     * @param some A floating point value. For example, 3.141592653589793.
+     * @param other A floating point value said to be different from 
+     * <code>some</code> by more than a specified variance. For example, 
+     * 3.142857142857143.
+     * @param delta The maximum allowable variance. For example, 0.00125. Should 
+     * almost never be a subnormal value (remember that 0.0 is subnormal). We 
+     * make no promises whatsoever regarding the accuracy of assertions 
+     * involving subnormal values.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(double some, double other, double delta, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, delta, msg);
+    }
+    
+    private static void checkDifferent(double some, double other, double delta, 
+            Object msg) {
+        double difference = Math.abs(some - other);
+        assert difference >= delta : prepMsg(msg, "Expected " + some 
+                + " to differ from " + other + " by at least " + delta 
+                + ", values differ by " + difference);
+    }
+    
+    /**
+     * Asserts that two objects are different. Difference is determined by 
+     * <code>equals()</code> returning false. The test failure explanation will 
+     * include the object's <code>toString()</code> if the assertion fails.
+     * @param some An object to test for difference to another object. For 
+     * example, a <code>LocalDate</code> object for today's date. It is this 
+     * parameter's <code>equals()</code> function that will be called, but we 
+     * reserve the right to change this in a later version.
+     * @param other An object to assert is not the same as <code>some</code>. 
+     * Preferably of the same runtime type as <code>some</code>. For example, a 
+     * <code>LocalDate</code> object for tomorrow's date.
+     * @throws NullPointerException If either <code>some</code> or 
+     * <code>other</code> is null.
+     */
+    public static void assertDifferent(Object some, Object other) {
+        assertDifferent(some, other, "");
+    }
+    
+    /**
+     * Asserts that two objects are different. Difference is determined by 
+     * <code>equals()</code> returning false.
+     * @param some An object to test for difference to another object. For 
+     * example, a <code>LocalDate</code> object for today's date. It is this 
+     * parameter's <code>equals()</code> function that will be called, but we 
+     * reserve the right to change this in a later version.
+     * @param other An object to assert is not the same as <code>some</code>. 
+     * Preferably of the same runtime type as <code>some</code>. For example, a 
+     * <code>LocalDate</code> object for tomorrow's date.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     * @throws NullPointerException If either <code>some</code> or 
+     * <code>other</code> is null.
+     */
+    public static void assertDifferent(Object some, Object other, 
+            String msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    /**
+     * Asserts that two objects are different. Difference is determined by 
+     * <code>equals()</code> returning false.
+     * @param some An object to test for difference to another object. For 
+     * example, a <code>LocalDate</code> object for today's date. It is this 
+     * parameter's <code>equals()</code> function that will be called, but we 
+     * reserve the right to change this in a later version.
+     * @param other An object to assert is not the same as <code>some</code>. 
+     * Preferably of the same runtime type as <code>some</code>. For example, a 
+     * <code>LocalDate</code> object for tomorrow's date.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws NullPointerException If either <code>some</code> or 
+     * <code>other</code> is null.
+     */
+    public static void assertDifferent(Object some, Object other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(Object some, Object other, Object msg) {
+        assert !some.equals(other) : prepMsg(msg, "Expected " 
+                + some.toString() + " to be different from " 
+                + other.toString());
+    }
+    
+    /**
+     * Asserts that two arrays of integers are different, in at least one of the 
+     * elements if not in length. If the assertion fails, the test failure 
+     * explanation will quote both arrays.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {1, 0, &minus;1, &minus;1, &minus;2}.
+     * @param other An array to assert is different from some array. For 
+     * For example, {1, 0, &minus;1, 0, &minus;1}.
      */
-    public static void assertInRange(long minimum, long actual, long maximum) {
-        assertInRange(minimum, actual, maximum, "");
+    public static void assertDifferent(int[] some, int[] other) {
+        assertDifferent(some, other, "");
     }
     
     /**
-     * Asserts that an integer is in a given range. Using this assertion is 
-     * similar to combining {@link #assertMinimum(long, long, String)} and 
-     * {@link #assertMaximum(long, long, String)} in a single test, but with  
-     * this assertion, if the assertion fails, the test failure explanation will 
-     * include both the minimum and the maximum regardless of whether or not the 
-     * failure was for the actual number being too low or too high.
-     * @param minimum The lowest number that <code>actual</code> can be without 
-     * failing the test. For example, &minus;163. If this parameter is 0 or 1 
-     * and <code>maximum</code> is <code>Long.MAX_VALUE</code>, then it might be 
-     * better to use {@link #assertNotNegative(long, String)} or {@link 
-     * #assertPositive(long, String)} instead. This parameter may be equal to 
-     * <code>maximum</code>, but must not be greater.
-     * @param actual The number said to be between <code>minimum</code> and 
-     * <code>maximum</code>. For example, &minus;1. This number may be equal to 
-     * either <code>minimum</code> or <code>maximum</code> and still not cause 
-     * the assertion to fail.
-     * @param maximum The highest number that <code>actual</code> can be without 
-     * failing the test. For example, 73. This parameter is allowed to be equal 
-     * to <code>minimum</code>, but generally it makes more sense to use {@link 
-     * #assertEquals(long, long, String)} in that case. This parameter must not 
-     * be less than <code>minimum</code>.
+     * Asserts that two arrays of integers are different, in at least one of the 
+     * elements if not in length.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {1, 0, &minus;1, &minus;1, &minus;2}.
+     * @param other An array to assert is different from some array. For 
+     * example, {1, 0, &minus;1, 0, &minus;1}.
      * @param msg A message to include in the test failure explanation if the 
      * assertion fails.
-     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
-     * <code>maximum</code>, without regard for what <code>actual</code> is. The 
-     * exception message will include <code>minimum</code> and 
-     * <code>maximum</code> but not <code>actual</code>.
      */
-    public static void assertInRange(long minimum, long actual, long maximum, 
+    public static void assertDifferent(int[] some, int[] other, String msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    /**
+     * Asserts that two arrays of integers are different, in at least one of the 
+     * elements if not in length.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {1, 0, &minus;1, &minus;1, &minus;2}.
+     * @param other An array to assert is different from some array. For 
+     * example, {1, 0, &minus;1, 0, &minus;1}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(int[] some, int[] other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(int[] some, int[] other, Object msg) {
+        int index = Arrays.mismatch(some, other);
+        assert index >= 0 : prepMsg(msg, "Arrays " + Arrays.toString(some) 
+                + " and " + Arrays.toString(other) 
+                + " are not different as asserted");
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than {@link #DEFAULT_TEST_DELTA}. If the two arrays are the same length, 
+     * the elements will be compared one by one starting with the element at 
+     * index 0, and continuing until either finding an element that differs by 
+     * more than <code>DEFAULT_TEST_DELTA</code> variance or reaching the end of 
+     * the arrays. If no significant differences are found, the assertion will 
+     * fail and the test failure explanation will quote both arrays.
+     * @param some An array to assert is different from the other. For example, 
+     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
+     * @param other The other array. For example, {&minus;0.5, 
+     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * @throws NullPointerException If either array is null.
+     */
+    public static void assertDifferent(double[] some, double[] other) {
+        assertDifferent(some, other, DEFAULT_TEST_DELTA, "");
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than a specified variance. If the two arrays are the same length, the 
+     * elements will be compared one by one starting with the element at index 
+     * 0, and continuing until either finding an element that differs by more 
+     * than the specified variance or reaching the end of the arrays. If no 
+     * significant differences are found, the assertion will fail and the test 
+     * failure explanation will quote both arrays.
+     * @param some An array to assert is different from the other. For example, 
+     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
+     * @param other The other array. For example, {&minus;0.5, 
+     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * @param delta The maximum by which two numbers can differ and still be 
+     * considered equal. Preferably a positive normalized number. For example, 
+     * 0.001. The third element of the example <code>some</code> and 
+     * <code>other</code> arrays differ by 0.0012644892673496777, so in this 
+     * example the two arrays are considered different by more than the 
+     * variance.
+     * @throws NullPointerException If either array is null.
+     */
+    public static void assertDifferent(double[] some, double[] other, 
+            double delta) {
+        assertDifferent(some, other, delta, "");
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than {@link #DEFAULT_TEST_DELTA}. If the two arrays are the same length, 
+     * the elements will be compared one by one starting with the element at 
+     * index 0, and continuing until either finding an element that differs by 
+     * more than <code>DEFAULT_TEST_DELTA</code> variance or reaching the end of 
+     * the arrays. If no significant differences are found, the assertion will 
+     * fail and the test failure explanation will quote both arrays.
+     * @param some An array to assert is different from the other. For example, 
+     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
+     * @param other The other array. For example, {&minus;0.5, 
+     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     * @throws NullPointerException If either array is null.
+     */
+    public static void assertDifferent(double[] some, double[] other, 
             String msg) {
-        if (minimum > maximum) {
-            String excMsg = "Combination of minimum " + minimum 
-                    + " and maximum " + maximum + " is invalid";
-            throw new IllegalArgumentException(excMsg);
-        }
-        String intermediate = msg + ". Expected " + actual 
-                + " to be in range from " + minimum + " to " + maximum;
-        String errMsg = prepMsg(intermediate);
-        boolean inRange = minimum <= actual && actual <= maximum;
-        assert inRange : errMsg;
+        assertDifferent(some, other, DEFAULT_TEST_DELTA, msg);
     }
     
     /**
-     * Asserts that a floating point number is in a given range. In most cases, 
-     * the test failure explanation will include the minimum and the maximum.
-     * @param minimum The lowest number that <code>actual</code> can be without 
-     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
-     * but in that case it might make more sense to use {@link 
-     * #assertMaximum(double, double, String) assertMaximum()} instead.
-     * @param actual The actual number. For example, 0.0.
-     * @param maximum The highest number that <code>actual</code> can be without 
-     * failing the test. For example, 0.5. Positive infinity may be used, but in 
-     * that case it might make more sense to use {@link #assertMinimum(double, 
-     * double, String) assertMinimum()} instead.
-     * @throws IllegalArgumentException If either <code>minimum</code> or 
-     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
-     * <code>maximum</code>, without regard for the variance.
+     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than {@link #DEFAULT_TEST_DELTA}. If the two arrays are the same length, 
+     * the elements will be compared one by one starting with the element at 
+     * index 0, and continuing until either finding an element that differs by 
+     * more than <code>DEFAULT_TEST_DELTA</code> variance or reaching the end of 
+     * the arrays. If no significant differences are found, the assertion will 
+     * fail and the test failure explanation will quote both arrays.
+     * @param some An array to assert is different from the other. For example, 
+     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
+     * @param other The other array. For example, {&minus;0.5, 
+     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws NullPointerException If either array is null.
      */
-    public static void assertInRange(double minimum, double actual, 
-            double maximum) {
-        assertInRange(minimum, actual, maximum, DEFAULT_TEST_DELTA, "");
+    public static void assertDifferent(double[] some, double[] other, 
+            Supplier<String> msg) {
+        assertDifferent(some, other, DEFAULT_TEST_DELTA, msg);
     }
     
     /**
-     * Asserts that a floating point number is in a given range. In most cases, 
-     * the test failure explanation will include the minimum and the maximum.
-     * @param minimum The lowest number that <code>actual</code> can be without 
-     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
-     * but in that case it might make more sense to use {@link 
-     * #assertMaximum(double, double, String) assertMaximum()} instead.
-     * @param actual The actual number. For example, 0.0.
-     * @param maximum The highest number that <code>actual</code> can be without 
-     * failing the test. For example, 0.5. Positive infinity may be used, but in 
-     * that case it might make more sense to use {@link #assertMinimum(double, 
-     * double, String) assertMinimum()} instead.
-     * @param delta How much variance is allowed for <code>actual</code> to be 
-     * below <code>minimum</code> or above <code>maximum</code> and still pass 
-     * the test. For example, 0.1.
-     * @throws IllegalArgumentException If either <code>minimum</code> or 
-     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
-     * <code>maximum</code>, without regard for the variance.
+     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than a specified variance. If the two arrays are the same length, the 
+     * elements will be compared one by one starting with the element at index 
+     * 0, and continuing until either finding an element that differs by more 
+     * than the specified variance or reaching the end of the arrays. If no 
+     * significant differences are found, the assertion will fail and the test 
+     * failure explanation will quote both arrays.
+     * @param some An array to assert is different from the other. For example, 
+     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
+     * @param other The other array. For example, {&minus;0.5, 
+     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * @param delta The maximum by which two numbers can differ and still be 
+     * considered equal. Preferably a positive normalized number. For example, 
+     * 0.001. The third element of the example <code>some</code> and 
+     * <code>other</code> arrays differ by 0.0012644892673496777, so in this 
+     * example the two arrays are considered different by more than the 
+     * variance.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     * @throws NullPointerException If either array is null.
+     */
+    public static void assertDifferent(double[] some, double[] other, 
+            double delta, String msg) {
+        checkDifferent(some, other, delta, msg);
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than a specified variance. If the two arrays are the same length, the 
+     * elements will be compared one by one starting with the element at index 
+     * 0, and continuing until either finding an element that differs by more 
+     * than the specified variance or reaching the end of the arrays. If no 
+     * significant differences are found, the assertion will fail and the test 
+     * failure explanation will quote both arrays.
+     * @param some An array to assert is different from the other. For example, 
+     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
+     * @param other The other array. For example, {&minus;0.5, 
+     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * @param delta The maximum by which two numbers can differ and still be 
+     * considered equal. Preferably a positive normalized number. For example, 
+     * 0.001. The third element of the example <code>some</code> and 
+     * <code>other</code> arrays differ by 0.0012644892673496777, so in this 
+     * example the two arrays are considered different by more than the 
+     * variance.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws NullPointerException If either array is null.
+     */
+    public static void assertDifferent(double[] some, double[] other, 
+            double delta, Supplier<String> msg) {
+        checkDifferent(some, other, delta, msg);
+    }
+    
+    private static void checkDifferent(double[] some, double[] other, 
+            double delta, Object msg) {
+        int len = some.length;
+        if (len == other.length) {
+            int index = 0;
+            while (index < len) {
+                double diff = Math.abs(some[index] - other[index]);
+                if (diff > delta) {
+                    return;
+                }
+                index++;
+            }
+            String errMsg = prepMsg(msg, "Arrays " + Arrays.toString(some) 
+                    + " and " + Arrays.toString(other) 
+                    + " are not different beyond variance " + delta 
+                    + " as asserted");
+            throw new AssertionError(errMsg);
+        }
+    }
+    
+    /**
+     * Asserts that two arrays of objects are different in some way, such as 
+     * that they contain different elements, contain the same elements in a 
+     * different order, or differ in length. The arrays may differ in that they 
+     * have different memory addresses, but that does not matter for this 
+     * assertion. 
+     * @param <E> The type of the two arrays. For example, <code>Pattern</code>. 
+     * Remember that this is only checked at compile time.
+     * @param some An array. For example, an array with a regular expression for 
+     * e-mail addresses, a regular expression for Roman numerals, a regular 
+     * expression for floating point numbers, and a null.
+     * @param other An array said to be different from <code>some</code>. For 
+     * example, an array with a regular expression for Roman numerals, a regular 
+     * expression for e-mail addresses, a regular expression for Social Security 
+     * numbers, and a null. 
+     * @throws NullPointerException If <code>some</code> or <code>other</code> 
+     * is null, but not if either array contains nulls.
      */
-    public static void assertInRange(double minimum, double actual, 
-            double maximum, double delta) {
-        assertInRange(minimum, actual, maximum, delta, "");
+    public static <E> void assertDifferent(E[] some, E[] other) {
+        assertDifferent(some, other, "");
     }
     
     /**
-     * Asserts that a floating point number is in a given range. In most cases, 
-     * the test failure explanation will include the minimum and the maximum. 
-     * The default variance {@link #DEFAULT_TEST_DELTA} will be used.
-     * @param minimum The lowest number that <code>actual</code> can be without 
-     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
-     * but in that case it might make more sense to use {@link 
-     * #assertMaximum(double, double, String) assertMaximum()} instead.
-     * @param actual The actual number. For example, 0.0.
-     * @param maximum The highest number that <code>actual</code> can be without 
-     * failing the test. For example, 0.5. Positive infinity may be used, but in 
-     * that case it might make more sense to use {@link #assertMinimum(double, 
-     * double, String) assertMinimum()} instead.
-     * @param msg A message to include in the test failure explanation.
-     * @throws IllegalArgumentException If either <code>minimum</code> or 
-     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
-     * <code>maximum</code>, without regard for the variance.
+     * Asserts that two arrays of objects are different in some way, such as 
+     * that they contain different elements, contain the same elements in a 
+     * different order, or differ in length. The arrays may differ in that they 
+     * have different memory addresses, but that does not matter for this 
+     * assertion. 
+     * @param <E> The type of the two arrays. For example, <code>Pattern</code>. 
+     * Remember that this is only checked at compile time.
+     * @param some An array. For example, an array with a regular expression for 
+     * e-mail addresses, a regular expression for Roman numerals, a regular 
+     * expression for floating point numbers, and a null.
+     * @param other An array said to be different from <code>some</code>. For 
+     * example, an array with a regular expression for Roman numerals, a regular 
+     * expression for e-mail addresses, a regular expression for Social Security 
+     * numbers, and a null. 
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
+     * @throws NullPointerException If <code>some</code> or <code>other</code> 
+     * is null, but not if either array contains nulls.
      */
-    public static void assertInRange(double minimum, double actual, 
-            double maximum, String msg) {
-        assertInRange(minimum, actual, maximum, DEFAULT_TEST_DELTA, msg);
+    public static <E> void assertDifferent(E[] some, E[] other, String msg) {
+        checkDifferent(some, other, msg);
     }
     
     /**
-     * Asserts that a floating point number is in a given range. In most cases, 
-     * the test failure explanation will include the minimum and the maximum.
-     * @param minimum The lowest number that <code>actual</code> can be without 
-     * failing the test. For example, &minus;0.5. Negative infinity may be used, 
-     * but in that case it might make more sense to use {@link 
-     * #assertMaximum(double, double, String) assertMaximum()} instead.
-     * @param actual The actual number. For example, 0.0.
-     * @param maximum The highest number that <code>actual</code> can be without 
-     * failing the test. For example, 0.5. Positive infinity may be used, but in 
-     * that case it might make more sense to use {@link #assertMinimum(double, 
-     * double, String) assertMinimum()} instead.
-     * @param delta How much variance is allowed for <code>actual</code> to be 
-     * below <code>minimum</code> or above <code>maximum</code> and still pass 
-     * the test. For example, 0.1.
-     * @param msg A message to include in the test failure explanation.
-     * @throws IllegalArgumentException If either <code>minimum</code> or 
-     * <code>maximum</code> is NaN, or if <code>minimum</code> is greater than 
-     * <code>maximum</code>, without regard for the variance.
+     * Asserts that two arrays of objects are different in some way, such as 
+     * that they contain different elements, contain the same elements in a 
+     * different order, or differ in length. The arrays may differ in that they 
+     * have different memory addresses, but that does not matter for this 
+     * assertion.
+     * @param <E> The type of the two arrays. For example, <code>Pattern</code>. 
+     * Remember that this is only checked at compile time.
+     * @param some An array. For example, an array with a regular expression for 
+     * e-mail addresses, a regular expression for Roman numerals, a regular 
+     * expression for floating point numbers, and a null.
+     * @param other An array said to be different from <code>some</code>. For 
+     * example, an array with a regular expression for Roman numerals, a regular 
+     * expression for e-mail addresses, a regular expression for Social Security 
+     * numbers, and a null.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     * @throws NullPointerException If <code>some</code> or <code>other</code> 
+     * is null, but not if either array contains nulls.
      */
-    public static void assertInRange(double minimum, double actual, 
-            double maximum, double delta, String msg) {
-        if (Double.isNaN(minimum) || Double.isNaN(maximum) 
-                || Double.isNaN(delta)) {
-            String excMsg = "Minimum, maximum, delta should not be NaN";
-            throw new IllegalArgumentException(excMsg);
-        }
-        if (minimum > maximum) {
-            String excMsg = "Combination of minimum " + minimum 
-                    + " and maximum " + maximum + " is invalid";
-            throw new IllegalArgumentException(excMsg);
-        }
-        double adjustedMininum = minimum - delta;
-        double adjustedMaxinum = maximum + delta;
-        if (actual < adjustedMininum || adjustedMaxinum < actual) {
-            String intermediate = msg + ". Expected " + actual 
-                    + " to be in range from " + minimum + " to " + maximum 
-                    + " with variance " + delta;
-            String errMsg = prepMsg(intermediate);
+    public static <E> void assertDifferent(E[] some, E[] other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static <E> void checkDifferent(E[] some, E[] other, Object msg) {
+        boolean noDifferenceFound = Arrays.equals(some, other);
+        if (noDifferenceFound) {
+            String errMsg = prepMsg(msg, "Arrays " + Arrays.toString(some) 
+                    + " and " + Arrays.toString(other) 
+                    + " are not different as asserted");
             throw new AssertionError(errMsg);
         }
     }
     
     /**
-     * Asserts that an object is in a given range. Using this assertion is 
-     * similar to combining {@link #assertMinimum(Comparable, Comparable)} and 
-     * {@link #assertMaximum(Comparable, Comparable)} in a single test. But if 
-     * this assertion fails, the test failure explanation will include both the 
-     * minimum and the maximum, regardless of whether it's because the actual 
-     * value was too low or too high. The actual value will be included as well.
-     * @param <T> The type for <code>minimum</code>, <code>actual</code> and 
-     * <code>maximum</code>. Must implement <code>Comparable&lt;T&gt;</code>. 
-     * For example, <code>DayOfWeek</code>.    
-     * @param minimum The lowest value <code>actual</code> can be and still pass 
-     * the assertion. For example, Monday.
-     * @param actual The actual value. For example, Tuesday.
-     * @param maximum The highest value <code>actual</code> can be and still 
-     * pass the assertion. For example, Friday.
-     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
-     * <code>maximum</code>.
+     * Asserts that two arrays of 64-bit integers are different, in at least one 
+     * of the elements if not in length. The arrays are compared without boxing 
+     * the values. If the assertion fails, the test failure explanation will 
+     * quote both arrays.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {4294967296, 8589934592, 17179869184}.
+     * @param other An array to assert is different from some array. For 
+     * example, {4294967296, &minus;8589934592, 17179869184}.
      */
-    public static <T extends Comparable<T>> void assertInRange(T minimum, 
-            T actual, T maximum) {
-        assertInRange(minimum, actual, maximum, "");
+    public static void assertDifferent(long[] some, long[] other) {
+        assertDifferent(some, other, "");
     }
     
     /**
-     * Asserts that an object is in a given range. Using this assertion is 
-     * similar to combining {@link #assertMinimum(Comparable, Comparable, 
-     * String)} and {@link #assertMaximum(Comparable, Comparable, String)} in a 
-     * single test. But if this assertion fails, the test failure explanation 
-     * will include both the minimum and the maximum, regardless of whether it's 
-     * because the actual value was too low or too high. The actual value will 
-     * be included as well.
-     * @param <T> The type for <code>minimum</code>, <code>actual</code> and 
-     * <code>maximum</code>. Must implement <code>Comparable&lt;T&gt;</code>. 
-     * For example, <code>DayOfWeek</code>.    
-     * @param minimum The lowest value <code>actual</code> can be and still pass 
-     * the assertion. For example, Monday.
-     * @param actual The actual value. For example, Tuesday.
-     * @param maximum The highest value <code>actual</code> can be and still 
-     * pass the assertion. For example, Friday.  
+     * Asserts that two arrays of 64-bit integers are different, in at least one 
+     * of the elements if not in length. The arrays are compared without boxing 
+     * the values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {4294967296, 8589934592, 17179869184}.
+     * @param other An array to assert is different from some array. For 
+     * example, {4294967296, &minus;8589934592, 17179869184}.
      * @param msg A message to include in the test failure explanation if the 
-     * assertion fails. For example, "Assigned day expected to be a weekday."
-     * @throws IllegalArgumentException If <code>minimum</code> is greater than 
-     * <code>maximum</code>.
+     * assertion fails.
      */
-    public static <T extends Comparable<T>> void assertInRange(T minimum, 
-            T actual, T maximum, String msg) {
-        if (minimum.compareTo(maximum) > 0) {
-            String excMsg = "Combination of minimum " + minimum.toString() 
-                    + " and maximum " + maximum.toString() + " is invalid";
-            throw new IllegalArgumentException(excMsg);
-        }
-        String intermediate = msg + ". Expected " + actual.toString() 
-                + " to be in range from " + minimum.toString() + " to " 
-                + maximum.toString();
-        String errMsg = prepMsg(intermediate);
-        assert actual.compareTo(minimum) >= 0 : errMsg;
-        assert actual.compareTo(maximum) <= 0 : errMsg;
+    public static void assertDifferent(long[] some, long[] other, String msg) {
+        checkDifferent(some, other, msg);
     }
     
     /**
-     * Asserts that an integer value is different from some other integer value. 
-     * The test failure explanation will include the number that was supposed to 
-     * be different if the assertion fails.
-     * @param some The integer the other integer should not be. For example, 
-     * 5777096943112551843.
-     * @param other The other integer. For example, &minus;6892550187484447930.
+     * Asserts that two arrays of 64-bit integers are different, in at least one 
+     * of the elements if not in length. The arrays are compared without boxing 
+     * the values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {4294967296, 8589934592, 17179869184}.
+     * @param other An array to assert is different from some array. For 
+     * example, {4294967296, &minus;8589934592, 17179869184}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
      */
-    public static void assertDifferent(long some, long other) {
-        assertDifferent(some, other, "");
+    public static void assertDifferent(long[] some, long[] other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(long[] some, long[] other, Object msg) {
+        assert !Arrays.equals(some, other) : prepMsg(msg, "Arrays " 
+                + excerpt(some.length, i -> Long.toString(some[i])) + " and " 
+                + excerpt(other.length, i -> Long.toString(other[i])) 
+                + " are not different as asserted");
     }
     
     /**
-     * Asserts that an integer value is different from some other integer value.
-     * @param some The integer the other integer should not be. For example, 
-     * &minus;1674271114479202609.
-     * @param other The other integer. For example, &minus;3348542228958405218.
-     * @param msg A message for the test failure explanation. If the assertion 
-     * fails, the explanation will include the number that was expected to be 
-     * different.
+     * Asserts that two arrays of 16-bit integers are different, in at least one 
+     * of the elements if not in length. The arrays are compared without boxing 
+     * the values. If the assertion fails, the test failure explanation will 
+     * quote both arrays.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {1, &minus;1, 32767}.
+     * @param other An array to assert is different from some array. For 
+     * example, {1, 1, 32767}.
      */
-    public static void assertDifferent(long some, long other, String msg) {
-        String intermediate = msg + ". Expected " + some 
-                + " to be different from " + other;
-        String errMsg = prepMsg(intermediate);
-        assert some != other : errMsg;
+    public static void assertDifferent(short[] some, short[] other) {
+        assertDifferent(some, other, "");
     }
     
     /**
-     * Asserts that a floating point value is different from some floating point 
-     * value by more than {@link #DEFAULT_TEST_DELTA}. The actual and expected  
-     * differences will be included in the test explanation failure if the test 
-     * fails because of the assertion.
-     * @param some A floating point value. For example, 3.141592653589793.
-     * @param other A floating point value said to be different from 
-     * <code>some</code> by more than the default variance. For example, 
-     * 3.142857142857143.
+     * Asserts that two arrays of 16-bit integers are different, in at least one 
+     * of the elements if not in length. The arrays are compared without boxing 
+     * the values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {1, &minus;1, 32767}.
+     * @param other An array to assert is different from some array. For 
+     * example, {1, 1, 32767}.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
      */
-    public static void assertDifferent(double some, double other) {
-         assertDifferent(some, other, DEFAULT_TEST_DELTA, "");
+    public static void assertDifferent(short[] some, short[] other, 
+            String msg) {
+        checkDifferent(some, other, msg);
     }
     
     /**
-     * Asserts that a floating point value is different from some floating point 
-     * value by more than a specified variance. The actual and expected 
-     * differences will be included in the test explanation failure if the test 
-     * fails because of the assertion.
-     * @param some A floating point value. For example, 3.141592653589793.
-     * @param other A floating point value said to be different from 
-     * <code>some</code> by more than a specified variance. For example, 
-     * 3.142857142857143.
-     * @param delta The maximum allowable variance. For example, 0.00125. Should 
-     * almost never be a subnormal value (remember that 0.0 is subnormal). We 
-     * make no promises whatsoever regarding the accuracy of assertions 
-     * involving subnormal values.
+     * Asserts that two arrays of 16-bit integers are different, in at least one 
+     * of the elements if not in length. The arrays are compared without boxing 
+     * the values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {1, &minus;1, 32767}.
+     * @param other An array to assert is different from some array. For 
+     * example, {1, 1, 32767}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
      */
-    public static void assertDifferent(double some, double other, 
-            double delta) {
-         assertDifferent(some, other, delta, "");
+    public static void assertDifferent(short[] some, short[] other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(short[] some, short[] other, 
+            Object msg) {
+        assert !Arrays.equals(some, other) : prepMsg(msg, "Arrays " 
+                + excerpt(some.length, i -> Short.toString(some[i])) + " and " 
+                + excerpt(other.length, i -> Short.toString(other[i])) 
+                + " are not different as asserted");
     }
     
     /**
-     * Asserts that a floating point value is different from some floating point 
-     * value by more than {@link #DEFAULT_TEST_DELTA}. The actual and expected  
-     * differences will be included in the test explanation failure if the test 
-     * fails because of the assertion.
-     * @param some A floating point value. For example, 3.141592653589793.
-     * @param other A floating point value said to be different from 
-     * <code>some</code> by more than the default variance. For example, 
-     * 3.142857142857143.
-     * @param msg A message to include in the test failure explanation if the 
-     * assertion fails.
+     * Asserts that two arrays of bytes are different, in at least one of the 
+     * elements if not in length. The arrays are compared without boxing the 
+     * values. If the assertion fails, the test failure explanation will quote 
+     * both arrays.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {0x50, 0x4B, 0x03, 0x04}.
+     * @param other An array to assert is different from some array. For 
+     * example, {0x50, 0x4B, 0x05, 0x06}.
      */
-    public static void assertDifferent(double some, double other, 
-            String msg) {
-         assertDifferent(some, other, DEFAULT_TEST_DELTA, msg);
+    public static void assertDifferent(byte[] some, byte[] other) {
+        assertDifferent(some, other, "");
     }
     
     /**
-     * Asserts that a floating point value is different from some floating point 
-     * value by more than a specified variance. The actual and expected 
-     * differences will be included in the test explanation failure if the test 
-     * fails because of the assertion.
-     * @param some A floating point value. For example, 3.141592653589793.
-     * @param other A floating point value said to be different from 
-     * <code>some</code> by more than a specified variance. For example, 
-     * 3.142857142857143.
-     * @param delta The maximum allowable variance. For example, 0.00125. Should 
-     * almost never be a subnormal value (remember that 0.0 is subnormal). We 
-     * make no promises whatsoever regarding the accuracy of assertions 
-     * involving subnormal values.
+     * Asserts that two arrays of bytes are different, in at least one of the 
+     * elements if not in length. The arrays are compared without boxing the 
+     * values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {0x50, 0x4B, 0x03, 0x04}.
+     * @param other An array to assert is different from some array. For 
+     * example, {0x50, 0x4B, 0x05, 0x06}.
      * @param msg A message to include in the test failure explanation if the 
      * assertion fails.
      */
-    public static void assertDifferent(double some, double other, 
-            double delta, String msg) {
-        double difference = Math.abs(some - other);
-        String intermediate = msg + ". Expected " + some + " to differ from " 
-                + other + " by at least " + delta + ", values differ by " 
-                + difference;
-        String errMsg = prepMsg(intermediate);
-        assert difference >= delta : errMsg;
+    public static void assertDifferent(byte[] some, byte[] other, String msg) {
+        checkDifferent(some, other, msg);
     }
     
     /**
-     * Asserts that two objects are different. Difference is determined by 
-     * <code>equals()</code> returning false. The test failure explanation will 
-     * include the object's <code>toString()</code> if the assertion fails.
-     * @param some An object to test for difference to another object. For 
-     * example, a <code>LocalDate</code> object for today's date. It is this 
-     * parameter's <code>equals()</code> function that will be called, but we 
-     * reserve the right to change this in a later version.
-     * @param other An object to assert is not the same as <code>some</code>. 
-     * Preferably of the same runtime type as <code>some</code>. For example, a 
-     * <code>LocalDate</code> object for tomorrow's date.
-     * @throws NullPointerException If either <code>some</code> or 
-     * <code>other</code> is null.
+     * Asserts that two arrays of bytes are different, in at least one of the 
+     * elements if not in length. The arrays are compared without boxing the 
+     * values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {0x50, 0x4B, 0x03, 0x04}.
+     * @param other An array to assert is different from some array. For 
+     * example, {0x50, 0x4B, 0x05, 0x06}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(byte[] some, byte[] other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(byte[] some, byte[] other, Object msg) {
+        assert !Arrays.equals(some, other) : prepMsg(msg, "Arrays " 
+                + excerpt(some.length, i -> toHex(some[i])) + " and " 
+                + excerpt(other.length, i -> toHex(other[i])) 
+                + " are not different as asserted");
+    }
+    
+    /**
+     * Asserts that two arrays of characters are different, in at least one of 
+     * the elements if not in length. The arrays are compared without boxing the 
+     * values. If the assertion fails, the test failure explanation will quote 
+     * both arrays.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {'h', 'e', 'l', 'l', 'o'}.
+     * @param other An array to assert is different from some array. For 
+     * example, {'h', 'e', 'l', 'p', 's'}.
      */
-    public static void assertDifferent(Object some, Object other) {
+    public static void assertDifferent(char[] some, char[] other) {
         assertDifferent(some, other, "");
     }
     
     /**
-     * Asserts that two objects are different. Difference is determined by 
-     * <code>equals()</code> returning false.
-     * @param some An object to test for difference to another object. For 
-     * example, a <code>LocalDate</code> object for today's date. It is this 
-     * parameter's <code>equals()</code> function that will be called, but we 
-     * reserve the right to change this in a later version.
-     * @param other An object to assert is not the same as <code>some</code>. 
-     * Preferably of the same runtime type as <code>some</code>. For example, a 
-     * <code>LocalDate</code> object for tomorrow's date.
+     * Asserts that two arrays of characters are different, in at least one of 
+     * the elements if not in length. The arrays are compared without boxing the 
+     * values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {'h', 'e', 'l', 'l', 'o'}.
+     * @param other An array to assert is different from some array. For 
+     * example, {'h', 'e', 'l', 'p', 's'}.
      * @param msg A message to include in the test failure explanation if the 
      * assertion fails.
-     * @throws NullPointerException If either <code>some</code> or 
-     * <code>other</code> is null.
      */
-    public static void assertDifferent(Object some, Object other, 
-            String msg) {
-        String intermediate = msg + ". Expected " + some.toString() 
-                + " to be different from " + other.toString();
-        String errMsg = prepMsg(intermediate);
-        assert !some.equals(other) : errMsg;
+    public static void assertDifferent(char[] some, char[] other, String msg) {
+        checkDifferent(some, other, msg);
     }
     
     /**
-     * Asserts that two arrays of integers are different, in at least one of the 
-     * elements if not in length. If the assertion fails, the test failure 
-     * explanation will quote both arrays.
+     * Asserts that two arrays of characters are different, in at least one of 
+     * the elements if not in length. The arrays are compared without boxing the 
+     * values.
      * @param some One of the arrays to assert is different from the other. For 
-     * example, {1, 0, &minus;1, &minus;1, &minus;2}.
+     * example, {'h', 'e', 'l', 'l', 'o'}.
      * @param other An array to assert is different from some array. For 
-     * For example, {1, 0, &minus;1, 0, &minus;1}.
+     * example, {'h', 'e', 'l', 'p', 's'}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
      */
-    public static void assertDifferent(int[] some, int[] other) {
+    public static void assertDifferent(char[] some, char[] other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(char[] some, char[] other, Object msg) {
+        assert !Arrays.equals(some, other) : prepMsg(msg, "Arrays " 
+                + excerpt(some.length, i -> String.valueOf(some[i])) + " and " 
+                + excerpt(other.length, i -> String.valueOf(other[i])) 
+                + " are not different as asserted");
+    }
+    
+    /**
+     * Asserts that two arrays of Booleans are different, in at least one of the 
+     * elements if not in length. The arrays are compared without boxing the 
+     * values. If the assertion fails, the test failure explanation will quote 
+     * both arrays.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {true, false, true}.
+     * @param other An array to assert is different from some array. For 
+     * example, {true, true, true}.
+     */
+    public static void assertDifferent(boolean[] some, boolean[] other) {
         assertDifferent(some, other, "");
     }
     
     /**
-     * Asserts that two arrays of integers are different, in at least one of the 
-     * elements if not in length.
+     * Asserts that two arrays of Booleans are different, in at least one of the 
+     * elements if not in length. The arrays are compared without boxing the 
+     * values.
      * @param some One of the arrays to assert is different from the other. For 
-     * example, {1, 0, &minus;1, &minus;1, &minus;2}.
+     * example, {true, false, true}.
      * @param other An array to assert is different from some array. For 
-     * example, {1, 0, &minus;1, 0, &minus;1}.
+     * example, {true, true, true}.
      * @param msg A message to include in the test failure explanation if the 
      * assertion fails.
      */
-    public static void assertDifferent(int[] some, int[] other, String msg) {
-        int len = some.length;
-        if (len == other.length) {
-            int diffCount = 0;
-            for (int i = 0; i < len; i++) {
-                if (some[i] != other[i]) {
-                    diffCount++;
-                }
-            }
-            String intermediate = msg + ". Arrays " + Arrays.toString(some) 
-                    + " and " + Arrays.toString(other) 
-                    + " are not different as asserted";
-            String errMsg = prepMsg(intermediate);
-            assert diffCount > 0 : errMsg;
-        }
+    public static void assertDifferent(boolean[] some, boolean[] other, 
+            String msg) {
+        checkDifferent(some, other, msg);
     }
     
     /**
-     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * Asserts that two arrays of Booleans are different, in at least one of the 
+     * elements if not in length. The arrays are compared without boxing the 
+     * values.
+     * @param some One of the arrays to assert is different from the other. For 
+     * example, {true, false, true}.
+     * @param other An array to assert is different from some array. For 
+     * example, {true, true, true}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(boolean[] some, boolean[] other, 
+            Supplier<String> msg) {
+        checkDifferent(some, other, msg);
+    }
+    
+    private static void checkDifferent(boolean[] some, boolean[] other, 
+            Object msg) {
+        assert !Arrays.equals(some, other) : prepMsg(msg, "Arrays " 
+                + excerpt(some.length, i -> Boolean.toString(some[i])) + " and " 
+                + excerpt(other.length, i -> Boolean.toString(other[i])) 
+                + " are not different as asserted");
+    }
+    
+    /**
+     * Asserts that two arrays of 32-bit floating point numbers differ either in 
      * length or are the same length but at least one element differs by more 
-     * than {@link #DEFAULT_TEST_DELTA}. If the two arrays are the same length, 
-     * the elements will be compared one by one starting with the element at 
-     * index 0, and continuing until either finding an element that differs by 
-     * more than <code>DEFAULT_TEST_DELTA</code> variance or reaching the end of 
-     * the arrays. If no significant differences are found, the assertion will 
+     * than {@link #DEFAULT_TEST_DELTA}. The arrays are compared without boxing 
+     * the values. If no significant differences are found, the assertion will 
      * fail and the test failure explanation will quote both arrays.
      * @param some An array to assert is different from the other. For example, 
-     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
-     * @param other The other array. For example, {&minus;0.5, 
-     * 2.718281828459045, 3.142857142857143, 10.0}.
-     * @throws NullPointerException If either array is null.
+     * {1.5, 2.25, 3.125}.
+     * @param other The other array. For example, {1.5, 2.25, 3.25}.
      */
-    public static void assertDifferent(double[] some, double[] other) {
+    public static void assertDifferent(float[] some, float[] other) {
         assertDifferent(some, other, DEFAULT_TEST_DELTA, "");
     }
     
     /**
-     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * Asserts that two arrays of 32-bit floating point numbers differ either in 
      * length or are the same length but at least one element differs by more 
-     * than a specified variance. If the two arrays are the same length, the 
-     * elements will be compared one by one starting with the element at index 
-     * 0, and continuing until either finding an element that differs by more 
-     * than the specified variance or reaching the end of the arrays. If no 
-     * significant differences are found, the assertion will fail and the test 
-     * failure explanation will quote both arrays.
+     * than a specified variance. The arrays are compared without boxing the 
+     * values. If no significant differences are found, the assertion will fail 
+     * and the test failure explanation will quote both arrays.
      * @param some An array to assert is different from the other. For example, 
-     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
-     * @param other The other array. For example, {&minus;0.5, 
-     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * {1.5, 2.25, 3.125}.
+     * @param other The other array. For example, {1.5, 2.25, 3.25}.
      * @param delta The maximum by which two numbers can differ and still be 
-     * considered equal. Preferably a positive normalized number. For example, 
-     * 0.001. The third element of the example <code>some</code> and 
-     * <code>other</code> arrays differ by 0.0012644892673496777, so in this 
-     * example the two arrays are considered different by more than the 
-     * variance.
-     * @throws NullPointerException If either array is null.
+     * considered equal. For example, 0.1. The third elements of the example 
+     * arrays differ by 0.125, so in this example the two arrays are considered 
+     * different by more than the variance.
      */
-    public static void assertDifferent(double[] some, double[] other, 
+    public static void assertDifferent(float[] some, float[] other, 
             double delta) {
         assertDifferent(some, other, delta, "");
     }
     
     /**
-     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * Asserts that two arrays of 32-bit floating point numbers differ either in 
      * length or are the same length but at least one element differs by more 
-     * than {@link #DEFAULT_TEST_DELTA}. If the two arrays are the same length, 
-     * the elements will be compared one by one starting with the element at 
-     * index 0, and continuing until either finding an element that differs by 
-     * more than <code>DEFAULT_TEST_DELTA</code> variance or reaching the end of 
-     * the arrays. If no significant differences are found, the assertion will 
-     * fail and the test failure explanation will quote both arrays.
+     * than {@link #DEFAULT_TEST_DELTA}. The arrays are compared without boxing 
+     * the values.
      * @param some An array to assert is different from the other. For example, 
-     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
-     * @param other The other array. For example, {&minus;0.5, 
-     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * {1.5, 2.25, 3.125}.
+     * @param other The other array. For example, {1.5, 2.25, 3.25}.
      * @param msg A message to include in the test failure explanation if the 
      * assertion fails.
-     * @throws NullPointerException If either array is null.
      */
-    public static void assertDifferent(double[] some, double[] other, 
+    public static void assertDifferent(float[] some, float[] other, 
             String msg) {
         assertDifferent(some, other, DEFAULT_TEST_DELTA, msg);
     }
     
     /**
-     * Asserts that two arrays of 64-bit floating point numbers differ either in 
+     * Asserts that two arrays of 32-bit floating point numbers differ either in 
      * length or are the same length but at least one element differs by more 
-     * than a specified variance. If the two arrays are the same length, the 
-     * elements will be compared one by one starting with the element at index 
-     * 0, and continuing until either finding an element that differs by more 
-     * than the specified variance or reaching the end of the arrays. If no 
-     * significant differences are found, the assertion will fail and the test 
-     * failure explanation will quote both arrays.
+     * than {@link #DEFAULT_TEST_DELTA}. The arrays are compared without boxing 
+     * the values.
      * @param some An array to assert is different from the other. For example, 
-     * {&minus;0.5, 2.718281828459045, 3.141592653589793, 10.0}.
-     * @param other The other array. For example, {&minus;0.5, 
-     * 2.718281828459045, 3.142857142857143, 10.0}.
+     * {1.5, 2.25, 3.125}.
+     * @param other The other array. For example, {1.5, 2.25, 3.25}.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(float[] some, float[] other, 
+            Supplier<String> msg) {
+        assertDifferent(some, other, DEFAULT_TEST_DELTA, msg);
+    }
+    
+    /**
+     * Asserts that two arrays of 32-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than a specified variance. The arrays are compared without boxing the 
+     * values.
+     * @param some An array to assert is different from the other. For example, 
+     * {1.5, 2.25, 3.125}.
+     * @param other The other array. For example, {1.5, 2.25, 3.25}.
      * @param delta The maximum by which two numbers can differ and still be 
-     * considered equal. Preferably a positive normalized number. For example, 
-     * 0.001. The third element of the example <code>some</code> and 
-     * <code>other</code> arrays differ by 0.0012644892673496777, so in this 
-     * example the two arrays are considered different by more than the 
-     * variance.
+     * considered equal. For example, 0.1.
      * @param msg A message to include in the test failure explanation if the 
      * assertion fails.
-     * @throws NullPointerException If either array is null.
      */
-    public static void assertDifferent(double[] some, double[] other, 
+    public static void assertDifferent(float[] some, float[] other, 
             double delta, String msg) {
+        checkDifferent(some, other, delta, msg);
+    }
+    
+    /**
+     * Asserts that two arrays of 32-bit floating point numbers differ either in 
+     * length or are the same length but at least one element differs by more 
+     * than a specified variance. The arrays are compared without boxing the 
+     * values.
+     * @param some An array to assert is different from the other. For example, 
+     * {1.5, 2.25, 3.125}.
+     * @param other The other array. For example, {1.5, 2.25, 3.25}.
+     * @param delta The maximum by which two numbers can differ and still be 
+     * considered equal. For example, 0.1.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertDifferent(float[] some, float[] other, 
+            double delta, Supplier<String> msg) {
+        checkDifferent(some, other, delta, msg);
+    }
+    
+    private static void checkDifferent(float[] some, float[] other, 
+            double delta, Object msg) {
         int len = some.length;
         if (len == other.length) {
             int index = 0;
@@ -1594,64 +3840,11 @@ public class Asserters {
                 }
                 index++;
             }
-            String intermediate = msg + ". Arrays " + Arrays.toString(some) 
-                    + " and " + Arrays.toString(other) 
+            String errMsg = prepMsg(msg, "Arrays " 
+                    + excerpt(len, i -> Float.toString(some[i])) + " and " 
+                    + excerpt(len, i -> Float.toString(other[i])) 
                     + " are not different beyond variance " + delta 
-                    + " as asserted";
-            String errMsg = prepMsg(intermediate);
-            throw new AssertionError(errMsg);
-        }
-    }
-    
-    /**
-     * Asserts that two arrays of objects are different in some way, such as 
-     * that they contain different elements, contain the same elements in a 
-     * different order, or differ in length. The arrays may differ in that they 
-     * have different memory addresses, but that does not matter for this 
-     * assertion. 
-     * @param <E> The type of the two arrays. For example, <code>Pattern</code>. 
-     * Remember that this is only checked at compile time.
-     * @param some An array. For example, an array with a regular expression for 
-     * e-mail addresses, a regular expression for Roman numerals, a regular 
-     * expression for floating point numbers, and a null.
-     * @param other An array said to be different from <code>some</code>. For 
-     * example, an array with a regular expression for Roman numerals, a regular 
-     * expression for e-mail addresses, a regular expression for Social Security 
-     * numbers, and a null. 
-     * @throws NullPointerException If <code>some</code> or <code>other</code> 
-     * is null, but not if either array contains nulls.
-     */
-    public static <E> void assertDifferent(E[] some, E[] other) {
-        assertDifferent(some, other, "");
-    }
-    
-    /**
-     * Asserts that two arrays of objects are different in some way, such as 
-     * that they contain different elements, contain the same elements in a 
-     * different order, or differ in length. The arrays may differ in that they 
-     * have different memory addresses, but that does not matter for this 
-     * assertion. 
-     * @param <E> The type of the two arrays. For example, <code>Pattern</code>. 
-     * Remember that this is only checked at compile time.
-     * @param some An array. For example, an array with a regular expression for 
-     * e-mail addresses, a regular expression for Roman numerals, a regular 
-     * expression for floating point numbers, and a null.
-     * @param other An array said to be different from <code>some</code>. For 
-     * example, an array with a regular expression for Roman numerals, a regular 
-     * expression for e-mail addresses, a regular expression for Social Security 
-     * numbers, and a null. 
-     * @param msg A message to include in the test failure explanation if the 
-     * assertion fails.
-     * @throws NullPointerException If <code>some</code> or <code>other</code> 
-     * is null, but not if either array contains nulls.
-     */
-    public static <E> void assertDifferent(E[] some, E[] other, String msg) {
-        boolean noDifferenceFound = Arrays.equals(some, other);
-        if (noDifferenceFound) {
-            String intermediate = msg + ". Arrays " + Arrays.toString(some) 
-                    + " and " + Arrays.toString(other) 
-                    + " are not different as asserted";
-            String errMsg = prepMsg(intermediate);
+                    + " as asserted");
             throw new AssertionError(errMsg);
         }
     }
@@ -1690,6 +3883,32 @@ public class Asserters {
      * <code>actual</code> is not an empty array.
      */
     public static <E> void assertContains(E expected, E[] actual, String msg) {
+        checkContains(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that an array contains a specified element. The test failure 
+     * explanation will include the expected element and the elements contained 
+     * in the array if the test fails because of the assertion, along with a 
+     * customized message.
+     * @param <E> The type of elements in the array. For example, 
+     * <code>DayOfWeek</code>.
+     * @param expected The element expected to be in the array of type 
+     * <code>E</code>. For example, Wednesday.
+     * @param actual The array of type <code>E</code>. For example, the days 
+     * Monday, Tuesday, Wednesday, Thursday and Friday.
+     * @param msg Supplies a message to append to the test failure explanation 
+     * if the test fails because of the assertion. The supplier is only called 
+     * if the assertion fails.
+     * @throws NullPointerException If <code>expected</code> is null and 
+     * <code>actual</code> is not an empty array.
+     */
+    public static <E> void assertContains(E expected, E[] actual, 
+            Supplier<String> msg) {
+        checkContains(expected, actual, msg);
+    }
+    
+    private static <E> void checkContains(E expected, E[] actual, Object msg) {
         boolean found = false;
         int index = 0;
         int len = actual.length;
@@ -1697,10 +3916,8 @@ public class Asserters {
             found = expected.equals(actual[index]);
             index++;
         }
-        String intermediate = msg + ". Expected element " + expected.toString() 
-                + " to be in " + Arrays.toString(actual);
-        String errMsg = prepMsg(intermediate); 
-        assert found : errMsg;
+        assert found : prepMsg(msg, "Expected element " + expected.toString() 
+                + " to be in " + Arrays.toString(actual));
     }
     
     /**
@@ -1742,10 +3959,37 @@ public class Asserters {
      */
     public static <E> void assertContains(E expected, List<E> actual, 
             String msg) {
-        String intermediate = msg + ". Expected element " + expected.toString() 
-                + " to be in " + actual.toString();
-        String errMsg = prepMsg(intermediate);
-        assert actual.contains(expected) : errMsg;
+        checkContains(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that a list contains a specified element. The test failure 
+     * explanation will include the expected element and the elements contained 
+     * in the list if the test fails because of the assertion, along with a 
+     * customized message.
+     * @param <E> The type of elements in the list. For example, 
+     * <code>DayOfWeek</code>.
+     * @param expected The element expected to be in the list of type 
+     * <code>E</code>. For example, Wednesday.
+     * @param actual The list of type <code>E</code>. For example, the days 
+     * Monday, Tuesday, Wednesday, Thursday and Friday.
+     * @param msg Supplies a message to append to the test failure explanation 
+     * if the test fails because of the assertion. The supplier is only called 
+     * if the assertion fails.
+     * @throws NullPointerException If <code>expected</code> is null, regardless 
+     * of whether or not <code>actual</code> is an empty list. Depending on user 
+     * feedback, this behavior might be changed so that a null 
+     * <code>expected</code> does not cause this exception.
+     */
+    public static <E> void assertContains(E expected, List<E> actual, 
+            Supplier<String> msg) {
+        checkContains(expected, actual, msg);
+    }
+    
+    private static <E> void checkContains(E expected, List<E> actual, 
+            Object msg) {
+        assert actual.contains(expected) : prepMsg(msg, "Expected element " 
+                + expected.toString() + " to be in " + actual.toString());
     }
     
     /**
@@ -1787,10 +4031,58 @@ public class Asserters {
      */
     public static <E> void assertContains(E expected, Set<E> actual, 
             String msg) {
-        String intermediate = msg + ". Expected element " + expected.toString() 
-                + " to be in " + actual.toString();
-        String errMsg = prepMsg(intermediate);
-        assert actual.contains(expected) : errMsg;
+        checkContains(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that a set contains a specified element. The test failure 
+     * explanation will include the expected element and the elements contained 
+     * in the set if the test fails because of the assertion, along with a 
+     * customized message.
+     * @param <E> The type of elements in the set. For example, 
+     * <code>Month</code>.
+     * @param expected The element expected to be in the set of type 
+     * <code>E</code>. For example, November.
+     * @param actual The set of type <code>E</code>. For example, the months 
+     * January, March, May, July, August, October and December.
+     * @param msg Supplies a message to append to the test failure explanation 
+     * if the test fails because of the assertion. The supplier is only called 
+     * if the assertion fails.
+     * @throws NullPointerException If <code>expected</code> is null, regardless 
+     * of whether or not <code>actual</code> is an empty set. Depending on user 
+     * feedback, this behavior might be changed so that a null 
+     * <code>expected</code> does not cause this exception.
+     */
+    public static <E> void assertContains(E expected, Set<E> actual, 
+            Supplier<String> msg) {
+        checkContains(expected, actual, msg);
+    }
+    
+    private static <E> void checkContains(E expected, Set<E> actual, 
+            Object msg) {
+        assert actual.contains(expected) : prepMsg(msg, "Expected element " 
+                + expected.toString() + " to be in " + actual.toString());
+    }
+    
+    /**
+     * Asserts that two arrays contain the same elements, though not necessarily 
+     * in the same order or the same quantities. One array may have fewer 
+     * elements than the other, but the assertion won't fail as long as every 
+     * element that appears in one array appears at least once in the other 
+     * array.
+     * To take the quantities into account, use 
+     * <code>assertContainsSameMultiset()</code>.
+     * @param <E> The type of the elements in the two arrays. Remember that this 
+     * is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The array with the elements the other array is supposed  
+     * to contain. For example, <code>MARCH</code>, <code>APRIL</code>, 
+     * <code>MAY</code> and <code>JUNE</code>.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>APRIL</code>, <code>JUNE</code>, 
+     * <code>MARCH</code>, <code>MAY</code> and <code>MAY</code>.
+     */
+    public static <E> void assertContainsSame(E[] expected, E[] actual) {
+        assertContainsSame(expected, actual, "");
     }
     
     /**
@@ -1799,6 +4091,8 @@ public class Asserters {
      * elements than the other, but the assertion won't fail as long as every 
      * element that appears in one array appears at least once in the other 
      * array.
+     * To take the quantities into account, use 
+     * <code>assertContainsSameMultiset()</code>.
      * @param <E> The type of the elements in the two arrays. Remember that this 
      * is not checked at runtime. For example, <code>java.time.Month</code>.
      * @param expected The array with the elements the other array is supposed  
@@ -1807,9 +4101,12 @@ public class Asserters {
      * @param actual The array to check against <code>expected</code>. For 
      * example, <code>APRIL</code>, <code>APRIL</code>, <code>JUNE</code>, 
      * <code>MARCH</code>, <code>MAY</code> and <code>MAY</code>.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails.
      */
-    public static <E> void assertContainsSame(E[] expected, E[] actual) {
-        assertContainsSame(expected, actual, "");
+    public static <E> void assertContainsSame(E[] expected, E[] actual, 
+            String msg) {
+        checkContainsSame(expected, actual, msg);
     }
     
     /**
@@ -1818,28 +4115,34 @@ public class Asserters {
      * elements than the other, but the assertion won't fail as long as every 
      * element that appears in one array appears at least once in the other 
      * array.
+     * To take the quantities into account, use 
+     * <code>assertContainsSameMultiset()</code>.
      * @param <E> The type of the elements in the two arrays. Remember that this 
      * is not checked at runtime. For example, <code>java.time.Month</code>.
-     * @param expected The array with the elements the other array is supposed  
+     * @param expected The array with the elements the other array is supposed 
      * to contain. For example, <code>MARCH</code>, <code>APRIL</code>, 
      * <code>MAY</code> and <code>JUNE</code>.
      * @param actual The array to check against <code>expected</code>. For 
      * example, <code>APRIL</code>, <code>APRIL</code>, <code>JUNE</code>, 
      * <code>MARCH</code>, <code>MAY</code> and <code>MAY</code>.
-     * @param msg A message to include in the test failure explanation if the 
-     * assertion fails.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
      */
     public static <E> void assertContainsSame(E[] expected, E[] actual, 
-            String msg) {
+            Supplier<String> msg) {
+        checkContainsSame(expected, actual, msg);
+    }
+    
+    private static <E> void checkContainsSame(E[] expected, E[] actual, 
+            Object msg) {
         Set<E> expSet = new HashSet<>(expected.length);
         for (E expElem : expected) expSet.add(expElem);
         Set<E> actSet = new HashSet<>(actual.length);
         for (E actElem : actual) actSet.add(actElem);
-        String intermediate = msg + ". Expected array to contain " 
-                + Arrays.toString(expected) + " but actually contained "
-                + Arrays.toString(actual);
-        String errMsg = prepMsg(intermediate);
-        assert expSet.equals(actSet) : errMsg;
+        assert expSet.equals(actSet) : prepMsg(msg, 
+                "Expected array to contain " + Arrays.toString(expected) 
+                + " but actually contained " + Arrays.toString(actual));
     }
     
     /**
@@ -1848,6 +4151,8 @@ public class Asserters {
      * implementations of <code>java.util.List</code>. One list may have fewer 
      * elements than the other, but the assertion won't fail as long as every 
      * element that appears in one list appears at least once in the other list.
+     * To take the quantities into account, use 
+     * <code>assertContainsSameMultiset()</code>.
      * @param <E> The type of the elements in the two lists. Remember that this 
      * is not checked at runtime. For example, <code>java.time.Month</code>.
      * @param expected The list with the elements the other list is supposed to 
@@ -1868,6 +4173,8 @@ public class Asserters {
      * implementations of <code>java.util.List</code>. One list may have fewer 
      * elements than the other, but the assertion won't fail as long as every 
      * element that appears in one list appears at least once in the other list.
+     * To take the quantities into account, use 
+     * <code>assertContainsSameMultiset()</code>.
      * @param <E> The type of the elements in the two lists. Remember that this 
      * is not checked at runtime. For example, <code>java.time.Month</code>.
      * @param expected The list with the elements the other list is supposed to 
@@ -1881,13 +4188,41 @@ public class Asserters {
      */
     public static <E> void assertContainsSame(List<E> expected, 
             List<E> actual, String msg) {
+        checkContainsSame(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two lists contain the same elements, though not necessarily 
+     * in the same order or the same quantities. The two lists may be different 
+     * implementations of <code>java.util.List</code>. One list may have fewer 
+     * elements than the other, but the assertion won't fail as long as every 
+     * element that appears in one list appears at least once in the other list.
+     * To take the quantities into account, use 
+     * <code>assertContainsSameMultiset()</code>.
+     * @param <E> The type of the elements in the two lists. Remember that this 
+     * is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The list with the elements the other list is supposed to 
+     * contain. For example, <code>MARCH</code>, <code>APRIL</code>, 
+     * <code>MAY</code> and <code>JUNE</code>.
+     * @param actual The list to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>APRIL</code>, <code>JUNE</code>, 
+     * <code>MARCH</code>, <code>MAY</code> and <code>MAY</code>.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static <E> void assertContainsSame(List<E> expected, List<E> actual, 
+            Supplier<String> msg) {
+        checkContainsSame(expected, actual, msg);
+    }
+    
+    private static <E> void checkContainsSame(List<E> expected, List<E> actual, 
+            Object msg) {
         Set<E> expSet = new HashSet<>(expected);
         Set<E> actSet = new HashSet<>(actual);
-        String intermediate = msg + ". Expected list to contain " 
-                + expected.toString() + " but actually contained " 
-                + actual.toString();
-        String errMsg = prepMsg(intermediate);
-        assert expSet.equals(actSet) : errMsg;
+        assert expSet.equals(actSet) : prepMsg(msg, 
+                "Expected list to contain " + expected.toString() 
+                + " but actually contained " + actual.toString());
     }
     
     /**
@@ -1939,13 +4274,417 @@ public class Asserters {
      */
     public static <E> void assertContainsSame(Set<E> expected, Set<E> actual, 
             String msg) {
+        checkContainsSame(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two sets contain the same elements. The motivation for this 
+     * assertion was the concern that two instances of different implementations 
+     * of <code>java.util.Set</code> containing the same elements might cause a 
+     * test calling {@link #assertEquals(Object, Object, String)} to fail. For 
+     * example, a test builds the expected set using <code>Set.of()</code>, then 
+     * the actual set is initialized as an empty <code>HashSet</code> and the 
+     * elements are added with repeated calls to the function under test. From 
+     * my limited experimentation with <code>HashSet</code>, 
+     * <code>TreeSet</code> and <code>Set.of()</code>, this concern might be 
+     * unwarranted. Even so, at least for the time being, I recommend using this 
+     * assertion instead of <code>assertEquals()</code> to assert that two sets 
+     * contain the same elements without regard for runtime class.
+     * @param <E> The type of the elements that the sets contain. Remember that 
+     * this is not checked at runtime. For example, <code>LocalDate</code>.
+     * @param expected The set with the expected elements. For example, July 1, 
+     * 2024; July 2, 2024 and July July 3, 2024.
+     * @param actual The set with the actual elements. For example, July 3, 
+     * 2024; July 1, 2024 and July 2, 2024.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. For example, "Set of dates should include today 
+     * and next two days." The supplier is only called if the assertion fails.
+     */
+    public static <E> void assertContainsSame(Set<E> expected, Set<E> actual, 
+            Supplier<String> msg) {
+        checkContainsSame(expected, actual, msg);
+    }
+    
+    private static <E> void checkContainsSame(Set<E> expected, Set<E> actual, 
+            Object msg) {
         Set<E> expSet = new HashSet<>(expected);
         Set<E> actSet = new HashSet<>(actual);
-        String intermediate = msg + ". Expected set to contain " 
-                + expected.toString() + " but actually contained " 
-                + actual.toString();
-        String errMsg = prepMsg(intermediate);
-        assert expSet.equals(actSet) : errMsg;
+        assert expSet.equals(actSet) : prepMsg(msg, 
+                "Expected set to contain " + expected.toString() 
+                + " but actually contained " + actual.toString());
+    }
+    
+    /**
+     * Asserts that two lists contain the same elements in the same quantities, 
+     * though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * list has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements.
+     * @param <E> The type of the elements in the two lists. Remember that this 
+     * is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The list with the elements in the quantities the other 
+     * list is supposed to have. For example, <code>MARCH</code>, 
+     * <code>APRIL</code>, <code>APRIL</code> and <code>MAY</code>.
+     * @param actual The list to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>MAY</code>, <code>MARCH</code> and 
+     * <code>MAY</code>. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     */
+    public static <E> void assertContainsSameMultiset(List<E> expected, 
+            List<E> actual) {
+        assertContainsSameMultiset(expected, actual, "");
+    }
+    
+    /**
+     * Asserts that two lists contain the same elements in the same quantities, 
+     * though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * list has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements.
+     * @param <E> The type of the elements in the two lists. Remember that this 
+     * is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The list with the elements in the quantities the other 
+     * list is supposed to have. For example, <code>MARCH</code>, 
+     * <code>APRIL</code>, <code>APRIL</code> and <code>MAY</code>.
+     * @param actual The list to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>MAY</code>, <code>MARCH</code> and 
+     * <code>MAY</code>. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Query should return each row once."
+     */
+    public static <E> void assertContainsSameMultiset(List<E> expected, 
+            List<E> actual, String msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two lists contain the same elements in the same quantities, 
+     * though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * list has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements.
+     * @param <E> The type of the elements in the two lists. Remember that this 
+     * is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The list with the elements in the quantities the other 
+     * list is supposed to have. For example, <code>MARCH</code>, 
+     * <code>APRIL</code>, <code>APRIL</code> and <code>MAY</code>.
+     * @param actual The list to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>MAY</code>, <code>MARCH</code> and 
+     * <code>MAY</code>. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static <E> void assertContainsSameMultiset(List<E> expected, 
+            List<E> actual, Supplier<String> msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    private static <E> void checkContainsSameMultiset(List<E> expected, 
+            List<E> actual, Object msg) {
+        Map<E, Integer> counts = new HashMap<>(2 * expected.size());
+        for (E element : expected) {
+            counts.merge(element, 1, Asserters::sumOrNull);
+        }
+        for (E element : actual) {
+            counts.merge(element, -1, Asserters::sumOrNull);
+        }
+        assert counts.isEmpty() : prepMsg(msg, 
+                describeSurplusAndMissing(counts));
+    }
+    
+    /**
+     * Asserts that two arrays contain the same elements in the same quantities, 
+     * though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements.
+     * @param <E> The type of the elements in the two arrays. Remember that 
+     * this is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, <code>MARCH</code>, 
+     * <code>APRIL</code>, <code>APRIL</code> and <code>MAY</code>.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>MAY</code>, <code>MARCH</code> and 
+     * <code>MAY</code>. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     */
+    public static <E> void assertContainsSameMultiset(E[] expected, 
+            E[] actual) {
+        assertContainsSameMultiset(expected, actual, "");
+    }
+    
+    /**
+     * Asserts that two arrays contain the same elements in the same quantities, 
+     * though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements.
+     * @param <E> The type of the elements in the two arrays. Remember that 
+     * this is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, <code>MARCH</code>, 
+     * <code>APRIL</code>, <code>APRIL</code> and <code>MAY</code>.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>MAY</code>, <code>MARCH</code> and 
+     * <code>MAY</code>. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Query should return each row once."
+     */
+    public static <E> void assertContainsSameMultiset(E[] expected, 
+            E[] actual, String msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two arrays contain the same elements in the same quantities, 
+     * though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements.
+     * @param <E> The type of the elements in the two arrays. Remember that 
+     * this is not checked at runtime. For example, <code>java.time.Month</code>.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, <code>MARCH</code>, 
+     * <code>APRIL</code>, <code>APRIL</code> and <code>MAY</code>.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, <code>APRIL</code>, <code>MAY</code>, <code>MARCH</code> and 
+     * <code>MAY</code>. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static <E> void assertContainsSameMultiset(E[] expected, 
+            E[] actual, Supplier<String> msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    private static <E> void checkContainsSameMultiset(E[] expected, 
+            E[] actual, Object msg) {
+        checkContainsSameMultiset(Arrays.asList(expected), 
+                Arrays.asList(actual), msg);
+    }
+    
+    /**
+     * Asserts that two arrays of 32-bit integers contain the same elements in 
+     * the same quantities, though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements. The numbers are counted 
+     * without boxing them.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, {7, 9, 9, 12}.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, {9, 12, 7, 12}. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     */
+    public static void assertContainsSameMultiset(int[] expected, 
+            int[] actual) {
+        assertContainsSameMultiset(expected, actual, "");
+    }
+    
+    /**
+     * Asserts that two arrays of 32-bit integers contain the same elements in 
+     * the same quantities, though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements. The numbers are counted 
+     * without boxing them.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, {7, 9, 9, 12}.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, {9, 12, 7, 12}. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Query should return each row once."
+     */
+    public static void assertContainsSameMultiset(int[] expected, 
+            int[] actual, String msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two arrays of 32-bit integers contain the same elements in 
+     * the same quantities, though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements. The numbers are counted 
+     * without boxing them.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, {7, 9, 9, 12}.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, {9, 12, 7, 12}. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertContainsSameMultiset(int[] expected, 
+            int[] actual, Supplier<String> msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    private static void checkContainsSameMultiset(int[] expected, 
+            int[] actual, Object msg) {
+        LongCounts counts = new LongCounts(expected.length);
+        for (int number : expected) {
+            counts.add(number, 1);
+        }
+        for (int number : actual) {
+            counts.add(number, -1);
+        }
+        assert counts.allZero() : prepMsg(msg, 
+                describeSurplusAndMissing(counts.nonZeroCounts()));
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit integers contain the same elements in 
+     * the same quantities, though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements. The numbers are counted 
+     * without boxing them.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, {7, 9, 9, 12}.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, {9, 12, 7, 12}. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     */
+    public static void assertContainsSameMultiset(long[] expected, 
+            long[] actual) {
+        assertContainsSameMultiset(expected, actual, "");
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit integers contain the same elements in 
+     * the same quantities, though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements. The numbers are counted 
+     * without boxing them.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, {7, 9, 9, 12}.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, {9, 12, 7, 12}. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg A message to include in the test failure explanation if the 
+     * assertion fails. For example, "Query should return each row once."
+     */
+    public static void assertContainsSameMultiset(long[] expected, 
+            long[] actual, String msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts that two arrays of 64-bit integers contain the same elements in 
+     * the same quantities, though not necessarily in the same order. Unlike 
+     * <code>assertContainsSame()</code>, an element that appears twice in one 
+     * array has to appear exactly twice in the other. The elements are counted 
+     * in a hash table, so this takes time in proportion to the number of 
+     * elements, without sorting. If the assertion fails, the test failure 
+     * explanation only lists the elements that are missing from or surplus in 
+     * <code>actual</code>, not all the elements. The numbers are counted 
+     * without boxing them.
+     * @param expected The array with the elements in the quantities the other 
+     * array is supposed to have. For example, {7, 9, 9, 12}.
+     * @param actual The array to check against <code>expected</code>. For 
+     * example, {9, 12, 7, 12}. In this example, one of the second element of 
+     * <code>expected</code> is missing and there's one too many of the fourth.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails. The supplier is only called if the assertion 
+     * fails.
+     */
+    public static void assertContainsSameMultiset(long[] expected, 
+            long[] actual, Supplier<String> msg) {
+        checkContainsSameMultiset(expected, actual, msg);
+    }
+    
+    private static void checkContainsSameMultiset(long[] expected, 
+            long[] actual, Object msg) {
+        LongCounts counts = new LongCounts(expected.length);
+        for (long number : expected) {
+            counts.add(number, 1);
+        }
+        for (long number : actual) {
+            counts.add(number, -1);
+        }
+        assert counts.allZero() : prepMsg(msg, 
+                describeSurplusAndMissing(counts.nonZeroCounts()));
+    }
+    
+    // Used with Map.merge() so that elements whose counts come out even are 
+    // removed from the map, leaving only the discrepancies
+    private static Integer sumOrNull(Integer a, Integer b) {
+        int sum = a + b;
+        return sum == 0 ? null : sum;
+    }
+    
+    private static String listCounted(List<String> items) {
+        if (items.isEmpty()) {
+            return "nothing";
+        }
+        int shown = Math.min(items.size(), MULTISET_REPORT_LIMIT);
+        String list = String.join(", ", items.subList(0, shown));
+        if (items.size() > shown) {
+            list = list + " and " + (items.size() - shown) + " more";
+        }
+        return "[" + list + "]";
+    }
+    
+    private static String describeSurplusAndMissing(Map<?, Integer> counts) {
+        List<String> missing = new ArrayList<>();
+        List<String> surplus = new ArrayList<>();
+        for (Map.Entry<?, Integer> entry : counts.entrySet()) {
+            int count = entry.getValue();
+            int quantity = Math.abs(count);
+            String item = String.valueOf(entry.getKey()) 
+                    + (quantity > 1 ? " (" + quantity + " times)" : "");
+            if (count > 0) {
+                missing.add(item);
+            } else {
+                surplus.add(item);
+            }
+        }
+        return "Expected same elements in same quantities but actual is " 
+                + "missing " + listCounted(missing) + " and has surplus " 
+                + listCounted(surplus);
     }
     
     /**
@@ -2001,6 +4740,41 @@ public class Asserters {
      */
     public static <E> void assertContainsSameOrder(List<E> expected, 
             List<E> actual, String msg) {
+        checkContainsSameOrder(expected, actual, msg);
+    }
+    
+    /**
+     * Asserts two lists contain the same elements in the same order. As long as 
+     * the two lists have the same elements in the same order, even if the two 
+     * lists are different implementations of <code>java.util.List</code>, the 
+     * assertion will not fail. Both lists will be quoted in the test failure 
+     * explanation if the test fails on account of order. To assert that two 
+     * lists contain the same elements without regard for order, use {@link 
+     * #assertContainsSame(List, List, String)}.
+     * @param <E> The type of the elements in the two lists. For example, 
+     * <code>LocalDate</code>. Remember that this is not checked at runtime.
+     * @param expected A list with the expected order. For example, an 
+     * <code>ArrayList</code> consisting of the dates March 31, 2024; April 4, 
+     * 2021; April 9, 2023; April 17, 2022; April 20, 2025.
+     * @param actual A list that is asserted to be in the same order as 
+     * <code>expected</code>. For example, a <code>LinkedList</code> consisting 
+     * of the dates April 4, 2021; April 17, 2022; April 9, 2023; March 31, 
+     * 2024; April 20, 2025.
+     * @param msg Supplies a message to include in the test failure explanation. 
+     * For example, "Easters should be listed in order by month and day, then 
+     * year." The supplier is only called if the assertion fails.
+     * @throws NullPointerException If <code>expected</code> and 
+     * <code>actual</code> are of the same size but <code>expected</code> 
+     * contains any nulls. And obviously also if either <code>expected</code> or 
+     * <code>actual</code> is null.
+     */
+    public static <E> void assertContainsSameOrder(List<E> expected, 
+            List<E> actual, Supplier<String> msg) {
+        checkContainsSameOrder(expected, actual, msg);
+    }
+    
+    private static <E> void checkContainsSameOrder(List<E> expected, 
+            List<E> actual, Object msg) {
         int len = expected.size();
         boolean foundNoReasonToFail = len == actual.size();
         int index = 0;
@@ -2008,11 +4782,9 @@ public class Asserters {
             foundNoReasonToFail = expected.get(index).equals(actual.get(index));
             index++;
         }
-        String intermediate = msg + ". Expected list to contain " 
+        assert foundNoReasonToFail : prepMsg(msg, "Expected list to contain " 
                 + expected.toString() + " in that order but actually contained " 
-                + actual.toString();
-        String errMsg = prepMsg(intermediate);
-        assert foundNoReasonToFail : errMsg;
+                + actual.toString());
     }
     
     /**
@@ -2035,6 +4807,35 @@ public class Asserters {
      */
     public static String assertPrintOut(Predicate<String> predicate, 
             Procedure lambda, String msg) {
+        return checkPrintOut(predicate, lambda, msg);
+    }
+    
+    /**
+     * Makes a Boolean assertion about what a lambda sends to 
+     * <code>System.out</code>. The normal <code>System.out</code> is rerouted 
+     * to an interceptor at the beginning of this procedure, then restored at 
+     * the end, provided no unrecoverable errors occur, nor that 
+     * <code>System.exit()</code> is invoked.
+     * @param predicate A predicate about what should be sent to 
+     * <code>System.out</code>. For example, a valid e-mail address should be 
+     * included.
+     * @param lambda A procedure to run, preferably one that includes at least 
+     * one of <code>System.out.print()</code> or 
+     * <code>System.out.println()</code>.
+     * @param msg Supplies a message that will be the entirety of the test 
+     * failure explanation. This parameter is required, this assertion provides 
+     * no default message. For example, "Printout should include e-mail 
+     * address." The supplier is only called if the assertion fails.
+     * @return What was printed to <code>System.out</code>. Beware of unexpected 
+     * line endings and other system-dependent characteristics.
+     */
+    public static String assertPrintOut(Predicate<String> predicate, 
+            Procedure lambda, Supplier<String> msg) {
+        return checkPrintOut(predicate, lambda, msg);
+    }
+    
+    private static String checkPrintOut(Predicate<String> predicate, 
+            Procedure lambda, Object msg) {
         PrintStream normalOut = System.out;
         normalOut.println("About to reroute System.out");
         ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
@@ -2050,7 +4851,7 @@ public class Asserters {
             interceptedStream.close();
         }
         String s = interceptor.toString();
-        assert predicate.test(s) : msg;
+        assert predicate.test(s) : supplyMsg(msg);
         return s;
     }
     
@@ -2110,20 +4911,51 @@ public class Asserters {
      * @throws NullPointerException If <code>lambda</code>, 
      * <code>exceptionType</code> or <code>msg</code> is null.
      */
-    @SuppressWarnings("unchecked")
     public static <E extends Exception> E assertThrows(Procedure lambda, 
             Class<E> exceptionType, String msg) {
+        return checkThrows(lambda, exceptionType, msg);
+    }
+    
+    /**
+     * Asserts that a given lambda caused an exception of a particular type.
+     * @param <E> The type of exception that should be thrown. For example, 
+     * <code>ArithmeticException</code>.
+     * @param lambda The anonymous procedure that should throw the exception of 
+     * the specified type. For example, <code>() -> { Fraction badResult = 
+     * oneHalf.divides(zero); }</code>. It would be very similar in Scala.
+     * @param exceptionType A <code>Class</code> object for the expected 
+     * exception type. For example, <code>ArithmeticException.class</code>. Note 
+     * that in Scala this would be <code>classOf[ArithmeticException]</code>.
+     * @param msg Supplies a message for the test failure explanation. For 
+     * example, "Division by zero should have caused an exception." If the 
+     * assertion fails, either because an exception of the wrong type was thrown 
+     * or because no exception was thrown, that information will be appended to 
+     * the test failure explanation. The supplier is only called if the 
+     * assertion fails.
+     * @return An exception of the specified type. However, this is not 
+     * guaranteed if assertions are not enabled. Then again, this whole class is 
+     * useless if assertions are not enabled.
+     * @throws NullPointerException If <code>lambda</code>, 
+     * <code>exceptionType</code> or <code>msg</code> is null.
+     */
+    public static <E extends Exception> E assertThrows(Procedure lambda, 
+            Class<E> exceptionType, Supplier<String> msg) {
+        return checkThrows(lambda, exceptionType, msg);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> E checkThrows(Procedure lambda, 
+            Class<E> exceptionType, Object msg) {
         try {
             lambda.execute();
-            String intermediate = msg + ". Expected " + exceptionType.getName() 
-                    + " but nothing was thrown";
-            String errMsg = prepMsg(intermediate);
+            String errMsg = prepMsg(msg, "Expected " 
+                    + exceptionType.getName() + " but nothing was thrown");
             throw new AssertionError(errMsg);
         } catch (Exception e) {
-            String intermediate = msg + ". Expected " + exceptionType.getName() 
-                    + " but was " + e.getClass().getName(); 
-            String errMsg = prepMsg(intermediate);
             if (!exceptionType.isAssignableFrom(e.getClass())) {
+                String errMsg = prepMsg(msg, "Expected " 
+                        + exceptionType.getName() + " but was " 
+                        + e.getClass().getName());
                 throw new AssertionError(errMsg, e);
             };
             return (E) e;
@@ -2157,13 +4989,35 @@ public class Asserters {
      * is null.
      */
     public static void assertDoesNotThrow(Procedure lambda, String msg) {
+        checkDoesNotThrow(lambda, msg);
+    }
+    
+    /**
+     * Asserts that a given lambda does not throw exceptions of any type.
+     * @param lambda The anonymous procedure that should not throw any 
+     * exceptions. For example, <code>() -> { arrayBackedList.expandCapacity; 
+     * }</code>.
+     * @param msg Supplies a message for the test failure explanation. For 
+     * example, "Expanding list capacity should not cause any exceptions." If an 
+     * exception does occur, that will be appended to the test failure 
+     * explanation. For example, "No exceptions should have occurred but 
+     * ArrayIndexOutOfBoundsException did." The supplier is only called if the 
+     * assertion fails.
+     * @throws NullPointerException If <code>lambda</code> or <code>msg</code> 
+     * is null.
+     */
+    public static void assertDoesNotThrow(Procedure lambda, 
+            Supplier<String> msg) {
+        checkDoesNotThrow(lambda, msg);
+    }
+    
+    private static void checkDoesNotThrow(Procedure lambda, Object msg) {
         try {
             lambda.execute();
         } catch (Exception e) {
-            String intermediate = msg 
-                    + ". No exception should have occurred but " 
-                    + e.getClass().getName() + " did";
-            String errMsg = prepMsg(intermediate);
+            String errMsg = prepMsg(msg, 
+                    "No exception should have occurred but " 
+                    + e.getClass().getName() + " did");
             throw new AssertionError(errMsg, e);
         }
     }
@@ -2188,6 +5042,34 @@ public class Asserters {
      */
     public static void assertTimeout(Procedure lambda, Duration allottedTime, 
             String msg) {
+        checkTimeout(lambda, allottedTime, msg);
+    }
+    
+    /**
+     * Asserts that a lambda completes in a certain amount of time. A new thread 
+     * is started to run the lambda on.
+     * @param lambda The anonymous procedure that should run in a certain amount 
+     * of time. For example, a lambda that adds up the values of all of a 
+     * customer's pending transactions to calculate the net change on the 
+     * account if all those transactions go through.
+     * @param allottedTime How much time to allow the procedure to run in. For 
+     * example, 5 seconds. Should generally be much less than a minute. We make 
+     * no guarantees as to how precisely the time will be measured. Allow a 
+     * grace period of as much as a full second.
+     * @param msg Supplies a message to include in the test failure explanation 
+     * if the assertion fails after running out of time. For example, "All of 
+     * the customer's pending transactions should've been added up in less than 
+     * 5 seconds." The supplier is only called if the assertion fails.
+     * @throws ArithmeticException If <code>allottedTime</code> in milliseconds 
+     * is greater than <code>Long.MAX_VALUE</code>.
+     */
+    public static void assertTimeout(Procedure lambda, Duration allottedTime, 
+            Supplier<String> msg) {
+        checkTimeout(lambda, allottedTime, msg);
+    }
+    
+    private static void checkTimeout(Procedure lambda, Duration allottedTime, 
+            Object msg) {
         long milliseconds = allottedTime.toMillis();
         DuringTimedTestExceptionRecorder recorder 
                 = new DuringTimedTestExceptionRecorder();
@@ -2232,7 +5114,7 @@ public class Asserters {
             }
         }
         if (outOfTime) {
-            String errMsg = msg 
+            String errMsg = supplyMsg(msg) 
                     + ". Procedure took longer than allotted duration " 
                     + allottedTime.toString();
             throw new AssertionError(errMsg);
@@ -0,0 +1,66 @@
+package org.testframe.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for benchmark procedures. A benchmark procedure should be public 
+ * but not static, and it should take either no parameters or just a {@link 
+ * Blackhole}, which it should give whatever it computes so that the Java 
+ * Virtual Machine can't figure out the computation is not needed and skip it. 
+ * For example, 
+ * <pre>    &#64;Benchmark
+ *     public void benchmarkReverse(Blackhole blackhole) {
+ *         blackhole.consume(new StringBuilder(TEXT).reverse().toString());
+ *     }</pre>
+ * <p>Benchmark procedures can go in the same class as the tests. The test 
+ * runner only runs them when given the "-bench" command line option, and then 
+ * it runs only the benchmarks, not the tests. Each benchmark procedure is 
+ * invoked over and over for a number of warmup iterations, which are not 
+ * counted, and then a number of measurement iterations, each lasting about 
+ * the same amount of time. The result is the average number of invocations 
+ * per second, with a 99% confidence interval.</p>
+ * <p>The procedures annotated {@link BeforeAllTests} and {@link 
+ * AfterAllTests} run once before and after all the benchmarks of the class. 
+ * The procedures annotated {@link BeforeEachTest} and {@link AfterEachTest} 
+ * run before and after each iteration, not each invocation, and they are not 
+ * timed.</p>
+ * <p>This is meant for quick checks that something hasn't gotten a lot 
+ * slower, not as a replacement for a dedicated benchmark harness. Each 
+ * invocation carries the overhead of a method handle call, which is a few 
+ * nanoseconds, so a benchmark of something that only takes a few nanoseconds 
+ * will mostly measure that overhead.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Benchmark {
+    
+    /**
+     * How many iterations to run before measuring, to give the Java Virtual 
+     * Machine a chance to compile and optimize the code being measured.
+     * @return The number of warmup iterations. The default is 5.
+     */
+    int warmups() default 5;
+    
+    /**
+     * How many iterations to measure. More iterations give a narrower 
+     * confidence interval.
+     * @return The number of measurement iterations. The default is 10. Should 
+     * be at least 2 for there to be a confidence interval.
+     */
+    int iterations() default 10;
+    
+    /**
+     * How long each iteration should last, in milliseconds. An iteration 
+     * might run a little longer, since the benchmark procedure is invoked in 
+     * batches and the clock is only checked between batches.
+     * @return The duration of each iteration in milliseconds. The default is 
+     * 200.
+     */
+    long iterationMillis() default 200L;
+    
+}
@@ -0,0 +1,93 @@
+package org.testframe.api;
+
+/**
+ * Takes in values computed by a benchmark procedure so that the Java Virtual 
+ * Machine can't eliminate the computation as dead code. See {@link 
+ * Benchmark}. The test runner gives each benchmark procedure that asks for one 
+ * a fresh blackhole.
+ * <p>Each of the <code>consume()</code> procedures compares the value given 
+ * to values read from volatile fields, which the Java Virtual Machine has to 
+ * read every time. The comparisons are arranged to never come out true, but 
+ * the Java Virtual Machine can't know that, so it has to compute the value. 
+ * This costs about a nanosecond per call, much less than a write to a volatile 
+ * field would.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public final class Blackhole {
+    
+    private volatile int intA = 1;
+    
+    private volatile int intB = 2;
+    
+    private volatile long longA = 1L;
+    
+    private volatile long longB = 2L;
+    
+    private volatile double doubleA = 1.0;
+    
+    private volatile double doubleB = 2.0;
+    
+    private volatile boolean booleanA = false;
+    
+    private volatile boolean booleanB = true;
+    
+    // Never given out, so no value passed in can be the same object
+    private volatile Object trap = new Object();
+    
+    private static void impossible() {
+        throw new IllegalStateException("Blackhole trap was sprung");
+    }
+    
+    /**
+     * Consumes an object.
+     * @param value The object to consume. For example, a <code>String</code> 
+     * that was just reversed. May be null.
+     */
+    public void consume(Object value) {
+        if (value == this.trap) {
+            impossible();
+        }
+    }
+    
+    /**
+     * Consumes an integer.
+     * @param value The integer to consume. For example, 42.
+     */
+    public void consume(int value) {
+        if (value == this.intA & value == this.intB) {
+            impossible();
+        }
+    }
+    
+    /**
+     * Consumes a 64-bit integer.
+     * @param value The number to consume. For example, 42L.
+     */
+    public void consume(long value) {
+        if (value == this.longA & value == this.longB) {
+            impossible();
+        }
+    }
+    
+    /**
+     * Consumes a floating point number.
+     * @param value The number to consume. For example, 3.14159.
+     */
+    public void consume(double value) {
+        if (value == this.doubleA & value == this.doubleB) {
+            impossible();
+        }
+    }
+    
+    /**
+     * Consumes a Boolean value.
+     * @param value The value to consume. For example, true.
+     */
+    public void consume(boolean value) {
+        if (value == this.booleanA & value == this.booleanB) {
+            impossible();
+        }
+    }
+    
+}
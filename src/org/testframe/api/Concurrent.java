@@ -0,0 +1,37 @@
+package org.testframe.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the tests in a test class may run at the same time. This 
+ * annotation goes on the test class rather than on the test procedures. The 
+ * test runner will then run each test procedure annotated {@link Test} on its 
+ * own virtual thread, together with the procedures annotated {@link 
+ * BeforeEachTest} and {@link AfterEachTest}.
+ * <p>This is mainly useful for test classes in which many of the tests spend 
+ * most of their time waiting, such as for a file to be read, for a response 
+ * from a server or for <code>Thread.sleep()</code> to finish. Such a test class 
+ * should take about as long to run as its slowest test, rather than the sum of 
+ * all its tests.</p>
+ * <p>Each test gets a fresh instance of the test class, so that the tests don't 
+ * step on each other's fields. The procedures annotated {@link BeforeAllTests} 
+ * and {@link AfterAllTests} run only once, on a separate instance, before and 
+ * after all the tests respectively. For that reason, anything those procedures 
+ * set up for the tests to use should be held in static fields.</p>
+ * <p>The test results are still reported in the order in which the test 
+ * procedures were found, regardless of which test actually finished first. But 
+ * any output the tests write to the console will likely be interleaved.</p>
+ * <p>Don't use this annotation on a test class whose tests change global state, 
+ * such as with {@link Asserters#assertPrintOut}, which temporarily replaces 
+ * <code>System.out</code>.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Concurrent {
+
+}
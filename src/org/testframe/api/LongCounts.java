@@ -0,0 +1,139 @@
+package org.testframe.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts occurrences of 64-bit integers without boxing them. This is a hash 
+ * table with open addressing and linear probing, so adding to a count is 
+ * usually a matter of a multiplication, a shift and an array access or two. 
+ * Counts may go negative, which is how {@link Asserters} tells what's missing 
+ * from what's surplus: each expected number adds one, each actual number takes 
+ * away one.
+ * <p>The table is sized up front for the number of distinct keys it's told to 
+ * expect and doubles in capacity whenever it gets more than half full. Keys 
+ * are never removed, but the table keeps track of how many keys have a nonzero 
+ * count, so that checking whether all counts are zero doesn't require going 
+ * through the whole table.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+final class LongCounts {
+    
+    private static final long GOLDEN_RATIO_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    private long[] keys;
+    
+    private int[] counts;
+    
+    private boolean[] occupied;
+    
+    private int shift;
+    
+    private int keyCount = 0;
+    
+    private int nonZeroCount = 0;
+    
+    private int slot(long key) {
+        return (int) ((key * GOLDEN_RATIO_MULTIPLIER) >>> this.shift);
+    }
+    
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.counts = new int[capacity];
+        this.occupied = new boolean[capacity];
+        this.shift = Long.numberOfLeadingZeros(capacity - 1);
+    }
+    
+    private void grow() {
+        long[] oldKeys = this.keys;
+        int[] oldCounts = this.counts;
+        boolean[] oldOccupied = this.occupied;
+        this.allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldOccupied[i]) {
+                int index = this.slot(oldKeys[i]);
+                while (this.occupied[index]) {
+                    index = (index + 1) & (this.keys.length - 1);
+                }
+                this.keys[index] = oldKeys[i];
+                this.counts[index] = oldCounts[i];
+                this.occupied[index] = true;
+            }
+        }
+    }
+    
+    /**
+     * Adds to the count of a number. If the number hasn't been counted 
+     * before, its count starts at zero.
+     * @param key The number to count. For example, 47.
+     * @param delta How much to add to the count. For example, &minus;1.
+     */
+    void add(long key, int delta) {
+        int mask = this.keys.length - 1;
+        int index = this.slot(key);
+        while (this.occupied[index] && this.keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        if (!this.occupied[index]) {
+            if (2 * (this.keyCount + 1) > this.keys.length) {
+                this.grow();
+                this.add(key, delta);
+                return;
+            }
+            this.occupied[index] = true;
+            this.keys[index] = key;
+            this.keyCount++;
+        }
+        int before = this.counts[index];
+        int after = before + delta;
+        this.counts[index] = after;
+        if (before == 0 && after != 0) {
+            this.nonZeroCount++;
+        } else if (before != 0 && after == 0) {
+            this.nonZeroCount--;
+        }
+    }
+    
+    /**
+     * Tells whether every number counted so far has a count of zero.
+     * @return True if all counts are zero or nothing has been counted, false 
+     * otherwise.
+     */
+    boolean allZero() {
+        return this.nonZeroCount == 0;
+    }
+    
+    /**
+     * Gives the numbers with nonzero counts. This is meant for reporting, so 
+     * it boxes the numbers and the counts.
+     * @return A map from each number with a nonzero count to its count. For 
+     * example, 47 to 2 and 1729 to &minus;1.
+     */
+    Map<Long, Integer> nonZeroCounts() {
+        Map<Long, Integer> map = new HashMap<>(2 * this.nonZeroCount);
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.occupied[i] && this.counts[i] != 0) {
+                map.put(this.keys[i], this.counts[i]);
+            }
+        }
+        return map;
+    }
+    
+    /**
+     * Sets up a table of counts, all of them zero.
+     * @param expectedKeys How many distinct numbers the table is expected to 
+     * count. For example, 1000. The table can count more than that, but it 
+     * will need to grow to do so. May be 0.
+     */
+    LongCounts(int expectedKeys) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < 2L * expectedKeys && capacity < (1 << 30)) {
+            capacity *= 2;
+        }
+        this.allocate(capacity);
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.testframe.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a test annotated with {@link Test} should be run several 
+ * times in a row, with the results rolled up into one. The test passes only if 
+ * it passes every time. The report gives how many times it passed, as well as 
+ * the shortest, the median and the 99th percentile of the times it took. So a 
+ * test that passes some of the time but not always is easy to spot, and so is 
+ * a test that has gotten slower than it used to be.
+ * <p>Each repetition gets the procedures annotated {@link BeforeEachTest} and 
+ * {@link AfterEachTest}, but only the test procedure itself is timed. If the 
+ * test has a time limit, the time limit applies to all the repetitions 
+ * together, warmup included. Note that this annotation has no effect on a 
+ * procedure that does not also have the <code>@Test</code> annotation.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Repeat {
+    
+    /**
+     * How many times to run the test and count the result. For example, 
+     * <code>@Repeat(100)</code> to run the test a hundred times.
+     * @return The number of repetitions. Should be at least 1, otherwise the 
+     * test runner reports the test as having caused an error.
+     */
+    int value();
+    
+    /**
+     * How many times to run the test before the repetitions that count, so as 
+     * to give the Java Virtual Machine a chance to load and compile what the 
+     * test needs. The results of the warmup runs are ignored, pass or fail. 
+     * For example, <code>@Repeat(value = 100, warmups = 10)</code>.
+     * @return The number of warmup runs. The default is 0. Should not be 
+     * negative, otherwise the test runner reports the test as having caused an 
+     * error.
+     */
+    int warmups() default 0;
+
+}
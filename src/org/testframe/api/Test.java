@@ -18,14 +18,28 @@ import java.lang.annotation.Target;
  * whole test class, in which case an individual test procedure doesn't need the 
  * annotation, unless it needs a timeout or expected exceptions attribute. I'm 
  * open to the idea of making this annotation assignable at the class level.</p>
- * <p>In this testing framework, this annotation doesn't have any attributes and 
- * I don't think those will be necessary. Use {@link Asserters#assertTimeout} or
- * {@link Asserters#assertThrows}.</p>
+ * <p>In this testing framework, this annotation has only one attribute, 
+ * {@link #timeout()}, since a test that hangs would otherwise hold up the whole 
+ * test run. For expected exceptions, use {@link Asserters#assertThrows}. For 
+ * timing a specific part of a test, use {@link Asserters#assertTimeout}.</p>
  * @since 1.0
  * @author Alonso del Arte
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Test {
-
+    
+    /**
+     * How long the test may take, in milliseconds. If the test takes longer, 
+     * the test runner reports it as timed out, interrupts it and moves on to 
+     * the next test. The time includes the procedures annotated {@link 
+     * BeforeEachTest} and {@link AfterEachTest}. For example, 
+     * <code>@Test(timeout = 500)</code> for half a second.
+     * @return The time limit in milliseconds. The default of 0 means the test 
+     * runner's default time limit applies, and if the test runner hasn't been 
+     * given one, there is no time limit.
+     * @since 1.1
+     */
+    long timeout() default 0L;
+    
 }
@@ -0,0 +1,171 @@
+package org.testframe.engine;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Holds the results of a benchmark: how many times per second the benchmark 
+ * procedure ran in each measurement iteration, or what went wrong if it 
+ * couldn't be run. See {@link org.testframe.api.Benchmark}.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class BenchmarkResult {
+    
+    // The 99.5th percentile of the standard normal distribution, for a 
+    // two-sided 99% confidence interval
+    private static final double Z_99 = 2.5758293035489;
+    
+    // Student's t quantiles for a two-sided 99% interval, for 1 to 30 degrees 
+    // of freedom, from a table
+    private static final double[] T_99 = {63.6567, 9.9248, 5.8409, 4.6041, 
+        4.0321, 3.7074, 3.4995, 3.3554, 3.2498, 3.1693, 3.1058, 3.0545, 3.0123, 
+        2.9768, 2.9467, 2.9208, 2.8982, 2.8784, 2.8609, 2.8453, 2.8314, 2.8188, 
+        2.8073, 2.7969, 2.7874, 2.7787, 2.7707, 2.7633, 2.7564, 2.7500};
+    
+    private final Method benchmarkProcedure;
+    
+    private final double[] iterationScores;
+    
+    private final Throwable problem;
+    
+    /**
+     * Gets the benchmark procedure the result is for.
+     * @return The benchmark procedure. For example, 
+     * <code>benchmarkReverse()</code>.
+     */
+    public Method getProcedure() {
+        return this.benchmarkProcedure;
+    }
+    
+    /**
+     * Tells whether the benchmark ran to the end.
+     * @return True if the benchmark procedure ran for all the iterations, 
+     * false if it threw something along the way.
+     */
+    public boolean isMeasured() {
+        return this.problem == null;
+    }
+    
+    /**
+     * Retrieves what the benchmark procedure threw.
+     * @return The error or exception that stopped the benchmark, or null if 
+     * the benchmark ran to the end.
+     */
+    public Throwable getInformation() {
+        return this.problem;
+    }
+    
+    /**
+     * Gives how many times per second the benchmark procedure ran in each 
+     * measurement iteration.
+     * @return The scores in operations per second, in the order the 
+     * iterations ran. For example, 1.21E7, 1.19E7, 1.22E7. Empty if the 
+     * benchmark didn't run to the end. The array is a copy, so changing it has 
+     * no effect on this result.
+     */
+    public double[] getScores() {
+        return this.iterationScores.clone();
+    }
+    
+    /**
+     * Gives the average of the scores.
+     * @return The mean number of operations per second. For example, 1.207E7. 
+     * Not a number if there are no scores.
+     */
+    public double getMean() {
+        int n = this.iterationScores.length;
+        if (n == 0) {
+            return Double.NaN;
+        }
+        double sum = 0.0;
+        for (double score : this.iterationScores) {
+            sum += score;
+        }
+        return sum / n;
+    }
+    
+    // Student's t quantile for a two-sided 99% interval, looked up in the 
+    // table for up to 30 degrees of freedom. Past that, the Cornish-Fisher 
+    // expansion is within a few parts per million, but it's way off for just 
+    // a few degrees of freedom, giving 28.5 instead of 63.7 for 1
+    static double criticalValue(int degreesOfFreedom) {
+        if (degreesOfFreedom <= T_99.length) {
+            return T_99[degreesOfFreedom - 1];
+        }
+        double df = degreesOfFreedom;
+        double z = Z_99;
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        double z7 = z5 * z * z;
+        return z + (z3 + z) / (4 * df) 
+                + (5 * z5 + 16 * z3 + 3 * z) / (96 * df * df) 
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384 * df * df * df);
+    }
+    
+    /**
+     * Gives the half-width of the 99% confidence interval for the mean, based 
+     * on Student's t distribution. The true mean is likely somewhere between 
+     * the mean minus this error and the mean plus this error.
+     * @return The error in operations per second. For example, 1.3E5. Not a 
+     * number if there are fewer than two scores.
+     */
+    public double getError() {
+        int n = this.iterationScores.length;
+        if (n < 2) {
+            return Double.NaN;
+        }
+        double mean = this.getMean();
+        double sumOfSquares = 0.0;
+        for (double score : this.iterationScores) {
+            double deviation = score - mean;
+            sumOfSquares += deviation * deviation;
+        }
+        double standardError = Math.sqrt(sumOfSquares / (n - 1) / n);
+        return criticalValue(n - 1) * standardError;
+    }
+    
+    /**
+     * Gives a one line summary suitable for a report.
+     * @return A summary. For example, "12070000.000 +/- 130000.000 ops/s 
+     * (10 iterations)", or "ERROR" followed by the message of what went wrong.
+     */
+    @Override
+    public String toString() {
+        if (this.problem != null) {
+            return "ERROR " + this.problem;
+        }
+        return String.format(Locale.ROOT, 
+                "%.3f +/- %.3f ops/s (%d iterations)", this.getMean(), 
+                this.getError(), this.iterationScores.length);
+    }
+    
+    /**
+     * Constructor for a benchmark that ran to the end.
+     * @param procedure The benchmark procedure. For example, 
+     * <code>benchmarkReverse()</code>.
+     * @param scores How many times per second the benchmark procedure ran in 
+     * each measurement iteration. For example, 1.21E7, 1.19E7, 1.22E7. The 
+     * array is copied.
+     */
+    public BenchmarkResult(Method procedure, double[] scores) {
+        this.benchmarkProcedure = procedure;
+        this.iterationScores = Arrays.copyOf(scores, scores.length);
+        this.problem = null;
+    }
+    
+    /**
+     * Constructor for a benchmark that couldn't be run to the end.
+     * @param procedure The benchmark procedure. For example, 
+     * <code>benchmarkReverse()</code>.
+     * @param information What the benchmark procedure threw. For example, an 
+     * <code>ArithmeticException</code> for division by zero.
+     */
+    public BenchmarkResult(Method procedure, Throwable information) {
+        this.benchmarkProcedure = procedure;
+        this.iterationScores = new double[0];
+        this.problem = information;
+    }
+    
+}
@@ -0,0 +1,355 @@
+package org.testframe.engine;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.testframe.api.Benchmark;
+import org.testframe.api.Blackhole;
+
+/**
+ * Runs the procedures of a class annotated {@link Benchmark}. The test runner 
+ * hands off to this class when given the "-bench" command line option, see 
+ * {@link TestRunner#main(String[])}.
+ * <p>Each measurement iteration invokes the benchmark procedure in batches, 
+ * checking the clock only between batches, so that reading the clock doesn't 
+ * get counted as part of the benchmark. The batches start with a single 
+ * invocation and double in size until each batch takes about a hundredth of 
+ * an iteration, which usually happens during warmup.</p>
+ * <p>Benchmarks can be run in fresh Java Virtual Machines, so that what one 
+ * benchmark class loads and compiles doesn't affect another. With more than 
+ * one fork, the scores of all the forks are pooled together, which gives a 
+ * truer picture of the variation from one run of the Java Virtual Machine to 
+ * the next. Unlike tests, benchmarks are never run at the same time as other 
+ * benchmarks, since they'd compete for processors.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public final class BenchmarkRunner {
+    
+    private static final MethodType BENCHMARK_TYPE 
+            = MethodType.methodType(void.class, Object.class, Blackhole.class);
+    
+    private static final int BATCHES_PER_ITERATION = 100;
+    
+    private final TestPlan plan;
+    
+    private final Object instance;
+    
+    static MethodHandle toHandle(Method procedure) 
+            throws IllegalAccessException {
+        Class<?>[] parameterTypes = procedure.getParameterTypes();
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(procedure);
+        if (Modifier.isStatic(procedure.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        if (parameterTypes.length == 0) {
+            handle = MethodHandles.dropArguments(handle, 1, Blackhole.class);
+        } else if (parameterTypes.length != 1 
+                || !parameterTypes[0].equals(Blackhole.class)) {
+            String excMsg = "Benchmark procedure " + procedure.getName() 
+                    + " should take no parameters or just a Blackhole";
+            throw new IllegalArgumentException(excMsg);
+        }
+        return handle.asType(BENCHMARK_TYPE);
+    }
+    
+    private void invokeAll(List<TestPlan.Step> steps) throws Throwable {
+        for (TestPlan.Step step : steps) {
+            step.invoke(this.instance);
+        }
+    }
+    
+    private BenchmarkResult measure(Method procedure) {
+        Benchmark settings = procedure.getAnnotation(Benchmark.class);
+        try {
+            MethodHandle handle = toHandle(procedure);
+            Blackhole blackhole = new Blackhole();
+            long iterationNanos 
+                    = TimeUnit.MILLISECONDS.toNanos(settings.iterationMillis());
+            long batchTarget = iterationNanos / BATCHES_PER_ITERATION;
+            long batchSize = 1L;
+            double[] scores = new double[Math.max(settings.iterations(), 0)];
+            for (int i = -settings.warmups(); i < scores.length; i++) {
+                this.invokeAll(this.plan.befores);
+                long count = 0L;
+                long start = System.nanoTime();
+                long now = start;
+                while (now - start < iterationNanos) {
+                    long batchStart = now;
+                    for (long j = 0; j < batchSize; j++) {
+                        handle.invokeExact(this.instance, blackhole);
+                    }
+                    count += batchSize;
+                    now = System.nanoTime();
+                    if (now - batchStart < batchTarget) {
+                        batchSize *= 2;
+                    }
+                }
+                this.invokeAll(this.plan.afters);
+                if (i >= 0) {
+                    scores[i] = count * 1.0E9 / (now - start);
+                }
+            }
+            return new BenchmarkResult(procedure, scores);
+        } catch (Throwable t) {
+            return new BenchmarkResult(procedure, t);
+        }
+    }
+    
+    /**
+     * Runs the benchmarks of a class in this Java Virtual Machine, one after 
+     * the other.
+     * @param className The name of the class, fully qualified. For example, 
+     * <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @return The results, one for each procedure annotated {@link 
+     * Benchmark}. Empty if there are none.
+     * @throws RuntimeException If the class can't be found or instantiated, 
+     * or one of its procedures annotated {@link 
+     * org.testframe.api.BeforeAllTests} or {@link 
+     * org.testframe.api.AfterAllTests} throws something.
+     */
+    public static List<BenchmarkResult> run(String className) {
+        try {
+            Class<?> type = Class.forName(className, true, 
+                    ClassLoader.getSystemClassLoader());
+            TestPlan plan = TestPlan.of(type);
+            BenchmarkRunner runner = new BenchmarkRunner(plan, 
+                    plan.newInstance());
+            List<BenchmarkResult> results = new ArrayList<>();
+            runner.invokeAll(plan.setUps);
+            for (Method procedure : plan.benchmarks) {
+                results.add(runner.measure(procedure));
+            }
+            runner.invokeAll(plan.tearDowns);
+            return results;
+        } catch (Throwable t) {
+            String excMsg = "Unable to run benchmarks of " + className 
+                    + " due to " + t.getClass().getName();
+            throw new RuntimeException(excMsg, t);
+        }
+    }
+    
+    private static String toLine(BenchmarkResult result) {
+        StringBuilder line = new StringBuilder(result.getProcedure().getName());
+        if (result.isMeasured()) {
+            for (double score : result.getScores()) {
+                line.append('\t').append(score);
+            }
+        } else {
+            Throwable problem = result.getInformation();
+            line.append("\t!").append(problem.getClass().getName());
+            if (problem.getMessage() != null) {
+                line.append('\t').append(problem.getMessage()
+                        .replace('\t', ' ').replace('\n', ' '));
+            }
+        }
+        return line.toString();
+    }
+    
+    private static List<BenchmarkResult> runForked(String className, 
+            int forks) throws IOException, ReflectiveOperationException {
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        TestPlan plan = TestPlan.of(Class.forName(className, false, loader));
+        Map<String, List<Double>> scores = new LinkedHashMap<>();
+        Map<String, Throwable> problems = new LinkedHashMap<>();
+        String javaCommand = Paths.get(System.getProperty("java.home"), "bin", 
+                "java").toString();
+        for (int fork = 0; fork < forks; fork++) {
+            ProcessBuilder builder = new ProcessBuilder(javaCommand, "-cp", 
+                    System.getProperty("java.class.path"), 
+                    BenchmarkRunner.class.getName(), className, "-raw");
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            Process process = builder.start();
+            Set<String> reported = new HashSet<>();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), 
+                            StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                while (line != null) {
+                    String[] fields = line.split("\t");
+                    reported.add(fields[0]);
+                    if (fields.length > 1 && fields[1].startsWith("!")) {
+                        problems.putIfAbsent(fields[0], 
+                                ForkedWorker.recreate(fields[1].substring(1), 
+                                        fields.length > 2 ? fields[2] : null, 
+                                        loader));
+                    } else {
+                        List<Double> list = scores.computeIfAbsent(fields[0], 
+                                name -> new ArrayList<>());
+                        for (int i = 1; i < fields.length; i++) {
+                            list.add(Double.valueOf(fields[i]));
+                        }
+                    }
+                    line = reader.readLine();
+                }
+            }
+            int status;
+            try {
+                status = process.waitFor();
+            } catch (InterruptedException ie) {
+                process.destroy();
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting for fork", ie);
+            }
+            // A fork that crashed or exited early would otherwise just leave 
+            // fewer iterations in the pool
+            for (Method procedure : plan.benchmarks) {
+                String name = procedure.getName();
+                if (!reported.contains(name)) {
+                    String excMsg = "Fork " + (fork + 1) + " exited with " 
+                            + "status " + status + " before reporting " + name;
+                    problems.putIfAbsent(name, 
+                            new IllegalStateException(excMsg));
+                }
+            }
+        }
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (Method procedure : plan.benchmarks) {
+            String name = procedure.getName();
+            if (problems.containsKey(name)) {
+                results.add(new BenchmarkResult(procedure, problems.get(name)));
+            } else if (scores.containsKey(name)) {
+                double[] pooled = scores.get(name).stream()
+                        .mapToDouble(Double::doubleValue).toArray();
+                results.add(new BenchmarkResult(procedure, pooled));
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * Runs the benchmarks of several classes, one class at a time, and 
+     * reports the results.
+     * @param classNames The names of the classes, fully qualified. For 
+     * example, <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param forks How many fresh Java Virtual Machines to run the benchmarks 
+     * of each class in, one after the other. For example, 2. If 0, the 
+     * benchmarks are run in this Java Virtual Machine.
+     * @param output Where to write the report. For example, 
+     * <code>System.out</code>.
+     */
+    static void report(List<String> classNames, int forks, PrintStream output) {
+        report(classNames, forks, output, null);
+    }
+    
+    /**
+     * Runs the benchmarks of several classes, one class at a time, and 
+     * reports the results, flagging the benchmarks that have gotten slower 
+     * than they used to be.
+     * @param classNames The names of the classes, fully qualified. For 
+     * example, <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param forks How many fresh Java Virtual Machines to run the benchmarks 
+     * of each class in, one after the other. For example, 2. If 0, the 
+     * benchmarks are run in this Java Virtual Machine.
+     * @param output Where to write the report. For example, 
+     * <code>System.out</code>.
+     * @param gate The gate to judge the scores with. Its baseline is saved 
+     * once all the benchmarks have run. May be null, in which case the scores 
+     * are reported without being judged.
+     */
+    static void report(List<String> classNames, int forks, PrintStream output, 
+            RegressionGate gate) {
+        String title = classNames.size() == 1 ? classNames.get(0) 
+                : classNames.size() + " classes";
+        output.println();
+        output.println("Benchmark results for " + title);
+        for (String className : classNames) {
+            List<BenchmarkResult> results;
+            try {
+                results = forks > 0 ? runForked(className, forks) 
+                        : run(className);
+            } catch (IOException | ReflectiveOperationException 
+                    | RuntimeException e) {
+                output.println("Unable to run benchmarks of " + className 
+                        + " due to " + e);
+                continue;
+            }
+            String prefix = classNames.size() == 1 ? "" : className + ".";
+            for (BenchmarkResult result : results) {
+                String regression = gate == null ? null : gate.check(result);
+                output.println(prefix + result.getProcedure().getName() + ": " 
+                        + result + (regression == null ? "" 
+                                : " REGRESSED " + regression));
+            }
+        }
+        if (gate != null) {
+            gate.saveOrComplain();
+        }
+        output.flush();
+    }
+    
+    /**
+     * Runs the benchmarks of one or more classes specified on the command 
+     * line and reports the results. This is what the test runner does when 
+     * given the "-bench" option, and that's the more convenient way to run 
+     * benchmarks.
+     * @param args The fully qualified names of the classes, then the command 
+     * line options. For example, 
+     * "org.example.demo.textops.PalindromeCheckerTest". The following options 
+     * are supported:
+     * <ul>
+     * <li>"-fork=" followed by a positive integer, e.g., "-fork=3", runs the 
+     * benchmarks of each class in that many fresh Java Virtual Machines, one 
+     * after the other.</li>
+     * <li>"-raw" writes the scores of each benchmark as a line of 
+     * tab-separated values instead of a report, which is how forks pass their 
+     * scores back. Anything the benchmarks themselves print to 
+     * <code>System.out</code> goes to <code>System.err</code> instead, so 
+     * that it can't get mixed in with the scores.</li> 
+     * </ul>
+     */
+    public static void main(String[] args) {
+        List<String> classNames = new ArrayList<>();
+        int forks = 0;
+        boolean raw = false;
+        for (String arg : args) {
+            if (arg.startsWith("-fork=")) {
+                forks = TestRunnerOptions.parsePositive(arg, 
+                        "number of forks");
+            } else if (arg.equals("-raw")) {
+                raw = true;
+            } else if (arg.startsWith("-")) {
+                System.err.println("Ignoring unrecognized option " + arg);
+            } else {
+                classNames.add(arg);
+            }
+        }
+        if (!raw) {
+            report(classNames, forks, System.out);
+            return;
+        }
+        PrintStream data = System.out;
+        System.setOut(new PrintStream(new FileOutputStream(FileDescriptor.err), 
+                true));
+        for (String className : classNames) {
+            for (BenchmarkResult result : run(className)) {
+                data.println(toLine(result));
+            }
+        }
+        data.flush();
+    }
+    
+    private BenchmarkRunner(TestPlan plan, Object instance) {
+        this.plan = plan;
+        this.instance = instance;
+    }
+    
+}
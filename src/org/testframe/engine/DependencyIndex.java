@@ -0,0 +1,204 @@
+package org.testframe.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which classes each test class loaded the last time it ran, along 
+ * with the hashes of their class files, and likewise which other resources it 
+ * read through its class loader. That way, if none of those files have 
+ * changed since, there is no need to run the test class again.
+ * <p>The index is kept in a small binary file. The file starts with a magic 
+ * number and a format version, followed by the number of test classes. For 
+ * each test class there is its name, the number of classes it loaded, and 
+ * then the name and hash of each of those classes. If the file is missing or 
+ * can't be read, the index starts out empty and every test class is 
+ * considered changed.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class DependencyIndex {
+    
+    /**
+     * The default location of the index file, relative to the working 
+     * directory.
+     */
+    static final Path DEFAULT_PATH = Paths.get(".testframe", 
+            "dependencies.idx");
+    
+    private static final int MAGIC = 0x54464458;
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private final Path indexPath;
+    
+    private final Map<String, Map<String, Long>> dependencies 
+            = new ConcurrentHashMap<>();
+    
+    /**
+     * Tells whether a test class needs to run again. 
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     * @param loader The class loader to read the current class files through. 
+     * For example, the system class loader.
+     * @return True if the test class is not in the index, or if any of the 
+     * classes it loaded last time has a class file with a different hash now, 
+     * or can't be found anymore. False only if all those class files are the 
+     * same as they were.
+     */
+    boolean hasChanged(String testClassName, ClassLoader loader) {
+        Map<String, Long> hashes = this.dependencies.get(testClassName);
+        if (hashes == null || hashes.isEmpty()) {
+            return true;
+        }
+        for (Map.Entry<String, Long> entry : hashes.entrySet()) {
+            Long current = DependencyRecordingClassLoader
+                    .hashDependency(loader, entry.getKey());
+            if (!entry.getValue().equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Picks out the test classes that need to run again.
+     * @param testClassNames The names of the test classes to choose from. For 
+     * example, "org.example.AnagramCheckerTest" and 
+     * "org.example.HelloWorldTest".
+     * @param loader The class loader to read the current class files through. 
+     * For example, the system class loader.
+     * @return The names of the test classes that have changed according to 
+     * {@link #hasChanged(String, ClassLoader)}, in the same order as in 
+     * <code>testClassNames</code>.
+     */
+    List<String> selectChanged(List<String> testClassNames, 
+            ClassLoader loader) {
+        List<String> changed = new ArrayList<>();
+        for (String testClassName : testClassNames) {
+            if (this.hasChanged(testClassName, loader)) {
+                changed.add(testClassName);
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Records the classes a test class loaded during its latest run, replacing 
+     * whatever was recorded for it before.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     * @param classHashes The classes loaded, with the hashes of their class 
+     * files. Should include the test class itself.
+     */
+    void record(String testClassName, Map<String, Long> classHashes) {
+        this.dependencies.put(testClassName, new HashMap<>(classHashes));
+    }
+    
+    /**
+     * Removes whatever was recorded for a test class, so that it will be 
+     * considered changed the next time. This is for test classes that did not 
+     * pass, since those should run again even if nothing has changed.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     */
+    void forget(String testClassName) {
+        this.dependencies.remove(testClassName);
+    }
+    
+    /**
+     * Gives the classes recorded for a test class.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     * @return The classes loaded, with the hashes of their class files. Empty 
+     * if nothing has been recorded for the test class.
+     */
+    Map<String, Long> getDependencies(String testClassName) {
+        return this.dependencies.getOrDefault(testClassName, Map.of());
+    }
+    
+    /**
+     * Writes the index to its file, creating the directory if necessary.
+     * @throws IOException If the file can't be written.
+     */
+    void save() throws IOException {
+        Path parent = this.indexPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(
+                        this.indexPath)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(this.dependencies.size());
+            for (Map.Entry<String, Map<String, Long>> entry 
+                    : this.dependencies.entrySet()) {
+                out.writeUTF(entry.getKey());
+                Map<String, Long> hashes = entry.getValue();
+                out.writeInt(hashes.size());
+                for (Map.Entry<String, Long> hash : hashes.entrySet()) {
+                    out.writeUTF(hash.getKey());
+                    out.writeLong(hash.getValue());
+                }
+            }
+        }
+    }
+    
+    private void read() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(this.indexPath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return;
+            }
+            int testClassCount = in.readInt();
+            for (int i = 0; i < testClassCount; i++) {
+                String testClassName = in.readUTF();
+                int count = in.readInt();
+                Map<String, Long> hashes = new HashMap<>(count * 2);
+                for (int j = 0; j < count; j++) {
+                    String className = in.readUTF();
+                    hashes.put(className, in.readLong());
+                }
+                this.dependencies.put(testClassName, hashes);
+            }
+        }
+    }
+    
+    /**
+     * Loads an index from a file. If the file doesn't exist or is not a valid 
+     * index file, the index starts out empty.
+     * @param path The location of the index file. For example, {@link 
+     * #DEFAULT_PATH}.
+     * @return The index. Never null.
+     */
+    static DependencyIndex load(Path path) {
+        DependencyIndex index = new DependencyIndex(path);
+        if (Files.isRegularFile(path)) {
+            try {
+                index.read();
+            } catch (IOException ioe) {
+                System.err.println("Unable to read dependency index " + path 
+                        + ", all test classes will run");
+                index.dependencies.clear();
+            }
+        }
+        return index;
+    }
+    
+    private DependencyIndex(Path path) {
+        this.indexPath = path;
+    }
+    
+}
@@ -0,0 +1,235 @@
+package org.testframe.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a test class and the classes it uses, and keeps track of which classes 
+ * those were, with a hash of each class file. Unlike most class loaders, this 
+ * one tries to load a class itself before asking its parent, since otherwise 
+ * the parent would load almost everything and there would be nothing to keep 
+ * track of.
+ * <p>The exceptions are the classes of the Java Development Kit, the classes 
+ * of this engine package, and the annotations of the API package. Those are 
+ * always left to the parent, because the test runner needs to recognize the 
+ * annotations on the test classes as the same annotations it looks for.</p>
+ * <p>Other resources found through this class loader, such as test fixtures 
+ * and properties files, are kept track of too, with a hash of each. They're 
+ * told apart from classes by a leading {@value #RESOURCE_PREFIX}, which a 
+ * class name can't start with. Files opened by path rather than as resources 
+ * are not kept track of.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class DependencyRecordingClassLoader extends URLClassLoader {
+    
+    static {
+        registerAsParallelCapable();
+    }
+    
+    private static final String ENGINE_PACKAGE_PREFIX 
+            = TestRunner.class.getPackageName() + ".";
+    
+    private static final String API_PACKAGE_PREFIX 
+            = org.testframe.api.Test.class.getPackageName() + ".";
+    
+    /**
+     * Comes before the name of a resource other than a class file among the 
+     * names of what was loaded.
+     */
+    static final String RESOURCE_PREFIX = "/";
+    
+    private final Map<String, Long> loadedClassHashes = new HashMap<>();
+    
+    /**
+     * Computes a hash of the contents of a class file. The hash is the first 
+     * 64 bits of the SHA-256 digest, which is plenty to tell whether or not a 
+     * class file has changed.
+     * @param bytes The contents of the class file.
+     * @return The hash. For example, 0x3A7F19C2B4E5D608.
+     */
+    static long hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            long hash = 0L;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new RuntimeException("SHA-256 should be available", nsae);
+        }
+    }
+    
+    /**
+     * Reads a class file from a class loader's resources and hashes it.
+     * @param loader The class loader to read the class file through. For 
+     * example, the system class loader.
+     * @param className The binary name of the class. For example, 
+     * "org.example.HelloWorld".
+     * @return The hash of the class file, or null if the class file can't be 
+     * found.
+     */
+    static Long hashClassFile(ClassLoader loader, String className) {
+        return hashResource(loader, className.replace('.', '/') + ".class");
+    }
+    
+    private static Long hashResource(ClassLoader loader, String resourceName) {
+        try (InputStream stream = loader.getResourceAsStream(resourceName)) {
+            if (stream == null) {
+                return null;
+            }
+            return hash(stream.readAllBytes());
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+    
+    /**
+     * Reads a class file or other resource from a class loader's resources 
+     * and hashes it.
+     * @param loader The class loader to read the resource through. For 
+     * example, the system class loader.
+     * @param name The binary name of a class, or {@value #RESOURCE_PREFIX} 
+     * followed by the name of some other resource, as given by {@link 
+     * #getLoadedClassHashes()}. For example, "org.example.HelloWorld" or 
+     * "/org/example/greetings.properties".
+     * @return The hash of the class file or resource, or null if it can't be 
+     * found.
+     */
+    static Long hashDependency(ClassLoader loader, String name) {
+        if (name.startsWith(RESOURCE_PREFIX)) {
+            return hashResource(loader, 
+                    name.substring(RESOURCE_PREFIX.length()));
+        }
+        return hashClassFile(loader, name);
+    }
+    
+    private boolean sharedWithParent(String name) throws ClassNotFoundException {
+        if (name.startsWith("java.") || name.startsWith("javax.") 
+                || name.startsWith("jdk.") || name.startsWith("sun.") 
+                || name.startsWith("com.sun.") 
+                || name.startsWith(ENGINE_PACKAGE_PREFIX)) {
+            return true;
+        }
+        return name.startsWith(API_PACKAGE_PREFIX) 
+                && this.getParent().loadClass(name).isAnnotation();
+    }
+    
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        String resourceName = name.replace('.', '/') + ".class";
+        URL url = this.findResource(resourceName);
+        if (url == null) {
+            throw new ClassNotFoundException(name);
+        }
+        try (InputStream stream = url.openStream()) {
+            byte[] bytes = stream.readAllBytes();
+            synchronized (this.loadedClassHashes) {
+                this.loadedClassHashes.put(name, hash(bytes));
+            }
+            return this.defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException ioe) {
+            throw new ClassNotFoundException(name, ioe);
+        }
+    }
+    
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) 
+            throws ClassNotFoundException {
+        synchronized (this.getClassLoadingLock(name)) {
+            Class<?> type = this.findLoadedClass(name);
+            if (type == null) {
+                if (this.sharedWithParent(name)) {
+                    type = this.getParent().loadClass(name);
+                } else {
+                    try {
+                        type = this.findClass(name);
+                    } catch (ClassNotFoundException cnfe) {
+                        type = this.getParent().loadClass(name);
+                    }
+                }
+            }
+            if (resolve) {
+                this.resolveClass(type);
+            }
+            return type;
+        }
+    }
+    
+    // Class files are left out here, since findClass() keeps track of those
+    @Override
+    public URL getResource(String name) {
+        URL url = super.getResource(name);
+        if (url != null && !name.endsWith(".class")) {
+            try (InputStream stream = url.openStream()) {
+                long hash = hash(stream.readAllBytes());
+                synchronized (this.loadedClassHashes) {
+                    this.loadedClassHashes.put(RESOURCE_PREFIX + name, hash);
+                }
+            } catch (IOException ioe) {
+                // Whoever asked for the resource will find out soon enough
+            }
+        }
+        return url;
+    }
+    
+    /**
+     * Gives the classes this class loader has loaded so far, with the hashes 
+     * of their class files, and the other resources found through it, with 
+     * the hashes of their contents.
+     * @return A map from binary class names, or from {@value 
+     * #RESOURCE_PREFIX} followed by resource names, to hashes. For example, 
+     * "org.example.HelloWorldTest" to 0x3A7F19C2B4E5D608, 
+     * "org.example.HelloWorld" to 0x0C1D2E3F40516273 and 
+     * "/org/example/greetings.properties" to 0x71A2B3C4D5E6F708.
+     */
+    Map<String, Long> getLoadedClassHashes() {
+        synchronized (this.loadedClassHashes) {
+            return Collections.unmodifiableMap(new HashMap<>(this
+                    .loadedClassHashes));
+        }
+    }
+    
+    private static URL[] toURLs(String classPath) {
+        List<URL> urls = new ArrayList<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                try {
+                    urls.add(Paths.get(entry).toAbsolutePath().toUri()
+                            .toURL());
+                } catch (MalformedURLException murle) {
+                    throw new IllegalArgumentException(murle);
+                }
+            }
+        }
+        return urls.toArray(new URL[0]);
+    }
+    
+    /**
+     * Sole constructor.
+     * @param classPath The directories and JAR files to load classes from, 
+     * separated by the platform's path separator. For example, 
+     * "build/test:build/main".
+     * @param parent The class loader to defer to for the classes this class 
+     * loader doesn't load itself. Ought to be a class loader that can load 
+     * this engine package, such as the system class loader.
+     */
+    DependencyRecordingClassLoader(String classPath, ClassLoader parent) {
+        super(toURLs(classPath), parent);
+    }
+    
+}
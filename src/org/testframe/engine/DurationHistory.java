@@ -0,0 +1,319 @@
+package org.testframe.engine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers how long tests took in earlier runs. The test runner uses this to 
+ * start the test classes expected to take longest first when running test 
+ * classes in parallel. If a long test class is started last, the other 
+ * threads sit idle waiting for it to finish, whereas if it's started first, 
+ * the shorter test classes can fill in around it.
+ * <p>The history is kept in a text file with one line per test per run. Each 
+ * line has the test class name, the test procedure name, the wall time in 
+ * nanoseconds and the processor time in nanoseconds, separated by tabs. New 
+ * lines are appended at the end of each run. When the history is loaded, the 
+ * durations of each test are averaged with a bias towards more recent runs, 
+ * and if the file has grown to many times the number of distinct tests, it's 
+ * rewritten with one line per test.</p>
+ * <p>As a {@link TestListener}, the history appends the duration of each test 
+ * as it finishes.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class DurationHistory implements TestListener {
+    
+    /**
+     * The default location of the history file, relative to the working 
+     * directory.
+     */
+    static final Path DEFAULT_PATH = Paths.get(".testframe", "durations.tsv");
+    
+    private static final int COMPACTION_FACTOR = 4;
+    
+    private static final int COMPACTION_MINIMUM_LINES = 1024;
+    
+    private static final char SEPARATOR = '\t';
+    
+    private final Path historyPath;
+    
+    private final Map<String, Map<String, long[]>> durations = new HashMap<>();
+    
+    private BufferedWriter writer = null;
+    
+    private void add(String className, String methodName, long wallTime, 
+            long cpuTime) {
+        Map<String, long[]> tests = this.durations.computeIfAbsent(className, 
+                key -> new HashMap<>());
+        long[] previous = tests.get(methodName);
+        if (previous == null) {
+            tests.put(methodName, new long[] {wallTime, cpuTime});
+        } else {
+            previous[0] = (previous[0] + wallTime) / 2;
+            previous[1] = (previous[1] + cpuTime) / 2;
+        }
+    }
+    
+    /**
+     * Gives the expected wall time of a test.
+     * @param className The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     * @param methodName The name of the test procedure. For example, 
+     * "testGreeting".
+     * @return The expected wall time in nanoseconds, or &minus;1 if there is 
+     * no history for the test.
+     */
+    long estimate(String className, String methodName) {
+        Map<String, long[]> tests = this.durations.get(className);
+        if (tests == null || !tests.containsKey(methodName)) {
+            return -1L;
+        }
+        return tests.get(methodName)[0];
+    }
+    
+    /**
+     * Gives the expected wall time of a whole test class.
+     * @param className The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     * @return The sum of the expected wall times of the tests in the test 
+     * class, in nanoseconds, or &minus;1 if there is no history for the test 
+     * class.
+     */
+    long estimate(String className) {
+        Map<String, long[]> tests = this.durations.get(className);
+        if (tests == null) {
+            return -1L;
+        }
+        long total = 0L;
+        for (long[] times : tests.values()) {
+            total += times[0];
+        }
+        return total;
+    }
+    
+    /**
+     * Orders test classes so that the ones expected to take longest come 
+     * first. Test classes with no history come before all others, since they 
+     * could take any amount of time.
+     * @param classNames The names of the test classes. For example, 
+     * "org.example.AnagramCheckerTest", "org.example.HelloWorldTest".
+     * @return The positions in <code>classNames</code> of the test classes, 
+     * longest first. For example, 1, 0 if HelloWorldTest is expected to take 
+     * longer than AnagramCheckerTest.
+     */
+    List<Integer> longestFirst(List<String> classNames) {
+        int size = classNames.size();
+        long[] estimates = new long[size];
+        List<Integer> order = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long estimate = this.estimate(classNames.get(i));
+            estimates[i] = estimate < 0 ? Long.MAX_VALUE : estimate;
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong((Integer i) -> estimates[i])
+                .reversed());
+        return order;
+    }
+    
+    private void open() throws IOException {
+        Path parent = this.historyPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(this.historyPath, 
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, 
+                StandardOpenOption.APPEND);
+    }
+    
+    // A result replayed from the cache has the duration of an earlier run, 
+    // which is in the history already
+    private void write(TestResult result) throws IOException {
+        if (result.isCached()) {
+            return;
+        }
+        long wallTime = result.getWallTime();
+        if (result.getStatus() != TestResultStatus.SKIPPED && wallTime > 0) {
+            Method procedure = result.getProcedure();
+            String className = procedure.getDeclaringClass().getName();
+            String methodName = procedure.getName();
+            long cpuTime = result.getCPUTime();
+            this.writer.write(className + SEPARATOR + methodName + SEPARATOR 
+                    + wallTime + SEPARATOR + cpuTime);
+            this.writer.newLine();
+            this.add(className, methodName, wallTime, cpuTime);
+        }
+    }
+    
+    private void close() throws IOException {
+        try {
+            this.writer.close();
+        } finally {
+            this.writer = null;
+        }
+    }
+    
+    private void giveUp(IOException ioe) {
+        System.err.println("Unable to save duration history: " 
+                + ioe.getMessage());
+        if (this.writer != null) {
+            try {
+                this.close();
+            } catch (IOException e) {
+                // Already reported the first problem, that's enough
+            }
+        }
+    }
+    
+    /**
+     * Opens the history file for appending. If the file can't be opened, 
+     * that's reported to <code>System.err</code> and the durations of this 
+     * run are not saved.
+     */
+    @Override
+    public void onRunStarted() {
+        try {
+            this.open();
+        } catch (IOException ioe) {
+            this.giveUp(ioe);
+        }
+    }
+    
+    /**
+     * Appends the duration of a test that ran to the history file, and takes 
+     * it into account for later estimates. Skipped tests, results replayed 
+     * from the cache and results without timing information are left out.
+     * @param result The test result. For example, that 
+     * <code>testGreeting()</code> passed after 1.25 milliseconds.
+     */
+    @Override
+    public void onTestFinished(TestResult result) {
+        if (this.writer != null) {
+            try {
+                this.write(result);
+            } catch (IOException ioe) {
+                this.giveUp(ioe);
+            }
+        }
+    }
+    
+    /**
+     * Closes the history file.
+     */
+    @Override
+    public void onRunFinished() {
+        if (this.writer != null) {
+            try {
+                this.close();
+            } catch (IOException ioe) {
+                this.giveUp(ioe);
+            }
+        }
+    }
+    
+    /**
+     * Appends the durations of the tests that ran to the history file, and 
+     * takes them into account for later estimates. Skipped tests, results 
+     * replayed from the cache and results without timing information are left 
+     * out.
+     * @param results The test results. For example, the results of running 
+     * HelloWorldTest.
+     * @throws IOException If the history file can't be written.
+     */
+    void append(List<TestResult> results) throws IOException {
+        this.open();
+        try {
+            for (TestResult result : results) {
+                this.write(result);
+            }
+        } finally {
+            this.close();
+        }
+    }
+    
+    private void compact() throws IOException {
+        Path temp = this.historyPath.resolveSibling(this.historyPath
+                .getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, 
+                StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Map<String, long[]>> entry 
+                    : this.durations.entrySet()) {
+                for (Map.Entry<String, long[]> test 
+                        : entry.getValue().entrySet()) {
+                    long[] times = test.getValue();
+                    writer.write(entry.getKey() + SEPARATOR + test.getKey() 
+                            + SEPARATOR + times[0] + SEPARATOR + times[1]);
+                    writer.newLine();
+                }
+            }
+        }
+        Files.move(temp, this.historyPath, 
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    private void read() throws IOException {
+        int lineCount = 0;
+        int testCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(this.historyPath, 
+                StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String[] fields = line.split(String.valueOf(SEPARATOR));
+                if (fields.length == 4) {
+                    try {
+                        if (this.estimate(fields[0], fields[1]) < 0) {
+                            testCount++;
+                        }
+                        this.add(fields[0], fields[1], 
+                                Long.parseLong(fields[2]), 
+                                Long.parseLong(fields[3]));
+                        lineCount++;
+                    } catch (NumberFormatException nfe) {
+                        // Quietly pass over a garbled line
+                    }
+                }
+                line = reader.readLine();
+            }
+        }
+        if (lineCount > COMPACTION_MINIMUM_LINES 
+                && lineCount > COMPACTION_FACTOR * testCount) {
+            this.compact();
+        }
+    }
+    
+    /**
+     * Loads the history from a file. If the file doesn't exist yet, the 
+     * history starts out empty.
+     * @param path The location of the history file. For example, {@link 
+     * #DEFAULT_PATH}.
+     * @return The history. Never null.
+     */
+    static DurationHistory load(Path path) {
+        DurationHistory history = new DurationHistory(path);
+        if (Files.isRegularFile(path)) {
+            try {
+                history.read();
+            } catch (IOException ioe) {
+                System.err.println("Unable to read duration history " + path);
+            }
+        }
+        return history;
+    }
+    
+    private DurationHistory(Path path) {
+        this.historyPath = path;
+    }
+    
+}
@@ -0,0 +1,91 @@
+package org.testframe.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps count of how many more tests may fail before the test runner stops 
+ * starting new tests. This is for when a broken build makes thousands of tests 
+ * fail, and it would be better to find out about it in seconds rather than 
+ * wait for every last test to fail. Tests that fail, cause an error or time 
+ * out all count against the budget. Once the budget is used up, the tests that 
+ * haven't started yet are reported as {@link TestResultStatus#NOT_RUN}, in all 
+ * test classes, including those running at the same time on other threads. 
+ * Tests that have already started are allowed to finish.
+ * <p>The budget is told about test results as a {@link TestListener}, so it 
+ * needs to be among the listeners the test runner is given.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class FailureBudget implements TestListener {
+    
+    private final AtomicInteger remaining;
+    
+    /**
+     * Tells whether the budget has been used up.
+     * @return True if as many tests have failed as the budget allows, false 
+     * otherwise.
+     */
+    boolean isExhausted() {
+        return this.remaining.get() <= 0;
+    }
+    
+    /**
+     * Tells how many more tests may fail before the budget is used up.
+     * @return How many more tests may fail. For example, 2 if the budget was 
+     * 5 and 3 tests have failed. Never negative, even if more tests have 
+     * failed than the budget allows.
+     */
+    int getRemaining() {
+        return Math.max(this.remaining.get(), 0);
+    }
+    
+    /**
+     * Makes a budget with the given number of failures left. This is for 
+     * passing what's left of a budget on to a worker process.
+     * @param remaining How many more tests may fail. For example, 2. May be 
+     * 0, in which case the budget is used up from the start.
+     * @return A new budget. Never null.
+     */
+    static FailureBudget withRemaining(int remaining) {
+        FailureBudget budget = new FailureBudget(1);
+        budget.remaining.set(remaining);
+        return budget;
+    }
+    
+    /**
+     * Counts a test result against the budget if the test failed, caused an 
+     * error or timed out.
+     * @param result The test result. For example, that 
+     * <code>testNoDivisionByZero()</code> failed.
+     */
+    @Override
+    public void onTestFinished(TestResult result) {
+        switch (result.getStatus()) {
+            case FAILED:
+            case ERROR:
+            case TIMED_OUT:
+                this.remaining.decrementAndGet();
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Sole constructor.
+     * @param maxFailures How many tests may fail before the test runner stops 
+     * starting new tests. For example, 1 to stop at the first failure. Should 
+     * be at least 1.
+     * @throws IllegalArgumentException If <code>maxFailures</code> is 0 or 
+     * negative.
+     */
+    FailureBudget(int maxFailures) {
+        if (maxFailures < 1) {
+            String excMsg = "Failure budget " + maxFailures 
+                    + " should be at least 1";
+            throw new IllegalArgumentException(excMsg);
+        }
+        this.remaining = new AtomicInteger(maxFailures);
+    }
+    
+}
@@ -0,0 +1,386 @@
+package org.testframe.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs test classes in a separate Java Virtual Machine on behalf of a {@link 
+ * WorkerPool}. The worker reads commands from its standard input and writes 
+ * results to its standard output, both in a compact binary format. Anything 
+ * the tests themselves print to <code>System.out</code> goes to 
+ * <code>System.err</code> instead, so that it can't get mixed in with the 
+ * results.
+ * <p>Each command is a byte, {@link #RUN} followed by a test class name in 
+ * modified UTF-8 and an <code>int</code> with what's left of the failure 
+ * budget, or {@link #STOP}. The worker stops starting tests of the test class 
+ * once that many of them fail, and reports the rest as {@link 
+ * TestResultStatus#NOT_RUN}. If what's left of the budget is 0, none of the 
+ * tests are run, and if it's {@link #NO_BUDGET}, there's no failure budget. 
+ * For each test of the test class, the 
+ * worker answers {@link #RESULT} followed by the result, as written by {@link 
+ * #writeResult(DataOutputStream, TestResult)}, as soon as the test finishes 
+ * rather than when the whole test class is done. If the test class can't be 
+ * run to the end, for example because a {@link 
+ * org.testframe.api.BeforeAllTests} procedure throws an exception, the tests 
+ * not yet answered for are answered as {@link TestResultStatus#ERROR}. After 
+ * the last test, the worker answers {@link #END} followed by how many bytes of 
+ * heap are in use, as a <code>long</code>.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+final class ForkedWorker {
+    
+    static final byte STOP = 0;
+    
+    static final byte RUN = 1;
+    
+    static final byte RESULT = 2;
+    
+    static final byte END = 3;
+    
+    static final int NO_BUDGET = -1;
+    
+    private static final int MAX_CAUSES = 16;
+    
+    private static void writeNullable(DataOutputStream out, String s) 
+            throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) {
+            out.writeUTF(s);
+        }
+    }
+    
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+    
+    // A modified UTF-8 string can't take more than 65535 bytes
+    private static String clip(String s) {
+        if (s != null && s.length() > 16384) {
+            return s.substring(0, 16384) + "...";
+        }
+        return s;
+    }
+    
+    private static void writeThrowable(DataOutputStream out, 
+            Throwable throwable, int depth) throws IOException {
+        out.writeUTF(throwable.getClass().getName());
+        writeNullable(out, clip(throwable.getMessage()));
+        StackTraceElement[] trace = throwable.getStackTrace();
+        out.writeInt(trace.length);
+        for (StackTraceElement element : trace) {
+            writeNullable(out, element.getClassLoaderName());
+            writeNullable(out, element.getModuleName());
+            writeNullable(out, element.getModuleVersion());
+            out.writeUTF(element.getClassName());
+            out.writeUTF(element.getMethodName());
+            writeNullable(out, element.getFileName());
+            out.writeInt(element.getLineNumber());
+        }
+        Throwable cause = throwable.getCause();
+        boolean hasCause = cause != null && cause != throwable 
+                && depth < MAX_CAUSES;
+        out.writeBoolean(hasCause);
+        if (hasCause) {
+            writeThrowable(out, cause, depth + 1);
+        }
+    }
+    
+    /**
+     * Recreates a throwable from its class name and message. The throwable is 
+     * of the same class if that class is available and has a constructor that 
+     * takes a message, otherwise it's a {@link ForkedThrowable} that reports 
+     * itself with the original class name.
+     * @param className The name of the throwable's class. For example, 
+     * "java.lang.AssertionError".
+     * @param message The throwable's message. For example, "Expected 1 but 
+     * was 2". May be null.
+     * @param loader The class loader to look up the class with. For example, 
+     * the system class loader.
+     * @return The recreated throwable, without a stack trace. Never null.
+     */
+    static Throwable recreate(String className, String message, 
+            ClassLoader loader) {
+        try {
+            Class<?> type = Class.forName(className, false, loader);
+            if (type == AssertionError.class) {
+                return message == null ? new AssertionError() 
+                        : new AssertionError((Object) message);
+            }
+            if (Throwable.class.isAssignableFrom(type)) {
+                Constructor<?> constructor = type.getConstructor(String.class);
+                return (Throwable) constructor.newInstance(message);
+            }
+        } catch (ReflectiveOperationException | LinkageError 
+                | RuntimeException e) {
+            // Fall through to the stand-in
+        }
+        return new ForkedThrowable(className, message);
+    }
+    
+    private static Throwable readThrowable(DataInputStream in, 
+            ClassLoader loader) throws IOException {
+        String className = in.readUTF();
+        String message = readNullable(in);
+        Throwable throwable = recreate(className, message, loader);
+        int length = in.readInt();
+        StackTraceElement[] trace = new StackTraceElement[length];
+        for (int i = 0; i < length; i++) {
+            String classLoaderName = readNullable(in);
+            String moduleName = readNullable(in);
+            String moduleVersion = readNullable(in);
+            String declaringClass = in.readUTF();
+            String methodName = in.readUTF();
+            String fileName = readNullable(in);
+            int lineNumber = in.readInt();
+            trace[i] = new StackTraceElement(classLoaderName, moduleName, 
+                    moduleVersion, declaringClass, methodName, fileName, 
+                    lineNumber);
+        }
+        throwable.setStackTrace(trace);
+        if (in.readBoolean()) {
+            Throwable cause = readThrowable(in, loader);
+            try {
+                throwable.initCause(cause);
+            } catch (IllegalStateException ise) {
+                // The recreated throwable already has a cause of its own
+            }
+        }
+        return throwable;
+    }
+    
+    /**
+     * Writes a test result in the binary format. The stack trace, if any, is 
+     * written frame by frame, along with the stack traces of up to sixteen 
+     * causes.
+     * @param out The stream to write to. For example, a stream on the 
+     * worker's standard output.
+     * @param result The test result. For example, that 
+     * <code>testNoDivisionByZero()</code> failed.
+     * @throws IOException If the result can't be written.
+     */
+    static void writeResult(DataOutputStream out, TestResult result) 
+            throws IOException {
+        Method procedure = result.getProcedure();
+        out.writeUTF(procedure.getDeclaringClass().getName());
+        out.writeUTF(procedure.getName());
+        out.writeByte(result.getStatus().ordinal());
+        out.writeLong(result.getWallTime());
+        out.writeLong(result.getCPUTime());
+        out.writeLong(result.getAllocatedBytes());
+        RepetitionSummary summary = result.getRepetitionSummary();
+        out.writeBoolean(summary != null);
+        if (summary != null) {
+            out.writeInt(summary.getRepetitions());
+            out.writeInt(summary.getPasses());
+            out.writeLong(summary.getMinimum());
+            out.writeLong(summary.getMedian());
+            out.writeLong(summary.get99thPercentile());
+        }
+        out.writeBoolean(result.hasStackTrace());
+        if (result.hasStackTrace()) {
+            writeThrowable(out, result.getInformation(), 0);
+        }
+    }
+    
+    /**
+     * Reads a test result written by {@link #writeResult(DataOutputStream, 
+     * TestResult)}. The test procedure is looked up with the given class 
+     * loader, which should be able to find the same test classes as the 
+     * worker.
+     * @param in The stream to read from. For example, a stream on the 
+     * worker's standard output.
+     * @param loader The class loader to look up the test class with. For 
+     * example, the system class loader.
+     * @return The test result. Never null.
+     * @throws IOException If the result can't be read, or the test procedure 
+     * can't be found.
+     */
+    static TestResult readResult(DataInputStream in, ClassLoader loader) 
+            throws IOException {
+        String className = in.readUTF();
+        String methodName = in.readUTF();
+        TestResultStatus status = TestResultStatus.values()[in.readByte()];
+        long wallTime = in.readLong();
+        long cpuTime = in.readLong();
+        long allocated = in.readLong();
+        RepetitionSummary summary = in.readBoolean() 
+                ? new RepetitionSummary(in.readInt(), in.readInt(), 
+                        in.readLong(), in.readLong(), in.readLong()) 
+                : null;
+        Throwable information = in.readBoolean() 
+                ? readThrowable(in, loader) : null;
+        try {
+            Class<?> type = Class.forName(className, false, loader);
+            Method procedure = type.getMethod(methodName);
+            return new TestResult(procedure, status, information, wallTime, 
+                    cpuTime, allocated, summary);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            String excMsg = "Unable to find " + className + "." + methodName 
+                    + " due to " + e.getClass().getName();
+            throw new IOException(excMsg, e);
+        }
+    }
+    
+    /**
+     * Reports the tests of a test class that haven't been reported yet as 
+     * having caused an error. This is for when something keeps the rest of 
+     * the tests from running or from being heard about, such as a worker 
+     * process exiting partway through, so that those tests show up in the 
+     * report rather than quietly going missing. The test class is looked up 
+     * but not initialized.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param loader The class loader to look up the test class with. For 
+     * example, the system class loader.
+     * @param reported The test procedures already reported. For example, 
+     * <code>testGreeting()</code> and <code>testFarewell()</code>.
+     * @param problem What went wrong, to be the information of each of the 
+     * results. For example, an exception saying the worker process failed 
+     * due to an <code>EOFException</code>.
+     * @param listener The listener to tell about the missing tests. For 
+     * example, a {@link TestResultsReporter}.
+     */
+    static void reportMissing(String testClassName, ClassLoader loader, 
+            Set<Method> reported, Throwable problem, TestListener listener) {
+        TestPlan plan;
+        try {
+            plan = TestPlan.of(Class.forName(testClassName, false, loader));
+        } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+            System.err.println("Unable to report the missing tests of " 
+                    + testClassName + " due to " + e.getClass().getName());
+            return;
+        }
+        List<Method> procedures = new ArrayList<>(plan.skips);
+        for (TestPlan.Step test : plan.tests) {
+            procedures.add(test.procedure);
+        }
+        for (Method procedure : procedures) {
+            if (!reported.contains(procedure)) {
+                listener.onTestFinished(new TestResult(procedure, 
+                        TestResultStatus.ERROR, problem));
+            }
+        }
+    }
+    
+    /**
+     * Stands in for a throwable from a worker whose class couldn't be 
+     * recreated in the parent. It reports itself with the original class name.
+     */
+    static final class ForkedThrowable extends RuntimeException {
+        
+        private static final long serialVersionUID = 4558002739138316641L;
+        
+        private final String originalClassName;
+        
+        /**
+         * Gives the original class name and the message, in the same format 
+         * as <code>Throwable.toString()</code>.
+         * @return The original class name, followed by a colon and the 
+         * message if there is a message. For example, 
+         * "org.example.CustomException: Not ready".
+         */
+        @Override
+        public String toString() {
+            String message = this.getLocalizedMessage();
+            return message == null ? this.originalClassName 
+                    : this.originalClassName + ": " + message;
+        }
+        
+        ForkedThrowable(String className, String message) {
+            super(message);
+            this.originalClassName = className;
+        }
+        
+    }
+    
+    // Anything the test runner throws, such as because of a failing 
+    // @BeforeAllTests procedure, is sent as errors for the tests not yet 
+    // reported, since otherwise the parent would be left waiting for an answer
+    private static void runClass(String testClassName, ClassLoader loader, 
+            FailureBudget budget, DataOutputStream out) throws IOException {
+        Set<Method> sent = ConcurrentHashMap.newKeySet();
+        TestListener sender = result -> {
+            try {
+                out.writeByte(RESULT);
+                writeResult(out, result);
+                // Sent right away, so that the parent has it even if a later 
+                // test of the class brings this process down
+                out.flush();
+                sent.add(result.getProcedure());
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        };
+        try {
+            try {
+                TestRunner.run(testClassName, loader, budget == null ? sender 
+                        : TestListener.combine(budget, sender), budget);
+            } catch (UncheckedIOException uioe) {
+                throw uioe;
+            } catch (RuntimeException | Error e) {
+                reportMissing(testClassName, loader, sent, e, sender);
+            }
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+    
+    /**
+     * Serves commands until told to stop or until standard input is closed.
+     * @param args Optionally "-timeout=" followed by the default time limit 
+     * for tests in milliseconds. For example, "-timeout=60000".
+     */
+    public static void main(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("-timeout=")) {
+                TestRunner.setDefaultTimeout(Long.parseLong(arg
+                        .substring(arg.indexOf('=') + 1)));
+            }
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(FileDescriptor.out)));
+        System.setOut(new PrintStream(new FileOutputStream(FileDescriptor.err), 
+                true));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                System.in));
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        Runtime runtime = Runtime.getRuntime();
+        try {
+            while (in.readByte() == RUN) {
+                String testClassName = in.readUTF();
+                int remaining = in.readInt();
+                FailureBudget budget = remaining == NO_BUDGET ? null 
+                        : FailureBudget.withRemaining(remaining);
+                runClass(testClassName, loader, budget, out);
+                out.writeByte(END);
+                out.writeLong(runtime.totalMemory() - runtime.freeMemory());
+                out.flush();
+            }
+        } catch (EOFException eofe) {
+            // The parent went away, nothing more to do
+        } catch (IOException ioe) {
+            System.err.println("Worker unable to continue due to " 
+                    + ioe.getClass().getName());
+        }
+    }
+    
+    private ForkedWorker() {
+        // Not meant to be instantiated
+    }
+    
+}
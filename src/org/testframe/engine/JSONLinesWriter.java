@@ -0,0 +1,159 @@
+package org.testframe.engine;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the test results to a file in the JSON Lines format, one JSON object 
+ * per line per test. Each result is written out as soon as its test finishes, 
+ * so memory use doesn't grow with the number of tests. For example, 
+ * <pre>{"class":"org.example.HelloWorldTest","test":"testGreeting",
+ * "status":"FAILED","wallNanos":1250000,"cpuNanos":980000,
+ * "allocatedBytes":524288,
+ * "exception":"java.lang.AssertionError","message":"Expected \"Hello\""}</pre>
+ * <p>except all on one line. The "exception" and "message" fields are only 
+ * there for tests that failed or caused an error, and "message" only if the 
+ * exception has a message. The "repetitions", "passes", "minNanos", 
+ * "medianNanos" and "p99Nanos" fields are only there for tests annotated 
+ * {@link org.testframe.api.Repeat}.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class JSONLinesWriter implements TestListener {
+    
+    private final Path reportPath;
+    
+    private BufferedWriter writer = null;
+    
+    private final StringBuilder line = new StringBuilder();
+    
+    /**
+     * Appends a string as a JSON string literal, in quotation marks and with 
+     * quotation marks, backslashes and control characters escaped.
+     * @param builder The builder to append to. For example, a builder with 
+     * <code>{"class":</code> so far.
+     * @param s The string to quote. For example, "Expected "Hello"".
+     */
+    static void quote(StringBuilder builder, String s) {
+        builder.append('"');
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            char ch = s.charAt(i);
+            switch (ch) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (ch < ' ') {
+                        builder.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        builder.append(ch);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+    
+    /**
+     * Opens the report file. If the file already exists, it's overwritten.
+     * @throws UncheckedIOException If the file can't be opened.
+     */
+    @Override
+    public void onRunStarted() {
+        try {
+            this.writer = Files.newBufferedWriter(this.reportPath, 
+                    StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+    
+    /**
+     * Writes a line for a test result.
+     * @param result The test result. For example, that 
+     * <code>testNoDivisionByZero()</code> failed.
+     * @throws UncheckedIOException If the line can't be written.
+     */
+    @Override
+    public void onTestFinished(TestResult result) {
+        Method procedure = result.getProcedure();
+        this.line.setLength(0);
+        this.line.append("{\"class\":");
+        quote(this.line, procedure.getDeclaringClass().getName());
+        this.line.append(",\"test\":");
+        quote(this.line, procedure.getName());
+        this.line.append(",\"status\":");
+        quote(this.line, result.getStatus().toString());
+        this.line.append(",\"wallNanos\":").append(result.getWallTime());
+        this.line.append(",\"cpuNanos\":").append(result.getCPUTime());
+        this.line.append(",\"allocatedBytes\":")
+                .append(result.getAllocatedBytes());
+        RepetitionSummary summary = result.getRepetitionSummary();
+        if (summary != null) {
+            this.line.append(",\"repetitions\":")
+                    .append(summary.getRepetitions());
+            this.line.append(",\"passes\":").append(summary.getPasses());
+            this.line.append(",\"minNanos\":").append(summary.getMinimum());
+            this.line.append(",\"medianNanos\":")
+                    .append(summary.getMedian());
+            this.line.append(",\"p99Nanos\":")
+                    .append(summary.get99thPercentile());
+        }
+        if (result.hasStackTrace()) {
+            Throwable information = result.getInformation();
+            this.line.append(",\"exception\":");
+            quote(this.line, information.getClass().getName());
+            String message = information.getMessage();
+            if (message != null) {
+                this.line.append(",\"message\":");
+                quote(this.line, message);
+            }
+        }
+        this.line.append("}\n");
+        try {
+            this.writer.append(this.line);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+    
+    /**
+     * Closes the report file.
+     * @throws UncheckedIOException If the file can't be closed.
+     */
+    @Override
+    public void onRunFinished() {
+        try {
+            this.writer.close();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+    
+    /**
+     * Sole constructor. The file is not opened until the run starts.
+     * @param path Where to write the report. For example, 
+     * "build/test-results.jsonl".
+     */
+    public JSONLinesWriter(Path path) {
+        this.reportPath = path;
+    }
+    
+}
@@ -0,0 +1,191 @@
+package org.testframe.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Writes the test results to a file in the XML format made popular by JUnit, 
+ * which most continuous integration servers understand. Each result is 
+ * written out as soon as its test finishes, so memory use doesn't grow with 
+ * the number of tests.
+ * <p>Since the counts of passing and failing tests aren't known until the 
+ * end, the <code>testsuite</code> element doesn't have the 
+ * <code>tests</code>, <code>failures</code>, <code>errors</code> and 
+ * <code>skipped</code> attributes. The continuous integration servers I know 
+ * of count the <code>testcase</code> elements themselves anyway. Tests from 
+ * all test classes go in the same <code>testsuite</code> element, each 
+ * <code>testcase</code> element has the name of its test class in the 
+ * <code>classname</code> attribute.</p>
+ * <p>Characters that aren't allowed in XML 1.0, such as most control 
+ * characters and unpaired surrogates, are replaced with U+FFFD, the 
+ * replacement character, wherever they turn up in a message or stack trace. 
+ * Otherwise a single test that fails with such a message would make the 
+ * whole report unreadable.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class JUnitXMLWriter implements TestListener {
+    
+    private final Path reportPath;
+    
+    private final String suiteName;
+    
+    private OutputStream stream = null;
+    
+    private XMLStreamWriter writer = null;
+    
+    private static String format(long nanoseconds) {
+        return String.format(Locale.ROOT, "%.3f", nanoseconds / 1.0E9);
+    }
+    
+    private static boolean isLegal(int codePoint) {
+        return codePoint == '\t' || codePoint == '\n' || codePoint == '\r' 
+                || (codePoint >= 0x20 && codePoint <= 0xD7FF) 
+                || (codePoint >= 0xE000 && codePoint <= 0xFFFD) 
+                || codePoint >= 0x10000;
+    }
+    
+    // Returns the text itself in the usual case that there's nothing to 
+    // replace, so that only the rare bad message costs a copy
+    private static String legal(String text) {
+        if (text.codePoints().allMatch(JUnitXMLWriter::isLegal)) {
+            return text;
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint -> builder.appendCodePoint( 
+                isLegal(codePoint) ? codePoint : '\uFFFD'));
+        return builder.toString();
+    }
+    
+    private static RuntimeException wrap(XMLStreamException xmlse) {
+        String excMsg = "Unable to write XML report due to " 
+                + xmlse.getClass().getName();
+        return new RuntimeException(excMsg, xmlse);
+    }
+    
+    private void writeProblem(String elementName, Throwable information) 
+            throws XMLStreamException {
+        this.writer.writeStartElement(elementName);
+        String message = information.getMessage();
+        if (message != null) {
+            this.writer.writeAttribute("message", legal(message));
+        }
+        this.writer.writeAttribute("type", information.getClass().getName());
+        StringWriter trace = new StringWriter();
+        information.printStackTrace(new PrintWriter(trace));
+        this.writer.writeCharacters(legal(trace.toString()));
+        this.writer.writeEndElement();
+    }
+    
+    /**
+     * Opens the report file and writes the start of the 
+     * <code>testsuite</code> element. If the file already exists, it's 
+     * overwritten.
+     * @throws UncheckedIOException If the file can't be opened.
+     * @throws RuntimeException If the XML can't be written.
+     */
+    @Override
+    public void onRunStarted() {
+        try {
+            this.stream = new BufferedOutputStream(Files
+                    .newOutputStream(this.reportPath));
+            this.writer = XMLOutputFactory.newFactory()
+                    .createXMLStreamWriter(this.stream, "UTF-8");
+            this.writer.writeStartDocument("UTF-8", "1.0");
+            this.writer.writeCharacters("\n");
+            this.writer.writeStartElement("testsuite");
+            this.writer.writeAttribute("name", legal(this.suiteName));
+            this.writer.writeCharacters("\n");
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        } catch (XMLStreamException xmlse) {
+            throw wrap(xmlse);
+        }
+    }
+    
+    /**
+     * Writes a <code>testcase</code> element for a test result. A failed test 
+     * or a test that regressed gets a <code>failure</code> element, a test 
+     * that caused an error or timed out gets an <code>error</code> element and 
+     * a test that was skipped or not run gets a <code>skipped</code> element.
+     * @param result The test result. For example, that 
+     * <code>testNoDivisionByZero()</code> failed.
+     * @throws RuntimeException If the XML can't be written.
+     */
+    @Override
+    public void onTestFinished(TestResult result) {
+        Method procedure = result.getProcedure();
+        try {
+            this.writer.writeStartElement("testcase");
+            this.writer.writeAttribute("classname", 
+                    procedure.getDeclaringClass().getName());
+            this.writer.writeAttribute("name", procedure.getName());
+            this.writer.writeAttribute("time", format(result.getWallTime()));
+            switch (result.getStatus()) {
+                case FAILED:
+                case REGRESSED:
+                    this.writeProblem("failure", result.getInformation());
+                    break;
+                case ERROR:
+                case TIMED_OUT:
+                    this.writeProblem("error", result.getInformation());
+                    break;
+                case SKIPPED:
+                case NOT_RUN:
+                    this.writer.writeEmptyElement("skipped");
+                    break;
+                default:
+                    break;
+            }
+            this.writer.writeEndElement();
+            this.writer.writeCharacters("\n");
+        } catch (XMLStreamException xmlse) {
+            throw wrap(xmlse);
+        }
+    }
+    
+    /**
+     * Closes the <code>testsuite</code> element and the report file.
+     * @throws UncheckedIOException If the file can't be closed.
+     * @throws RuntimeException If the XML can't be written.
+     */
+    @Override
+    public void onRunFinished() {
+        try {
+            this.writer.writeEndElement();
+            this.writer.writeCharacters("\n");
+            this.writer.writeEndDocument();
+            this.writer.close();
+            this.stream.close();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        } catch (XMLStreamException xmlse) {
+            throw wrap(xmlse);
+        }
+    }
+    
+    /**
+     * Sole constructor. The file is not opened until the run starts.
+     * @param path Where to write the report. For example, 
+     * "build/test-results.xml".
+     * @param name The name to give the test suite. For example, 
+     * "org.example.HelloWorldTest" or "12 test classes".
+     */
+    public JUnitXMLWriter(Path path, String name) {
+        this.reportPath = path;
+        this.suiteName = name;
+    }
+    
+}
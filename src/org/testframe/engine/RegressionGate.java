@@ -0,0 +1,358 @@
+package org.testframe.engine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Flags tests and benchmarks that have gotten slower than they used to be. 
+ * The wall times of passing tests and the scores of benchmarks are kept in a 
+ * baseline file, and each new measurement is compared to the ones before it 
+ * with the {@link MannWhitney} U test.
+ * <p>A single slow run proves nothing, since a garbage collection or another 
+ * process hogging the processor can slow down any test. So for a test, the 
+ * wall times of the most recent runs, this one included, are compared to the 
+ * wall times of the runs before those. A test is reported as {@link 
+ * TestResultStatus#REGRESSED} if the recent runs are slower to a statistically 
+ * significant degree and this run is slower than the median of the earlier 
+ * runs. For a benchmark, the scores of the iterations of this run are compared 
+ * to the scores of earlier runs, and the benchmark is flagged if they're lower 
+ * to a statistically significant degree.</p>
+ * <p>The baseline file has one line per test or benchmark, with a "T" for a 
+ * test or a "B" for a benchmark, the class name, the procedure name and then 
+ * the most recent measurements, oldest first, all separated by tabs. The 
+ * measurements of a test are wall times in nanoseconds, and those of a 
+ * benchmark are scores in operations per second. Tests and benchmarks that 
+ * regressed are still added to the baseline, so a slowdown that's put up with 
+ * long enough becomes the new normal. To start over, delete the file.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class RegressionGate {
+    
+    /**
+     * The default location of the baseline file, relative to the working 
+     * directory.
+     */
+    static final Path DEFAULT_PATH = Paths.get(".testframe", "baseline.tsv");
+    
+    /**
+     * The default significance level. A test or benchmark is flagged if the 
+     * p-value of its slowdown is less than this.
+     */
+    static final double DEFAULT_SIGNIFICANCE = 0.05;
+    
+    /**
+     * How many of the most recent runs of a test, counting the current one, 
+     * are compared to the runs before them.
+     */
+    static final int RECENT_RUNS = 5;
+    
+    /**
+     * How many earlier measurements there need to be before a test or 
+     * benchmark can be judged. Until then, measurements are only recorded.
+     */
+    static final int MINIMUM_BASELINE = 10;
+    
+    /**
+     * How many measurements are kept for each test or benchmark. Older ones 
+     * are dropped.
+     */
+    static final int MAXIMUM_SAMPLES = 50;
+    
+    private static final String TEST_KIND = "T";
+    
+    private static final String BENCHMARK_KIND = "B";
+    
+    private static final char SEPARATOR = '\t';
+    
+    private final Path baselinePath;
+    
+    private final double significanceLevel;
+    
+    private final Map<String, List<Double>> samples = new HashMap<>();
+    
+    private static String keyOf(String kind, Method procedure) {
+        return kind + SEPARATOR + procedure.getDeclaringClass().getName() 
+                + SEPARATOR + procedure.getName();
+    }
+    
+    private List<Double> samplesOf(String key) {
+        return this.samples.computeIfAbsent(key, k -> new ArrayList<>());
+    }
+    
+    private static void add(List<Double> list, double measurement) {
+        list.add(measurement);
+        if (list.size() > MAXIMUM_SAMPLES) {
+            list.remove(0);
+        }
+    }
+    
+    private static double[] toArray(List<Double> list) {
+        return list.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+    
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        return n % 2 == 1 ? sorted[n / 2] 
+                : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+    }
+    
+    /**
+     * Gives the measurements kept for a test or benchmark.
+     * @param procedure The test or benchmark procedure. For example, 
+     * <code>testGreeting()</code>.
+     * @param benchmark Whether the measurements are benchmark scores rather 
+     * than test wall times.
+     * @return The measurements, oldest first. For example, 1250000.0, 
+     * 1300000.0, 1275000.0. May be empty, but never null.
+     */
+    double[] measurementsOf(Method procedure, boolean benchmark) {
+        List<Double> list = this.samples.get(keyOf(benchmark ? BENCHMARK_KIND 
+                : TEST_KIND, procedure));
+        return list == null ? new double[0] : toArray(list);
+    }
+    
+    /**
+     * Records the wall time of a test and judges whether the test has gotten 
+     * slower. Only tests that passed are judged, since a test that failed or 
+     * caused an error has bigger problems, and its wall time says little about 
+     * how long it takes when it works. Results replayed from the result cache 
+     * are passed over too, since they were measured in an earlier run.
+     * @param result The test result. For example, that 
+     * <code>testGreeting()</code> passed after 1.25 milliseconds.
+     * @return A result with the status {@link TestResultStatus#REGRESSED} and 
+     * the same measurements if the test has gotten slower, otherwise 
+     * <code>result</code> itself.
+     */
+    TestResult check(TestResult result) {
+        long wallTime = result.getWallTime();
+        if (result.getStatus() != TestResultStatus.PASSED || wallTime <= 0 
+                || result.isCached()) {
+            return result;
+        }
+        Method procedure = result.getProcedure();
+        List<Double> list = this.samplesOf(keyOf(TEST_KIND, procedure));
+        add(list, wallTime);
+        int size = list.size();
+        if (size < RECENT_RUNS + MINIMUM_BASELINE) {
+            return result;
+        }
+        double[] earlier = toArray(list.subList(0, size - RECENT_RUNS));
+        double[] recent = toArray(list.subList(size - RECENT_RUNS, size));
+        double median = median(earlier);
+        if (wallTime <= median) {
+            return result;
+        }
+        double p = MannWhitney.pValue(earlier, recent);
+        if (p >= this.significanceLevel) {
+            return result;
+        }
+        String msg = String.format(Locale.ROOT, 
+                "Took %.3f ms, slower than the baseline median of %.3f ms " 
+                        + "(p = %.4f)", wallTime / 1000000.0, 
+                median / 1000000.0, p);
+        return new TestResult(procedure, TestResultStatus.REGRESSED, 
+                new AssertionError(msg), wallTime, result.getCPUTime(), 
+                result.getAllocatedBytes(), result.getRepetitionSummary());
+    }
+    
+    /**
+     * Records the scores of a benchmark and judges whether the benchmark has 
+     * gotten slower.
+     * @param result The benchmark result. For example, that 
+     * <code>benchmarkGreeting()</code> ran 1500000 times per second, give or 
+     * take 12000. Benchmarks that couldn't be measured are passed over.
+     * @return A message saying how much slower the benchmark has gotten, or 
+     * null if it hasn't gotten slower or couldn't be judged. For example, 
+     * "Scored 1200000.000 ops/s, lower than the baseline median of 
+     * 1500000.000 ops/s (p = 0.0002)".
+     */
+    String check(BenchmarkResult result) {
+        if (!result.isMeasured()) {
+            return null;
+        }
+        double[] scores = result.getScores();
+        List<Double> list = this.samplesOf(keyOf(BENCHMARK_KIND, 
+                result.getProcedure()));
+        double[] earlier = toArray(list);
+        for (double score : scores) {
+            add(list, score);
+        }
+        if (earlier.length < MINIMUM_BASELINE || scores.length == 0) {
+            return null;
+        }
+        double median = median(earlier);
+        double mean = result.getMean();
+        if (mean >= median) {
+            return null;
+        }
+        double p = MannWhitney.pValue(scores, earlier);
+        if (p >= this.significanceLevel) {
+            return null;
+        }
+        return String.format(Locale.ROOT, "Scored %.3f ops/s, lower than the " 
+                + "baseline median of %.3f ops/s (p = %.4f)", mean, median, p);
+    }
+    
+    /**
+     * Wraps a listener so that the test results it's given have been judged 
+     * by this gate first. When the run finishes, the baseline is saved. If it 
+     * can't be saved, that's reported to <code>System.err</code>.
+     * @param downstream The listener to pass the results on to. For example, 
+     * a {@link TestResultsReporter}.
+     * @return A listener that judges each result and passes it on.
+     */
+    TestListener guard(TestListener downstream) {
+        return new TestListener() {
+            
+            @Override
+            public void onRunStarted() {
+                downstream.onRunStarted();
+            }
+            
+            @Override
+            public void onTestStarted(Method procedure) {
+                downstream.onTestStarted(procedure);
+            }
+            
+            @Override
+            public void onTestFinished(TestResult result) {
+                downstream.onTestFinished(RegressionGate.this.check(result));
+            }
+            
+            @Override
+            public void onRunFinished() {
+                downstream.onRunFinished();
+                RegressionGate.this.saveOrComplain();
+            }
+        
+        };
+    }
+    
+    private static String format(double measurement) {
+        if (measurement == Math.rint(measurement) 
+                && Math.abs(measurement) < 1.0E15) {
+            return Long.toString((long) measurement);
+        }
+        return Double.toString(measurement);
+    }
+    
+    /**
+     * Writes the baseline file, replacing what was there. The file is written 
+     * in full to a temporary file first and then moved into place, so that a 
+     * run that's cut short doesn't leave behind half a baseline.
+     * @throws IOException If the file can't be written.
+     */
+    void save() throws IOException {
+        Path parent = this.baselinePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = this.baselinePath.resolveSibling(this.baselinePath
+                .getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, 
+                StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, List<Double>> entry 
+                    : this.samples.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    continue;
+                }
+                writer.write(entry.getKey());
+                for (double measurement : entry.getValue()) {
+                    writer.write(SEPARATOR);
+                    writer.write(format(measurement));
+                }
+                writer.newLine();
+            }
+        }
+        Files.move(temp, this.baselinePath, 
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    /**
+     * Saves the baseline, reporting to <code>System.err</code> if it can't.
+     */
+    void saveOrComplain() {
+        try {
+            this.save();
+        } catch (IOException ioe) {
+            System.err.println("Unable to save performance baseline: " 
+                    + ioe.getMessage());
+        }
+    }
+    
+    private void read() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(this.baselinePath, 
+                StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String[] fields = line.split(String.valueOf(SEPARATOR));
+                if (fields.length > 3 && (fields[0].equals(TEST_KIND) 
+                        || fields[0].equals(BENCHMARK_KIND))) {
+                    try {
+                        List<Double> list = new ArrayList<>();
+                        for (int i = 3; i < fields.length; i++) {
+                            add(list, Double.parseDouble(fields[i]));
+                        }
+                        this.samples.put(fields[0] + SEPARATOR + fields[1] 
+                                + SEPARATOR + fields[2], list);
+                    } catch (NumberFormatException nfe) {
+                        // Quietly pass over a garbled line
+                    }
+                }
+                line = reader.readLine();
+            }
+        }
+    }
+    
+    /**
+     * Loads the baseline from a file. If the file doesn't exist yet, the 
+     * baseline starts out empty.
+     * @param path The location of the baseline file. For example, {@link 
+     * #DEFAULT_PATH}.
+     * @param significance The significance level. For example, {@link 
+     * #DEFAULT_SIGNIFICANCE}. A smaller significance level flags fewer tests 
+     * that haven't really gotten slower, but also misses more that have.
+     * @return The regression gate. Never null.
+     * @throws IllegalArgumentException If <code>significance</code> is not 
+     * greater than 0 and less than 1.
+     */
+    static RegressionGate load(Path path, double significance) {
+        if (!(significance > 0.0 && significance < 1.0)) {
+            String excMsg = "Significance level " + significance 
+                    + " should be greater than 0 and less than 1";
+            throw new IllegalArgumentException(excMsg);
+        }
+        RegressionGate gate = new RegressionGate(path, significance);
+        if (Files.isRegularFile(path)) {
+            try {
+                gate.read();
+            } catch (IOException ioe) {
+                System.err.println("Unable to read performance baseline " 
+                        + path);
+            }
+        }
+        return gate;
+    }
+    
+    private RegressionGate(Path path, double significance) {
+        this.baselinePath = path;
+        this.significanceLevel = significance;
+    }
+
+}
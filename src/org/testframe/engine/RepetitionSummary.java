@@ -0,0 +1,153 @@
+package org.testframe.engine;
+
+import java.util.Arrays;
+
+/**
+ * Sums up the repetitions of a test annotated {@link 
+ * org.testframe.api.Repeat}: how many times it ran, how many times it passed, 
+ * and the shortest, median and 99th percentile of the wall times of the test 
+ * procedure. Warmup runs are not included.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class RepetitionSummary {
+    
+    private final int repetitions;
+    
+    private final int passes;
+    
+    private final long minimumNanos;
+    
+    private final long medianNanos;
+    
+    private final long percentile99Nanos;
+    
+    /**
+     * Gives how many times the test ran, not counting warmup runs.
+     * @return The number of repetitions. For example, 100.
+     */
+    public int getRepetitions() {
+        return this.repetitions;
+    }
+    
+    /**
+     * Gives how many of the repetitions passed.
+     * @return The number of repetitions that passed. For example, 97 for a 
+     * test that failed 3 times out of 100.
+     */
+    public int getPasses() {
+        return this.passes;
+    }
+    
+    /**
+     * Gives the wall time of the quickest repetition.
+     * @return The shortest wall time in nanoseconds. For example, 1250000.
+     */
+    public long getMinimum() {
+        return this.minimumNanos;
+    }
+    
+    /**
+     * Gives the median wall time of the repetitions. With an even number of 
+     * repetitions, this is the average of the two in the middle.
+     * @return The median wall time in nanoseconds. For example, 1300000.
+     */
+    public long getMedian() {
+        return this.medianNanos;
+    }
+    
+    /**
+     * Gives the 99th percentile of the wall times of the repetitions, by the 
+     * nearest rank method. With fewer than a hundred repetitions, this is the 
+     * longest wall time.
+     * @return The 99th percentile wall time in nanoseconds. For example, 
+     * 2100000.
+     */
+    public long get99thPercentile() {
+        return this.percentile99Nanos;
+    }
+    
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long micros = nanos / 1000;
+        builder.append(micros / 1000).append('.');
+        long fraction = micros % 1000;
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction).append(" ms");
+    }
+    
+    /**
+     * Gives a one line summary suitable for a report.
+     * @return A summary. For example, "Passed 97 of 100 repetitions. Minimum 
+     * 1.250 ms, median 1.300 ms, 99th percentile 2.100 ms".
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Passed ").append(this.passes).append(" of ")
+                .append(this.repetitions).append(" repetitions. Minimum ");
+        appendMillis(builder, this.minimumNanos);
+        builder.append(", median ");
+        appendMillis(builder, this.medianNanos);
+        builder.append(", 99th percentile ");
+        appendMillis(builder, this.percentile99Nanos);
+        return builder.toString();
+    }
+    
+    /**
+     * Sums up the wall times of the repetitions of a test.
+     * @param wallTimes The wall times of the repetitions in nanoseconds, in 
+     * any order. For example, 1250000, 2100000, 1300000. Should not be empty. 
+     * This array is sorted in place.
+     * @param passes How many of the repetitions passed. For example, 3.
+     * @return The summary. Never null.
+     * @throws IllegalArgumentException If <code>wallTimes</code> is empty.
+     */
+    static RepetitionSummary of(long[] wallTimes, int passes) {
+        int n = wallTimes.length;
+        if (n == 0) {
+            String excMsg = "There should be at least one repetition";
+            throw new IllegalArgumentException(excMsg);
+        }
+        Arrays.sort(wallTimes);
+        long median = n % 2 == 1 ? wallTimes[n / 2] 
+                : (wallTimes[n / 2 - 1] + wallTimes[n / 2]) / 2;
+        int rank = (int) Math.ceil(0.99 * n);
+        return new RepetitionSummary(n, passes, wallTimes[0], median, 
+                wallTimes[rank - 1]);
+    }
+    
+    /**
+     * Constructor. To sum up wall times that haven't been sorted, use {@link 
+     * #of(long[], int)} instead.
+     * @param repetitions How many times the test ran, not counting warmup 
+     * runs. For example, 100.
+     * @param passes How many of the repetitions passed. For example, 97.
+     * @param minimum The shortest wall time in nanoseconds. For example, 
+     * 1250000.
+     * @param median The median wall time in nanoseconds. For example, 1300000.
+     * @param percentile99 The 99th percentile wall time in nanoseconds. For 
+     * example, 2100000.
+     * @throws IllegalArgumentException If <code>repetitions</code> is less than 
+     * 1, or if <code>passes</code> is negative or more than 
+     * <code>repetitions</code>.
+     */
+    public RepetitionSummary(int repetitions, int passes, long minimum, 
+            long median, long percentile99) {
+        if (repetitions < 1 || passes < 0 || passes > repetitions) {
+            String excMsg = "Passes " + passes + " of " + repetitions 
+                    + " repetitions is not possible";
+            throw new IllegalArgumentException(excMsg);
+        }
+        this.repetitions = repetitions;
+        this.passes = passes;
+        this.minimumNanos = minimum;
+        this.medianNanos = median;
+        this.percentile99Nanos = percentile99;
+    }
+
+}
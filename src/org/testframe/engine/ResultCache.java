@@ -0,0 +1,394 @@
+package org.testframe.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Remembers the results of test classes that passed, so that they can be 
+ * replayed instead of running the tests again when nothing has changed. Each 
+ * entry is addressed by a fingerprint of the class files the test class loaded 
+ * when it ran, the test class itself included, and of the other resources it 
+ * read through its class loader, such as test fixtures. If any of those files 
+ * changes, the fingerprint changes, and the cached results no longer apply.
+ * Files the tests open by path rather than as resources are not taken into 
+ * account, so a test class that reads those should not be cached.
+ * <p>The classes of this testing framework are not among the classes recorded 
+ * for each test class, since they're always loaded by the parent class 
+ * loader. Instead, the cache file records a hash of the framework's class 
+ * files, and if the framework has changed since, for example because of an 
+ * upgrade, the whole cache is dropped.</p>
+ * <p>Only test classes in which every test passed or was skipped are cached, 
+ * since a test that failed should run again even if nothing has changed, if 
+ * only to confirm that it still fails. Replayed results are marked as cached, 
+ * see {@link TestResult#isCached()}.</p>
+ * <p>The cache is kept in a binary file. The file starts with a magic number, 
+ * a format version and the hash of the framework, followed by the number of test 
+ * classes. For each test class there is its name, its fingerprint, the names 
+ * of the classes and other resources it loaded, and its results. If the file is missing or can't be read, the cache 
+ * starts out empty and every test class runs.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class ResultCache {
+    
+    /**
+     * The default location of the cache file, relative to the working 
+     * directory.
+     */
+    static final Path DEFAULT_PATH = Paths.get(".testframe", "results.cache");
+    
+    private static final int MAGIC = 0x54465243;
+    
+    private static final int FORMAT_VERSION = 2;
+    
+    private static final class CachedResult {
+        
+        final String procedureName;
+        
+        final TestResultStatus status;
+        
+        final long wallTime;
+        
+        final long cpuTime;
+        
+        final long allocated;
+        
+        final RepetitionSummary summary;
+        
+        CachedResult(String name, TestResultStatus status, long wallTime, 
+                long cpuTime, long allocated, RepetitionSummary summary) {
+            this.procedureName = name;
+            this.status = status;
+            this.wallTime = wallTime;
+            this.cpuTime = cpuTime;
+            this.allocated = allocated;
+            this.summary = summary;
+        }
+    
+    }
+    
+    private static final class Entry {
+        
+        final long fingerprint;
+        
+        final List<String> classNames;
+        
+        final List<CachedResult> results;
+        
+        Entry(long fingerprint, List<String> classNames, 
+                List<CachedResult> results) {
+            this.fingerprint = fingerprint;
+            this.classNames = classNames;
+            this.results = results;
+        }
+    
+    }
+    
+    private final Path cachePath;
+    
+    private final long engineHash;
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    /**
+     * Computes the fingerprint of a set of class files, from their names and 
+     * hashes. The order in which the classes are given doesn't matter.
+     * @param classHashes The names of the classes and the hashes of their 
+     * class files. For example, "org.example.HelloWorldTest" with 
+     * 0x3A7F19C2B4E5D608 and "org.example.HelloWorld" with 
+     * 0x5D6E2A9B0C1F4387.
+     * @return The fingerprint. For example, 0x1B2C3D4E5F607182.
+     */
+    static long fingerprint(Map<String, Long> classHashes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (Map.Entry<String, Long> entry 
+                    : new TreeMap<>(classHashes).entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        return DependencyRecordingClassLoader.hash(bytes.toByteArray());
+    }
+    
+    /**
+     * Computes a hash of the class files of this testing framework, the 
+     * engine and API packages both, wherever they were loaded from. If the 
+     * framework is in a JAR file, that's the hash of the whole JAR file.
+     * @return The hash. For example, 0x2E4F6A8C0B1D3F57. If the class files 
+     * can't be found or read, 0.
+     */
+    static long engineHash() {
+        CodeSource source = ResultCache.class.getProtectionDomain()
+                .getCodeSource();
+        URL location = source == null ? null : source.getLocation();
+        if (location == null) {
+            return 0L;
+        }
+        try {
+            Path path = Paths.get(location.toURI());
+            if (!Files.isDirectory(path)) {
+                return DependencyRecordingClassLoader.hash(Files
+                        .readAllBytes(path));
+            }
+            Path frameworkDir = path.resolve(ResultCache.class
+                    .getPackageName().replace('.', '/')).getParent();
+            Map<String, Long> hashes = new TreeMap<>();
+            try (Stream<Path> files = Files.walk(frameworkDir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (file.toString().endsWith(".class")) {
+                        hashes.put(frameworkDir.relativize(file).toString(), 
+                                DependencyRecordingClassLoader.hash(Files
+                                        .readAllBytes(file)));
+                    }
+                }
+            }
+            return fingerprint(hashes);
+        } catch (URISyntaxException | IOException | RuntimeException e) {
+            return 0L;
+        }
+    }
+    
+    private static Long currentFingerprint(Entry entry, ClassLoader loader) {
+        Map<String, Long> current = new TreeMap<>();
+        for (String className : entry.classNames) {
+            Long hash = DependencyRecordingClassLoader.hashDependency(loader, 
+                    className);
+            if (hash == null) {
+                return null;
+            }
+            current.put(className, hash);
+        }
+        return fingerprint(current);
+    }
+    
+    /**
+     * Replays the cached results of a test class, if none of the class files 
+     * it loaded have changed since the results were cached.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     * @param loader The class loader to read the current class files through, 
+     * and to find the test procedures with. For example, the system class 
+     * loader. The test class is loaded but not initialized.
+     * @param listener The listener to give the cached results to, marked as 
+     * cached. For example, a {@link TestResultsReporter}.
+     * @return True if the cached results were replayed, false if there are no 
+     * cached results for the test class or they no longer apply, in which case 
+     * the listener hasn't been told anything.
+     */
+    boolean replay(String testClassName, ClassLoader loader, 
+            TestListener listener) {
+        Entry entry = this.entries.get(testClassName);
+        if (entry == null) {
+            return false;
+        }
+        Long current = currentFingerprint(entry, loader);
+        if (current == null || current != entry.fingerprint) {
+            return false;
+        }
+        List<TestResult> results = new ArrayList<>(entry.results.size());
+        try {
+            Class<?> type = Class.forName(testClassName, false, loader);
+            for (CachedResult cached : entry.results) {
+                Method procedure = type.getMethod(cached.procedureName);
+                results.add(new TestResult(procedure, cached.status, null, 
+                        cached.wallTime, cached.cpuTime, cached.allocated, 
+                        cached.summary).asCached());
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+        for (TestResult result : results) {
+            listener.onTestFinished(result);
+        }
+        return true;
+    }
+    
+    /**
+     * Records the results of a test class, replacing whatever was cached for 
+     * it before. If any of the tests didn't pass or get skipped, or there are 
+     * no results, whatever was cached for the test class is removed instead.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest".
+     * @param classHashes The classes the test class loaded when it ran, with 
+     * the hashes of their class files. Should include the test class itself.
+     * @param results The results of the test class. For example, that 
+     * <code>testGreeting()</code> passed after 1.25 milliseconds.
+     */
+    void record(String testClassName, Map<String, Long> classHashes, 
+            List<TestResult> results) {
+        List<CachedResult> cached = new ArrayList<>(results.size());
+        for (TestResult result : results) {
+            TestResultStatus status = result.getStatus();
+            if (status != TestResultStatus.PASSED 
+                    && status != TestResultStatus.SKIPPED) {
+                this.entries.remove(testClassName);
+                return;
+            }
+            cached.add(new CachedResult(result.getProcedure().getName(), 
+                    status, result.getWallTime(), result.getCPUTime(), 
+                    result.getAllocatedBytes(), 
+                    result.getRepetitionSummary()));
+        }
+        if (cached.isEmpty() || classHashes.isEmpty()) {
+            this.entries.remove(testClassName);
+            return;
+        }
+        this.entries.put(testClassName, new Entry(fingerprint(classHashes), 
+                new ArrayList<>(classHashes.keySet()), cached));
+    }
+    
+    private static void write(DataOutputStream out, CachedResult result) 
+            throws IOException {
+        out.writeUTF(result.procedureName);
+        out.writeUTF(result.status.name());
+        out.writeLong(result.wallTime);
+        out.writeLong(result.cpuTime);
+        out.writeLong(result.allocated);
+        RepetitionSummary summary = result.summary;
+        out.writeBoolean(summary != null);
+        if (summary != null) {
+            out.writeInt(summary.getRepetitions());
+            out.writeInt(summary.getPasses());
+            out.writeLong(summary.getMinimum());
+            out.writeLong(summary.getMedian());
+            out.writeLong(summary.get99thPercentile());
+        }
+    }
+    
+    /**
+     * Writes the cache to its file, creating the directory if necessary. The 
+     * file is written in full to a temporary file first and then moved into 
+     * place, so that a run that's cut short doesn't leave behind half a cache.
+     * @throws IOException If the file can't be written.
+     */
+    void save() throws IOException {
+        Path parent = this.cachePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = this.cachePath.resolveSibling(this.cachePath
+                .getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream( 
+                new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(this.engineHash);
+            out.writeInt(this.entries.size());
+            for (Map.Entry<String, Entry> mapping : this.entries.entrySet()) {
+                Entry entry = mapping.getValue();
+                out.writeUTF(mapping.getKey());
+                out.writeLong(entry.fingerprint);
+                out.writeInt(entry.classNames.size());
+                for (String className : entry.classNames) {
+                    out.writeUTF(className);
+                }
+                out.writeInt(entry.results.size());
+                for (CachedResult result : entry.results) {
+                    write(out, result);
+                }
+            }
+        }
+        Files.move(temp, this.cachePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    private static CachedResult readResult(DataInputStream in) 
+            throws IOException {
+        String name = in.readUTF();
+        TestResultStatus status;
+        try {
+            status = TestResultStatus.valueOf(in.readUTF());
+        } catch (IllegalArgumentException iae) {
+            throw new IOException("Unknown test result status", iae);
+        }
+        long wallTime = in.readLong();
+        long cpuTime = in.readLong();
+        long allocated = in.readLong();
+        RepetitionSummary summary = null;
+        if (in.readBoolean()) {
+            try {
+                summary = new RepetitionSummary(in.readInt(), in.readInt(), 
+                        in.readLong(), in.readLong(), in.readLong());
+            } catch (IllegalArgumentException iae) {
+                throw new IOException("Invalid repetition summary", iae);
+            }
+        }
+        return new CachedResult(name, status, wallTime, cpuTime, allocated, 
+                summary);
+    }
+    
+    private void read() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream( 
+                Files.newInputStream(this.cachePath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION 
+                    || in.readLong() != this.engineHash) {
+                return;
+            }
+            int testClassCount = in.readInt();
+            for (int i = 0; i < testClassCount; i++) {
+                String testClassName = in.readUTF();
+                long fingerprint = in.readLong();
+                int classCount = in.readInt();
+                List<String> classNames = new ArrayList<>(classCount);
+                for (int j = 0; j < classCount; j++) {
+                    classNames.add(in.readUTF());
+                }
+                int resultCount = in.readInt();
+                List<CachedResult> results = new ArrayList<>(resultCount);
+                for (int j = 0; j < resultCount; j++) {
+                    results.add(readResult(in));
+                }
+                this.entries.put(testClassName, new Entry(fingerprint, 
+                        classNames, results));
+            }
+        }
+    }
+    
+    /**
+     * Loads a cache from a file. If the file doesn't exist or is not a valid 
+     * cache file, the cache starts out empty.
+     * @param path The location of the cache file. For example, {@link 
+     * #DEFAULT_PATH}.
+     * @return The cache. Never null.
+     */
+    static ResultCache load(Path path) {
+        ResultCache cache = new ResultCache(path);
+        if (Files.isRegularFile(path)) {
+            try {
+                cache.read();
+            } catch (IOException ioe) {
+                System.err.println("Unable to read result cache " + path 
+                        + ", all test classes will run");
+                cache.entries.clear();
+            }
+        }
+        return cache;
+    }
+    
+    private ResultCache(Path path) {
+        this.cachePath = path;
+        this.engineHash = engineHash();
+    }
+
+}
@@ -0,0 +1,233 @@
+package org.testframe.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Combines the results of a test suite split among several machines with the 
+ * "-shard" option of {@link TestRunner#main(String[])} into a single report. 
+ * Each machine should write its results with the "-jsonl" option, and those 
+ * files are given to this merger. The test classes need to be on the class 
+ * path, since each result refers to its test procedure. Stack traces are not 
+ * kept in JSON Lines files, so failures and errors are reported with only the 
+ * exception and its message.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class ShardMerger {
+    
+    /**
+     * Parses a line written by {@link JSONLinesWriter}. Only objects with 
+     * string and number values are understood, which is all that writer 
+     * writes.
+     * @param line The line. For example, 
+     * <code>{"class":"org.example.HelloWorldTest","test":"testGreeting",
+     * "status":"PASSED","wallNanos":1250000,"cpuNanos":980000}</code>.
+     * @return A map of field names to values, with numbers as strings. For 
+     * example, "class" to "org.example.HelloWorldTest", "test" to 
+     * "testGreeting", "status" to "PASSED", "wallNanos" to "1250000" and 
+     * "cpuNanos" to "980000".
+     * @throws IllegalArgumentException If the line can't be parsed.
+     */
+    static Map<String, String> parseLine(String line) {
+        Map<String, String> fields = new HashMap<>();
+        StringBuilder builder = new StringBuilder();
+        int len = line.length();
+        int i = line.indexOf('{') + 1;
+        if (i == 0) {
+            throw new IllegalArgumentException("Not a JSON object: " + line);
+        }
+        String key = null;
+        while (i < len) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                builder.setLength(0);
+                i++;
+                while (i < len && line.charAt(i) != '"') {
+                    ch = line.charAt(i);
+                    if (ch == '\\' && i + 1 < len) {
+                        i++;
+                        char escaped = line.charAt(i);
+                        switch (escaped) {
+                            case 'n':
+                                builder.append('\n');
+                                break;
+                            case 'r':
+                                builder.append('\r');
+                                break;
+                            case 't':
+                                builder.append('\t');
+                                break;
+                            case 'b':
+                                builder.append('\b');
+                                break;
+                            case 'f':
+                                builder.append('\f');
+                                break;
+                            case 'u':
+                                builder.append((char) Integer.parseInt(line
+                                        .substring(i + 1, i + 5), 16));
+                                i += 4;
+                                break;
+                            default:
+                                builder.append(escaped);
+                        }
+                    } else {
+                        builder.append(ch);
+                    }
+                    i++;
+                }
+                if (key == null) {
+                    key = builder.toString();
+                } else {
+                    fields.put(key, builder.toString());
+                    key = null;
+                }
+                i++;
+            } else if (ch == '-' || Character.isDigit(ch)) {
+                int start = i;
+                while (i < len && (line.charAt(i) == '-' 
+                        || Character.isDigit(line.charAt(i)))) {
+                    i++;
+                }
+                if (key == null) {
+                    throw new IllegalArgumentException("Unexpected number in " 
+                            + line);
+                }
+                fields.put(key, line.substring(start, i));
+                key = null;
+            } else {
+                i++;
+            }
+        }
+        return fields;
+    }
+    
+    /**
+     * Makes a test result from the fields of a JSON Lines record.
+     * @param fields The fields, as parsed by {@link #parseLine(String)}. For 
+     * example, "class" to "org.example.HelloWorldTest", "test" to 
+     * "testGreeting", "status" to "PASSED", "wallNanos" to "1250000" and 
+     * "cpuNanos" to "980000".
+     * @param loader The class loader to look up the test class with. For 
+     * example, the system class loader.
+     * @return The test result. Never null.
+     * @throws ReflectiveOperationException If the test class or test procedure 
+     * can't be found.
+     * @throws IllegalArgumentException If a field is missing or wrong.
+     */
+    static TestResult toResult(Map<String, String> fields, ClassLoader loader) 
+            throws ReflectiveOperationException {
+        String className = fields.get("class");
+        String methodName = fields.get("test");
+        String statusName = fields.get("status");
+        if (className == null || methodName == null || statusName == null) {
+            String excMsg = "Record " + fields 
+                    + " should have class, test and status";
+            throw new IllegalArgumentException(excMsg);
+        }
+        Class<?> type = Class.forName(className, false, loader);
+        Method procedure = type.getMethod(methodName);
+        TestResultStatus status = TestResultStatus.valueOf(statusName);
+        long wallTime = Long.parseLong(fields.getOrDefault("wallNanos", "0"));
+        long cpuTime = Long.parseLong(fields.getOrDefault("cpuNanos", "0"));
+        long allocated = Long.parseLong(fields.getOrDefault("allocatedBytes", 
+                "0"));
+        RepetitionSummary summary = null;
+        if (fields.containsKey("repetitions")) {
+            summary = new RepetitionSummary(
+                    Integer.parseInt(fields.get("repetitions")), 
+                    Integer.parseInt(fields.get("passes")), 
+                    Long.parseLong(fields.get("minNanos")), 
+                    Long.parseLong(fields.get("medianNanos")), 
+                    Long.parseLong(fields.get("p99Nanos")));
+        }
+        Throwable information = null;
+        String exceptionName = fields.get("exception");
+        if (exceptionName != null) {
+            information = ForkedWorker.recreate(exceptionName, 
+                    fields.get("message"), loader);
+            information.setStackTrace(new StackTraceElement[0]);
+        }
+        return new TestResult(procedure, status, information, wallTime, 
+                cpuTime, allocated, summary);
+    }
+    
+    /**
+     * Reads JSON Lines result files and tells a listener about each result. 
+     * A record that can't be made into a result is reported to 
+     * <code>System.err</code> and left out.
+     * @param paths The files to read. For example, "shard1.jsonl", 
+     * "shard2.jsonl".
+     * @param listener The listener to tell about the results. For example, a 
+     * {@link TestResultsReporter}.
+     * @throws IOException If a file can't be read.
+     */
+    public static void merge(Iterable<Path> paths, TestListener listener) 
+            throws IOException {
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        listener.onRunStarted();
+        for (Path path : paths) {
+            try (BufferedReader reader = Files.newBufferedReader(path, 
+                    StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                while (line != null) {
+                    if (!line.isBlank()) {
+                        try {
+                            listener.onTestFinished(toResult(parseLine(line), 
+                                    loader));
+                        } catch (ReflectiveOperationException 
+                                | IllegalArgumentException e) {
+                            System.err.println("Leaving out record " + line 
+                                    + " due to " + e.getClass().getName());
+                        }
+                    }
+                    line = reader.readLine();
+                }
+            }
+        }
+        listener.onRunFinished();
+    }
+    
+    /**
+     * Reports the combined results of the JSON Lines files given on the 
+     * command line.
+     * @param args The paths of the files. For example, "shard1.jsonl", 
+     * "shard2.jsonl", "shard3.jsonl". The option "-xml=" followed by a file 
+     * path also writes the combined results to that file in the XML format 
+     * made popular by JUnit.
+     * @throws IOException If a file can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        Path xmlPath = null;
+        for (String arg : args) {
+            if (arg.startsWith("-xml=")) {
+                xmlPath = Paths.get(arg.substring(5));
+            } else {
+                paths.add(Paths.get(arg));
+            }
+        }
+        if (paths.isEmpty()) {
+            System.out.println("Please specify result files to merge");
+            return;
+        }
+        String name = paths.size() + " shards";
+        TestListener listener = new TestResultsReporter(name);
+        if (xmlPath != null) {
+            listener = TestListener.combine(listener, 
+                    new JUnitXMLWriter(xmlPath, name));
+        }
+        merge(paths, listener);
+    }
+    
+}
@@ -0,0 +1,149 @@
+package org.testframe.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits test classes into shards, so that a test suite can be divided among 
+ * several machines, each running exactly its share. The split depends only on 
+ * the test class names, the number of shards and, for a balanced split, the 
+ * duration history, so every machine arrives at the same split on its own.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+final class Sharding {
+    
+    // The finalizer of the SplitMix64 generator, a good enough mixer for this
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Determines which shard a test class belongs to, by rendezvous hashing. 
+     * The test class goes to the shard for which the combination of the test 
+     * class name and shard number hashes highest. If the number of shards 
+     * changes from <i>n</i> to <i>n</i> + 1, only about 1 in <i>n</i> + 1 test 
+     * classes move, all of them to the new shard.
+     * @param testClassName The name of the test class. For example, 
+     * "org.example.HelloWorldTest".
+     * @param count How many shards there are. For example, 4.
+     * @return The shard number, from 1 to <code>count</code>. For example, 3.
+     */
+    static int shardOf(String testClassName, int count) {
+        long nameHash = testClassName.hashCode();
+        int best = 1;
+        long bestWeight = Long.MIN_VALUE;
+        for (int shard = 1; shard <= count; shard++) {
+            long weight = mix((nameHash << 32) ^ shard);
+            if (weight > bestWeight) {
+                bestWeight = weight;
+                best = shard;
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Selects the test classes of one shard by rendezvous hashing. See {@link 
+     * #shardOf(String, int)}.
+     * @param testClassNames The names of all the test classes. For example, 
+     * "org.example.AnagramCheckerTest", "org.example.HelloWorldTest", 
+     * "org.example.PalindromeCheckerTest".
+     * @param index Which shard to select, from 1 to <code>count</code>. For 
+     * example, 2.
+     * @param count How many shards there are. For example, 2.
+     * @return The names of the test classes in the shard, in the same order 
+     * as in <code>testClassNames</code>. For example, 
+     * "org.example.HelloWorldTest". May be empty.
+     */
+    static List<String> select(List<String> testClassNames, int index, 
+            int count) {
+        List<String> selected = new ArrayList<>();
+        for (String testClassName : testClassNames) {
+            if (shardOf(testClassName, count) == index) {
+                selected.add(testClassName);
+            }
+        }
+        return selected;
+    }
+    
+    /**
+     * Selects the test classes of one shard so that the shards take about the 
+     * same time, according to the duration history. The test classes are 
+     * taken longest first and each is given to the shard with the least time 
+     * so far, ties going to the lower shard number. A test class with no 
+     * history is assumed to take the average time of those with history. If 
+     * no test class has any history, this falls back to {@link #select(List, 
+     * int, int)}. For the shards to come out the same on every machine, every 
+     * machine needs the same history.
+     * @param testClassNames The names of all the test classes. For example, 
+     * "org.example.AnagramCheckerTest", "org.example.HelloWorldTest", 
+     * "org.example.PalindromeCheckerTest".
+     * @param index Which shard to select, from 1 to <code>count</code>. For 
+     * example, 2.
+     * @param count How many shards there are. For example, 2.
+     * @param history The duration history. For example, one loaded from 
+     * {@link DurationHistory#DEFAULT_PATH}.
+     * @return The names of the test classes in the shard, in the same order 
+     * as in <code>testClassNames</code>. May be empty.
+     */
+    static List<String> selectBalanced(List<String> testClassNames, int index, 
+            int count, DurationHistory history) {
+        List<String> names = new ArrayList<>(testClassNames);
+        names.sort(Comparator.naturalOrder());
+        long[] estimates = new long[names.size()];
+        long known = 0L;
+        int knownCount = 0;
+        for (int i = 0; i < estimates.length; i++) {
+            estimates[i] = history.estimate(names.get(i));
+            if (estimates[i] >= 0) {
+                known += estimates[i];
+                knownCount++;
+            }
+        }
+        if (knownCount == 0) {
+            return select(testClassNames, index, count);
+        }
+        long average = known / knownCount;
+        List<Integer> order = new ArrayList<>(estimates.length);
+        for (int i = 0; i < estimates.length; i++) {
+            if (estimates[i] < 0) {
+                estimates[i] = average;
+            }
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong((Integer i) -> estimates[i])
+                .reversed().thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[count];
+        Set<String> chosen = new HashSet<>();
+        for (int i : order) {
+            int lightest = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += estimates[i];
+            if (lightest + 1 == index) {
+                chosen.add(names.get(i));
+            }
+        }
+        List<String> selected = new ArrayList<>(chosen.size());
+        for (String testClassName : testClassNames) {
+            if (chosen.contains(testClassName)) {
+                selected.add(testClassName);
+            }
+        }
+        return selected;
+    }
+    
+    private Sharding() {
+        // Not meant to be instantiated
+    }
+    
+}
@@ -0,0 +1,271 @@
+package org.testframe.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testframe.api.Test;
+
+/**
+ * Finds test classes on the class path without loading them. Each class file 
+ * in the directories and JAR files of the class path is read as bytes, and the 
+ * constant pool is checked for the descriptor of the {@link Test} annotation. 
+ * Only classes that mention that annotation are reported, and the other 
+ * classes are never loaded, so their static initializers don't run.
+ * <p>Note that a class that inherits all its tests from a superclass does not 
+ * mention the annotation in its own class file, so it will not be found. Such 
+ * a test class can still be run by giving its name to the test runner.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class TestClassFinder {
+    
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    
+    private static final int ACC_PUBLIC = 0x0001;
+    
+    private static final int ACC_NOT_INSTANTIABLE = 0x0200 | 0x0400 | 0x2000 
+            | 0x4000 | 0x8000;
+    
+    private static final byte[] TEST_DESCRIPTOR = ("L" 
+            + Test.class.getName().replace('.', '/') + ";")
+            .getBytes(StandardCharsets.UTF_8);
+    
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    
+    private final List<Path> classPathEntries;
+    
+    private static boolean isClassFileName(String name) {
+        return name.endsWith(CLASS_FILE_EXTENSION) 
+                && !name.endsWith("module-info.class") 
+                && !name.endsWith("package-info.class");
+    }
+    
+    private static boolean utf8Equals(ByteBuffer buffer, int position, 
+            int length, byte[] bytes) {
+        if (length != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Reads a class file to see if it's a test class.
+     * @param bytes The contents of the class file.
+     * @return The binary name of the class, e.g., 
+     * "org.example.HelloWorldTest", if the class is public, can be 
+     * instantiated and mentions the {@link Test} annotation in its constant 
+     * pool. Null otherwise, or if the bytes don't look like a class file.
+     */
+    static String testClassName(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.getInt() != CLASS_FILE_MAGIC) {
+                return null;
+            }
+            buffer.position(8);
+            int count = buffer.getShort() & 0xFFFF;
+            int[] utf8Positions = new int[count];
+            int[] classNameIndices = new int[count];
+            boolean mentionsTest = false;
+            for (int index = 1; index < count; index++) {
+                int tag = buffer.get();
+                switch (tag) {
+                    case 1:
+                        int length = buffer.getShort() & 0xFFFF;
+                        int position = buffer.position();
+                        utf8Positions[index] = position;
+                        mentionsTest = mentionsTest || utf8Equals(buffer, 
+                                position, length, TEST_DESCRIPTOR);
+                        buffer.position(position + length);
+                        break;
+                    case 7:
+                        classNameIndices[index] = buffer.getShort() & 0xFFFF;
+                        break;
+                    case 8: case 16: case 19: case 20:
+                        buffer.position(buffer.position() + 2);
+                        break;
+                    case 15:
+                        buffer.position(buffer.position() + 3);
+                        break;
+                    case 3: case 4: case 9: case 10: case 11: case 12: 
+                    case 17: case 18:
+                        buffer.position(buffer.position() + 4);
+                        break;
+                    case 5: case 6:
+                        buffer.position(buffer.position() + 8);
+                        index++;
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            int accessFlags = buffer.getShort() & 0xFFFF;
+            if (!mentionsTest || (accessFlags & ACC_PUBLIC) == 0 
+                    || (accessFlags & ACC_NOT_INSTANTIABLE) != 0) {
+                return null;
+            }
+            int thisClass = buffer.getShort() & 0xFFFF;
+            int nameIndex = classNameIndices[thisClass];
+            int namePosition = utf8Positions[nameIndex];
+            int nameLength = buffer.getShort(namePosition - 2) & 0xFFFF;
+            String internalName = new String(bytes, namePosition, nameLength, 
+                    StandardCharsets.UTF_8);
+            return internalName.replace('/', '.');
+        } catch (RuntimeException re) {
+            return null;
+        }
+    }
+    
+    private static String readTestClassName(Path classFile) {
+        try {
+            return testClassName(Files.readAllBytes(classFile));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+    
+    private static List<String> findInDirectory(Path directory) 
+            throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path 
+                    -> isClassFileName(path.getFileName().toString()))
+                    .collect(Collectors.toList())
+                    .parallelStream()
+                    .map(TestClassFinder::readTestClassName)
+                    .filter(name -> name != null)
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    private static List<String> findInJar(Path jar) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && isClassFileName(entry.getName()) 
+                        && !entry.getName().startsWith("META-INF/")) {
+                    try (InputStream stream = jarFile.getInputStream(entry)) {
+                        String name = testClassName(stream.readAllBytes());
+                        if (name != null) {
+                            names.add(name);
+                        }
+                    }
+                }
+            }
+        }
+        return names;
+    }
+    
+    /**
+     * Finds all the test classes in the class path entries this finder was 
+     * constructed with. Entries that don't exist are quietly passed over.
+     * @return The names of the test classes, fully qualified, in alphabetical 
+     * order. For example, "org.example.AnagramCheckerTest", 
+     * "org.example.HelloWorldTest", "org.example.PalindromeCheckerTest". May 
+     * be empty but never null.
+     * @throws UncheckedIOException If there is a problem reading a directory 
+     * or JAR file.
+     */
+    public List<String> find() {
+        List<String> names = new ArrayList<>();
+        try {
+            for (Path entry : this.classPathEntries) {
+                if (Files.isDirectory(entry)) {
+                    names.addAll(findInDirectory(entry));
+                } else if (Files.isRegularFile(entry) 
+                        && entry.toString().endsWith(".jar")) {
+                    names.addAll(findInJar(entry));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        Collections.sort(names);
+        return names;
+    }
+    
+    /**
+     * Finds the test classes whose names match a pattern. In the pattern, a 
+     * single asterisk stands for any sequence of characters other than a dot, 
+     * and a double asterisk stands for any sequence of characters at all.
+     * @param pattern The pattern. For example, "org.example.*Test" matches 
+     * "org.example.HelloWorldTest" but not "org.example.util.ListUtilsTest", 
+     * while "org.example.**Test" matches both.
+     * @return The names of the matching test classes, fully qualified, in 
+     * alphabetical order. May be empty but never null.
+     * @throws UncheckedIOException If there is a problem reading a directory 
+     * or JAR file.
+     */
+    public List<String> find(String pattern) {
+        Pattern regex = toRegex(pattern);
+        return this.find().stream()
+                .filter(name -> regex.matcher(name).matches())
+                .collect(Collectors.toList());
+    }
+    
+    private static Pattern toRegex(String pattern) {
+        StringBuilder builder = new StringBuilder();
+        int len = pattern.length();
+        for (int i = 0; i < len; i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '*') {
+                if (i + 1 < len && pattern.charAt(i + 1) == '*') {
+                    builder.append(".*");
+                    i++;
+                } else {
+                    builder.append("[^.]*");
+                }
+            } else {
+                builder.append(Pattern.quote(Character.toString(ch)));
+            }
+        }
+        return Pattern.compile(builder.toString());
+    }
+    
+    /**
+     * Constructs a finder for the class path of the running Java Virtual 
+     * Machine, as given by the system property "java.class.path".
+     */
+    public TestClassFinder() {
+        this(System.getProperty("java.class.path"));
+    }
+    
+    /**
+     * Constructs a finder for a given class path.
+     * @param classPath The directories and JAR files to look in, separated by 
+     * the platform's path separator. For example, "build/test:lib/app.jar" on 
+     * Linux or macOS.
+     */
+    public TestClassFinder(String classPath) {
+        List<Path> entries = new ArrayList<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                entries.add(Paths.get(entry));
+            }
+        }
+        this.classPathEntries = entries;
+    }
+    
+}
@@ -0,0 +1,369 @@
+package org.testframe.engine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.MalformedURLException;
+import java.net.StandardProtocolFamily;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A test runner that stays running in the background and runs tests on 
+ * request. Starting a Java Virtual Machine and loading the classes of the test 
+ * runner and the Java Development Kit takes much longer than running a test 
+ * class with just a few quick tests. A daemon pays that cost once, and by the 
+ * second or third request the test runner has also been compiled by the 
+ * just-in-time compiler.
+ * <p>Requests come in through a Unix domain socket, and are best made with 
+ * {@link TestDaemonClient}. Each request gets a fresh class loader for the 
+ * class path given in the request, so the tests always run with the latest 
+ * compiled classes. For that reason, the daemon itself should be started with 
+ * only this testing framework on its class path, not the test classes or the 
+ * classes under test.</p>
+ * <p>The protocol is line-based text in UTF-8. A request is a line with the 
+ * command, {@value #RUN_COMMAND} or {@value #STOP_COMMAND}. For 
+ * {@value #RUN_COMMAND}, the next line is the class path, and the lines after 
+ * that are test class names or patterns, ending with an empty line. The 
+ * daemon responds with one {@value #RESULT_LINE_PREFIX} line per test as each 
+ * test finishes, followed by {@value #TRACE_LINE_PREFIX} lines with the stack 
+ * trace if there is one, and ends with an {@value #END_LINE} line. A test 
+ * class that can't be found or run, or a pattern that matches no test 
+ * classes, gets an {@value #ERROR_LINE_PREFIX} line instead. Fields within a 
+ * line are separated by tabs, and any tab, line break or backslash in a field 
+ * is escaped with a backslash.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class TestDaemon {
+    
+    static final String RUN_COMMAND = "RUN";
+    
+    static final String STOP_COMMAND = "STOP";
+    
+    static final String RESULT_LINE_PREFIX = "RESULT";
+    
+    static final String TRACE_LINE_PREFIX = "TRACE";
+    
+    static final String ERROR_LINE_PREFIX = "ERROR";
+    
+    static final String END_LINE = "END";
+    
+    static final char FIELD_SEPARATOR = '\t';
+    
+    static final String DEFAULT_SOCKET_FILE_NAME = "testframe-daemon.sock";
+    
+    private final Path socketPath;
+    
+    private volatile boolean running = false;
+    
+    /**
+     * Gives the default location of the daemon's socket, in the directory for 
+     * temporary files.
+     * @return The default socket path. For example, 
+     * "/tmp/testframe-daemon.sock".
+     */
+    static Path defaultSocketPath() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), 
+                DEFAULT_SOCKET_FILE_NAME);
+    }
+    
+    static String escape(String field) {
+        if (field == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(field.length());
+        for (char ch : field.toCharArray()) {
+            switch (ch) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+    
+    static String unescape(String field) {
+        StringBuilder builder = new StringBuilder(field.length());
+        int len = field.length();
+        for (int i = 0; i < len; i++) {
+            char ch = field.charAt(i);
+            if (ch == '\\' && i + 1 < len) {
+                i++;
+                switch (field.charAt(i)) {
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    default:
+                        builder.append(field.charAt(i));
+                }
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+    
+    private static URL[] toURLs(String classPath) 
+            throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                urls.add(Paths.get(entry).toAbsolutePath().toUri().toURL());
+            }
+        }
+        return urls.toArray(new URL[0]);
+    }
+    
+    private static void writeResult(Writer writer, TestResult result) 
+            throws IOException {
+        writer.write(RESULT_LINE_PREFIX + FIELD_SEPARATOR 
+                + escape(result.getProcedure().getDeclaringClass().getName()) 
+                + FIELD_SEPARATOR + escape(result.getProcedure().getName()) 
+                + FIELD_SEPARATOR + result.getStatus().name() 
+                + FIELD_SEPARATOR);
+        if (result.hasStackTrace()) {
+            Throwable info = result.getInformation();
+            writer.write(escape(info.getMessage()));
+            writer.write('\n');
+            StringWriter trace = new StringWriter();
+            info.printStackTrace(new PrintWriter(trace));
+            writer.write(TRACE_LINE_PREFIX + FIELD_SEPARATOR 
+                    + escape(trace.toString()));
+        }
+        writer.write('\n');
+    }
+    
+    private static void writeError(Writer writer, String name, 
+            String message) throws IOException {
+        writer.write(ERROR_LINE_PREFIX + FIELD_SEPARATOR + escape(name) 
+                + FIELD_SEPARATOR + escape(message) + '\n');
+    }
+    
+    // Each result is written and flushed as its test finishes, so the client 
+    // can show it right away
+    private static void runTestClass(String testClassName, 
+            URLClassLoader loader, BufferedWriter writer) throws IOException {
+        try {
+            Class.forName(testClassName, false, loader);
+        } catch (ClassNotFoundException cnfe) {
+            writeError(writer, testClassName, "Unable to find class " 
+                    + testClassName);
+            return;
+        }
+        try {
+            TestRunner.run(testClassName, loader, result -> {
+                try {
+                    writeResult(writer, result);
+                    writer.flush();
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+    
+    private void serve(BufferedReader reader, BufferedWriter writer) 
+            throws IOException {
+        String classPath = reader.readLine();
+        if (classPath == null) {
+            throw new IOException("Request ended before the class path");
+        }
+        List<String> names = new ArrayList<>();
+        String line = reader.readLine();
+        while (line != null && !line.isEmpty()) {
+            names.add(line);
+            line = reader.readLine();
+        }
+        try (URLClassLoader loader = new URLClassLoader(toURLs(classPath), 
+                TestDaemon.class.getClassLoader())) {
+            TestClassFinder finder = new TestClassFinder(classPath);
+            for (String name : names) {
+                List<String> testClassNames = name.contains("*") 
+                        ? finder.find(name) : List.of(name);
+                if (testClassNames.isEmpty()) {
+                    writeError(writer, name, "No test classes match " + name);
+                }
+                for (String testClassName : testClassNames) {
+                    try {
+                        runTestClass(testClassName, loader, writer);
+                    } catch (IOException ioe) {
+                        throw ioe;
+                    } catch (Throwable t) {
+                        // Errors too, since a test class that overflows the 
+                        // stack or can't be linked shouldn't take the daemon 
+                        // down with it
+                        writeError(writer, testClassName, t.toString());
+                    }
+                    writer.flush();
+                }
+            }
+        }
+        writer.write(END_LINE + '\n');
+        writer.flush();
+    }
+    
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ioe) {
+            System.err.println("Unable to close connection: " + ioe);
+        }
+    }
+    
+    private void handle(SocketChannel channel) throws IOException {
+        try (channel; 
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(Channels.newInputStream(channel), 
+                                StandardCharsets.UTF_8));
+                BufferedWriter writer = new BufferedWriter(
+                        Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+            String command = reader.readLine();
+            if (command == null) {
+                // Such as another daemon checking whether this one is still 
+                // listening
+                return;
+            }
+            if (RUN_COMMAND.equals(command)) {
+                this.serve(reader, writer);
+            } else if (STOP_COMMAND.equals(command)) {
+                this.running = false;
+                writer.write(END_LINE + '\n');
+            } else {
+                writer.write(ERROR_LINE_PREFIX + FIELD_SEPARATOR 
+                        + "Unrecognized command " + escape(command) + '\n');
+                writer.write(END_LINE + '\n');
+            }
+        }
+    }
+    
+    // A socket file left behind by a daemon that didn't get to clean up 
+    // refuses connections, and then it's safe to delete it
+    private static void deleteIfStale(UnixDomainSocketAddress address) 
+            throws IOException {
+        if (!Files.exists(address.getPath())) {
+            return;
+        }
+        try (SocketChannel channel 
+                = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(address);
+        } catch (ConnectException ce) {
+            Files.deleteIfExists(address.getPath());
+            return;
+        }
+        throw new IOException("Another daemon is already listening on " 
+                + address.getPath());
+    }
+    
+    /**
+     * Listens for requests until a {@value #STOP_COMMAND} request comes in. 
+     * Requests are served one at a time, since the tests of one request 
+     * writing to the console would get mixed up with the tests of another 
+     * request. A request that can't be served, such as because the client 
+     * disconnected in the middle of it, is logged to the console and its 
+     * connection closed, and the daemon goes on to the next request. A socket 
+     * file left behind by a daemon that's no longer running is replaced, but 
+     * one that a daemon is still listening on is left alone. The socket file 
+     * is deleted on the way out.
+     * @throws IOException If the socket can't be bound, for example because 
+     * another daemon is already listening on it.
+     */
+    public void listen() throws IOException {
+        UnixDomainSocketAddress address 
+                = UnixDomainSocketAddress.of(this.socketPath);
+        deleteIfStale(address);
+        boolean bound = false;
+        try (ServerSocketChannel server 
+                = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(address);
+            bound = true;
+            this.running = true;
+            while (this.running) {
+                SocketChannel channel = server.accept();
+                try {
+                    this.handle(channel);
+                } catch (IOException | RuntimeException e) {
+                    // Only that one request is lost, such as because the 
+                    // client went away in the middle of it
+                    System.err.println("Unable to serve request: " + e);
+                    closeQuietly(channel);
+                }
+            }
+        } finally {
+            this.running = false;
+            if (bound) {
+                Files.deleteIfExists(this.socketPath);
+            }
+        }
+    }
+    
+    /**
+     * Tells whether the daemon is ready to take requests.
+     * @return True if the daemon has bound its socket and is listening on it, 
+     * false if it hasn't started listening yet or has stopped.
+     */
+    public boolean isListening() {
+        return this.running;
+    }
+    
+    /**
+     * Starts a daemon and listens for requests.
+     * @param args Optionally the path of the socket file. If not given, 
+     * "testframe-daemon.sock" in the directory for temporary files is used.
+     * @throws IOException If the socket can't be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = args.length > 0 ? Paths.get(args[0]) 
+                : defaultSocketPath();
+        System.out.println("Test daemon listening on " + path);
+        new TestDaemon(path).listen();
+        System.out.println("Test daemon stopped");
+    }
+    
+    /**
+     * Sole constructor. The daemon doesn't start listening until {@link 
+     * #listen()} is called.
+     * @param path Where to put the socket file. For example, 
+     * "/tmp/testframe-daemon.sock".
+     */
+    public TestDaemon(Path path) {
+        this.socketPath = path;
+    }
+    
+}
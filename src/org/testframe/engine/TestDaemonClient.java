@@ -0,0 +1,200 @@
+package org.testframe.engine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends test run requests to a {@link TestDaemon} and prints the results as 
+ * they come in. This is meant to be run from the command line in place of 
+ * {@link TestRunner}, with the test classes and the classes under test on the 
+ * class path, since that class path is sent to the daemon along with the 
+ * request.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class TestDaemonClient {
+    
+    private final Path socketPath;
+    
+    private static String[] split(String line) {
+        String[] fields = line.split(String.valueOf(TestDaemon.FIELD_SEPARATOR), 
+                -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = TestDaemon.unescape(fields[i]);
+        }
+        return fields;
+    }
+    
+    private SocketChannel connect() throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.connect(UnixDomainSocketAddress.of(this.socketPath));
+        return channel;
+    }
+    
+    /**
+     * Asks the daemon to run some test classes, and prints the results as they 
+     * come in, in much the same format as {@link TestResultsReporter}.
+     * @param classPath The class path for the daemon to load the test classes 
+     * and the classes under test from. For example, "build/test:build/main".
+     * @param testClassNames The names of the test classes, fully qualified, or 
+     * patterns for the daemon to match against the test classes on the class 
+     * path. For example, "org.example.HelloWorldTest" and 
+     * "org.example.util.**Test".
+     * @param out Where to print the results to. For example, 
+     * <code>System.out</code>.
+     * @return How many tests did not pass, not counting skipped tests. Should 
+     * be 0 if all the tests that ran passed.
+     * @throws IOException If the daemon can't be reached, such as because it 
+     * hasn't been started.
+     */
+    public int run(String classPath, List<String> testClassNames, 
+            PrintStream out) throws IOException {
+        Map<TestResultStatus, Integer> counts 
+                = new EnumMap<>(TestResultStatus.class);
+        int total = 0;
+        int problems = 0;
+        try (SocketChannel channel = this.connect(); 
+                BufferedWriter writer = new BufferedWriter(
+                        Channels.newWriter(channel, StandardCharsets.UTF_8)); 
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(Channels.newInputStream(channel), 
+                                StandardCharsets.UTF_8))) {
+            writer.write(TestDaemon.RUN_COMMAND + '\n');
+            writer.write(classPath + '\n');
+            for (String name : testClassNames) {
+                writer.write(name + '\n');
+            }
+            writer.write('\n');
+            writer.flush();
+            out.println();
+            out.println("Test results from daemon");
+            String line = reader.readLine();
+            while (line != null && !line.equals(TestDaemon.END_LINE)) {
+                String[] fields = split(line);
+                switch (fields[0]) {
+                    case TestDaemon.RESULT_LINE_PREFIX:
+                        TestResultStatus status 
+                                = TestResultStatus.valueOf(fields[3]);
+                        counts.merge(status, 1, Integer::sum);
+                        total++;
+                        if (status != TestResultStatus.PASSED 
+                                && status != TestResultStatus.SKIPPED) {
+                            problems++;
+                        }
+                        out.println(fields[1] + "." + fields[2] + " " 
+                                + status + " " + fields[4]);
+                        break;
+                    case TestDaemon.TRACE_LINE_PREFIX:
+                        out.println(fields[1]);
+                        break;
+                    case TestDaemon.ERROR_LINE_PREFIX:
+                        problems++;
+                        out.println(String.join(" ", fields));
+                        break;
+                    default:
+                        out.println("Unexpected line from daemon: " + line);
+                }
+                line = reader.readLine();
+            }
+        }
+        out.println();
+        out.println("Passed: " + counts.getOrDefault(TestResultStatus.PASSED, 0) 
+                + ". Failed: " + counts.getOrDefault(TestResultStatus.FAILED, 0) 
+                + ". Skipped: " 
+                + counts.getOrDefault(TestResultStatus.SKIPPED, 0) 
+                + ". Caused an error: " 
+                + counts.getOrDefault(TestResultStatus.ERROR, 0) 
+                + (counts.containsKey(TestResultStatus.TIMED_OUT) 
+                        ? ". Timed out: " 
+                                + counts.get(TestResultStatus.TIMED_OUT) 
+                        : "") 
+                + (counts.containsKey(TestResultStatus.NOT_RUN) 
+                        ? ". Not run: " + counts.get(TestResultStatus.NOT_RUN) 
+                        : "") 
+                + (counts.containsKey(TestResultStatus.REGRESSED) 
+                        ? ". Regressed: " 
+                                + counts.get(TestResultStatus.REGRESSED) 
+                        : ""));
+        out.println("Total: " + total);
+        return problems;
+    }
+    
+    /**
+     * Asks the daemon to stop. The daemon finishes the request it's working 
+     * on, if any, before stopping.
+     * @throws IOException If the daemon can't be reached.
+     */
+    public void stop() throws IOException {
+        try (SocketChannel channel = this.connect(); 
+                BufferedWriter writer = new BufferedWriter(
+                        Channels.newWriter(channel, StandardCharsets.UTF_8)); 
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(Channels.newInputStream(channel), 
+                                StandardCharsets.UTF_8))) {
+            writer.write(TestDaemon.STOP_COMMAND + '\n');
+            writer.flush();
+            reader.readLine();
+        }
+    }
+    
+    /**
+     * Sends a request to the daemon from the command line.
+     * @param args The names of the test classes to run, or patterns, then the 
+     * command line options. The option "-socket=" followed by a path gives the 
+     * location of the daemon's socket if the daemon was not started with the 
+     * default location. The option "-stop" asks the daemon to stop instead of 
+     * running any tests. The class path sent to the daemon is this client's 
+     * own class path.
+     * @throws IOException If the daemon can't be reached.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = TestDaemon.defaultSocketPath();
+        boolean stopFlag = false;
+        List<String> testClassNames = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("-socket=")) {
+                path = Paths.get(arg.substring(arg.indexOf('=') + 1));
+            } else if (arg.equals("-stop")) {
+                stopFlag = true;
+            } else if (arg.startsWith("-")) {
+                System.err.println("Ignoring unrecognized option " + arg);
+            } else {
+                testClassNames.add(arg);
+            }
+        }
+        TestDaemonClient client = new TestDaemonClient(path);
+        if (stopFlag) {
+            client.stop();
+        } else if (testClassNames.isEmpty()) {
+            System.out.println("Please specify class to test");
+        } else {
+            String classPath = System.getProperty("java.class.path");
+            int problems = client.run(classPath, testClassNames, System.out);
+            System.exit(problems == 0 ? 0 : 1);
+        }
+    }
+    
+    /**
+     * Sole constructor.
+     * @param path The location of the daemon's socket. For example, 
+     * "/tmp/testframe-daemon.sock".
+     */
+    public TestDaemonClient(Path path) {
+        this.socketPath = path;
+    }
+    
+}
@@ -0,0 +1,71 @@
+package org.testframe.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for one stage in the life of a test class: 
+ * loading it, invoking one of its annotated procedures, or writing out the 
+ * report. With a recording open in JDK Mission Control, these events show 
+ * exactly where the time of a test run goes, next to the garbage collections, 
+ * lock contention and whatever else the recording caught.
+ * <p>When no recording is going on, creating and committing an event costs 
+ * next to nothing, so the test runner creates them all the time. A recording 
+ * can be started with the "-jfr" command line option of {@link 
+ * TestRunner#main(String[])}, or with the Java Virtual Machine's own 
+ * -XX:StartFlightRecording switch.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+@Name("org.testframe.TestLifecycle")
+@Label("Test Lifecycle")
+@Category("Testframe")
+@Description("A stage in running a test class")
+final class TestLifecycleEvent extends Event {
+    
+    /**
+     * The phase for loading a test class and working out its test plan.
+     */
+    static final String LOAD_PHASE = "Load";
+    
+    /**
+     * The phase for writing out part of the report.
+     */
+    static final String REPORT_PHASE = "Report";
+    
+    @Label("Phase")
+    @Description("What was being done, such as \"@Test\" for invoking a test "
+            + "procedure")
+    String phase;
+    
+    @Label("Test Class")
+    String testClass;
+    
+    @Label("Procedure")
+    String procedure;
+    
+    /**
+     * Ends the event and commits it if it's being recorded. The fields are 
+     * only filled in if the event is being recorded.
+     * @param phaseName What was being done. For example, "@BeforeEachTest".
+     * @param className The name of the test class, fully qualified. For 
+     * example, "org.example.HelloWorldTest". For a report, this is instead 
+     * whatever name the reporter was given, such as "12 test classes".
+     * @param procedureName The name of the procedure that was invoked. For 
+     * example, "testGreeting". May be null if no procedure was invoked, as is 
+     * the case when loading a test class.
+     */
+    void end(String phaseName, String className, String procedureName) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.phase = phaseName;
+            this.testClass = className;
+            this.procedure = procedureName;
+            this.commit();
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package org.testframe.engine;
+
+import java.lang.reflect.Method;
+
+/**
+ * Gets told about tests as they run, so that results can be reported as soon 
+ * as each test finishes rather than all at once at the end. A listener that 
+ * doesn't hold on to the results it's given uses only as much memory as the 
+ * tests in progress need, no matter how many tests there are.
+ * <p>When test classes are run at the same time, or a test class is annotated 
+ * {@link org.testframe.api.Concurrent}, the test runner makes sure only one 
+ * thread at a time calls a given listener, so implementations need not be 
+ * thread safe.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+@FunctionalInterface
+public interface TestListener {
+    
+    /**
+     * Called once before any tests run. The default implementation does 
+     * nothing.
+     */
+    default void onRunStarted() {
+        // Nothing to do by default
+    }
+    
+    /**
+     * Called right before a test procedure runs, after any procedures 
+     * annotated {@link org.testframe.api.BeforeEachTest}. Not called for 
+     * skipped tests. The default implementation does nothing.
+     * @param procedure The test procedure about to run. For example, 
+     * <code>testNoDivisionByZero()</code>.
+     */
+    default void onTestStarted(Method procedure) {
+        // Nothing to do by default
+    }
+    
+    /**
+     * Called when a test procedure has finished, or for a skipped test, when 
+     * the test runner gets to it.
+     * @param result The result of the test. For example, that 
+     * <code>testNoDivisionByZero()</code> failed.
+     */
+    void onTestFinished(TestResult result);
+    
+    /**
+     * Called once after all tests have run. The default implementation does 
+     * nothing.
+     */
+    default void onRunFinished() {
+        // Nothing to do by default
+    }
+    
+    /**
+     * Combines several listeners into one that passes each call on to each of 
+     * them, in the order given.
+     * @param listeners The listeners to combine. For example, a {@link 
+     * TestResultsReporter} and a listener that counts failures.
+     * @return A listener that calls all of <code>listeners</code>.
+     */
+    static TestListener combine(TestListener... listeners) {
+        TestListener[] copy = listeners.clone();
+        return new TestListener() {
+            
+            @Override
+            public void onRunStarted() {
+                for (TestListener listener : copy) {
+                    listener.onRunStarted();
+                }
+            }
+            
+            @Override
+            public void onTestStarted(Method procedure) {
+                for (TestListener listener : copy) {
+                    listener.onTestStarted(procedure);
+                }
+            }
+            
+            @Override
+            public void onTestFinished(TestResult result) {
+                for (TestListener listener : copy) {
+                    listener.onTestFinished(result);
+                }
+            }
+            
+            @Override
+            public void onRunFinished() {
+                for (TestListener listener : copy) {
+                    listener.onRunFinished();
+                }
+            }
+            
+        };
+    }
+    
+}
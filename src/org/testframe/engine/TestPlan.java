@@ -0,0 +1,250 @@
+package org.testframe.engine;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testframe.api.AfterAllTests;
+import org.testframe.api.AfterEachTest;
+import org.testframe.api.BeforeAllTests;
+import org.testframe.api.Benchmark;
+import org.testframe.api.BeforeEachTest;
+import org.testframe.api.Concurrent;
+import org.testframe.api.Repeat;
+import org.testframe.api.Skip;
+import org.testframe.api.Test;
+
+/**
+ * Holds the procedures of a test class sorted by what they're annotated with, 
+ * each one already resolved to a method handle. Finding the procedures means 
+ * going through all the public procedures of the test class and looking at 
+ * their annotations, which only needs to be done once per test class. So the 
+ * plans are cached, and the test runner gets the same plan each time it runs 
+ * the same test class.
+ * <p>Invoking a procedure through a method handle also avoids the overhead of 
+ * <code>Method.invoke()</code>, which includes wrapping whatever the procedure 
+ * throws in an <code>InvocationTargetException</code>. That overhead is not 
+ * much for one test, but it adds up when a test class has a lot of tiny 
+ * tests.</p>
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+final class TestPlan {
+    
+    private static final MethodType STEP_TYPE 
+            = MethodType.methodType(void.class, Object.class);
+    
+    private static final ClassValue<TestPlan> CACHE 
+            = new ClassValue<TestPlan>() {
+        
+        @Override
+        protected TestPlan computeValue(Class<?> type) {
+            return new TestPlan(type);
+        }
+        
+    };
+    
+    private final Class<?> testClass;
+    
+    private final MethodHandle constructorHandle;
+    
+    final List<Step> setUps;
+    
+    final List<Step> befores;
+    
+    final List<Step> tests;
+    
+    final List<Method> skips;
+    
+    final List<Step> afters;
+    
+    final List<Step> tearDowns;
+    
+    /**
+     * The procedures annotated {@link Benchmark}. These are not resolved to 
+     * method handles here, since they might take a parameter. See {@link 
+     * BenchmarkRunner}.
+     */
+    final List<Method> benchmarks;
+    
+    final boolean concurrent;
+    
+    /**
+     * A procedure of a test class together with the method handle to invoke it 
+     * with.
+     */
+    static final class Step {
+        
+        final Method procedure;
+        
+        /**
+         * The time limit given by the procedure's {@link Test} annotation, in 
+         * milliseconds, or 0 if there is none or the procedure is not a test.
+         */
+        final long timeout;
+        
+        /**
+         * What the procedure is annotated with, such as "@BeforeEachTest". 
+         * This is the phase of the {@link TestLifecycleEvent} for each 
+         * invocation.
+         */
+        final String phase;
+        
+        /**
+         * How many times to run the procedure, as given by its {@link Repeat} 
+         * annotation, or 1 if it has none.
+         */
+        final int repetitions;
+        
+        /**
+         * How many times to run the procedure before the repetitions that 
+         * count, as given by its {@link Repeat} annotation, or 0 if it has 
+         * none.
+         */
+        final int warmups;
+        
+        private final MethodHandle handle;
+        
+        /**
+         * Invokes the procedure on an instance of the test class. Whatever the 
+         * procedure throws is thrown as is, not wrapped. The invocation is 
+         * recorded as a {@link TestLifecycleEvent}, if events are being 
+         * recorded.
+         * @param instance The instance of the test class. Ignored if the 
+         * procedure is static.
+         * @throws Throwable Whatever the procedure throws, such as an 
+         * <code>AssertionError</code> for a failing test.
+         */
+        void invoke(Object instance) throws Throwable {
+            TestLifecycleEvent event = new TestLifecycleEvent();
+            event.begin();
+            try {
+                this.handle.invokeExact(instance);
+            } finally {
+                event.end(this.phase, 
+                        this.procedure.getDeclaringClass().getName(), 
+                        this.procedure.getName());
+            }
+        }
+        
+        private Step(Method procedure, MethodHandle handle, 
+                Class<? extends Annotation> kind) {
+            this.procedure = procedure;
+            this.handle = handle;
+            this.phase = "@" + kind.getSimpleName();
+            Test annotation = procedure.getAnnotation(Test.class);
+            this.timeout = annotation == null ? 0L : annotation.timeout();
+            Repeat repeat = procedure.getAnnotation(Repeat.class);
+            this.repetitions = repeat == null ? 1 : repeat.value();
+            this.warmups = repeat == null ? 0 : repeat.warmups();
+        }
+        
+    }
+    
+    private static MethodHandle toHandle(Method procedure) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup()
+                    .unreflect(procedure);
+            if (Modifier.isStatic(procedure.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(STEP_TYPE);
+        } catch (IllegalAccessException iae) {
+            String excMsg = "Unable to run test " + procedure.getName() 
+                    + " due to illegal access";
+            throw new RuntimeException(excMsg, iae);
+        }
+    }
+    
+    private static List<Step> filter(Method[] procedures, 
+            Class<? extends Annotation> annotation) {
+        List<Step> steps = new ArrayList<>();
+        for (Method procedure : procedures) {
+            if (procedure.isAnnotationPresent(annotation)) {
+                steps.add(new Step(procedure, toHandle(procedure), 
+                        annotation));
+            }
+        }
+        return Collections.unmodifiableList(steps);
+    }
+    
+    /**
+     * Gets the plan for a test class, figuring it out if this is the first 
+     * time it's been asked for.
+     * @param type The test class. For example, 
+     * <code>org.example.HelloWorldTest</code>.
+     * @return The plan for the test class. Each subsequent call with the same 
+     * test class gives the same plan.
+     * @throws RuntimeException If any of the annotated procedures is not 
+     * accessible.
+     */
+    static TestPlan of(Class<?> type) {
+        return CACHE.get(type);
+    }
+    
+    /**
+     * Creates a new instance of the test class with its nullary constructor.
+     * @return A new instance of the test class.
+     * @throws ReflectiveOperationException If the test class doesn't have an 
+     * accessible nullary constructor, or if that constructor throws an 
+     * exception.
+     */
+    Object newInstance() throws ReflectiveOperationException {
+        if (this.constructorHandle == null) {
+            return this.testClass.getDeclaredConstructor().newInstance();
+        }
+        try {
+            return this.constructorHandle.invokeExact();
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+    
+    private static MethodHandle findConstructor(Class<?> type) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, 
+                    MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+    
+    private TestPlan(Class<?> type) {
+        this.testClass = type;
+        this.constructorHandle = findConstructor(type);
+        Method[] procedures = type.getMethods();
+        this.setUps = filter(procedures, BeforeAllTests.class);
+        this.befores = filter(procedures, BeforeEachTest.class);
+        List<Step> annotatedTests = filter(procedures, Test.class);
+        List<Step> testsToRun = new ArrayList<>();
+        List<Method> testsToSkip = new ArrayList<>();
+        for (Step test : annotatedTests) {
+            if (test.procedure.isAnnotationPresent(Skip.class)) {
+                testsToSkip.add(test.procedure);
+            } else {
+                testsToRun.add(test);
+            }
+        }
+        this.tests = Collections.unmodifiableList(testsToRun);
+        this.skips = Collections.unmodifiableList(testsToSkip);
+        this.afters = filter(procedures, AfterEachTest.class);
+        this.tearDowns = filter(procedures, AfterAllTests.class);
+        this.concurrent = type.isAnnotationPresent(Concurrent.class);
+        List<Method> annotatedBenchmarks = new ArrayList<>();
+        for (Method procedure : procedures) {
+            if (procedure.isAnnotationPresent(Benchmark.class)) {
+                annotatedBenchmarks.add(procedure);
+            }
+        }
+        this.benchmarks = Collections.unmodifiableList(annotatedBenchmarks);
+    }
+    
+}
@@ -16,6 +16,16 @@ public class TestResult {
     
     private final Throwable testStackTraceHolder;
     
+    private final long wallNanos;
+    
+    private final long cpuNanos;
+    
+    private final long allocatedBytes;
+    
+    private final RepetitionSummary repetitionSummary;
+    
+    private final boolean fromCache;
+    
     /**
      * Gets the test procedure the result is for.
      * @return The test procedure the result is for. Such as, for example, 
@@ -28,8 +38,9 @@ public class TestResult {
     /**
      * Gets the test result status.
      * @return The test result status, one of {@link TestResultStatus#PASSED}, 
-     * {@link TestResultStatus#FAILED}, {@link TestResultStatus#ERROR} or {@link 
-     * TestResultStatus#SKIPPED}.
+     * {@link TestResultStatus#FAILED}, {@link TestResultStatus#ERROR}, {@link 
+     * TestResultStatus#SKIPPED}, {@link TestResultStatus#TIMED_OUT}, {@link 
+     * TestResultStatus#NOT_RUN} or {@link TestResultStatus#REGRESSED}.
      */
     public TestResultStatus getStatus() {
         return this.testStatus;
@@ -55,12 +66,102 @@ public class TestResult {
     }
     
     /**
-     * Constructor.
+     * Gives how much time passed on the clock while the test procedure ran. 
+     * This does not include the time taken by procedures annotated {@link 
+     * org.testframe.api.BeforeEachTest} or {@link 
+     * org.testframe.api.AfterEachTest}.
+     * @return The wall time in nanoseconds. For example, 1250000 for a test 
+     * that took one and a quarter milliseconds. 0 for a skipped test or if the 
+     * time was not measured.
+     * @since 1.1
+     */
+    public long getWallTime() {
+        return this.wallNanos;
+    }
+    
+    /**
+     * Gives how much processor time the thread running the test procedure 
+     * used while it ran. This does not include the time taken by procedures 
+     * annotated {@link org.testframe.api.BeforeEachTest} or {@link 
+     * org.testframe.api.AfterEachTest}, nor any time used by other threads 
+     * the test procedure might have started.
+     * @return The processor time in nanoseconds. For example, 980000 for a 
+     * test that kept the processor busy for just under a millisecond. 0 for a 
+     * skipped test or if the time was not measured, &minus;1 if the Java 
+     * Virtual Machine can't measure processor time for the thread, as is the 
+     * case for virtual threads.
+     * @since 1.1
+     */
+    public long getCPUTime() {
+        return this.cpuNanos;
+    }
+    
+    /**
+     * Gives how many bytes of memory the thread running the test procedure 
+     * allocated while it ran. Like the processor time, this does not include 
+     * what was allocated by procedures annotated {@link 
+     * org.testframe.api.BeforeEachTest} or {@link 
+     * org.testframe.api.AfterEachTest}, nor by other threads the test 
+     * procedure might have started. A test that allocates a lot gives the 
+     * garbage collector a lot of work, which might slow down other tests 
+     * running at the same time.
+     * @return The number of bytes allocated. For example, 524288 for a test 
+     * that allocated half a mebibyte. 0 for a skipped test or if it was not 
+     * measured, &minus;1 if the Java Virtual Machine can't measure allocation 
+     * for the thread.
+     * @since 1.1
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+    
+    /**
+     * Gives the summary of the repetitions of a test annotated {@link 
+     * org.testframe.api.Repeat}. For such a test, the wall time, processor 
+     * time and bytes allocated are the totals of all the repetitions, not 
+     * counting warmup runs.
+     * @return The summary of the repetitions, or null if the test was not 
+     * repeated.
+     * @since 1.1
+     */
+    public RepetitionSummary getRepetitionSummary() {
+        return this.repetitionSummary;
+    }
+    
+    /**
+     * Tells whether this result was replayed from the result cache rather 
+     * than obtained by running the test. A cached result is from the last time 
+     * the test ran, and so are its timing and allocation information. See the 
+     * "-cache" option of {@link TestRunner#main(String[])}.
+     * @return True if the result was replayed from the cache, false if the 
+     * test actually ran.
+     * @since 1.1
+     */
+    public boolean isCached() {
+        return this.fromCache;
+    }
+    
+    /**
+     * Gives a copy of this result marked as replayed from the result cache.
+     * @return A result with the same procedure, status, information and 
+     * measurements as this one, for which {@link #isCached()} returns true.
+     */
+    TestResult asCached() {
+        return new TestResult(this.testProcedure, this.testStatus, 
+                this.testStackTraceHolder, this.wallNanos, this.cpuNanos, 
+                this.allocatedBytes, this.repetitionSummary, true);
+    }
+    
+    /**
+     * Constructor for a test result without timing information. The wall time 
+     * and processor time will both be 0.
      * @param procedure The test procedure the test result is for. Such as, for 
      * example, <code>testNoDivisionByZero()</code>.
      * @param status The test result status, one of {@link 
      * TestResultStatus#PASSED}, {@link TestResultStatus#FAILED}, {@link 
-     * TestResultStatus#ERROR} or {@link TestResultStatus#SKIPPED}.
+     * TestResultStatus#ERROR}, {@link TestResultStatus#SKIPPED}, {@link 
+     * TestResultStatus#TIMED_OUT}, {@link TestResultStatus#NOT_RUN} or {@link 
+     * TestResultStatus#REGRESSED}.
      * @param information An error or exception object presumably holding a 
      * stack trace pertinent to the test, or null if not applicable (such as 
      * ought to be the case for a passing or skipped test). For example, an 
@@ -69,9 +170,93 @@ public class TestResult {
      */
     public TestResult(Method procedure, TestResultStatus status, 
             Throwable information) {
+        this(procedure, status, information, 0L, 0L);
+    }
+    
+    /**
+     * Constructor for a test result with timing information.
+     * @param procedure The test procedure the test result is for. Such as, for 
+     * example, <code>testNoDivisionByZero()</code>.
+     * @param status The test result status. For example, {@link 
+     * TestResultStatus#PASSED}.
+     * @param information An error or exception object presumably holding a 
+     * stack trace pertinent to the test, or null if not applicable.
+     * @param wallTime How much time passed on the clock while the test 
+     * procedure ran, in nanoseconds. For example, 1250000.
+     * @param cpuTime How much processor time the test procedure used, in 
+     * nanoseconds, or &minus;1 if that couldn't be measured. For example, 
+     * 980000.
+     * @since 1.1
+     */
+    public TestResult(Method procedure, TestResultStatus status, 
+            Throwable information, long wallTime, long cpuTime) {
+        this(procedure, status, information, wallTime, cpuTime, 0L);
+    }
+    
+    /**
+     * Constructor for a test result with timing and allocation information.
+     * @param procedure The test procedure the test result is for. Such as, for 
+     * example, <code>testNoDivisionByZero()</code>.
+     * @param status The test result status. For example, {@link 
+     * TestResultStatus#PASSED}.
+     * @param information An error or exception object presumably holding a 
+     * stack trace pertinent to the test, or null if not applicable.
+     * @param wallTime How much time passed on the clock while the test 
+     * procedure ran, in nanoseconds. For example, 1250000.
+     * @param cpuTime How much processor time the test procedure used, in 
+     * nanoseconds, or &minus;1 if that couldn't be measured. For example, 
+     * 980000.
+     * @param allocated How many bytes the test procedure allocated, or 
+     * &minus;1 if that couldn't be measured. For example, 524288.
+     * @since 1.1
+     */
+    public TestResult(Method procedure, TestResultStatus status, 
+            Throwable information, long wallTime, long cpuTime, 
+            long allocated) {
+        this(procedure, status, information, wallTime, cpuTime, allocated, 
+                null);
+    }
+    
+    /**
+     * Constructor for a test result with timing and allocation information 
+     * and, for a test annotated {@link org.testframe.api.Repeat}, a summary of 
+     * its repetitions.
+     * @param procedure The test procedure the test result is for. Such as, for 
+     * example, <code>testNoDivisionByZero()</code>.
+     * @param status The test result status. For example, {@link 
+     * TestResultStatus#PASSED}.
+     * @param information An error or exception object presumably holding a 
+     * stack trace pertinent to the test, or null if not applicable.
+     * @param wallTime How much time passed on the clock while the test 
+     * procedure ran, in nanoseconds. For example, 1250000.
+     * @param cpuTime How much processor time the test procedure used, in 
+     * nanoseconds, or &minus;1 if that couldn't be measured. For example, 
+     * 980000.
+     * @param allocated How many bytes the test procedure allocated, or 
+     * &minus;1 if that couldn't be measured. For example, 524288.
+     * @param summary The summary of the repetitions. For example, that the 
+     * test passed 97 out of 100 times. May be null if the test was not 
+     * repeated.
+     * @since 1.1
+     */
+    public TestResult(Method procedure, TestResultStatus status, 
+            Throwable information, long wallTime, long cpuTime, 
+            long allocated, RepetitionSummary summary) {
+        this(procedure, status, information, wallTime, cpuTime, allocated, 
+                summary, false);
+    }
+    
+    private TestResult(Method procedure, TestResultStatus status, 
+            Throwable information, long wallTime, long cpuTime, 
+            long allocated, RepetitionSummary summary, boolean cached) {
         this.testProcedure = procedure;
         this.testStatus = status;
         this.testStackTraceHolder = information;
+        this.wallNanos = wallTime;
+        this.cpuNanos = cpuTime;
+        this.allocatedBytes = allocated;
+        this.repetitionSummary = summary;
+        this.fromCache = cached;
     }
 
 }
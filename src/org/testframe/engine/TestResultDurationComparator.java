@@ -0,0 +1,32 @@
+package org.testframe.engine;
+
+import java.util.Comparator;
+
+/**
+ * Compares two test results according to how long the tests took. The 
+ * motivation for this comparator is that it enables the test results reporter 
+ * to put the slowest tests at the end of the report, right above the totals, 
+ * where they're easy to find when trying to make a test suite run faster.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+public class TestResultDurationComparator 
+        implements Comparator<TestResult> {
+
+    /**
+     * Compares test results according to their wall times.
+     * @param resultA The first result to compare. For example, a result for a 
+     * test that took 2 milliseconds.
+     * @param resultB The second result to compare. For example, a result for a 
+     * test that took 15 milliseconds.
+     * @return 0 if the wall times are the same, a negative integer if 
+     * <code>resultA</code>'s test took less time than <code>resultB</code>'s 
+     * test, or a positive integer if <code>resultA</code>'s test took more 
+     * time than <code>resultB</code>'s test.
+     */
+    @Override
+    public int compare(TestResult resultA, TestResult resultB) {
+        return Long.compare(resultA.getWallTime(), resultB.getWallTime());
+    }
+
+}
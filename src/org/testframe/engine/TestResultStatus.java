@@ -1,9 +1,10 @@
 package org.testframe.engine;
 
 /**
- * Enumerates the four possible outcomes of running a test: it passed, it 
- * failed, it was skipped or it caused an error. Tests are annotated with the 
- * annotation {@link org.testframe.api.Test}.
+ * Enumerates the possible outcomes of running a test: it passed, it failed, 
+ * it was skipped, it caused an error, it took too long, it wasn't run at all 
+ * or it passed but took noticeably longer than it used to. Tests are 
+ * annotated with the annotation {@link org.testframe.api.Test}.
  * @since 1.0
  * @author Alonso del Arte
  */
@@ -37,6 +38,34 @@ public enum TestResultStatus {
      * Indicates the test failed. Generally associated with the color yellow. 
      * The developer should check that the test failed for the expected reason.
      */
-    FAILED
+    FAILED, 
+    
+    /**
+     * Indicates the test took longer than it was allowed to, and the test 
+     * runner gave up on it. Generally associated with the color red, same as 
+     * an error. The time limit is given by {@link 
+     * org.testframe.api.Test#timeout()} or by the test runner's default. 
+     * @since 1.1
+     */
+    TIMED_OUT, 
+    
+    /**
+     * Indicates the test was not run because too many other tests had already 
+     * failed. Generally associated with gray, same as a skipped test. This 
+     * only happens when the test runner is given a failure budget, with the 
+     * "-failfast" or "-maxfailures" command line options.
+     * @since 1.1
+     */
+    NOT_RUN, 
+    
+    /**
+     * Indicates the test passed, but it took significantly longer than it did 
+     * in earlier runs. Generally associated with the color orange. This only 
+     * happens when the test runner is given the "-regress" command line 
+     * option, see {@link TestRunner#main(String[])}. Listed last so that the 
+     * other statuses keep the positions they had before this one was added.
+     * @since 1.1
+     */
+    REGRESSED
     
 }
@@ -1,6 +1,19 @@
 package org.testframe.engine;
 
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Reports the test results. Any frills in the output, such as text in different 
@@ -9,73 +22,531 @@ import java.util.List;
  * might provide clickable line numbers (e.g., 
  * <code>AssertersTest.java:17</code>) that take you to the line that caused the 
  * test failure or error.
+ * <p>The results can be given all at once to the constructor and reported 
+ * with {@link #report()}, or this reporter can be given to {@link 
+ * TestRunner#run(List, int, TestListener)} as a listener, in which case each 
+ * result is reported as soon as its test finishes and the totals are reported 
+ * at the end.</p>
+ * <p>The report is put together in a buffer that is written out in large 
+ * chunks, when it gets full or when a second has passed since it was last 
+ * written out, and at the end. While this reporter is listening to a run, a 
+ * timer also checks every second, so that results don't sit in the buffer 
+ * while a long test runs. Stack traces are written out in the same 
+ * stream as the rest of the report. Optionally, stack traces can be cut short 
+ * after a given number of frames, and a stack trace that is identical to one 
+ * reported earlier can be replaced by a reference to the earlier test. Both 
+ * options help keep the report readable when thousands of tests fail at once 
+ * for the same reason.</p>
+ * <p>Optionally, the report can end with a list of the tests that allocated 
+ * the most memory, with how much processor and wall time each took. Those 
+ * are the tests most likely to keep the garbage collector busy and slow down 
+ * other tests running at the same time.</p>
  * @since 1.0
  * @author Alonso del Arte
  */
-public class TestResultsReporter {
+public class TestResultsReporter implements TestListener {
+    
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+    
+    private static final long FLUSH_INTERVAL_NANOS = 1_000_000_000L;
+    
+    private static final Comparator<TestResult> BY_ALLOCATION 
+            = Comparator.comparingLong(TestResult::getAllocatedBytes)
+                    .thenComparingLong(TestResult::getCPUTime);
     
     private final String testClassName;
     
     private final List<TestResult> resultsList;
     
+    private final PrintStream output;
+    
+    private final int frameLimit;
+    
+    private final Map<String, String> reportedTraces;
+    
+    private final int heaviestLimit;
+    
+    // Smallest first, so that the lightest of the heaviest tests so far is the 
+    // one to drop when a heavier one comes along
+    private final PriorityQueue<TestResult> heaviest;
+    
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD);
+    
+    private long lastFlushTime = System.nanoTime();
+    
+    // The timer flushes from another thread. A lock is used rather than 
+    // synchronized so as not to pin virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private ScheduledFuture<?> flushTimer = null;
+    
+    private boolean qualifyAll = false;
+    
+    private int totalCount = 0;
+    
+    private int passCount = 0;
+    
+    private int failCount = 0;
+    
+    private int skipCount = 0;
+    
+    private int errorCount = 0;
+    
+    private int timeoutCount = 0;
+    
+    private int notRunCount = 0;
+    
+    private int regressedCount = 0;
+    
+    private int cachedCount = 0;
+    
+    private boolean spansSeveralClasses() {
+        Class<?> first = null;
+        for (TestResult result : this.resultsList) {
+            Class<?> type = result.getProcedure().getDeclaringClass();
+            if (first == null) {
+                first = type;
+            } else if (!first.equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private String nameOf(Method procedure) {
+        String className = procedure.getDeclaringClass().getName();
+        if (this.qualifyAll || !className.equals(this.testClassName)) {
+            return className + '.' + procedure.getName();
+        }
+        return procedure.getName();
+    }
+    
+    private void keepIfHeavy(TestResult result) {
+        if (result.getAllocatedBytes() <= 0) {
+            return;
+        }
+        this.heaviest.offer(result);
+        if (this.heaviest.size() > this.heaviestLimit) {
+            this.heaviest.poll();
+        }
+    }
+    
+    private void appendHeaviest() {
+        List<TestResult> results = new ArrayList<>(this.heaviest);
+        results.sort(BY_ALLOCATION.reversed());
+        this.buffer.append("Heaviest tests by memory allocated:\n");
+        for (TestResult result : results) {
+            this.buffer.append('\t').append(this.nameOf(result.getProcedure()))
+                    .append(": ").append(result.getAllocatedBytes())
+                    .append(" bytes, ");
+            long cpuTime = result.getCPUTime();
+            if (cpuTime < 0) {
+                this.buffer.append("unknown");
+            } else {
+                this.buffer.append(cpuTime / 1000000);
+            }
+            this.buffer.append(" ms processor, ")
+                    .append(result.getWallTime() / 1000000).append(" ms wall\n");
+        }
+        this.buffer.append('\n');
+        this.heaviest.clear();
+    }
+    
+    private void flush() {
+        TestLifecycleEvent event = new TestLifecycleEvent();
+        event.begin();
+        this.output.append(this.buffer);
+        this.output.flush();
+        this.buffer.setLength(0);
+        this.lastFlushTime = System.nanoTime();
+        event.end(TestLifecycleEvent.REPORT_PHASE, this.testClassName, null);
+    }
+    
+    private void flushIfDue() {
+        if (this.buffer.length() >= FLUSH_THRESHOLD 
+                || System.nanoTime() - this.lastFlushTime 
+                        >= FLUSH_INTERVAL_NANOS) {
+            this.flush();
+        }
+    }
+    
+    private void flushIfOverdue() {
+        this.lock.lock();
+        try {
+            if (this.buffer.length() > 0 
+                    && System.nanoTime() - this.lastFlushTime 
+                            >= FLUSH_INTERVAL_NANOS) {
+                this.flush();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+    
+    private void startFlushTimer() {
+        if (this.flushTimer == null) {
+            this.flushTimer = TestRunner.WATCHDOG.scheduleWithFixedDelay( 
+                    this::flushIfOverdue, FLUSH_INTERVAL_NANOS, 
+                    FLUSH_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private void stopFlushTimer() {
+        if (this.flushTimer != null) {
+            this.flushTimer.cancel(false);
+            this.flushTimer = null;
+        }
+    }
+    
+    // Follows the format of Throwable.printStackTrace(), except that frames 
+    // past the frame limit are left out
+    private void appendFrames(Throwable throwable, 
+            StackTraceElement[] enclosing, String caption, String prefix, 
+            Set<Throwable> alreadyAppended) {
+        if (!alreadyAppended.add(throwable)) {
+            this.buffer.append(prefix).append(caption)
+                    .append("[CIRCULAR REFERENCE: ").append(throwable)
+                    .append("]\n");
+            return;
+        }
+        StackTraceElement[] trace = throwable.getStackTrace();
+        int m = trace.length - 1;
+        int n = enclosing.length - 1;
+        while (m >= 0 && n >= 0 && trace[m].equals(enclosing[n])) {
+            m--;
+            n--;
+        }
+        int framesInCommon = trace.length - 1 - m;
+        if (!caption.isEmpty()) {
+            this.buffer.append(prefix).append(caption).append(throwable)
+                    .append('\n');
+        }
+        int uniqueFrames = m + 1;
+        int shown = uniqueFrames;
+        if (this.frameLimit > 0 && shown > this.frameLimit) {
+            shown = this.frameLimit;
+        }
+        for (int i = 0; i < shown; i++) {
+            this.buffer.append(prefix).append("\tat ").append(trace[i])
+                    .append('\n');
+        }
+        if (shown < uniqueFrames) {
+            this.buffer.append(prefix).append("\t... ")
+                    .append(uniqueFrames - shown).append(" frames omitted\n");
+        }
+        if (framesInCommon != 0) {
+            this.buffer.append(prefix).append("\t... ").append(framesInCommon)
+                    .append(" more\n");
+        }
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            this.appendFrames(suppressed, trace, "Suppressed: ", prefix + '\t', 
+                    alreadyAppended);
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            this.appendFrames(cause, trace, "Caused by: ", prefix, 
+                    alreadyAppended);
+        }
+    }
+    
+    private void appendStackTrace(Throwable throwable, String testName) {
+        this.buffer.append(throwable).append('\n');
+        int start = this.buffer.length();
+        this.appendFrames(throwable, new StackTraceElement[0], "", "", 
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        if (this.reportedTraces != null) {
+            String frames = throwable.getClass().getName() 
+                    + this.buffer.substring(start);
+            String earlierTestName = this.reportedTraces.putIfAbsent(frames, 
+                    testName);
+            if (earlierTestName != null) {
+                this.buffer.setLength(start);
+                this.buffer.append("\t... same stack trace as ")
+                        .append(earlierTestName).append('\n');
+            }
+        }
+    }
+    
+    /**
+     * Starts the report with a heading and resets the counts.
+     * @since 1.1
+     */
+    @Override
+    public void onRunStarted() {
+        this.lock.lock();
+        try {
+            this.startRun();
+        } finally {
+            this.lock.unlock();
+        }
+        this.startFlushTimer();
+    }
+    
+    private void startRun() {
+        this.totalCount = 0;
+        this.passCount = 0;
+        this.failCount = 0;
+        this.skipCount = 0;
+        this.errorCount = 0;
+        this.timeoutCount = 0;
+        this.notRunCount = 0;
+        this.regressedCount = 0;
+        this.cachedCount = 0;
+        if (this.heaviest != null) {
+            this.heaviest.clear();
+        }
+        this.buffer.append('\n').append("Test results for ")
+                .append(this.testClassName).append('\n');
+    }
+    
+    /**
+     * Reports one test result, with a stack trace if the test failed or caused 
+     * an error. If the test procedure was declared in a class other than the 
+     * one this reporter was constructed for, its name is preceded by the fully 
+     * qualified name of that class.
+     * @param result The test result to report. For example, that 
+     * <code>testNoDivisionByZero()</code> failed.
+     * @since 1.1
+     */
+    @Override
+    public void onTestFinished(TestResult result) {
+        this.lock.lock();
+        try {
+            this.append(result);
+            this.flushIfDue();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+    
+    private void append(TestResult result) {
+        this.totalCount++;
+        int start = this.buffer.length();
+        Method procedure = result.getProcedure();
+        String className = procedure.getDeclaringClass().getName();
+        if (this.qualifyAll || !className.equals(this.testClassName)) {
+            this.buffer.append(className).append('.');
+        }
+        this.buffer.append(procedure.getName());
+        String testName = this.buffer.substring(start);
+        TestResultStatus status = result.getStatus();
+        this.buffer.append(' ').append(status.toString()).append(' ');
+        if (result.isCached()) {
+            this.cachedCount++;
+            this.buffer.append("(cached) ");
+        }
+        switch (status) {
+            case PASSED: 
+                this.passCount++;
+                this.buffer.append('\n');
+                break;
+            case FAILED:
+                this.failCount++;
+                Throwable failInfo = result.getInformation();
+                this.buffer.append(failInfo.getMessage()).append('\n');
+                this.appendStackTrace(failInfo, testName);
+                break;
+            case SKIPPED:
+                this.skipCount++;
+                this.buffer.append('\n');
+                break;
+            case ERROR:
+                this.errorCount++;
+                Throwable errorInfo = result.getInformation();
+                this.buffer.append(errorInfo.getMessage()).append('\n');
+                this.appendStackTrace(errorInfo, testName);
+                break;
+            case TIMED_OUT:
+                this.timeoutCount++;
+                Throwable timeoutInfo = result.getInformation();
+                this.buffer.append(timeoutInfo.getMessage()).append('\n');
+                this.appendStackTrace(timeoutInfo, testName);
+                break;
+            case NOT_RUN:
+                this.notRunCount++;
+                this.buffer.append('\n');
+                break;
+            case REGRESSED:
+                this.regressedCount++;
+                this.buffer.append(result.getInformation().getMessage())
+                        .append('\n');
+                break;
+            default:
+                throw new RuntimeException("Unknown test result status");
+        }
+        RepetitionSummary summary = result.getRepetitionSummary();
+        if (summary != null) {
+            this.buffer.append(summary).append('\n');
+        }
+        this.buffer.append('\n');
+        if (this.heaviest != null) {
+            this.keepIfHeavy(result);
+        }
+    }
+    
+    /**
+     * Ends the report with the heaviest tests, if so requested, and the 
+     * totals, and writes out whatever is still in the buffer.
+     * @since 1.1
+     */
+    @Override
+    public void onRunFinished() {
+        this.stopFlushTimer();
+        this.lock.lock();
+        try {
+            this.finishRun();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+    
+    private void finishRun() {
+        if (this.heaviest != null && !this.heaviest.isEmpty()) {
+            this.appendHeaviest();
+        }
+        this.buffer.append("Passed: ").append(this.passCount)
+                .append(". Failed: ").append(this.failCount)
+                .append(". Skipped: ").append(this.skipCount)
+                .append(". Caused an error: ").append(this.errorCount);
+        if (this.timeoutCount > 0) {
+            this.buffer.append(". Timed out: ").append(this.timeoutCount);
+        }
+        if (this.notRunCount > 0) {
+            this.buffer.append(". Not run: ").append(this.notRunCount);
+        }
+        if (this.regressedCount > 0) {
+            this.buffer.append(". Regressed: ").append(this.regressedCount);
+        }
+        if (this.cachedCount > 0) {
+            this.buffer.append(". Replayed from cache: ")
+                    .append(this.cachedCount);
+        }
+        this.buffer.append('\n');
+        this.buffer.append("Total: ").append(this.totalCount).append('\n');
+        this.flush();
+    }
+    
     /**
-     * Reports the test results to <code>System.out</code>. The output includes 
-     * one or more stack traces if any tests failed or caused an error.
+     * Reports the test results. The output includes one or more stack traces 
+     * if any tests failed or caused an error. If the results are for tests 
+     * from more than one test class, each test procedure name is preceded by 
+     * the fully qualified name of its test class.
+     * @throws IllegalStateException If this reporter was constructed without a 
+     * list of results.
      */
     public void report() {
-        int totalCount = this.resultsList.size();
-        int passCount = 0;
-        int failCount = 0;
-        int skipCount = 0;
-        int errorCount = 0;
-        System.out.println();
-        System.out.println("Test results for " + this.testClassName);
+        if (this.resultsList == null) {
+            String excMsg = "There are no results to report, this reporter " 
+                    + "is meant to be used as a listener";
+            throw new IllegalStateException(excMsg);
+        }
+        this.qualifyAll = this.spansSeveralClasses();
+        this.onRunStarted();
         for (TestResult result : this.resultsList) {
-            System.out.print(result.getProcedure().getName() + " ");
-            TestResultStatus status = result.getStatus();
-            System.out.print(status.toString() + " ");
-            switch (status) {
-                case PASSED: 
-                    passCount++;
-                    System.out.println();
-                    break;
-                case FAILED:
-                    failCount++;
-                    Throwable failInfo = result.getInformation();
-                    System.out.println(failInfo.getMessage());
-                    failInfo.printStackTrace();
-                    break;
-                case SKIPPED:
-                    skipCount++;
-                    System.out.println();
-                    break;
-                case ERROR:
-                    errorCount++;
-                    Throwable errorInfo = result.getInformation();
-                    System.out.println(errorInfo.getMessage());
-                    errorInfo.printStackTrace();
-                    break;
-                default:
-                    throw new RuntimeException("Unknown test result status");
-            }
-            System.out.println();
+            this.onTestFinished(result);
         }
-        System.out.println("Passed: " + passCount + ". Failed: " + failCount 
-                + ". Skipped: " + skipCount + ". Caused an error: " 
-                + errorCount);
-        System.out.println("Total: " + totalCount);
+        this.onRunFinished();
     }
     
     /**
-     * Sole constructor.
+     * Constructor for a reporter that is given the results all at once. The 
+     * report goes to <code>System.out</code>, with stack traces in full.
      * @param name The name of the test class, fully qualified. For example, 
-     * <code>org.example.HelloWorldTest</code>.
+     * <code>org.example.HelloWorldTest</code>. If the results are for several 
+     * test classes, this can be a description of those, such as "12 test 
+     * classes".
      * @param results The results of the tests. Such as, for example, that one 
      * test passed and another failed.
      */
     public TestResultsReporter(String name, List<TestResult> results) {
+        this(name, results, System.out, 0, false, 0);
+    }
+    
+    /**
+     * Constructor for a reporter that is to be used as a listener, reporting 
+     * each result as its test finishes. The report goes to 
+     * <code>System.out</code>, with stack traces in full.
+     * @param name The name of the test class, fully qualified. For example, 
+     * <code>org.example.HelloWorldTest</code>. If the tests are from several 
+     * test classes, this can be a description of those, such as "12 test 
+     * classes".
+     * @since 1.1
+     */
+    public TestResultsReporter(String name) {
+        this(name, null);
+    }
+    
+    /**
+     * Constructor for a reporter that is to be used as a listener, with 
+     * choices as to where the report goes and how stack traces are reported.
+     * @param name The name of the test class, fully qualified. For example, 
+     * <code>org.example.HelloWorldTest</code>. If the tests are from several 
+     * test classes, this can be a description of those, such as "12 test 
+     * classes".
+     * @param output Where to write the report. For example, 
+     * <code>System.out</code>.
+     * @param maxFrames How many frames of each stack trace to report, not 
+     * counting the frames of a cause that are the same as in the trace it 
+     * caused. For example, 10. If 0, stack traces are reported in full.
+     * @param deduplicate Whether to report a stack trace that's identical to 
+     * one already reported as a reference to the test that had it first. For 
+     * example, true.
+     * @throws IllegalArgumentException If <code>maxFrames</code> is negative.
+     * @since 1.1
+     */
+    public TestResultsReporter(String name, PrintStream output, int maxFrames, 
+            boolean deduplicate) {
+        this(name, null, output, maxFrames, deduplicate, 0);
+    }
+    
+    /**
+     * Constructor for a reporter that is to be used as a listener, with 
+     * choices as to where the report goes, how stack traces are reported and 
+     * how many of the tests that allocated the most memory to list at the end.
+     * @param name The name of the test class, fully qualified. For example, 
+     * <code>org.example.HelloWorldTest</code>. If the tests are from several 
+     * test classes, this can be a description of those, such as "12 test 
+     * classes".
+     * @param output Where to write the report. For example, 
+     * <code>System.out</code>.
+     * @param maxFrames How many frames of each stack trace to report. For 
+     * example, 10. If 0, stack traces are reported in full.
+     * @param deduplicate Whether to report a stack trace that's identical to 
+     * one already reported as a reference to the test that had it first. For 
+     * example, true.
+     * @param heaviestCount How many of the tests that allocated the most 
+     * memory to list. For example, 10. If 0, none are listed. Tests for which 
+     * allocation couldn't be measured are never listed.
+     * @throws IllegalArgumentException If <code>maxFrames</code> or 
+     * <code>heaviestCount</code> is negative.
+     * @since 1.1
+     */
+    public TestResultsReporter(String name, PrintStream output, int maxFrames, 
+            boolean deduplicate, int heaviestCount) {
+        this(name, null, output, maxFrames, deduplicate, heaviestCount);
+    }
+    
+    private TestResultsReporter(String name, List<TestResult> results, 
+            PrintStream output, int maxFrames, boolean deduplicate, 
+            int heaviestCount) {
+        if (maxFrames < 0) {
+            String excMsg = "Frame limit " + maxFrames 
+                    + " should not be negative";
+            throw new IllegalArgumentException(excMsg);
+        }
+        if (heaviestCount < 0) {
+            String excMsg = "Number of heaviest tests " + heaviestCount 
+                    + " should not be negative";
+            throw new IllegalArgumentException(excMsg);
+        }
         this.testClassName = name;
         this.resultsList = results;
+        this.output = output;
+        this.frameLimit = maxFrames;
+        this.reportedTraces = deduplicate ? new HashMap<>() : null;
+        this.heaviestLimit = heaviestCount;
+        this.heaviest = heaviestCount > 0 
+                ? new PriorityQueue<>(heaviestCount + 1, BY_ALLOCATION) : null;
     }
 
 }
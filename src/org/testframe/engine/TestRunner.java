@@ -1,177 +1,528 @@
 package org.testframe.engine;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
 
-import org.testframe.api.AfterAllTests;
-import org.testframe.api.AfterEachTest;
-import org.testframe.api.BeforeAllTests;
-import org.testframe.api.BeforeEachTest;
-import org.testframe.api.Skip;
-import org.testframe.api.Test;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import org.testframe.api.Concurrent;
 
 /**
  * Runs the tests in a test class. You can use the -enableassertions switch on 
  * the command line, but that's not necessary, because this test runner makes 
  * sure that assertions are turned on.
+ * <p>Each test class gets its own instance of this class to hold the results 
+ * of running its tests. That way several test classes can be run at the same 
+ * time, see {@link #run(List, int)}. The procedures of each test class are 
+ * looked up only once, the first time the test class is run, and then they're 
+ * invoked through method handles rather than reflection.</p>
+ * <p>If the test class is annotated {@link Concurrent}, each of its tests is 
+ * run on its own virtual thread with a fresh instance of the test class.</p>
+ * <p>A test with a time limit, see {@link org.testframe.api.Test#timeout()}, 
+ * is run on a separate thread while a single watchdog thread shared by all 
+ * test runners keeps time. If the test runs out of time, it's reported as 
+ * {@link TestResultStatus#TIMED_OUT} with the stack trace of the thread it was 
+ * running on, that thread is interrupted and left behind, and the next test 
+ * gets a fresh thread. The abandoned thread can't be made to stop, so it may 
+ * go on running the test at the same time as later tests, but it doesn't go 
+ * on to the after procedures, and a repeated test stops repeating.</p>
  * @since 1.0
  * @author Alonso del Arte
  */
 public class TestRunner {
     
-    private static List<Method> setUps = new ArrayList<>();
-
-    private static List<Method> befores = new ArrayList<>();
-
-    private static List<Method> tests = new ArrayList<>();
-
-    private static List<Method> skips = new ArrayList<>();
-
-    private static List<Method> afters = new ArrayList<>();
+    private final String testClassName;
+    
+    private TestPlan plan;
     
-    private static List<Method> tearDowns = new ArrayList<>();
+    private final TestListener testListener;
     
-    private static List<TestResult> results = new ArrayList<>();
+    private final FailureBudget failureBudget;
+    
+    private ExecutorService timedTestExecutor = null;
+    
+    private static volatile long defaultTimeout = 0L;
+    
+    // For tests without a time limit, which nothing ever gives up on
+    private static final AtomicBoolean NEVER_ABANDONED = new AtomicBoolean();
+    
+    // Also used by TestResultsReporter to flush the report on a timer
+    static final ScheduledThreadPoolExecutor WATCHDOG = makeWatchdog();
+    
+    private static ScheduledThreadPoolExecutor makeWatchdog() {
+        ScheduledThreadPoolExecutor watchdog 
+                = new ScheduledThreadPoolExecutor(1, runnable -> {
+                    Thread thread = new Thread(runnable, "testframe-watchdog");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        watchdog.setRemoveOnCancelPolicy(true);
+        return watchdog;
+    }
 
-    private static List<Method> filter(Method[] procedures, 
-            Class<? extends Annotation> annotation) {
-        List<Method> tests = new ArrayList<>();
-        for (Method procedure : procedures) {
-            Annotation holder = procedure.getAnnotation(annotation);
-            if (holder != null) {
-                tests.add(procedure);
+    // Makes sure only one thread at a time calls the listener it wraps. A lock 
+    // is used rather than synchronized so as not to pin virtual threads
+    private static final class SerializedListener implements TestListener {
+        
+        private final TestListener wrapped;
+        
+        private final ReentrantLock lock = new ReentrantLock();
+        
+        @Override
+        public void onRunStarted() {
+            this.lock.lock();
+            try {
+                this.wrapped.onRunStarted();
+            } finally {
+                this.lock.unlock();
             }
         }
-        return tests;
+        
+        @Override
+        public void onTestStarted(Method procedure) {
+            this.lock.lock();
+            try {
+                this.wrapped.onTestStarted(procedure);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        
+        @Override
+        public void onTestFinished(TestResult result) {
+            this.lock.lock();
+            try {
+                this.wrapped.onTestFinished(result);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        
+        @Override
+        public void onRunFinished() {
+            this.lock.lock();
+            try {
+                this.wrapped.onRunFinished();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        
+        SerializedListener(TestListener listener) {
+            this.wrapped = listener;
+        }
+        
+    }
+    
+    private static final ThreadMXBean THREAD_BEAN 
+            = ManagementFactory.getThreadMXBean();
+    
+    private static final boolean CPU_TIME_SUPPORTED 
+            = THREAD_BEAN.isCurrentThreadCpuTimeSupported();
+    
+    private static long currentThreadCPUTime() {
+        if (!CPU_TIME_SUPPORTED || Thread.currentThread().isVirtual()) {
+            return -1L;
+        }
+        return THREAD_BEAN.getCurrentThreadCpuTime();
     }
     
-    private static void filterOutSkips() {
-        for (Method test : tests) {
-            if (test.getAnnotation(Skip.class) != null) {
-                skips.add(test);
+    // Only some Java Virtual Machines, such as HotSpot, count the bytes each 
+    // thread allocates, and those that do might have it turned off
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN 
+            = allocationBean();
+    
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (THREAD_BEAN instanceof com.sun.management.ThreadMXBean bean 
+                && bean.isThreadAllocatedMemorySupported()) {
+            try {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            } catch (UnsupportedOperationException | SecurityException e) {
+                return null;
             }
         }
-        tests.removeAll(skips);
+        return null;
     }
-
-    private static TestResult run(Method test, Object instance) {
+    
+    private static long currentThreadAllocatedBytes() {
+        if (ALLOCATION_BEAN == null || Thread.currentThread().isVirtual()) {
+            return -1L;
+        }
+        return ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+    
+    private static TestResult run(TestPlan.Step test, Object instance) {
         TestResultStatus status = TestResultStatus.PASSED;
         Throwable info = null;
+        long allocatedStart = currentThreadAllocatedBytes();
+        long cpuStart = currentThreadCPUTime();
+        long wallStart = System.nanoTime();
         try {
             test.invoke(instance);
-        } catch (InvocationTargetException ite) {
-            Throwable cause = ite.getCause();
-            info = cause;
-            if (cause instanceof AssertionError) {
-                status = TestResultStatus.FAILED;
-            } else {
-                status = TestResultStatus.ERROR;
-            }
-        } catch (IllegalAccessException iae) {
-            String excMsg = "Unable to run test " + test.getName() 
-                    + " due to illegal access";
-            throw new RuntimeException(excMsg, iae);
+        } catch (AssertionError ae) {
+            info = ae;
+            status = TestResultStatus.FAILED;
+        } catch (Throwable t) {
+            info = t;
+            status = TestResultStatus.ERROR;
         }
-        return new TestResult(test, status, info);
+        long wallTime = System.nanoTime() - wallStart;
+        long cpuTime = cpuStart < 0 ? -1L : currentThreadCPUTime() - cpuStart;
+        long allocated = allocatedStart < 0 ? -1L 
+                : currentThreadAllocatedBytes() - allocatedStart;
+        return new TestResult(test.procedure, status, info, wallTime, cpuTime, 
+                allocated);
     }
     
-    private static List<TestResult> skip() {
-        List<TestResult> results = new ArrayList<>();
-        for (Method skip : skips) {
-            results.add(new TestResult(skip, TestResultStatus.SKIPPED, null));
+    private boolean outOfBudget() {
+        return this.failureBudget != null && this.failureBudget.isExhausted();
+    }
+    
+    private static TestResult notRun(TestPlan.Step test) {
+        return new TestResult(test.procedure, TestResultStatus.NOT_RUN, null);
+    }
+    
+    private void skip() {
+        for (Method skip : this.plan.skips) {
+            this.testListener.onTestFinished(new TestResult(skip, 
+                    TestResultStatus.SKIPPED, null));
         }
-        return results;
     }
     
-    private static void runSetUps(Object instance) {
+    private static void runAll(List<TestPlan.Step> steps, Object instance, 
+            String description) {
         try {
-            for (Method setUp : setUps) {
-                setUp.invoke(instance);
+            for (TestPlan.Step step : steps) {
+                step.invoke(instance);
             }
-        } catch (Exception e) {
-            String msg = "Unable to run @BeforeAllTests because of " 
-                    + e.getClass().getName();
-            throw new RuntimeException(msg, e);
+        } catch (Throwable t) {
+            String excMsg = "Unable to run " + description + " due to " 
+                    + t.getClass().getName();
+            throw new RuntimeException(excMsg, t);
         }
     }
     
-    private static void runBefores(Object instance) {
-        try {
-            for (Method before : befores) {
-                before.invoke(instance);
+    // The after procedures are skipped once the test has been abandoned, so 
+    // that they don't change the test class instance under a later test
+    private void runAfters(Object instance, AtomicBoolean abandoned) {
+        if (!abandoned.get()) {
+            runAll(this.plan.afters, instance, "@AfterEach");
+        }
+    }
+    
+    // The listener is told the test has started after the before procedures 
+    // of the first run, warmup or not, same as for a test that runs once
+    private TestResult runOnce(TestPlan.Step test, Object instance, 
+            AtomicBoolean abandoned, boolean first) {
+        runAll(this.plan.befores, instance, "@BeforeEach");
+        if (first) {
+            this.testListener.onTestStarted(test.procedure);
+        }
+        TestResult result = run(test, instance);
+        this.runAfters(instance, abandoned);
+        return result;
+    }
+    
+    private static long addMeasurement(long total, long measurement) {
+        return total < 0 || measurement < 0 ? -1L : total + measurement;
+    }
+    
+    // Stops early if abandoned, which happens when the repetitions take longer 
+    // than the test's time limit. The interrupt status can't be relied on for 
+    // this, since the test may swallow or clear the interrupt
+    private TestResult runRepeatedly(TestPlan.Step test, Object instance, 
+            AtomicBoolean abandoned) {
+        if (test.repetitions < 1 || test.warmups < 0) {
+            this.testListener.onTestStarted(test.procedure);
+            String excMsg = "Unable to repeat " + test.procedure.getName() 
+                    + " " + test.repetitions + " times after " + test.warmups 
+                    + " warmup runs";
+            return new TestResult(test.procedure, TestResultStatus.ERROR, 
+                    new IllegalArgumentException(excMsg));
+        }
+        for (int i = 0; i < test.warmups && !abandoned.get(); i++) {
+            this.runOnce(test, instance, abandoned, i == 0);
+        }
+        long[] wallTimes = new long[test.repetitions];
+        long wallTotal = 0L;
+        long cpuTotal = 0L;
+        long allocatedTotal = 0L;
+        int count = 0;
+        int passes = 0;
+        TestResult firstProblem = null;
+        while (count < test.repetitions && !abandoned.get()) {
+            TestResult result = this.runOnce(test, instance, abandoned, 
+                    count == 0 && test.warmups == 0);
+            wallTimes[count++] = result.getWallTime();
+            wallTotal += result.getWallTime();
+            cpuTotal = addMeasurement(cpuTotal, result.getCPUTime());
+            allocatedTotal = addMeasurement(allocatedTotal, 
+                    result.getAllocatedBytes());
+            if (result.getStatus() == TestResultStatus.PASSED) {
+                passes++;
+            } else if (firstProblem == null) {
+                firstProblem = result;
+            }
+        }
+        if (count == 0) {
+            return new TestResult(test.procedure, TestResultStatus.ERROR, 
+                    new InterruptedException("Abandoned during warmup"));
+        }
+        RepetitionSummary summary 
+                = RepetitionSummary.of(Arrays.copyOf(wallTimes, count), passes);
+        TestResultStatus status = TestResultStatus.PASSED;
+        Throwable info = null;
+        if (firstProblem != null) {
+            status = firstProblem.getStatus();
+            info = firstProblem.getInformation();
+            if (passes > 0) {
+                String msg = "Passed only " + passes + " of " + count 
+                        + " repetitions";
+                info = status == TestResultStatus.FAILED 
+                        ? new AssertionError(msg, info) 
+                        : new RuntimeException(msg, info);
             }
-        } catch (Exception e) {
-            String excMsg = "Unable to run @BeforeEach due to " 
-                    + e.getClass().getName();
-            throw new RuntimeException(excMsg, e);
         }
+        return new TestResult(test.procedure, status, info, wallTotal, 
+                cpuTotal, allocatedTotal, summary);
+    }
+    
+    private TestResult runWithBeforesAndAfters(TestPlan.Step test, 
+            Object instance, AtomicBoolean abandoned) {
+        if (test.repetitions != 1 || test.warmups != 0) {
+            return this.runRepeatedly(test, instance, abandoned);
+        }
+        runAll(this.plan.befores, instance, "@BeforeEach");
+        this.testListener.onTestStarted(test.procedure);
+        TestResult result = run(test, instance);
+        this.runAfters(instance, abandoned);
+        return result;
+    }
+    
+    /**
+     * Sets the time limit for tests that don't have one of their own, see 
+     * {@link org.testframe.api.Test#timeout()}.
+     * @param milliseconds The time limit in milliseconds. For example, 60000 
+     * for one minute. If 0, tests without a time limit of their own have no 
+     * time limit.
+     */
+    static void setDefaultTimeout(long milliseconds) {
+        defaultTimeout = milliseconds;
+    }
+    
+    /**
+     * Gives the time limit for tests that don't have one of their own.
+     * @return The time limit in milliseconds, or 0 if there is none.
+     */
+    static long getDefaultTimeout() {
+        return defaultTimeout;
+    }
+    
+    private static TestResult timedOut(TestPlan.Step test, long timeout, 
+            Thread stuck) {
+        String message = "Test took longer than " + timeout + " ms";
+        TimeoutException info;
+        if (stuck == null) {
+            info = new TimeoutException(message + " to start");
+            info.setStackTrace(new StackTraceElement[0]);
+        } else {
+            info = new TimeoutException(message + ", thread \"" 
+                    + stuck.getName() + "\" was " + stuck.getState() 
+                    + " at");
+            info.setStackTrace(stuck.getStackTrace());
+        }
+        return new TestResult(test.procedure, TestResultStatus.TIMED_OUT, info, 
+                TimeUnit.MILLISECONDS.toNanos(timeout), -1L);
     }
     
-    private static void runAfters(Object instance) {
+    // Runs the test on a thread of the given executor, with the shared 
+    // watchdog standing by to give up on it. If the watchdog gives up, it 
+    // marks the test abandoned, takes a stack trace of the stuck thread and 
+    // interrupts it
+    private TestResult runWithTimeout(TestPlan.Step test, Object instance, 
+            long timeout, ExecutorService executor) {
+        CompletableFuture<TestResult> outcome = new CompletableFuture<>();
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        AtomicBoolean abandoned = new AtomicBoolean(false);
+        executor.execute(() -> {
+            runner.set(Thread.currentThread());
+            try {
+                TestResult result = this.runWithBeforesAndAfters(test, 
+                        instance, abandoned);
+                // A repeated test cut short by being abandoned is left for 
+                // the watchdog to report as timed out
+                if (!abandoned.get()) {
+                    outcome.complete(result);
+                }
+            } catch (Throwable t) {
+                outcome.completeExceptionally(t);
+            }
+        });
+        ScheduledFuture<?> alarm = WATCHDOG.schedule(() -> {
+            // Set before completing, so that the stuck thread sees it by the 
+            // time the next test starts
+            abandoned.set(true);
+            Thread stuck = runner.get();
+            if (outcome.complete(timedOut(test, timeout, stuck)) 
+                    && stuck != null) {
+                stuck.interrupt();
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
         try {
-            for (Method after : afters) {
-                after.invoke(instance);
+            return outcome.join();
+        } catch (CompletionException ce) {
+            Throwable cause = ce.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
             }
-        } catch (Exception e) {
-            String excMsg = "Unable to run @AfterEach due to " 
-                    + e.getClass().getName();
-            throw new RuntimeException(excMsg, e);
+            String excMsg = "Unable to run test due to " 
+                    + cause.getClass().getName();
+            throw new RuntimeException(excMsg, cause);
+        } finally {
+            alarm.cancel(false);
+        }
+    }
+    
+    private TestResult runInOrder(TestPlan.Step test, Object instance) {
+        long timeout = test.timeout > 0 ? test.timeout : defaultTimeout;
+        if (timeout <= 0) {
+            return this.runWithBeforesAndAfters(test, instance, 
+                    NEVER_ABANDONED);
+        }
+        if (this.timedTestExecutor == null) {
+            this.timedTestExecutor = Executors.newSingleThreadExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "testframe-" 
+                                + this.testClassName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
         }
+        TestResult result = this.runWithTimeout(test, instance, timeout, 
+                this.timedTestExecutor);
+        if (result.getStatus() == TestResultStatus.TIMED_OUT) {
+            // The stuck thread is abandoned, later tests get a fresh one
+            this.timedTestExecutor.shutdownNow();
+            this.timedTestExecutor = null;
+        }
+        return result;
     }
     
-    private static void run(Object instance) {
-        for (Method test : tests) {
-            runBefores(instance);
-            results.add(run(test, instance));
-            runAfters(instance);
+    private void run(Object instance) {
+        try {
+            for (TestPlan.Step test : this.plan.tests) {
+                this.testListener.onTestFinished(this.outOfBudget() 
+                        ? notRun(test) : this.runInOrder(test, instance));
+            }
+        } finally {
+            if (this.timedTestExecutor != null) {
+                this.timedTestExecutor.shutdown();
+                this.timedTestExecutor = null;
+            }
         }
     }
-
-    private static void runTearDowns(Object instance) {
+    
+    // The executor is shut down rather than closed at the end, since closing 
+    // it would wait for any tests that timed out and never finished
+    private void runConcurrently() throws ReflectiveOperationException {
+        List<TestPlan.Step> tests = this.plan.tests;
+        List<Future<TestResult>> futures = new ArrayList<>(tests.size());
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ExecutorService coordinator 
+                = Executors.newVirtualThreadPerTaskExecutor();
         try {
-            for (Method tearDown : tearDowns) {
-                tearDown.invoke(instance);
+            for (TestPlan.Step test : tests) {
+                Object instance = this.plan.newInstance();
+                long timeout = test.timeout > 0 ? test.timeout : defaultTimeout;
+                if (timeout > 0) {
+                    futures.add(coordinator.submit(() -> this.outOfBudget() 
+                            ? notRun(test) : this.runWithTimeout(test, 
+                                    instance, timeout, executor)));
+                } else {
+                    futures.add(executor.submit(() -> this.outOfBudget() 
+                            ? notRun(test) 
+                            : this.runWithBeforesAndAfters(test, instance, 
+                                    NEVER_ABANDONED)));
+                }
             }
-        } catch (Exception e) {
-            String msg = "Unable to run @AfterAllTests because of " 
-                    + e.getClass().getName();
-            throw new RuntimeException(msg, e);
+            for (Future<TestResult> future : futures) {
+                this.testListener.onTestFinished(future.get());
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            String excMsg = "Interrupted while waiting for concurrent tests";
+            throw new RuntimeException(excMsg, ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            String excMsg = "Unable to run concurrent test due to " 
+                    + cause.getClass().getName();
+            throw new RuntimeException(excMsg, cause);
+        } finally {
+            executor.shutdown();
+            coordinator.shutdown();
         }
     }
     
-    /**
-     * Runs the tests of a test class and reports the results.
-     * @param testClassName The name of the test class. It needs to be fully 
-     * qualified with all relevant package names. For example, 
-     * <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
-     * @return A list of <code>TestResult</code> objects, one for each properly 
-     * annotated public test procedure.
-     */
-    public static List<TestResult> run(String testClassName) {
-        ClassLoader loader = ClassLoader.getSystemClassLoader();
+    private void run(ClassLoader loader) {
         loader.setDefaultAssertionStatus(true);    
         try {
-            Class<?> type = loader.loadClass(testClassName);
-            Object testClassInstance 
-                    = type.getDeclaredConstructor().newInstance();
-            Method[] procedures = type.getMethods();
-            setUps = filter(procedures, BeforeAllTests.class);
-            befores = filter(procedures, BeforeEachTest.class);
-            tests = filter(procedures, Test.class);
-            filterOutSkips();
-            afters = filter(procedures, AfterEachTest.class);
-            tearDowns = filter(procedures, AfterAllTests.class);
-            runSetUps(testClassInstance);
-            run(testClassInstance);
-            runTearDowns(testClassInstance);
-            results.addAll(skip());
+            TestLifecycleEvent loadEvent = new TestLifecycleEvent();
+            loadEvent.begin();
+            Class<?> type = loader.loadClass(this.testClassName);
+            this.plan = TestPlan.of(type);
+            loadEvent.end(TestLifecycleEvent.LOAD_PHASE, this.testClassName, 
+                    null);
+            if (this.outOfBudget()) {
+                for (TestPlan.Step test : this.plan.tests) {
+                    this.testListener.onTestFinished(notRun(test));
+                }
+                this.skip();
+                return;
+            }
+            Object testClassInstance = this.plan.newInstance();
+            runAll(this.plan.setUps, testClassInstance, "@BeforeAllTests");
+            if (this.plan.concurrent) {
+                this.runConcurrently();
+            } else {
+                this.run(testClassInstance);
+            }
+            runAll(this.plan.tearDowns, testClassInstance, "@AfterAllTests");
+            this.skip();
         } catch (ClassNotFoundException cnfe) {
             System.err.println("No tests ran");
-            System.err.println("Unable to find class " + testClassName);
+            System.err.println("Unable to find class " + this.testClassName);
             System.err.println("\"" + cnfe.getMessage() + "\"");
         } catch (IllegalAccessException | InstantiationException ie) {
             System.err.println("No tests ran because of " 
@@ -180,31 +531,528 @@ public class TestRunner {
             String excMsg = "Encountered " + roe.getClass().getName();
             throw new RuntimeException(excMsg, roe);
         }
+    }
+    
+    /**
+     * Runs the tests of a test class and reports the results.
+     * @param testClassName The name of the test class. It needs to be fully 
+     * qualified with all relevant package names. For example, 
+     * <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @return A list of <code>TestResult</code> objects, one for each properly 
+     * annotated public test procedure.
+     */
+    public static List<TestResult> run(String testClassName) {
+        return run(testClassName, ClassLoader.getSystemClassLoader());
+    }
+    
+    /**
+     * Runs the tests of a test class loaded with a particular class loader. 
+     * Assertions are turned on for the classes that class loader loads from 
+     * then on.
+     * @param testClassName The name of the test class. It needs to be fully 
+     * qualified with all relevant package names. For example, 
+     * <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param loader The class loader to load the test class with. For example, 
+     * a <code>URLClassLoader</code> for a directory of freshly compiled test 
+     * classes.
+     * @return A list of <code>TestResult</code> objects, one for each properly 
+     * annotated public test procedure.
+     * @since 1.1
+     */
+    public static List<TestResult> run(String testClassName, 
+            ClassLoader loader) {
+        List<TestResult> results = new ArrayList<>();
+        run(testClassName, loader, results::add);
         return results;
     }
-
+    
+    /**
+     * Runs the tests of a test class loaded with a particular class loader, 
+     * telling a listener about each test as it starts and finishes.
+     * @param testClassName The name of the test class. For example, 
+     * <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param loader The class loader to load the test class with. For example, 
+     * the system class loader.
+     * @param listener The listener to tell about the tests. For example, one 
+     * that sends the results to another process.
+     */
+    static void run(String testClassName, ClassLoader loader, 
+            TestListener listener) {
+        run(testClassName, loader, listener, null);
+    }
+    
+    /**
+     * Runs the tests of a test class loaded with a particular class loader, 
+     * telling a listener about each test as it starts and finishes, but not 
+     * starting any more tests once a failure budget is used up. The tests not 
+     * started are reported as {@link TestResultStatus#NOT_RUN}.
+     * @param testClassName The name of the test class. For example, 
+     * <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param loader The class loader to load the test class with. For example, 
+     * the system class loader.
+     * @param listener The listener to tell about the tests. For example, one 
+     * that sends the results to another process. The budget should be among 
+     * the listeners this listener passes the results on to, or else it will 
+     * never be used up.
+     * @param budget The failure budget. For example, a budget of 1 to stop at 
+     * the first failure. May be null, in which case all the tests are run.
+     */
+    static void run(String testClassName, ClassLoader loader, 
+            TestListener listener, FailureBudget budget) {
+        new TestRunner(testClassName, new SerializedListener(listener), budget)
+                .run(loader);
+    }
+    
+    private static boolean allPassed(List<TestResult> results) {
+        for (TestResult result : results) {
+            TestResultStatus status = result.getStatus();
+            if (status != TestResultStatus.PASSED 
+                    && status != TestResultStatus.SKIPPED) {
+                return false;
+            }
+        }
+        return !results.isEmpty();
+    }
+    
+    // The recorder is given the classes the test class loaded, with the 
+    // hashes of their class files, and the results of the test class
+    private static void runRecordingDependencies(String testClassName, 
+            TestListener listener, FailureBudget budget, 
+            BiConsumer<Map<String, Long>, List<TestResult>> recorder) {
+        String classPath = System.getProperty("java.class.path");
+        try (DependencyRecordingClassLoader loader 
+                = new DependencyRecordingClassLoader(classPath, 
+                        ClassLoader.getSystemClassLoader())) {
+            List<TestResult> results = new ArrayList<>();
+            run(testClassName, loader, new TestListener() {
+                
+                @Override
+                public void onTestStarted(Method procedure) {
+                    listener.onTestStarted(procedure);
+                }
+                
+                @Override
+                public void onTestFinished(TestResult result) {
+                    results.add(result);
+                    listener.onTestFinished(result);
+                }
+                
+            }, budget);
+            recorder.accept(loader.getLoadedClassHashes(), results);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+    
+    /**
+     * Runs the tests of several test classes at the same time. Each test class 
+     * is run in its entirety by one thread of the pool, so the tests within a 
+     * given test class still run one after the other, in the same order they 
+     * would if the test class was run by itself with {@link #run(String)}.
+     * @param testClassNames The names of the test classes, fully qualified. For 
+     * example, <code>"org.example.demo.textops.PalindromeCheckerTest"</code> 
+     * and <code>"org.example.demo.textops.AnagramCheckerTest"</code>.
+     * @param parallelism How many test classes may be run at the same time. 
+     * For example, 8. Should be at least 1. The number of available processors 
+     * is generally a good choice.
+     * @return A list of <code>TestResult</code> objects, one for each properly 
+     * annotated public test procedure in each of the test classes. The results 
+     * for a given test class are grouped together, and the groups are in the 
+     * same order as <code>testClassNames</code>, regardless of which test class 
+     * actually finished first.
+     * @throws IllegalArgumentException If <code>parallelism</code> is 0 or 
+     * negative.
+     * @since 1.1
+     */
+    public static List<TestResult> run(List<String> testClassNames, 
+            int parallelism) {
+        int size = testClassNames.size();
+        List<List<TestResult>> groups 
+                = new ArrayList<>(Collections.nCopies(size, null));
+        runInPool(inGivenOrder(size), parallelism, 
+                index -> groups.set(index, run(testClassNames.get(index))));
+        List<TestResult> merged = new ArrayList<>();
+        for (List<TestResult> group : groups) {
+            merged.addAll(group);
+        }
+        return merged;
+    }
+    
+    /**
+     * Runs the tests of several test classes, telling a listener about each 
+     * test as it starts and finishes rather than collecting the results. If 
+     * <code>parallelism</code> is more than 1, the test classes are run at the 
+     * same time as described for {@link #run(List, int)}, and the listener 
+     * hears about tests from different test classes in whatever order they 
+     * happen to finish.
+     * @param testClassNames The names of the test classes, fully qualified. For 
+     * example, <code>"org.example.demo.textops.PalindromeCheckerTest"</code> 
+     * and <code>"org.example.demo.textops.AnagramCheckerTest"</code>.
+     * @param parallelism How many test classes may be run at the same time. 
+     * For example, 8. Should be at least 1.
+     * @param listener The listener to tell about the tests. For example, a 
+     * {@link TestResultsReporter}. Only one thread at a time calls it.
+     * @throws IllegalArgumentException If <code>parallelism</code> is 0 or 
+     * negative.
+     * @since 1.1
+     */
+    public static void run(List<String> testClassNames, int parallelism, 
+            TestListener listener) {
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        run(testClassNames, parallelism, (testClassName, serialized) 
+                -> run(testClassName, loader, serialized), null, listener);
+    }
+    
+    private static List<Integer> inGivenOrder(int size) {
+        List<Integer> order = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            order.add(i);
+        }
+        return order;
+    }
+    
+    private static void runInPool(List<Integer> order, int parallelism, 
+            IntConsumer classRunner) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(order.size());
+            for (int index : order) {
+                tasks.add(pool.submit(() -> classRunner.accept(index)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    // If there is a history, the test classes expected to take longest are 
+    // started first
+    private static void run(List<String> testClassNames, int parallelism, 
+            BiConsumer<String, TestListener> classRunner, 
+            DurationHistory history, TestListener listener) {
+        if (parallelism < 1) {
+            String excMsg = "Parallelism " + parallelism 
+                    + " should be at least 1";
+            throw new IllegalArgumentException(excMsg);
+        }
+        TestListener serialized = new SerializedListener(listener);
+        serialized.onRunStarted();
+        if (parallelism == 1 || testClassNames.size() == 1) {
+            for (String testClassName : testClassNames) {
+                classRunner.accept(testClassName, serialized);
+            }
+        } else {
+            List<Integer> order = history == null 
+                    ? inGivenOrder(testClassNames.size()) 
+                    : history.longestFirst(testClassNames);
+            runInPool(order, parallelism, index 
+                    -> classRunner.accept(testClassNames.get(index), 
+                            serialized));
+        }
+        serialized.onRunFinished();
+    }
+    
+    private static Recording startRecording(Path path) {
+        try {
+            Recording recording 
+                    = new Recording(Configuration.getConfiguration("profile"));
+            recording.enable(TestLifecycleEvent.class);
+            recording.setDestination(path);
+            recording.setDumpOnExit(true);
+            recording.start();
+            return recording;
+        } catch (IOException | ParseException | IllegalStateException 
+                | SecurityException e) {
+            System.err.println("Unable to start flight recording due to " 
+                    + e.getClass().getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    private static void stopRecording(Recording recording, Path path) {
+        recording.stop();
+        recording.close();
+        System.out.println("Flight recording written to " + path);
+    }
+    
     /**
-     * Runs the tests of a test class specified on the command line and reports 
-     * the results.
-     * @param args First the fully qualified name of the test class, then the 
+     * Runs the tests of one or more test classes specified on the command line 
+     * and reports the results. The result of each test is reported as soon as 
+     * the test finishes, unless the results are to be sorted.
+     * @param args The fully qualified names of the test classes, then the 
      * command line options. For example, 
-     * "org.example.demo.textops.PalindromeCheckerTest". For now, only the 
-     * command line option "-sort", which sorts the test results so that passing 
-     * tests are reported first and failing tests last, is supported. This 
-     * option must be placed after the test class name.
+     * "org.example.demo.textops.PalindromeCheckerTest". The following command 
+     * line options are supported:
+     * <ul>
+     * <li>"-sort" sorts the test results so that passing tests are reported 
+     * first and failing tests last. Use "-sort=duration" instead to sort the 
+     * test results so that the quickest tests are reported first and the 
+     * slowest tests last.</li>
+     * <li>"-parallel" runs the test classes at the same time, as many at a time 
+     * as there are available processors. Use "-parallel=" followed by a 
+     * positive integer to set a different number, e.g., "-parallel=4". Without 
+     * this option, the test classes are run one after the other. The test 
+     * classes that took longest in earlier runs are started first.</li>
+     * <li>"-changed" runs only the test classes for which any of the classes 
+     * they loaded the last time they ran have changed since, as well as test 
+     * classes that have not run with this option before or did not pass last 
+     * time. Which classes each test class loaded is kept in 
+     * ".testframe/dependencies.idx" in the working directory.</li>
+     * <li>"-maxframes=" followed by a positive integer, e.g., "-maxframes=10", 
+     * cuts stack traces short after that many frames.</li>
+     * <li>"-dedupe" reports a stack trace identical to one already reported 
+     * as a reference to the test that had it first.</li>
+     * <li>"-heaviest=" followed by a positive integer, e.g., "-heaviest=10", 
+     * ends the report with a list of that many tests that allocated the most 
+     * memory, with the processor time and wall time of each. Only the test 
+     * procedures themselves are measured, not their before and after 
+     * procedures.</li>
+     * <li>"-bench" runs the procedures annotated {@link 
+     * org.testframe.api.Benchmark} instead of the tests, one at a time, and 
+     * reports how many times per second each one ran. See {@link 
+     * BenchmarkRunner}. With this option, "-fork=" followed by a positive 
+     * integer, e.g., "-fork=3", runs the benchmarks of each class in that many 
+     * fresh worker processes, one after the other, and pools the scores. Most 
+     * other options are ignored.</li>
+     * <li>"-jfr" records the run with JDK Flight Recorder to "testframe.jfr" 
+     * in the working directory, for a look in JDK Mission Control. Use 
+     * "-jfr=" followed by a file path, e.g., "-jfr=build/tests.jfr", to 
+     * record to a different file. Loading each test class, each invocation of 
+     * an annotated procedure and writing out the report are recorded as 
+     * {@link TestLifecycleEvent} events, alongside the usual events of the 
+     * "profile" settings. Tests run in worker processes with "-fork" are not 
+     * recorded.</li>
+     * <li>"-xml=" followed by a file path, e.g., "-xml=build/results.xml", 
+     * also writes the results to that file in the XML format made popular by 
+     * JUnit. See {@link JUnitXMLWriter}.</li>
+     * <li>"-jsonl=" followed by a file path, e.g., 
+     * "-jsonl=build/results.jsonl", also writes the results to that file in 
+     * the JSON Lines format. See {@link JSONLinesWriter}.</li>
+     * <li>"-fork" runs the test classes in separate worker processes, as many 
+     * at a time as there are available processors, so that test classes that 
+     * change global state can't interfere with each other. Use "-fork=" 
+     * followed by a positive integer to set a different number of workers. 
+     * Each worker is reused for several test classes. Use "-recycle=" 
+     * followed by a positive integer to replace a worker with a fresh one 
+     * after that many test classes, and "-recycleheap=" followed by a positive 
+     * integer to replace a worker once it has more than that many mebibytes 
+     * of heap in use after a test class. Output printed by tests in worker 
+     * processes goes to <code>System.err</code>. This option can't be 
+     * combined with "-changed".</li>
+     * <li>"-shard=" followed by a shard number and the number of shards, 
+     * e.g., "-shard=2/4", runs only the test classes in that shard, so that a 
+     * test suite can be split among several machines. The split is by 
+     * rendezvous hashing of the test class names, so it's the same on every 
+     * machine. Add "-shardbalance" to split the test classes so the shards 
+     * take about the same time according to the duration history instead, 
+     * which requires every machine to have the same history. The results 
+     * from each machine can be combined with {@link ShardMerger}.</li>
+     * <li>"-timeout=" followed by a positive integer, e.g., "-timeout=5000", 
+     * gives every test that doesn't specify its own time limit with {@link 
+     * org.testframe.api.Test#timeout()} that many milliseconds to finish. A 
+     * test that takes longer is reported as timed out and abandoned: its 
+     * thread is interrupted but may keep running the test at the same time as 
+     * later tests, though it skips the after procedures and stops repeating a 
+     * repeated test.</li> 
+     * <li>"-failfast" stops after the first test that fails, has an error or 
+     * runs out of time. Use "-maxfailures=" followed by a positive integer, 
+     * e.g., "-maxfailures=5", to stop after that many instead. Tests that are 
+     * already running are allowed to finish, but tests that haven't started 
+     * yet are not run, and neither are their before and after procedures. 
+     * They are reported as not run. With "-fork", each worker is given what's 
+     * left of the budget as it starts a test class, so a test class already 
+     * running in one worker doesn't stop for failures in another.</li> 
+     * <li>"-cache" replays the results of a test class from the last time it 
+     * ran instead of running it again, provided every test in it passed or 
+     * was skipped and none of the classes it loaded or resources it read 
+     * through its class loader have changed since, and neither has the test 
+     * runner itself, judging by hashes of their files. Files the tests open 
+     * by path rather than as resources are not checked, so test classes that 
+     * read those should be run without this option. Replayed results are 
+     * marked as cached in the report. Add "-rerun" to run every test class anyway and 
+     * refresh the cache. The cache is kept in ".testframe/results.cache" in 
+     * the working directory. See {@link ResultCache}. This option can't be 
+     * combined with "-changed" or "-fork".</li>
+     * <li>"-regress" compares how long each passing test took in this run and 
+     * the few runs before it to how long it took in the runs before those, 
+     * and reports the test as regressed if it has gotten slower with a 
+     * p-value less than 0.05 by the Mann&ndash;Whitney U test. Use 
+     * "-regress=" followed by a number between 0 and 1, e.g., 
+     * "-regress=0.01", to set a different significance level. Combined with 
+     * "-bench", the scores of each benchmark are compared to its earlier 
+     * scores instead. The measurements are kept in ".testframe/baseline.tsv" 
+     * in the working directory. See {@link RegressionGate}.</li>
+     * </ul>
+     * <p>How long each test took is appended to ".testframe/durations.tsv" in 
+     * the working directory after every run.</p>
+     * <p>The options should be placed after the test class names. If more than 
+     * one test class is specified, the results are merged into a single 
+     * report.</p>
+     * <p>Instead of a test class name, a pattern with asterisks may be given, 
+     * such as "org.example.**Test", in which case all the test classes on the 
+     * class path with names matching the pattern are run. See {@link 
+     * TestClassFinder#find(String)} for how patterns are matched. Depending on 
+     * the shell, the pattern may need to be quoted.</p>
      */
     public static void main(String[] args) {
-        if (args.length == 0) {
+        TestRunnerOptions options = TestRunnerOptions.parse(args);
+        List<String> testClassNames = options.testClassNames;
+        if (testClassNames.isEmpty()) {
             System.out.println("Please specify class to test");
+            return;
+        }
+        setDefaultTimeout(options.timeout);
+        RegressionGate gate = options.significance > 0.0 
+                ? RegressionGate.load(RegressionGate.DEFAULT_PATH, 
+                        options.significance) : null;
+        if (options.benchmarkFlag) {
+            BenchmarkRunner.report(testClassNames, options.forkCount, 
+                    System.out, gate);
+            return;
+        }
+        DurationHistory history 
+                = DurationHistory.load(DurationHistory.DEFAULT_PATH);
+        if (options.shardCount > 0) {
+            int total = testClassNames.size();
+            testClassNames = options.shardBalanceFlag 
+                    ? Sharding.selectBalanced(testClassNames, 
+                            options.shardIndex, options.shardCount, history) 
+                    : Sharding.select(testClassNames, options.shardIndex, 
+                            options.shardCount);
+            System.out.println("Running " + testClassNames.size() + " of " 
+                    + total + " test classes in shard " + options.shardIndex 
+                    + " of " + options.shardCount);
+            if (testClassNames.isEmpty()) {
+                return;
+            }
+        }
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        FailureBudget budget = options.maxFailures > 0 
+                ? new FailureBudget(options.maxFailures) : null;
+        BiConsumer<String, TestListener> classRunner 
+                = (testClassName, listener) 
+                        -> run(testClassName, loader, listener, budget);
+        DependencyIndex index = null;
+        if (options.changedFlag) {
+            index = DependencyIndex.load(DependencyIndex.DEFAULT_PATH);
+            int total = testClassNames.size();
+            testClassNames = index.selectChanged(testClassNames, loader);
+            System.out.println("Running " + testClassNames.size() + " of " 
+                    + total + " test classes, the rest are unchanged");
+            if (testClassNames.isEmpty()) {
+                return;
+            }
+            DependencyIndex recordingIndex = index;
+            classRunner = (testClassName, listener) 
+                    -> runRecordingDependencies(testClassName, listener, 
+                            budget, (hashes, classResults) -> {
+                                if (allPassed(classResults)) {
+                                    recordingIndex.record(testClassName, 
+                                            hashes);
+                                } else {
+                                    recordingIndex.forget(testClassName);
+                                }
+                            });
+        }
+        ResultCache cache = null;
+        if (options.cacheFlag) {
+            cache = ResultCache.load(ResultCache.DEFAULT_PATH);
+            ResultCache recordingCache = cache;
+            boolean rerun = options.rerunFlag;
+            classRunner = (testClassName, listener) -> {
+                if (rerun 
+                        || !recordingCache.replay(testClassName, loader, 
+                                listener)) {
+                    runRecordingDependencies(testClassName, listener, budget, 
+                            (hashes, classResults) -> recordingCache
+                                    .record(testClassName, hashes, 
+                                            classResults));
+                }
+            };
+        }
+        String name = testClassNames.size() == 1 ? testClassNames.get(0) 
+                : testClassNames.size() + " test classes";
+        TestResultsReporter reporter = new TestResultsReporter(name, 
+                System.out, options.maxFrames, options.deduplicateFlag, 
+                options.heaviestCount);
+        List<TestResult> results = null;
+        TestListener display = reporter;
+        if (options.sortFlag || options.sortByDurationFlag) {
+            results = new ArrayList<>();
+            display = results::add;
+        }
+        List<TestListener> listeners = new ArrayList<>();
+        listeners.add(history);
+        if (budget != null) {
+            listeners.add(budget);
+        }
+        listeners.add(display);
+        if (options.xmlPath != null) {
+            listeners.add(new JUnitXMLWriter(options.xmlPath, name));
+        }
+        if (options.jsonLinesPath != null) {
+            listeners.add(new JSONLinesWriter(options.jsonLinesPath));
+        }
+        TestListener combined 
+                = TestListener.combine(listeners.toArray(new TestListener[0]));
+        if (gate != null) {
+            combined = gate.guard(combined);
+        }
+        Recording recording = options.jfrPath == null ? null 
+                : startRecording(options.jfrPath);
+        if (options.forkCount > 0) {
+            try (WorkerPool pool = new WorkerPool(options.forkCount, 
+                    options.recycleAfterClasses, 
+                    options.recycleAboveHeapBytes)) {
+                run(testClassNames, options.forkCount, 
+                        (testClassName, listener) 
+                                -> pool.run(testClassName, listener, budget), 
+                        history, combined);
+            }
         } else {
-            List<TestResult> results = run(args[0]);
-            if (args.length > 1 && args[1].equals("-sort")) {
+            run(testClassNames, options.parallelism, classRunner, history, 
+                    combined);
+        }
+        if (index != null) {
+            try {
+                index.save();
+            } catch (IOException ioe) {
+                System.err.println("Unable to save dependency index: " 
+                        + ioe.getMessage());
+            }
+        }
+        if (cache != null) {
+            try {
+                cache.save();
+            } catch (IOException ioe) {
+                System.err.println("Unable to save result cache: " 
+                        + ioe.getMessage());
+            }
+        }
+        if (results != null) {
+            if (options.sortFlag) {
                 Collections.sort(results, new TestResultComparator());
+            } else {
+                Collections.sort(results, new TestResultDurationComparator());
+            }
+            reporter.onRunStarted();
+            for (TestResult result : results) {
+                reporter.onTestFinished(result);
             }
-            TestResultsReporter reporter 
-                    = new TestResultsReporter(args[0], results);
-            reporter.report();
+            reporter.onRunFinished();
         }
+        if (recording != null) {
+            stopRecording(recording, options.jfrPath);
+        }
+    }
+    
+    private TestRunner(String name, TestListener listener, 
+            FailureBudget budget) {
+        this.testClassName = name;
+        this.testListener = listener;
+        this.failureBudget = budget;
     }
 
 }
@@ -0,0 +1,227 @@
+package org.testframe.engine;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the test class names and options given to {@link TestRunner} on the 
+ * command line. See {@link TestRunner#main(String[])} for what the options 
+ * mean.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class TestRunnerOptions {
+    
+    final List<String> testClassNames = new ArrayList<>();
+    
+    boolean sortFlag = false;
+    
+    boolean sortByDurationFlag = false;
+    
+    int parallelism = 1;
+    
+    boolean changedFlag = false;
+    
+    boolean cacheFlag = false;
+    
+    boolean rerunFlag = false;
+    
+    int maxFrames = 0;
+    
+    boolean deduplicateFlag = false;
+    
+    Path xmlPath = null;
+    
+    Path jsonLinesPath = null;
+    
+    int forkCount = 0;
+    
+    int recycleAfterClasses = 0;
+    
+    long recycleAboveHeapBytes = 0L;
+    
+    int shardIndex = 0;
+    
+    int shardCount = 0;
+    
+    boolean shardBalanceFlag = false;
+    
+    long timeout = 0L;
+    
+    int maxFailures = 0;
+    
+    int heaviestCount = 0;
+    
+    Path jfrPath = null;
+    
+    boolean benchmarkFlag = false;
+    
+    double significance = 0.0;
+    
+    static int parsePositive(String option, String description) {
+        String numStr = option.substring(option.indexOf('=') + 1);
+        try {
+            int number = Integer.parseInt(numStr);
+            if (number < 1) {
+                String excMsg = "The " + description + ", " + number 
+                        + ", should be at least 1";
+                throw new IllegalArgumentException(excMsg);
+            }
+            return number;
+        } catch (NumberFormatException nfe) {
+            String excMsg = "Unable to parse \"" + numStr + "\" as the " 
+                    + description;
+            throw new IllegalArgumentException(excMsg, nfe);
+        }
+    }
+    
+    private void parseSignificance(String option) {
+        String numStr = option.substring(option.indexOf('=') + 1);
+        try {
+            this.significance = Double.parseDouble(numStr);
+        } catch (NumberFormatException nfe) {
+            String excMsg = "Unable to parse \"" + numStr 
+                    + "\" as the significance level";
+            throw new IllegalArgumentException(excMsg, nfe);
+        }
+        if (!(this.significance > 0.0 && this.significance < 1.0)) {
+            String excMsg = "The significance level, " + numStr 
+                    + ", should be greater than 0 and less than 1";
+            throw new IllegalArgumentException(excMsg);
+        }
+    }
+    
+    private void parseShard(String option) {
+        String spec = option.substring(option.indexOf('=') + 1);
+        int slash = spec.indexOf('/');
+        if (slash < 0) {
+            String excMsg = "Shard \"" + spec 
+                    + "\" should be given as i/n, e.g., 2/4";
+            throw new IllegalArgumentException(excMsg);
+        }
+        this.shardIndex = parsePositive("=" + spec.substring(0, slash), 
+                "shard number");
+        this.shardCount = parsePositive("=" + spec.substring(slash + 1), 
+                "number of shards");
+        if (this.shardIndex > this.shardCount) {
+            String excMsg = "Shard number " + this.shardIndex 
+                    + " should not exceed number of shards " + this.shardCount;
+            throw new IllegalArgumentException(excMsg);
+        }
+    }
+    
+    private void addPattern(String pattern, TestClassFinder finder) {
+        List<String> found = finder.find(pattern);
+        if (found.isEmpty()) {
+            System.err.println("No test classes found matching " + pattern);
+        }
+        this.testClassNames.addAll(found);
+    }
+    
+    /**
+     * Parses the command line arguments. Unrecognized options are reported to 
+     * <code>System.err</code> and otherwise ignored.
+     * @param args The command line arguments. For example, 
+     * "org.example.HelloWorldTest", "-sort".
+     * @return The parsed options. Never null.
+     * @throws IllegalArgumentException If an option that takes a number is 
+     * given something that's not a number or is out of range.
+     */
+    static TestRunnerOptions parse(String[] args) {
+        TestRunnerOptions options = new TestRunnerOptions();
+        TestClassFinder finder = null;
+        for (String arg : args) {
+            if (arg.equals("-sort")) {
+                options.sortFlag = true;
+            } else if (arg.equals("-sort=duration")) {
+                options.sortByDurationFlag = true;
+            } else if (arg.equals("-parallel")) {
+                options.parallelism = Runtime.getRuntime()
+                        .availableProcessors();
+            } else if (arg.startsWith("-parallel=")) {
+                options.parallelism = parsePositive(arg, 
+                        "number of test classes to run at once");
+            } else if (arg.equals("-changed")) {
+                options.changedFlag = true;
+            } else if (arg.equals("-cache")) {
+                options.cacheFlag = true;
+            } else if (arg.equals("-rerun")) {
+                options.rerunFlag = true;
+            } else if (arg.startsWith("-maxframes=")) {
+                options.maxFrames = parsePositive(arg, 
+                        "number of stack trace frames to report");
+            } else if (arg.equals("-dedupe")) {
+                options.deduplicateFlag = true;
+            } else if (arg.equals("-fork")) {
+                options.forkCount = Runtime.getRuntime().availableProcessors();
+            } else if (arg.startsWith("-fork=")) {
+                options.forkCount = parsePositive(arg, 
+                        "number of worker processes");
+            } else if (arg.startsWith("-recycle=")) {
+                options.recycleAfterClasses = parsePositive(arg, 
+                        "number of test classes per worker process");
+            } else if (arg.startsWith("-recycleheap=")) {
+                options.recycleAboveHeapBytes = parsePositive(arg, 
+                        "worker process heap threshold in mebibytes") 
+                        * 1024L * 1024L;
+            } else if (arg.startsWith("-shard=")) {
+                options.parseShard(arg);
+            } else if (arg.equals("-shardbalance")) {
+                options.shardBalanceFlag = true;
+            } else if (arg.startsWith("-timeout=")) {
+                options.timeout = parsePositive(arg, 
+                        "default time limit in milliseconds");
+            } else if (arg.equals("-failfast")) {
+                options.maxFailures = 1;
+            } else if (arg.startsWith("-maxfailures=")) {
+                options.maxFailures = parsePositive(arg, 
+                        "number of failures to stop after");
+            } else if (arg.startsWith("-heaviest=")) {
+                options.heaviestCount = parsePositive(arg, 
+                        "number of heaviest tests to list");
+            } else if (arg.equals("-bench")) {
+                options.benchmarkFlag = true;
+            } else if (arg.equals("-regress")) {
+                options.significance = RegressionGate.DEFAULT_SIGNIFICANCE;
+            } else if (arg.startsWith("-regress=")) {
+                options.parseSignificance(arg);
+            } else if (arg.equals("-jfr")) {
+                options.jfrPath = Paths.get("testframe.jfr");
+            } else if (arg.startsWith("-jfr=")) {
+                options.jfrPath = Paths.get(arg.substring(5));
+            } else if (arg.startsWith("-xml=")) {
+                options.xmlPath = Paths.get(arg.substring(5));
+            } else if (arg.startsWith("-jsonl=")) {
+                options.jsonLinesPath = Paths.get(arg.substring(7));
+            } else if (arg.startsWith("-")) {
+                System.err.println("Ignoring unrecognized option " + arg);
+            } else if (arg.contains("*")) {
+                if (finder == null) {
+                    finder = new TestClassFinder();
+                }
+                options.addPattern(arg, finder);
+            } else {
+                options.testClassNames.add(arg);
+            }
+        }
+        if (options.forkCount > 0 && options.changedFlag) {
+            System.err.println("Ignoring -changed, which can't be combined " 
+                    + "with -fork");
+            options.changedFlag = false;
+        }
+        if (options.forkCount > 0 && options.cacheFlag) {
+            System.err.println("Ignoring -cache, which can't be combined " 
+                    + "with -fork");
+            options.cacheFlag = false;
+        }
+        if (options.cacheFlag && options.changedFlag) {
+            System.err.println("Ignoring -changed, which can't be combined " 
+                    + "with -cache");
+            options.changedFlag = false;
+        }
+        return options;
+    }
+    
+}
@@ -0,0 +1,197 @@
+package org.testframe.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Runs test classes in separate Java Virtual Machines, so that test classes 
+ * that change global state, such as with <code>System.setOut()</code>, can be 
+ * run at the same time without stepping on each other. The worker processes 
+ * are started as needed, up to the given number, and each is reused for 
+ * several test classes, since starting a Java Virtual Machine takes a while. 
+ * A worker is replaced by a fresh one after running a given number of test 
+ * classes, or if the heap in use after a test class exceeds a given 
+ * threshold. See {@link ForkedWorker} for the protocol between this pool and 
+ * its workers.
+ * @since 1.1
+ * @author Alonso del Arte
+ */
+class WorkerPool implements AutoCloseable {
+    
+    private final int maxClassesPerWorker;
+    
+    private final long maxHeapBytes;
+    
+    private final BlockingQueue<Worker> idleWorkers;
+    
+    private final ClassLoader loader = ClassLoader.getSystemClassLoader();
+    
+    private static final class Worker {
+        
+        private final Process process;
+        
+        private final DataOutputStream commands;
+        
+        private final DataInputStream answers;
+        
+        private int classCount = 0;
+        
+        private long heapInUse = 0L;
+        
+        void stop() {
+            try {
+                this.commands.writeByte(ForkedWorker.STOP);
+                this.commands.close();
+            } catch (IOException ioe) {
+                // The process is gone already
+            }
+            this.process.destroy();
+        }
+        
+        Worker() throws IOException {
+            String javaCommand = Paths.get(System.getProperty("java.home"), 
+                    "bin", "java").toString();
+            ProcessBuilder builder = new ProcessBuilder(javaCommand, 
+                    "-enableassertions", "-cp", 
+                    System.getProperty("java.class.path"), 
+                    ForkedWorker.class.getName(), 
+                    "-timeout=" + TestRunner.getDefaultTimeout());
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            this.process = builder.start();
+            this.commands = new DataOutputStream(new BufferedOutputStream(
+                    this.process.getOutputStream()));
+            this.answers = new DataInputStream(new BufferedInputStream(
+                    this.process.getInputStream()));
+        }
+        
+    }
+    
+    private Worker borrow() throws IOException {
+        Worker worker = this.idleWorkers.poll();
+        return worker == null ? new Worker() : worker;
+    }
+    
+    private void giveBack(Worker worker) {
+        if ((this.maxClassesPerWorker > 0 
+                && worker.classCount >= this.maxClassesPerWorker) 
+                || (this.maxHeapBytes > 0 
+                        && worker.heapInUse > this.maxHeapBytes)) {
+            worker.stop();
+        } else {
+            this.idleWorkers.add(worker);
+        }
+    }
+    
+    /**
+     * Runs the tests of a test class in one of the worker processes. The 
+     * listener is told about each test as its result comes in from the 
+     * worker. If the worker process exits before it's done with the test 
+     * class, for example because a test called <code>System.exit()</code>, 
+     * that's reported to <code>System.err</code>, the tests not heard about 
+     * are reported to the listener as {@link TestResultStatus#ERROR} and the 
+     * worker is replaced.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param listener The listener to tell about the tests. For example, a 
+     * {@link TestResultsReporter}. It's not told when tests start.
+     */
+    void run(String testClassName, TestListener listener) {
+        this.run(testClassName, listener, null);
+    }
+    
+    /**
+     * Runs the tests of a test class in one of the worker processes, with 
+     * what's left of a failure budget. The worker stops starting tests once 
+     * that many of them fail, and if the budget is already used up, it 
+     * reports all the tests as {@link TestResultStatus#NOT_RUN} without 
+     * running any of them. The budget itself is not told about the results, 
+     * that's up to the listener.
+     * @param testClassName The name of the test class, fully qualified. For 
+     * example, <code>"org.example.demo.textops.PalindromeCheckerTest"</code>.
+     * @param listener The listener to tell about the tests. For example, a 
+     * {@link TestResultsReporter}. It's not told when tests start.
+     * @param budget The failure budget. For example, a budget of 1 to stop at 
+     * the first failure. May be null, in which case all the tests are run.
+     */
+    void run(String testClassName, TestListener listener, 
+            FailureBudget budget) {
+        Worker worker = null;
+        Set<Method> reported = new HashSet<>();
+        try {
+            worker = this.borrow();
+            worker.commands.writeByte(ForkedWorker.RUN);
+            worker.commands.writeUTF(testClassName);
+            worker.commands.writeInt(budget == null ? ForkedWorker.NO_BUDGET 
+                    : budget.getRemaining());
+            worker.commands.flush();
+            byte tag = worker.answers.readByte();
+            while (tag == ForkedWorker.RESULT) {
+                TestResult result = ForkedWorker.readResult(worker.answers, 
+                        this.loader);
+                reported.add(result.getProcedure());
+                listener.onTestFinished(result);
+                tag = worker.answers.readByte();
+            }
+            if (tag != ForkedWorker.END) {
+                throw new IOException("Unexpected tag " + tag);
+            }
+            worker.heapInUse = worker.answers.readLong();
+            worker.classCount++;
+            this.giveBack(worker);
+        } catch (IOException ioe) {
+            System.err.println("Not all tests in " + testClassName 
+                    + " ran because the worker process failed due to " 
+                    + ioe.getClass().getName());
+            if (worker != null) {
+                worker.stop();
+            }
+            String excMsg = "Worker process failed before reporting this " 
+                    + "test due to " + ioe.getClass().getName();
+            ForkedWorker.reportMissing(testClassName, this.loader, reported, 
+                    new RuntimeException(excMsg, ioe), listener);
+        }
+    }
+    
+    /**
+     * Stops all the worker processes.
+     */
+    @Override
+    public void close() {
+        List<Worker> workers = new ArrayList<>();
+        this.idleWorkers.drainTo(workers);
+        for (Worker worker : workers) {
+            worker.stop();
+        }
+    }
+    
+    /**
+     * Sole constructor. No worker processes are started until needed.
+     * @param size How many worker processes there can be at a time. For 
+     * example, 4. Should be at least 1. The pool doesn't enforce this limit 
+     * itself, it relies on not being asked to run more than this many test 
+     * classes at the same time.
+     * @param maxClasses How many test classes a worker may run before it's 
+     * replaced. For example, 50. If 0, workers are never replaced for this 
+     * reason.
+     * @param maxHeap How many bytes of heap a worker may have in use after a 
+     * test class before it's replaced. For example, 536870912 for half a 
+     * gibibyte. If 0, workers are never replaced for this reason.
+     */
+    WorkerPool(int size, int maxClasses, long maxHeap) {
+        this.idleWorkers = new LinkedBlockingQueue<>(size);
+        this.maxClassesPerWorker = maxClasses;
+        this.maxHeapBytes = maxHeap;
+    }
+    
+}
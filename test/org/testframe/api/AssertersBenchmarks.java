@@ -0,0 +1,99 @@
+package org.testframe.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks of passing assertions, to be run with the test runner's 
+ * <code>-bench</code> option. Since passing assertions don't build their test 
+ * failure explanations, these should all be very fast, with the ones on lists 
+ * taking time in proportion to the length of the list and nothing more.
+ * <p>The benchmark of a plain loop over arrays of floating point numbers is 
+ * there to compare the block by block tolerance comparison of {@link 
+ * Asserters#assertEquals(double[], double[], double, String)} against.</p>
+ * @author Alonso del Arte
+ */
+public class AssertersBenchmarks {
+    
+    private static final String MESSAGE = "Message that shouldn't be needed";
+    
+    private static final int SAMPLE_COUNT = 1 << 16;
+    
+    private static final double DELTA = 1.0 / 1024;
+    
+    private int number;
+    
+    private Integer boxed;
+    
+    private List<Integer> list;
+    
+    private List<Integer> sameList;
+    
+    private double[] samples;
+    
+    private double[] nearSamples;
+    
+    @BeforeEachTest
+    public void setUp() {
+        this.number = 1729;
+        this.boxed = this.number;
+        this.list = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            this.list.add(this.number + i);
+        }
+        this.sameList = new ArrayList<>(this.list);
+        this.samples = new double[SAMPLE_COUNT];
+        this.nearSamples = new double[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            this.samples[i] = Math.sin(i);
+            this.nearSamples[i] = this.samples[i] + DELTA / 2;
+        }
+    }
+    
+    @Benchmark
+    public void benchmarkAssertEqualsInt() {
+        Asserters.assertEquals(this.number, this.number, MESSAGE);
+    }
+    
+    @Benchmark
+    public void benchmarkAssertEqualsObject() {
+        Asserters.assertEquals(this.boxed, this.boxed, MESSAGE);
+    }
+    
+    @Benchmark
+    public void benchmarkAssertInRange() {
+        Asserters.assertInRange(0, this.number, Integer.MAX_VALUE, MESSAGE);
+    }
+    
+    @Benchmark
+    public void benchmarkAssertContains() {
+        Asserters.assertContains(this.boxed, this.list, MESSAGE);
+    }
+    
+    @Benchmark
+    public void benchmarkAssertContainsSameOrder() {
+        Asserters.assertContainsSameOrder(this.list, this.sameList, MESSAGE);
+    }
+    
+    @Benchmark
+    public void benchmarkAssertContainsSameOrderSupplied() {
+        Asserters.assertContainsSameOrder(this.list, this.sameList, 
+                () -> MESSAGE + " for " + this.list.size() + " elements");
+    }
+
+    @Benchmark
+    public void benchmarkAssertEqualsDoubleArray() {
+        Asserters.assertEquals(this.samples, this.nearSamples, DELTA, MESSAGE);
+    }
+    
+    @Benchmark
+    public void benchmarkPlainLoopDoubleArray() {
+        int index = 0;
+        while (index < SAMPLE_COUNT && DELTA >= Math.abs(this.samples[index] 
+                - this.nearSamples[index])) {
+            index++;
+        }
+        assert index == SAMPLE_COUNT : MESSAGE;
+    }
+
+}
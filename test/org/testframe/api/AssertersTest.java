@@ -2,6 +2,7 @@ package org.testframe.api;
 
 import java.awt.Color;
 import java.awt.font.NumericShaper;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.DayOfWeek;
@@ -22,6 +23,7 @@ import java.util.Locale;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 /**
  * Tests of the Asserters class. These are more elegant than the tests of 
@@ -1106,8 +1108,11 @@ public class AssertersTest {
                     EXAMPLE_ASSERTION_MESSAGE_PART);
         } catch (AssertionError ae) {
             failOccurred = true;
-            String expected = EXAMPLE_ASSERTION_MESSAGE_PART + ". Expected " 
-                    + arrayAStr + " but was " + arrayBStr;
+            int index = Arrays.mismatch(arrayA, arrayB);
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays first differ at index " + index 
+                    + ", expected " + arrayA[index] + " but was " 
+                    + arrayB[index];
             String actual = ae.getMessage();
             String msg = "Expected \"" + expected + "\" but was \"" + actual 
                     + "\"";
@@ -1118,6 +1123,352 @@ public class AssertersTest {
         assert failOccurred : msg;
     }
     
+    @Test
+    public void testAssertEqualsObjectArrayWithNulls() {
+        int len = RANDOM.nextInt(8) + 2;
+        BigInteger[] someArray = new BigInteger[len];
+        BigInteger[] sameArray = new BigInteger[len];
+        for (int i = 1; i < len; i++) {
+            BigInteger number = new BigInteger(64 + i, RANDOM);
+            someArray[i] = number;
+            sameArray[i] = number;
+        }
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(someArray, sameArray, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+        } catch (NullPointerException npe) {
+            String msg = "Nulls in the same places should not cause NPE";
+            throw new AssertionError(msg, npe);
+        }
+        String msg = "Asserting that " + Arrays.toString(someArray) 
+                + " is equal to " + Arrays.toString(sameArray) 
+                + " should not have failed the test";
+        assert !failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertEqualsButIsNotArrayDoubleBothNaN() {
+        int length = RANDOM.nextInt(8) + 2;
+        double[] numbersA = new double[length];
+        double[] numbersB = new double[length];
+        for (int i = 0; i < length; i++) {
+            double number = RANDOM.nextDouble() + i;
+            numbersA[i] = number;
+            numbersB[i] = number;
+        }
+        int nanIndex = RANDOM.nextInt(length);
+        numbersA[nanIndex] = Double.NaN;
+        numbersB[nanIndex] = Double.NaN;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(numbersA, numbersB, LOCAL_DELTA, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays first differ at index " + nanIndex;
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + actual + "\" to start with \"" 
+                    + expected + "\"";
+            assert actual.startsWith(expected) : msg;
+        }
+        String msg = "Asserting " + Arrays.toString(numbersA) 
+                + " is equal to " + Arrays.toString(numbersB) 
+                + " should have failed the test because of NaN";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertNotEqualsLongArraySameLengthDiffNums() {
+        int length = RANDOM.nextInt(8) + 2;
+        long[] numbersA = new long[length];
+        long[] numbersB = new long[length];
+        for (int i = 0; i < length; i++) {
+            long number = RANDOM.nextLong();
+            numbersA[i] = number;
+            numbersB[i] = number;
+        }
+        int changeIndex = RANDOM.nextInt(length);
+        long origNum = numbersA[changeIndex];
+        long diffNum = ~origNum;
+        numbersB[changeIndex] = diffNum;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(numbersA, numbersB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays first differ at index " + changeIndex 
+                    + ", expected " + origNum + " but was " + diffNum;
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting " + Arrays.toString(numbersA) 
+                + " is equal to " + Arrays.toString(numbersB) 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertNotEqualsCharArrayDiffLengths() {
+        char[] charsA = "Example".toCharArray();
+        char[] charsB = "Examples".toCharArray();
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(charsA, charsB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays differ in length: expected has 7 elements " 
+                    + "but actual has 8 elements";
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting " + Arrays.toString(charsA) 
+                + " is equal to " + Arrays.toString(charsB) 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertNotEqualsByteArrayShowsHexWindow() {
+        byte[] bytesA = new byte[32];
+        for (int i = 0; i < bytesA.length; i++) {
+            bytesA[i] = (byte) (0xF0 + i);
+        }
+        byte[] bytesB = bytesA.clone();
+        bytesB[20] = 0x2A;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(bytesA, bytesB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays first differ at index 20, expected 0x04 but " 
+                    + "was 0x2A, expected bytes ... FC FD FE FF 00 01 02 03 " 
+                    + "[04] 05 06 07 08 09 0A 0B 0C ... but actual bytes ... " 
+                    + "FC FD FE FF 00 01 02 03 [2A] 05 06 07 08 09 0A 0B 0C ...";
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting " + Arrays.toString(bytesA) 
+                + " is equal to " + Arrays.toString(bytesB) 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertEqualsArrayFloat() {
+        int length = RANDOM.nextInt(8) + 2;
+        float[] numbersA = new float[length];
+        float[] numbersB = new float[length];
+        for (int i = 0; i < length; i++) {
+            float number = RANDOM.nextFloat() + i;
+            numbersA[i] = number;
+            numbersB[i] = number + (float) (LOCAL_DELTA / 2);
+        }
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(numbersA, numbersB, LOCAL_DELTA, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+        }
+        String msg = "Asserting " + Arrays.toString(numbersA) 
+                + " is equal to " + Arrays.toString(numbersB) 
+                + " within " + LOCAL_DELTA + " should not have failed the test";
+        assert !failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertNotEqualsDoubleArrayDiffPastFirstBlock() {
+        int length = 4096 + RANDOM.nextInt(1024);
+        double[] numbersA = new double[length];
+        double[] numbersB = new double[length];
+        for (int i = 0; i < length; i++) {
+            double number = RANDOM.nextDouble() + i;
+            numbersA[i] = number;
+            numbersB[i] = number;
+        }
+        int changeIndex = 1024 + RANDOM.nextInt(length - 1024);
+        double origNum = numbersA[changeIndex];
+        double diffNum = origNum + TWICE_LOCAL_DELTA;
+        numbersB[changeIndex] = diffNum;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(numbersA, numbersB, LOCAL_DELTA, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays first differ at index " + changeIndex 
+                    + ", expected at least " + (origNum - LOCAL_DELTA) 
+                    + " or at most " + (origNum + LOCAL_DELTA) + " but was " 
+                    + diffNum;
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting arrays of " + length 
+                + " numbers that differ at index " + changeIndex 
+                + " are equal should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertEqualsWithinULPsArrayDouble() {
+        int length = RANDOM.nextInt(8) + 2;
+        double[] numbersA = new double[length];
+        double[] numbersB = new double[length];
+        for (int i = 0; i < length; i++) {
+            double number = (RANDOM.nextDouble() - 0.5) * Math.pow(10, i);
+            numbersA[i] = number;
+            numbersB[i] = Math.nextUp(Math.nextUp(number));
+        }
+        numbersA[0] = 0.0;
+        numbersB[0] = -0.0;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEqualsWithinULPs(numbersA, numbersB, 2, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+        }
+        String msg = "Asserting " + Arrays.toString(numbersA) 
+                + " is equal to " + Arrays.toString(numbersB) 
+                + " within 2 ULPs should not have failed the test";
+        assert !failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertEqualsWithinULPsButIsNotArrayFloat() {
+        int length = RANDOM.nextInt(8) + 2;
+        float[] numbersA = new float[length];
+        float[] numbersB = new float[length];
+        for (int i = 0; i < length; i++) {
+            float number = RANDOM.nextFloat() + i;
+            numbersA[i] = number;
+            numbersB[i] = number;
+        }
+        int changeIndex = RANDOM.nextInt(length);
+        float origNum = numbersA[changeIndex];
+        float diffNum = Math.nextUp(Math.nextUp(origNum));
+        numbersB[changeIndex] = diffNum;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEqualsWithinULPs(numbersA, numbersB, 1, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays first differ at index " + changeIndex 
+                    + " by more than 1 ULPs, expected " + origNum 
+                    + " but was " + diffNum;
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting " + Arrays.toString(numbersA) 
+                + " is equal to " + Arrays.toString(numbersB) 
+                + " within 1 ULP should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertEqualsWithinULPsRejectsNegativeULPs() {
+        double[] numbers = {1.0, 2.0, 3.0};
+        int ulps = -RANDOM.nextInt(128) - 1;
+        boolean exceptionOccurred = false;
+        try {
+            Asserters.assertEqualsWithinULPs(numbers, numbers, ulps);
+        } catch (IllegalArgumentException iae) {
+            exceptionOccurred = true;
+            String expected = "ULPs " + ulps + " should not be negative";
+            String actual = iae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        } catch (AssertionError ae) {
+            System.out.println("\"" + ae.getMessage() + "\"");
+        }
+        String msg = "Using " + ulps + " ULPs should have caused an exception";
+        assert exceptionOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertEqualsRelativeArrayDouble() {
+        int length = RANDOM.nextInt(8) + 2;
+        double[] numbersA = new double[length];
+        double[] numbersB = new double[length];
+        for (int i = 0; i < length; i++) {
+            double number = (RANDOM.nextDouble() + 1.0) * 1.0E12;
+            numbersA[i] = number;
+            numbersB[i] = number * (1.0 + LOCAL_DELTA / 2);
+        }
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEqualsRelative(numbersA, numbersB, LOCAL_DELTA, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+        }
+        String msg = "Asserting " + Arrays.toString(numbersA) 
+                + " is equal to " + Arrays.toString(numbersB) 
+                + " within relative tolerance " + LOCAL_DELTA 
+                + " should not have failed the test";
+        assert !failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertEqualsRelativeButIsNotArrayFloat() {
+        int length = RANDOM.nextInt(8) + 2;
+        float[] numbersA = new float[length];
+        float[] numbersB = new float[length];
+        for (int i = 0; i < length; i++) {
+            float number = RANDOM.nextFloat() + i + 1;
+            numbersA[i] = number;
+            numbersB[i] = number;
+        }
+        int changeIndex = RANDOM.nextInt(length);
+        float origNum = numbersA[changeIndex];
+        float diffNum = origNum * (float) (1.0 + TWICE_LOCAL_DELTA);
+        numbersB[changeIndex] = diffNum;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEqualsRelative(numbersA, numbersB, LOCAL_DELTA, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Arrays first differ at index " + changeIndex 
+                    + " by more than relative tolerance " + LOCAL_DELTA 
+                    + ", expected " + origNum + " but was " + diffNum;
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting " + Arrays.toString(numbersA) 
+                + " is equal to " + Arrays.toString(numbersB) 
+                + " within relative tolerance " + LOCAL_DELTA 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
     @Test
     public void testAssertEqualsObjectArrayButLengthsDifferDefaultMessage() {
         int lengthA = RANDOM.nextInt(16) + 4;
@@ -1188,8 +1539,10 @@ public class AssertersTest {
             Asserters.assertEquals(arrayA, arrayB);
         } catch (AssertionError ae) {
             failOccurred = true;
-            String expected = "Expected " 
-                    + arrayAStr + " but was " + arrayBStr;
+            int index = Arrays.mismatch(arrayA, arrayB);
+            String expected = "Arrays first differ at index " + index 
+                    + ", expected " + arrayA[index] + " but was " 
+                    + arrayB[index];
             String actual = ae.getMessage();
             String msg = "Expected \"" + expected + "\" but was \"" + actual 
                     + "\"";
@@ -5415,6 +5768,90 @@ public class AssertersTest {
         assert !failOccurred : msg;
     }
     
+    @Test
+    public void testAssertDifferentBooleanArraysButAreSame() {
+        int length = RANDOM.nextInt(8) + 2;
+        boolean[] arrayA = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            arrayA[i] = RANDOM.nextBoolean();
+        }
+        boolean[] arrayB = arrayA.clone();
+        boolean failOccurred = false;
+        try {
+            Asserters.assertDifferent(arrayA, arrayB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String excerpt = Arrays.toString(arrayA).replace("]", 
+                    "] of length " + length);
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART + ". Arrays " 
+                    + excerpt + " and " + excerpt 
+                    + " are not different as asserted";
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting " + Arrays.toString(arrayA) + " and " 
+                + Arrays.toString(arrayB) 
+                + " are different should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertDifferentLongByteArraysButAreSameShowsExcerpt() {
+        byte[] arrayA = new byte[1024];
+        for (int i = 0; i < arrayA.length; i++) {
+            arrayA[i] = (byte) (0xF0 + i);
+        }
+        byte[] arrayB = arrayA.clone();
+        boolean failOccurred = false;
+        try {
+            Asserters.assertDifferent(arrayA, arrayB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String excerpt = "[0xF0, 0xF1, 0xF2, 0xF3, 0xF4, 0xF5, 0xF6, " 
+                    + "0xF7, 0xF8, 0xF9, 0xFA, 0xFB, 0xFC, 0xFD, 0xFE, 0xFF, " 
+                    + "...] of length 1024";
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART + ". Arrays " 
+                    + excerpt + " and " + excerpt 
+                    + " are not different as asserted";
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting two copies of the same " + arrayA.length 
+                + " bytes are different should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertDifferentFloatArraysSameLengthDifferInOneElement() {
+        int length = RANDOM.nextInt(8) + 2;
+        float[] arrayA = new float[length];
+        float[] arrayB = new float[length];
+        for (int i = 0; i < length; i++) {
+            float number = RANDOM.nextFloat() + i;
+            arrayA[i] = number;
+            arrayB[i] = number;
+        }
+        int changeIndex = RANDOM.nextInt(length);
+        arrayB[changeIndex] += 1.0F;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertDifferent(arrayA, arrayB, LOCAL_DELTA, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+        }
+        String msg = "Asserting " + Arrays.toString(arrayA) + " and " 
+                + Arrays.toString(arrayB) 
+                + " are different should not have failed the test";
+        assert !failOccurred : msg;
+    }
+    
     @Test
     public void testAssertDifferentDoubleArraysButAreSame() {
         int length = RANDOM.nextInt(8) + 2;
@@ -6667,6 +7104,158 @@ public class AssertersTest {
         assert failOccurred : msg;
     }
     
+    @Test
+    public void testAssertContainsSameMultisetList() {
+        System.out.println("assertContainsSameMultiset");
+        List<DayOfWeek> listA = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            int quantity = RANDOM.nextInt(4) + 1;
+            for (int i = 0; i < quantity; i++) {
+                listA.add(day);
+            }
+        }
+        List<DayOfWeek> listB = new LinkedList<>(listA);
+        Collections.shuffle(listB, RANDOM);
+        boolean failOccurred = false;
+        try {
+            Asserters.assertContainsSameMultiset(listA, listB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            System.out.println(ae.getMessage());
+        }
+        String msg = "Asserting that " + listA.toString() + " and " 
+                + listB.toString() 
+                + " contain the same elements in the same quantities" 
+                + " should not have failed the test";
+        assert !failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertContainsSameMultisetListButQuantitiesDiffer() {
+        List<DayOfWeek> listA = new ArrayList<>(List.of(DayOfWeek.values()));
+        listA.add(DayOfWeek.FRIDAY);
+        List<DayOfWeek> listB = new ArrayList<>(List.of(DayOfWeek.values()));
+        listB.add(DayOfWeek.MONDAY);
+        Collections.shuffle(listB, RANDOM);
+        boolean failOccurred = false;
+        try {
+            Asserters.assertContainsSameMultiset(listA, listB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Expected same elements in same quantities but " 
+                    + "actual is missing [FRIDAY] and has surplus [MONDAY]";
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting that " + listA.toString() + " and " 
+                + listB.toString() 
+                + " contain the same elements in the same quantities" 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertContainsSameMultisetArrayWithNulls() {
+        String[] arrayA = {"alpha", null, "beta", null};
+        String[] arrayB = {null, "beta", "alpha"};
+        boolean failOccurred = false;
+        try {
+            Asserters.assertContainsSameMultiset(arrayA, arrayB);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = "Expected same elements in same quantities but " 
+                    + "actual is missing [null] and has surplus nothing";
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting that " + Arrays.toString(arrayA) + " and " 
+                + Arrays.toString(arrayB) 
+                + " contain the same elements in the same quantities" 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertContainsSameMultisetIntArrayButQuantitiesDiffer() {
+        int[] arrayA = {7, 9, 9, 9, 12};
+        int[] arrayB = {12, 7, 12, 12, 9};
+        boolean failOccurred = false;
+        try {
+            Asserters.assertContainsSameMultiset(arrayA, arrayB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Expected same elements in same quantities but " 
+                    + "actual is missing [9 (2 times)] and has surplus " 
+                    + "[12 (2 times)]";
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting that " + Arrays.toString(arrayA) + " and " 
+                + Arrays.toString(arrayB) 
+                + " contain the same elements in the same quantities" 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertContainsSameMultisetLongArrayManyElements() {
+        int size = 1 << 18;
+        long[] arrayA = new long[size];
+        for (int i = 0; i < size; i++) {
+            arrayA[i] = RANDOM.nextInt(size / 4) * 0x100000001L;
+        }
+        long[] arrayB = arrayA.clone();
+        for (int i = size - 1; i > 0; i--) {
+            int j = RANDOM.nextInt(i + 1);
+            long swap = arrayB[i];
+            arrayB[i] = arrayB[j];
+            arrayB[j] = swap;
+        }
+        boolean failOccurred = false;
+        try {
+            Asserters.assertContainsSameMultiset(arrayA, arrayB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+        }
+        String msg = "Asserting that a shuffled copy of an array of " + size 
+                + " numbers contains the same numbers in the same quantities" 
+                + " should not have failed the test";
+        assert !failOccurred : msg;
+        int changeIndex = RANDOM.nextInt(size);
+        long origNum = arrayB[changeIndex];
+        arrayB[changeIndex] = -origNum - 1;
+        failOccurred = false;
+        try {
+            Asserters.assertContainsSameMultiset(arrayA, arrayB, 
+                    EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Expected same elements in same quantities but " 
+                    + "actual is missing [" + origNum + "] and has surplus [" 
+                    + (-origNum - 1) + "]";
+            String actual = ae.getMessage();
+            msg = "Expected \"" + expected + "\" but was \"" + actual + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        msg = "Asserting arrays of " + size 
+                + " numbers that differ in one number contain the same" 
+                + " numbers should have failed the test";
+        assert failOccurred : msg;
+    }
+    
     @Test
     public void testAssertContainsSameOrderButDiffersInLength() {
         int listALength = RANDOM.nextInt(8) + 2;
@@ -7367,6 +7956,139 @@ public class AssertersTest {
         assert exceptionOccurred : msg;
     }
     
+    @Test
+    public void testAssertEqualsSuppliedMessage() {
+        System.out.println("assertEquals with supplied message");
+        int expected = RANDOM.nextInt(1024);
+        int actual = expected + RANDOM.nextInt(1024) + 1;
+        boolean failOccurred = false;
+        try {
+            Asserters.assertEquals(expected, actual, 
+                    () -> EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expMsg = EXAMPLE_ASSERTION_MESSAGE_PART + ". Expected = " 
+                    + expected + ". Actual = " + actual;
+            String actMsg = ae.getMessage();
+            String msg = "Expected \"" + expMsg + "\" but was \"" + actMsg 
+                    + "\"";
+            assert expMsg.equals(actMsg) : msg;
+        }
+        String msg = "Asserting " + expected + " equals " + actual 
+                + " should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testAssertContainsSameOrderSuppliedMessage() {
+        List<LocalDate> listA = new ArrayList<>();
+        LocalDate date = LocalDate.now();
+        int len = RANDOM.nextInt(8) + 2;
+        for (int i = 0; i < len; i++) {
+            listA.add(date.plusDays(i));
+        }
+        List<LocalDate> listB = new ArrayList<>(listA);
+        Collections.reverse(listB);
+        boolean failOccurred = false;
+        try {
+            Asserters.assertContainsSameOrder(listA, listB, 
+                    () -> EXAMPLE_ASSERTION_MESSAGE_PART);
+        } catch (AssertionError ae) {
+            failOccurred = true;
+            String expected = EXAMPLE_ASSERTION_MESSAGE_PART 
+                    + ". Expected list to contain " + listA.toString() 
+                    + " in that order but actually contained " 
+                    + listB.toString();
+            String actual = ae.getMessage();
+            String msg = "Expected \"" + expected + "\" but was \"" + actual 
+                    + "\"";
+            assert expected.equals(actual) : msg;
+        }
+        String msg = "Asserting that " + listA.toString() 
+                + " contains the same elements as " + listB.toString() 
+                + " in the same order should have failed the test";
+        assert failOccurred : msg;
+    }
+    
+    @Test
+    public void testSuppliedMessageNotBuiltIfAssertionPasses() {
+        System.out.println("Supplied message not built on pass");
+        int[] calls = {0};
+        Supplier<String> supplier = () -> {
+            calls[0]++;
+            return EXAMPLE_ASSERTION_MESSAGE_PART;
+        };
+        int number = RANDOM.nextInt(1024) + 1;
+        List<Integer> list = Arrays.asList(number, number + 1, number + 2);
+        Asserters.assertEquals(number, number, supplier);
+        Asserters.assertEquals(list, new ArrayList<>(list), supplier);
+        Asserters.assertPositive(number, supplier);
+        Asserters.assertInRange(0, number, 1024, supplier);
+        Asserters.assertContains(number, list, supplier);
+        Asserters.assertContainsSameOrder(list, new LinkedList<>(list), 
+                supplier);
+        Asserters.assertDoesNotThrow(() -> {
+            System.out.println("Not throwing any exceptions");
+        }, supplier);
+        String msg = "Supplier should not have been called, was called " 
+                + calls[0] + " times";
+        assert calls[0] == 0 : msg;
+    }
+    
+    private static void makePassingAssertions(int number, Integer boxed, 
+            List<Integer> list, List<Integer> sameList) {
+        Asserters.assertEquals(number, number, 
+                EXAMPLE_ASSERTION_MESSAGE_PART);
+        Asserters.assertEquals(boxed, boxed, EXAMPLE_ASSERTION_MESSAGE_PART);
+        Asserters.assertMinimum(0, number, EXAMPLE_ASSERTION_MESSAGE_PART);
+        Asserters.assertInRange(0, number, Integer.MAX_VALUE, 
+                EXAMPLE_ASSERTION_MESSAGE_PART);
+        Asserters.assertDifferent(number, number + 1, 
+                EXAMPLE_ASSERTION_MESSAGE_PART);
+        Asserters.assertContains(boxed, list, EXAMPLE_ASSERTION_MESSAGE_PART);
+        Asserters.assertContainsSameOrder(list, sameList, 
+                EXAMPLE_ASSERTION_MESSAGE_PART);
+    }
+    
+    /**
+     * Passing assertions should not allocate anything, not even the test 
+     * failure explanation. This is measured with the allocation counter of the 
+     * current thread, which not every Java Virtual Machine has. To allow for 
+     * the odd allocation by the counter itself, the test only fails if there 
+     * is at least a byte allocated per round of assertions.
+     */
+    @Test
+    public void testPassingAssertionsAllocateNothing() {
+        System.out.println("Passing assertions allocate nothing");
+        if (!(ManagementFactory.getThreadMXBean() 
+                instanceof com.sun.management.ThreadMXBean bean) 
+                || !bean.isThreadAllocatedMemorySupported() 
+                || Thread.currentThread().isVirtual()) {
+            System.out.println("Thread allocation counter not available");
+            return;
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        int number = RANDOM.nextInt(1024) + 1;
+        Integer boxed = number;
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            list.add(number + i);
+        }
+        List<Integer> sameList = new ArrayList<>(list);
+        int rounds = 20000;
+        for (int i = 0; i < rounds; i++) {
+            makePassingAssertions(number, boxed, list, sameList);
+        }
+        long before = bean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < rounds; i++) {
+            makePassingAssertions(number, boxed, list, sameList);
+        }
+        long allocated = bean.getCurrentThreadAllocatedBytes() - before;
+        String msg = rounds + " rounds of passing assertions allocated " 
+                + allocated + " bytes, expected next to none";
+        assert allocated < rounds : msg;
+    }
+    
     private static class TimeoutExceptionRecorder 
             implements Thread.UncaughtExceptionHandler {
         
@@ -0,0 +1,144 @@
+package org.testframe.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testframe.api.Benchmark;
+
+/**
+ * Checks of BenchmarkRunner and BenchmarkResult.
+ * @author Alonso del Arte
+ */
+public class BenchmarkRunnerCheck {
+    
+    private static final String CLASS_NAME = ToyBenchmarks.class.getName();
+    
+    /**
+     * A benchmark that brings down the Java Virtual Machine it runs in. Only 
+     * to be run in forks.
+     */
+    public static class ExitingBenchmarks {
+        
+        @Benchmark(warmups = 1, iterations = 1, iterationMillis = 20)
+        public void benchmarkThatExits() {
+            System.exit(3);
+        }
+    
+    }
+    
+    private static Map<String, BenchmarkResult> byName(
+            List<BenchmarkResult> results) {
+        Map<String, BenchmarkResult> map = new HashMap<>();
+        for (BenchmarkResult result : results) {
+            map.put(result.getProcedure().getName(), result);
+        }
+        return map;
+    }
+    
+    private static void checkCriticalValue() {
+        System.out.println("criticalValue");
+        // From a table of Student's t distribution, two-sided 99%
+        double[][] expected = {{1, 63.657}, {2, 9.925}, {3, 5.841}, 
+            {9, 3.2498}, {19, 2.8609}, {29, 2.7564}, {40, 2.7045}, 
+            {120, 2.6174}};
+        for (double[] pair : expected) {
+            double actual = BenchmarkResult.criticalValue((int) pair[0]);
+            String msg = "Expected t for " + pair[0] + " degrees of freedom " 
+                    + "to be about " + pair[1] + ", got " + actual;
+            TestRunnerCheck.check(Math.abs(actual - pair[1]) < 0.001, msg);
+        }
+    }
+    
+    private static void checkMeanAndError() throws Exception {
+        System.out.println("getMean, getError");
+        BenchmarkResult result = new BenchmarkResult(ToyBenchmarks.class
+                .getMethod("benchmarkWithoutBlackhole"), 
+                new double[] {90.0, 100.0, 110.0});
+        String msg = "Expected mean 100, got " + result.getMean();
+        TestRunnerCheck.check(result.getMean() == 100.0, msg);
+        double expected = BenchmarkResult.criticalValue(2) * 10.0 
+                / Math.sqrt(3.0);
+        msg = "Expected error " + expected + ", got " + result.getError();
+        TestRunnerCheck.check(Math.abs(result.getError() - expected) < 1.0E-9, 
+                msg);
+    }
+    
+    private static void checkRun() {
+        System.out.println("run");
+        Map<String, BenchmarkResult> results 
+                = byName(BenchmarkRunner.run(CLASS_NAME));
+        String msg = "Expected 4 results, got " + results.keySet();
+        TestRunnerCheck.check(results.size() == 4, msg);
+        for (String name : new String[] {"benchmarkSum", 
+                "benchmarkWithoutBlackhole"}) {
+            BenchmarkResult result = results.get(name);
+            msg = name + " should have been measured " 
+                    + ToyBenchmarks.ITERATIONS + " times, got " + result;
+            TestRunnerCheck.check(result.isMeasured() 
+                    && result.getScores().length == ToyBenchmarks.ITERATIONS, 
+                    msg);
+            for (double score : result.getScores()) {
+                msg = name + " should have a positive score, got " + score;
+                TestRunnerCheck.check(score > 0.0, msg);
+            }
+        }
+        BenchmarkResult thrower = results.get("benchmarkThatThrows");
+        msg = "Expected benchmarkThatThrows to report exception, got " 
+                + thrower;
+        TestRunnerCheck.check(!thrower.isMeasured() 
+                && thrower.getInformation() instanceof IllegalStateException, 
+                msg);
+        BenchmarkResult wrong = results.get("benchmarkWithWrongParameter");
+        msg = "Expected benchmarkWithWrongParameter to be rejected, got " 
+                + wrong;
+        TestRunnerCheck.check(!wrong.isMeasured() 
+                && wrong.getInformation() instanceof IllegalArgumentException, 
+                msg);
+    }
+    
+    private static void checkForkedReportPoolsScores() {
+        System.out.println("report with forks");
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        BenchmarkRunner.report(Collections.singletonList(CLASS_NAME), 2, 
+                new PrintStream(interceptor));
+        String report = interceptor.toString();
+        int pooled = 2 * ToyBenchmarks.ITERATIONS;
+        String expected = "benchmarkSum: ";
+        int index = report.indexOf(expected);
+        String msg = "Expected report to pool " + pooled 
+                + " iterations of benchmarkSum, was\n" + report;
+        TestRunnerCheck.check(index > -1 && report.indexOf("(" + pooled 
+                + " iterations)", index) > index, msg);
+        msg = "Expected report to show benchmarkThatThrows as error, was\n" 
+                + report;
+        TestRunnerCheck.check(report.contains("benchmarkThatThrows: ERROR " 
+                + IllegalStateException.class.getName()), msg);
+    }
+    
+    private static void checkCrashedForkReported() {
+        System.out.println("report with crashed fork");
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        BenchmarkRunner.report(Collections.singletonList( 
+                ExitingBenchmarks.class.getName()), 1, 
+                new PrintStream(interceptor));
+        String report = interceptor.toString();
+        String msg = "Expected report to show benchmarkThatExits as error " 
+                + "with exit status, was\n" + report;
+        TestRunnerCheck.check(report.contains("benchmarkThatExits: ERROR ") 
+                && report.contains("status 3"), msg);
+    }
+    
+    public static void main(String[] args) throws Exception {
+        checkCriticalValue();
+        checkMeanAndError();
+        checkRun();
+        checkForkedReportPoolsScores();
+        checkCrashedForkReported();
+        System.out.println("All checks have PASSED");
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.testframe.engine;
+
+import org.testframe.api.BeforeEachTest;
+import org.testframe.api.Concurrent;
+import org.testframe.api.Test;
+
+/**
+ * Toy tests to check that TestRunner runs the tests of a class annotated 
+ * Concurrent at the same time. Each of the six tests sleeps for half a second, 
+ * so the class should take roughly half a second to run, not three seconds. 
+ * Each test also checks that it got a fresh instance of the test class.
+ * @author Alonso del Arte
+ */
+@Concurrent
+public class ConcurrentToyTests {
+    
+    static final int NUMBER_OF_TESTS = 6;
+    
+    static final long SLEEP_MILLISECONDS = 500;
+    
+    private int beforeEachCount = 0;
+    
+    @BeforeEachTest
+    public void setUp() {
+        this.beforeEachCount++;
+    }
+    
+    private void sleepOnFreshInstance() throws InterruptedException {
+        String msg = "Instance should be fresh but @BeforeEachTest ran " 
+                + this.beforeEachCount + " times on it";
+        assert this.beforeEachCount == 1 : msg;
+        Thread.sleep(SLEEP_MILLISECONDS);
+    }
+    
+    @Test
+    public void testSleepA() throws InterruptedException {
+        this.sleepOnFreshInstance();
+    }
+    
+    @Test
+    public void testSleepB() throws InterruptedException {
+        this.sleepOnFreshInstance();
+    }
+    
+    @Test
+    public void testSleepC() throws InterruptedException {
+        this.sleepOnFreshInstance();
+    }
+    
+    @Test
+    public void testSleepD() throws InterruptedException {
+        this.sleepOnFreshInstance();
+    }
+    
+    @Test
+    public void testSleepE() throws InterruptedException {
+        this.sleepOnFreshInstance();
+    }
+    
+    @Test
+    public void testSleepF() throws InterruptedException {
+        this.sleepOnFreshInstance();
+    }
+    
+}
@@ -0,0 +1,85 @@
+package org.testframe.engine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks of DependencyIndex and DependencyRecordingClassLoader.
+ * @author Alonso del Arte
+ */
+public class DependencyIndexCheck {
+    
+    private static final String TEST_CLASS_NAME 
+            = "org.testframe.api.text.PlainTextProcessorTest";
+    
+    private static final String CLASS_UNDER_TEST_NAME 
+            = "org.testframe.api.text.PlainTextProcessor";
+    
+    private static Map<String, Long> recordDependencies() throws Exception {
+        String classPath = System.getProperty("java.class.path");
+        ClassLoader parent = ClassLoader.getSystemClassLoader();
+        try (DependencyRecordingClassLoader loader 
+                = new DependencyRecordingClassLoader(classPath, parent)) {
+            List<TestResult> results = TestRunner.run(TEST_CLASS_NAME, loader);
+            TestRunnerCheck.check(!results.isEmpty(), "Tests should have run");
+            return loader.getLoadedClassHashes();
+        }
+    }
+    
+    private static void checkLoaderRecordsClassUnderTest() throws Exception {
+        System.out.println("getLoadedClassHashes");
+        Map<String, Long> hashes = recordDependencies();
+        String[] expected = {TEST_CLASS_NAME, CLASS_UNDER_TEST_NAME};
+        for (String name : expected) {
+            String msg = "Expected " + name + " among " + hashes.keySet();
+            TestRunnerCheck.check(hashes.containsKey(name), msg);
+        }
+        String name = "org.testframe.api.Test";
+        String msg = "Annotation " + name + " should come from parent";
+        TestRunnerCheck.check(!hashes.containsKey(name), msg);
+        Long expectedHash = DependencyRecordingClassLoader.hashClassFile(
+                ClassLoader.getSystemClassLoader(), CLASS_UNDER_TEST_NAME);
+        msg = "Recorded hash should match hash of class file";
+        TestRunnerCheck.check(expectedHash.equals(hashes
+                .get(CLASS_UNDER_TEST_NAME)), msg);
+    }
+    
+    private static void checkIndexSurvivesSaveAndLoad() throws Exception {
+        System.out.println("save, load, hasChanged");
+        Path directory = Files.createTempDirectory("testframe");
+        Path path = directory.resolve("dependencies.idx");
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        DependencyIndex index = DependencyIndex.load(path);
+        String msg = "Unknown test class should count as changed";
+        TestRunnerCheck.check(index.hasChanged(TEST_CLASS_NAME, loader), msg);
+        Map<String, Long> hashes = recordDependencies();
+        index.record(TEST_CLASS_NAME, hashes);
+        index.save();
+        DependencyIndex reloaded = DependencyIndex.load(path);
+        msg = "Reloaded index should have same dependencies";
+        TestRunnerCheck.check(hashes.equals(reloaded
+                .getDependencies(TEST_CLASS_NAME)), msg);
+        msg = "Test class with unchanged dependencies should not count";
+        TestRunnerCheck.check(!reloaded.hasChanged(TEST_CLASS_NAME, loader), 
+                msg);
+        Map<String, Long> altered = new HashMap<>(hashes);
+        altered.put(CLASS_UNDER_TEST_NAME, 
+                altered.get(CLASS_UNDER_TEST_NAME) + 1);
+        reloaded.record(TEST_CLASS_NAME, altered);
+        msg = "Test class with changed dependency should count as changed";
+        TestRunnerCheck.check(reloaded.hasChanged(TEST_CLASS_NAME, loader), 
+                msg);
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(directory);
+    }
+    
+    public static void main(String[] args) throws Exception {
+        checkLoaderRecordsClassUnderTest();
+        checkIndexSurvivesSaveAndLoad();
+        System.out.println("All checks have PASSED");
+    }
+    
+}
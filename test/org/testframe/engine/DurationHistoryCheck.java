@@ -0,0 +1,114 @@
+package org.testframe.engine;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks of DurationHistory and TestResultDurationComparator.
+ * @author Alonso del Arte
+ */
+public class DurationHistoryCheck {
+    
+    private static final String SHORT_CLASS_NAME = ToyTests.class.getName();
+    
+    private static final String LONG_CLASS_NAME = MoreToyTests.class.getName();
+    
+    private static final String UNKNOWN_CLASS_NAME 
+            = YetMoreToyTests.class.getName();
+    
+    private static List<TestResult> makeResults(Class<?> type, long wallTime) {
+        List<TestResult> results = new ArrayList<>();
+        for (Method procedure : type.getDeclaredMethods()) {
+            results.add(new TestResult(procedure, TestResultStatus.PASSED, 
+                    null, wallTime, wallTime / 2));
+        }
+        return results;
+    }
+    
+    private static void checkAppendAndLoad(Path path) throws IOException {
+        System.out.println("append, load, estimate");
+        DurationHistory history = DurationHistory.load(path);
+        String msg = "Test class not run yet should have no estimate";
+        TestRunnerCheck.check(history.estimate(SHORT_CLASS_NAME) == -1L, msg);
+        history.append(makeResults(ToyTests.class, 1000L));
+        history.append(makeResults(MoreToyTests.class, 1000000L));
+        history.append(makeResults(MoreToyTests.class, 3000000L));
+        DurationHistory reloaded = DurationHistory.load(path);
+        Method procedure = MoreToyTests.class.getDeclaredMethods()[0];
+        long expected = 2000000L;
+        long actual = reloaded.estimate(LONG_CLASS_NAME, procedure.getName());
+        msg = "Expected estimate " + expected + " for " + procedure.getName() 
+                + ", got " + actual;
+        TestRunnerCheck.check(expected == actual, msg);
+        expected = history.estimate(SHORT_CLASS_NAME);
+        actual = reloaded.estimate(SHORT_CLASS_NAME);
+        msg = "Expected reloaded estimate " + expected + ", got " + actual;
+        TestRunnerCheck.check(expected > 0 && expected == actual, msg);
+    }
+    
+    private static void checkLongestFirst(Path path) {
+        System.out.println("longestFirst");
+        DurationHistory history = DurationHistory.load(path);
+        List<String> names = Arrays.asList(SHORT_CLASS_NAME, LONG_CLASS_NAME, 
+                UNKNOWN_CLASS_NAME);
+        List<Integer> expected = Arrays.asList(2, 1, 0);
+        List<Integer> actual = history.longestFirst(names);
+        String msg = "Expected order " + expected + ", got " + actual;
+        TestRunnerCheck.check(expected.equals(actual), msg);
+    }
+    
+    private static void checkCompaction(Path path) throws IOException {
+        System.out.println("compaction");
+        DurationHistory history = DurationHistory.load(path);
+        for (int i = 0; i < 2000; i++) {
+            history.append(makeResults(ToyTests.class, 1000L));
+        }
+        long before = Files.lines(path).count();
+        DurationHistory compacted = DurationHistory.load(path);
+        long after = Files.lines(path).count();
+        String msg = "History of " + before 
+                + " lines should have been compacted, has " + after;
+        TestRunnerCheck.check(after < before, msg);
+        msg = "Compaction should keep estimates";
+        TestRunnerCheck.check(history.estimate(LONG_CLASS_NAME) 
+                == compacted.estimate(LONG_CLASS_NAME), msg);
+    }
+    
+    private static void checkDurationComparator() {
+        System.out.println("TestResultDurationComparator");
+        Method procedure = DurationHistoryCheck.class.getDeclaredMethods()[0];
+        List<TestResult> results = new ArrayList<>();
+        long[] times = {500L, 20L, 7000L, 300L};
+        for (long time : times) {
+            results.add(new TestResult(procedure, TestResultStatus.PASSED, 
+                    null, time, time));
+        }
+        results.sort(new TestResultDurationComparator());
+        for (int i = 1; i < results.size(); i++) {
+            String msg = "Results should be sorted quickest first";
+            TestRunnerCheck.check(results.get(i - 1).getWallTime() 
+                    <= results.get(i).getWallTime(), msg);
+        }
+    }
+    
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("durations");
+        Path path = directory.resolve("durations.tsv");
+        try {
+            checkAppendAndLoad(path);
+            checkLongestFirst(path);
+            checkCompaction(path);
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(directory);
+        }
+        checkDurationComparator();
+        System.out.println("All checks have PASSED");
+    }
+
+}
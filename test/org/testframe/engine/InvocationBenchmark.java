@@ -0,0 +1,74 @@
+package org.testframe.engine;
+
+import java.lang.reflect.Method;
+
+import org.testframe.api.Test;
+
+/**
+ * Compares the cost of invoking a tiny test procedure through reflection, as 
+ * TestRunner used to do, with the cost of invoking it through the method 
+ * handle in its TestPlan. This is not a check, there's nothing here that can 
+ * pass or fail. It just prints the average number of nanoseconds per 
+ * invocation for each way.
+ * @author Alonso del Arte
+ */
+public class InvocationBenchmark {
+    
+    private static final int WARMUP_ROUNDS = 5;
+    
+    private static final int MEASUREMENT_ROUNDS = 5;
+    
+    private static final int INVOCATIONS_PER_ROUND = 10_000_000;
+    
+    private static int counter = 0;
+    
+    /**
+     * The tiny test procedure. It does just enough that the invocation can't 
+     * be optimized away.
+     */
+    @Test
+    public void tinyTest() {
+        counter++;
+    }
+    
+    private static double reflectionRound(Method procedure, Object instance) 
+            throws ReflectiveOperationException {
+        long start = System.nanoTime();
+        for (int i = 0; i < INVOCATIONS_PER_ROUND; i++) {
+            procedure.invoke(instance);
+        }
+        return (double) (System.nanoTime() - start) / INVOCATIONS_PER_ROUND;
+    }
+    
+    private static double handleRound(TestPlan.Step step, Object instance) 
+            throws Throwable {
+        long start = System.nanoTime();
+        for (int i = 0; i < INVOCATIONS_PER_ROUND; i++) {
+            step.invoke(instance);
+        }
+        return (double) (System.nanoTime() - start) / INVOCATIONS_PER_ROUND;
+    }
+    
+    public static void main(String[] args) throws Throwable {
+        Object instance = new InvocationBenchmark();
+        Method procedure = InvocationBenchmark.class.getMethod("tinyTest");
+        TestPlan.Step step 
+                = TestPlan.of(InvocationBenchmark.class).tests.get(0);
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            reflectionRound(procedure, instance);
+            handleRound(step, instance);
+        }
+        double reflectionTotal = 0.0;
+        double handleTotal = 0.0;
+        for (int round = 0; round < MEASUREMENT_ROUNDS; round++) {
+            reflectionTotal += reflectionRound(procedure, instance);
+            handleTotal += handleRound(step, instance);
+        }
+        System.out.println("Method.invoke(): " 
+                + (reflectionTotal / MEASUREMENT_ROUNDS) + " ns/invocation");
+        System.out.println("TestPlan.Step.invoke(): " 
+                + (handleTotal / MEASUREMENT_ROUNDS) + " ns/invocation");
+        System.out.println("(" + counter + " invocations in all)");
+    }
+    
+}
@@ -0,0 +1,190 @@
+package org.testframe.engine;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks of MannWhitney and RegressionGate.
+ * @author Alonso del Arte
+ */
+public class RegressionGateCheck {
+    
+    private static final Method PROCEDURE 
+            = RegressionGateCheck.class.getDeclaredMethods()[0];
+    
+    private static TestResult passed(long wallTime) {
+        return new TestResult(PROCEDURE, TestResultStatus.PASSED, null, 
+                wallTime, wallTime);
+    }
+    
+    private static void checkExactPValue() {
+        System.out.println("MannWhitney exact p-value");
+        double[] first = {10.0, 11.0, 12.0, 10.5, 11.5};
+        double[] second = {15.0};
+        double expected = 1.0 / 6.0;
+        double actual = MannWhitney.pValue(first, second);
+        String msg = "Expected p-value " + expected + ", got " + actual;
+        TestRunnerCheck.check(Math.abs(expected - actual) < 1.0E-9, msg);
+        actual = MannWhitney.pValue(second, first);
+        msg = "Expected p-value 1 the other way around, got " + actual;
+        TestRunnerCheck.check(Math.abs(1.0 - actual) < 1.0E-9, msg);
+        double u = MannWhitney.statistic(new double[] {10.0, 11.0, 12.0}, 
+                new double[] {11.0, 13.0});
+        msg = "Expected U statistic 4.5, got " + u;
+        TestRunnerCheck.check(u == 4.5, msg);
+    }
+    
+    private static void checkApproximatePValue() {
+        System.out.println("MannWhitney approximate p-value");
+        double[] first = new double[60];
+        double[] same = new double[60];
+        double[] larger = new double[60];
+        for (int i = 0; i < 60; i++) {
+            first[i] = i;
+            same[i] = i + 0.5;
+            larger[i] = i + 30.0;
+        }
+        double p = MannWhitney.pValue(first, same);
+        String msg = "Expected p-value near 0.5 for similar samples, got " + p;
+        TestRunnerCheck.check(p > 0.3 && p < 0.7, msg);
+        p = MannWhitney.pValue(first, larger);
+        msg = "Expected tiny p-value for shifted samples, got " + p;
+        TestRunnerCheck.check(p < 0.001, msg);
+        double tail = MannWhitney.upperNormalTail(1.959964);
+        msg = "Expected upper tail 0.025 at 1.96, got " + tail;
+        TestRunnerCheck.check(Math.abs(tail - 0.025) < 1.0E-6, msg);
+    }
+    
+    private static void checkSteadyTestNotFlagged(Path path) {
+        System.out.println("steady test not flagged");
+        RegressionGate gate = RegressionGate.load(path, 
+                RegressionGate.DEFAULT_SIGNIFICANCE);
+        for (int i = 0; i < 30; i++) {
+            TestResult result = passed(1000000L + (i % 7) * 10000L);
+            TestResult judged = gate.check(result);
+            String msg = "Run " + i + " of steady test should not be flagged";
+            TestRunnerCheck.check(judged == result, msg);
+        }
+    }
+    
+    private static void checkSlowTestFlagged(Path path) {
+        System.out.println("slow test flagged");
+        RegressionGate gate = RegressionGate.load(path, 
+                RegressionGate.DEFAULT_SIGNIFICANCE);
+        for (int i = 0; i < 15; i++) {
+            gate.check(passed(1000000L + (i % 5) * 10000L));
+        }
+        TestResult judged = null;
+        for (int i = 0; i < RegressionGate.RECENT_RUNS; i++) {
+            judged = gate.check(passed(3000000L + i * 10000L));
+        }
+        String msg = "Expected REGRESSED, got " + judged.getStatus();
+        TestRunnerCheck.check(judged.getStatus() 
+                == TestResultStatus.REGRESSED, msg);
+        msg = "Regressed result should keep its wall time";
+        TestRunnerCheck.check(judged.getWallTime() == 3040000L, msg);
+        String message = judged.getInformation().getMessage();
+        msg = "Message \"" + message + "\" should give the baseline median";
+        TestRunnerCheck.check(message.contains("slower than the baseline"), 
+                msg);
+        TestResult failed = new TestResult(PROCEDURE, TestResultStatus.FAILED, 
+                new AssertionError("For testing purposes"), 9000000L, 
+                9000000L);
+        msg = "Failed test should not be judged";
+        TestRunnerCheck.check(gate.check(failed) == failed, msg);
+    }
+    
+    private static void checkBenchmarkFlagged(Path path) {
+        System.out.println("slower benchmark flagged");
+        RegressionGate gate = RegressionGate.load(path, 
+                RegressionGate.DEFAULT_SIGNIFICANCE);
+        double[] usual = new double[10];
+        double[] slower = new double[10];
+        for (int i = 0; i < 10; i++) {
+            usual[i] = 1000.0 + i;
+            slower[i] = 600.0 + i;
+        }
+        String msg = "Benchmark without baseline should not be judged";
+        TestRunnerCheck.check(gate.check(new BenchmarkResult(PROCEDURE, 
+                usual)) == null, msg);
+        msg = "Benchmark as fast as before should not be flagged";
+        TestRunnerCheck.check(gate.check(new BenchmarkResult(PROCEDURE, 
+                usual)) == null, msg);
+        String regression = gate.check(new BenchmarkResult(PROCEDURE, slower));
+        msg = "Slower benchmark should be flagged";
+        TestRunnerCheck.check(regression != null 
+                && regression.contains("lower than the baseline"), msg);
+    }
+    
+    private static void checkSaveAndLoad(Path path) throws IOException {
+        System.out.println("save and load");
+        RegressionGate gate = RegressionGate.load(path, 
+                RegressionGate.DEFAULT_SIGNIFICANCE);
+        for (int i = 0; i < RegressionGate.MAXIMUM_SAMPLES + 5; i++) {
+            gate.check(passed(1000L + i));
+        }
+        gate.check(new BenchmarkResult(PROCEDURE, new double[] {1.5, 2.25}));
+        gate.save();
+        RegressionGate reloaded = RegressionGate.load(path, 
+                RegressionGate.DEFAULT_SIGNIFICANCE);
+        for (boolean benchmark : new boolean[] {false, true}) {
+            double[] expected = gate.measurementsOf(PROCEDURE, benchmark);
+            double[] actual = reloaded.measurementsOf(PROCEDURE, benchmark);
+            String msg = "Expected " + Arrays.toString(expected) + ", got " 
+                    + Arrays.toString(actual);
+            TestRunnerCheck.check(expected.length > 0 
+                    && Arrays.equals(expected, actual), msg);
+        }
+        int count = gate.measurementsOf(PROCEDURE, false).length;
+        String msg = "Expected at most " + RegressionGate.MAXIMUM_SAMPLES 
+                + " measurements, got " + count;
+        TestRunnerCheck.check(count == RegressionGate.MAXIMUM_SAMPLES, msg);
+    }
+    
+    private static void checkGuard(Path path) {
+        System.out.println("guard");
+        RegressionGate gate = RegressionGate.load(path, 0.5);
+        List<TestResult> results = new ArrayList<>();
+        TestListener listener = gate.guard(results::add);
+        listener.onRunStarted();
+        for (int i = 0; i < 15; i++) {
+            listener.onTestFinished(passed(1000000L + i));
+        }
+        for (int i = 0; i < RegressionGate.RECENT_RUNS; i++) {
+            listener.onTestFinished(passed(5000000L + i));
+        }
+        listener.onRunFinished();
+        TestResult last = results.get(results.size() - 1);
+        String msg = "Guarded listener should be given REGRESSED, was given " 
+                + last.getStatus();
+        TestRunnerCheck.check(last.getStatus() == TestResultStatus.REGRESSED, 
+                msg);
+        msg = "Baseline should have been saved at the end of the run";
+        TestRunnerCheck.check(Files.isRegularFile(path), msg);
+    }
+    
+    public static void main(String[] args) throws IOException {
+        checkExactPValue();
+        checkApproximatePValue();
+        Path directory = Files.createTempDirectory("baseline");
+        Path path = directory.resolve("baseline.tsv");
+        try {
+            checkSteadyTestNotFlagged(path);
+            checkSlowTestFlagged(path);
+            checkBenchmarkFlagged(path);
+            checkSaveAndLoad(path);
+            Files.deleteIfExists(path);
+            checkGuard(path);
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(directory);
+        }
+        System.out.println("All checks have PASSED");
+    }
+
+}
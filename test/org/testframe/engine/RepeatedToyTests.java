@@ -0,0 +1,62 @@
+package org.testframe.engine;
+
+import org.testframe.api.AfterEachTest;
+import org.testframe.api.BeforeEachTest;
+import org.testframe.api.Repeat;
+import org.testframe.api.Test;
+
+/**
+ * Toy tests to check that TestRunner runs tests annotated Repeat as many times 
+ * as asked, with warmup runs first, and rolls up the results into one. The 
+ * counts are static so that RepetitionSummaryCheck can see them after the 
+ * run.
+ * @author Alonso del Arte
+ */
+public class RepeatedToyTests {
+    
+    static final int REPETITIONS = 8;
+    
+    static final int WARMUPS = 2;
+    
+    static int beforeEachCount = 0;
+    
+    static int afterEachCount = 0;
+    
+    static int steadyCount = 0;
+    
+    static int flakyCount = 0;
+    
+    @BeforeEachTest
+    public void setUp() {
+        beforeEachCount++;
+    }
+    
+    @AfterEachTest
+    public void tearDown() {
+        afterEachCount++;
+    }
+    
+    @Test
+    @Repeat(value = REPETITIONS, warmups = WARMUPS)
+    public void testThatShouldPassEveryTime() {
+        steadyCount++;
+    }
+    
+    /**
+     * Fails on every other run. The two warmup runs are one pass and one fail, 
+     * so this should pass half of the repetitions that count.
+     */
+    @Test
+    @Repeat(value = REPETITIONS, warmups = WARMUPS)
+    public void testThatShouldBeFlaky() {
+        flakyCount++;
+        assert flakyCount % 2 == 0 : "Odd run " + flakyCount;
+    }
+    
+    @Test
+    @Repeat(0)
+    public void testThatShouldNotBeRepeated() {
+        throw new AssertionError("This test should not have run");
+    }
+    
+}
@@ -0,0 +1,227 @@
+package org.testframe.engine;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testframe.api.AfterEachTest;
+import org.testframe.api.BeforeEachTest;
+import org.testframe.api.Repeat;
+import org.testframe.api.Test;
+
+/**
+ * Checks of RepetitionSummary, and of how TestRunner runs tests annotated 
+ * Repeat.
+ * @author Alonso del Arte
+ */
+public class RepetitionSummaryCheck {
+    
+    /**
+     * A repeated test that times out and swallows the interrupt, so that only 
+     * the abandoned flag can stop it from repeating. The counts are volatile 
+     * since the abandoned thread goes on updating them after the run.
+     */
+    public static class AbandonedRepeatedTests {
+        
+        static final long TIMEOUT_MILLISECONDS = 100;
+        
+        static final long SLEEP_MILLISECONDS = 20;
+        
+        static volatile int runCount = 0;
+        
+        static volatile int afterEachCount = 0;
+        
+        @AfterEachTest
+        public void tearDown() {
+            afterEachCount++;
+        }
+        
+        @Test(timeout = TIMEOUT_MILLISECONDS)
+        @Repeat(1000)
+        public void testThatShouldTimeOutWhileRepeating() {
+            runCount++;
+            try {
+                Thread.sleep(SLEEP_MILLISECONDS);
+            } catch (InterruptedException ie) {
+                // Swallowed on purpose
+            }
+        }
+    
+    }
+    
+    /**
+     * A repeated test with warmup runs, to check that the listener is told 
+     * the test has started only after the before procedures of the first run.
+     */
+    public static class SetUpFirstRepeatedTests {
+        
+        static volatile int beforeEachCount = 0;
+        
+        @BeforeEachTest
+        public void setUp() {
+            beforeEachCount++;
+        }
+        
+        @Test
+        @Repeat(value = 3, warmups = 1)
+        public void testThatShouldStartAfterSetUp() {
+            // Nothing to do, only the order of events matters
+        }
+    
+    }
+    
+    private static void checkOf() {
+        System.out.println("of");
+        long[] wallTimes = {500L, 100L, 400L, 200L, 300L};
+        RepetitionSummary summary = RepetitionSummary.of(wallTimes, 4);
+        String msg = "Expected 4 of 5, minimum 100, median 300, p99 500, got " 
+                + summary.getPasses() + " of " + summary.getRepetitions() 
+                + ", " + summary.getMinimum() + ", " + summary.getMedian() 
+                + ", " + summary.get99thPercentile();
+        TestRunnerCheck.check(summary.getRepetitions() == 5 
+                && summary.getPasses() == 4 && summary.getMinimum() == 100L 
+                && summary.getMedian() == 300L 
+                && summary.get99thPercentile() == 500L, msg);
+        long[] evenTimes = {400L, 100L, 200L, 300L};
+        summary = RepetitionSummary.of(evenTimes, 4);
+        msg = "Expected median 250, got " + summary.getMedian();
+        TestRunnerCheck.check(summary.getMedian() == 250L, msg);
+        long[] manyTimes = new long[200];
+        for (int i = 0; i < manyTimes.length; i++) {
+            manyTimes[i] = i + 1;
+        }
+        summary = RepetitionSummary.of(manyTimes, 200);
+        msg = "Expected 99th percentile of 1 to 200 to be 198, got " 
+                + summary.get99thPercentile();
+        TestRunnerCheck.check(summary.get99thPercentile() == 198L, msg);
+    }
+    
+    private static void checkToString() {
+        System.out.println("toString");
+        RepetitionSummary summary = new RepetitionSummary(100, 97, 1250000L, 
+                1300000L, 21000000L);
+        String expected = "Passed 97 of 100 repetitions. Minimum 1.250 ms, " 
+                + "median 1.300 ms, 99th percentile 21.000 ms";
+        String actual = summary.toString();
+        String msg = "Expected \"" + expected + "\", got \"" + actual + "\"";
+        TestRunnerCheck.check(expected.equals(actual), msg);
+    }
+    
+    private static TestResult lookForResult(List<TestResult> results, 
+            String name) {
+        for (TestResult result : results) {
+            if (result.getProcedure().getName().equals(name)) {
+                return result;
+            }
+        }
+        throw new AssertionError("No result for " + name);
+    }
+    
+    private static void checkRunnerRepeatsTests() {
+        System.out.println("run repeated tests");
+        List<TestResult> results 
+                = TestRunner.run(RepeatedToyTests.class.getName());
+        String msg = "Expected 3 results, got " + results.size();
+        TestRunnerCheck.check(results.size() == 3, msg);
+        int runs = RepeatedToyTests.REPETITIONS + RepeatedToyTests.WARMUPS;
+        msg = "Expected each repeated test to run " + runs + " times, got " 
+                + RepeatedToyTests.steadyCount + " and " 
+                + RepeatedToyTests.flakyCount;
+        TestRunnerCheck.check(RepeatedToyTests.steadyCount == runs 
+                && RepeatedToyTests.flakyCount == runs, msg);
+        msg = "Expected @BeforeEachTest and @AfterEachTest to run " + 2 * runs 
+                + " times, got " + RepeatedToyTests.beforeEachCount + " and " 
+                + RepeatedToyTests.afterEachCount;
+        TestRunnerCheck.check(RepeatedToyTests.beforeEachCount == 2 * runs 
+                && RepeatedToyTests.afterEachCount == 2 * runs, msg);
+        TestResult steady = lookForResult(results, 
+                "testThatShouldPassEveryTime");
+        RepetitionSummary summary = steady.getRepetitionSummary();
+        msg = "Expected steady test to pass " + RepeatedToyTests.REPETITIONS 
+                + " times, got " + steady.getStatus() + " " + summary;
+        TestRunnerCheck.check(steady.getStatus() == TestResultStatus.PASSED 
+                && summary.getPasses() == RepeatedToyTests.REPETITIONS 
+                && summary.getRepetitions() == RepeatedToyTests.REPETITIONS, 
+                msg);
+        msg = "Expected minimum <= median <= p99 <= total, got " + summary 
+                + " and total " + steady.getWallTime();
+        TestRunnerCheck.check(summary.getMinimum() <= summary.getMedian() 
+                && summary.getMedian() <= summary.get99thPercentile() 
+                && summary.get99thPercentile() <= steady.getWallTime(), msg);
+        TestResult flaky = lookForResult(results, "testThatShouldBeFlaky");
+        summary = flaky.getRepetitionSummary();
+        int expected = RepeatedToyTests.REPETITIONS / 2;
+        msg = "Expected flaky test to fail after passing " + expected 
+                + " times, got " + flaky.getStatus() + " " + summary;
+        TestRunnerCheck.check(flaky.getStatus() == TestResultStatus.FAILED 
+                && summary.getPasses() == expected, msg);
+        msg = "Expected failure to say how often test passed, got " 
+                + flaky.getInformation();
+        TestRunnerCheck.check(flaky.getInformation().getMessage()
+                .startsWith("Passed only " + expected + " of ") 
+                && flaky.getInformation().getCause() instanceof AssertionError, 
+                msg);
+        TestResult invalid = lookForResult(results, 
+                "testThatShouldNotBeRepeated");
+        msg = "Expected @Repeat(0) to cause an error, got " 
+                + invalid.getStatus();
+        TestRunnerCheck.check(invalid.getStatus() == TestResultStatus.ERROR 
+                && invalid.getRepetitionSummary() == null, msg);
+    }
+    
+    private static void checkStartedAfterBefores() {
+        System.out.println("repeated test started after before procedures");
+        List<Integer> countsAtStart = new ArrayList<>();
+        TestListener listener = new TestListener() {
+            
+            @Override
+            public void onTestStarted(Method procedure) {
+                countsAtStart.add(SetUpFirstRepeatedTests.beforeEachCount);
+            }
+            
+            @Override
+            public void onTestFinished(TestResult result) {
+                // Only the start matters here
+            }
+        
+        };
+        TestRunner.run(SetUpFirstRepeatedTests.class.getName(), 
+                ClassLoader.getSystemClassLoader(), listener);
+        String msg = "Expected test to start once after 1 before procedure, " 
+                + "got before procedure counts " + countsAtStart;
+        TestRunnerCheck.check(countsAtStart.equals(List.of(1)), msg);
+    }
+    
+    private static void checkAbandonedTestStopsRepeating() 
+            throws InterruptedException {
+        System.out.println("abandoned repeated test");
+        List<TestResult> results 
+                = TestRunner.run(AbandonedRepeatedTests.class.getName());
+        TestResultStatus status = results.get(0).getStatus();
+        String msg = "Expected repeated test to time out, got " + status;
+        TestRunnerCheck.check(status == TestResultStatus.TIMED_OUT, msg);
+        Thread.sleep(5 * AbandonedRepeatedTests.SLEEP_MILLISECONDS);
+        int runs = AbandonedRepeatedTests.runCount;
+        int afters = AbandonedRepeatedTests.afterEachCount;
+        Thread.sleep(10 * AbandonedRepeatedTests.SLEEP_MILLISECONDS);
+        msg = "Expected abandoned test to stop at " + runs + " runs and " 
+                + afters + " after procedures, got " 
+                + AbandonedRepeatedTests.runCount + " and " 
+                + AbandonedRepeatedTests.afterEachCount;
+        TestRunnerCheck.check(AbandonedRepeatedTests.runCount == runs 
+                && AbandonedRepeatedTests.afterEachCount == afters, msg);
+        msg = "Expected the last run to skip the after procedures, got " 
+                + runs + " runs and " + afters + " after procedures";
+        TestRunnerCheck.check(afters == runs - 1, msg);
+    }
+    
+    public static void main(String[] args) throws InterruptedException {
+        checkOf();
+        checkToString();
+        checkRunnerRepeatsTests();
+        checkStartedAfterBefores();
+        checkAbandonedTestStopsRepeating();
+        System.out.println("All checks have PASSED");
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.testframe.engine;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Checks of JUnitXMLWriter and JSONLinesWriter. These checks depend on 
+ * YetMoreToyTests having three passing tests, three failing tests, three tests 
+ * that cause errors, three skipped tests and three tests that time out.
+ * @author Alonso del Arte
+ */
+public class ReportWritersCheck {
+    
+    private static final String TEST_CLASS_NAME 
+            = "org.testframe.engine.YetMoreToyTests";
+    
+    private static final int EXPECTED_TOTAL = 15;
+    
+    private static final int EXPECTED_PER_STATUS = 3;
+    
+    private static void checkJUnitXMLWriter(Path directory) throws Exception {
+        System.out.println("JUnitXMLWriter");
+        Path path = directory.resolve("results.xml");
+        TestRunner.run(Collections.singletonList(TEST_CLASS_NAME), 1, 
+                new JUnitXMLWriter(path, TEST_CLASS_NAME));
+        Document document = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder().parse(path.toFile());
+        String[] elementNames = {"testcase", "failure", "error", "skipped"};
+        int[] expectedCounts = {EXPECTED_TOTAL, EXPECTED_PER_STATUS, 
+            2 * EXPECTED_PER_STATUS, EXPECTED_PER_STATUS};
+        for (int i = 0; i < elementNames.length; i++) {
+            int actual = document.getElementsByTagName(elementNames[i])
+                    .getLength();
+            String msg = "Expected " + expectedCounts[i] + " " 
+                    + elementNames[i] + " elements, got " + actual;
+            TestRunnerCheck.check(expectedCounts[i] == actual, msg);
+        }
+        Files.delete(path);
+    }
+    
+    private static void checkJUnitXMLWriterReplacesIllegalCharacters( 
+            Path directory) throws Exception {
+        System.out.println("JUnitXMLWriter replaces illegal characters");
+        Path path = directory.resolve("illegal.xml");
+        JUnitXMLWriter writer = new JUnitXMLWriter(path, TEST_CLASS_NAME);
+        Method procedure = ReportWritersCheck.class
+                .getDeclaredMethod("checkQuote");
+        String message = "Bell \u0007, escape \u001B, unpaired \uD800";
+        writer.onRunStarted();
+        writer.onTestFinished(new TestResult(procedure, 
+                TestResultStatus.FAILED, new AssertionError(message)));
+        writer.onRunFinished();
+        Document document = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder().parse(path.toFile());
+        Element failure = (Element) document.getElementsByTagName("failure")
+                .item(0);
+        String expected = "Bell \uFFFD, escape \uFFFD, unpaired \uFFFD";
+        String actual = failure.getAttribute("message");
+        String msg = "Expected message \"" + expected + "\", got \"" + actual 
+                + "\"";
+        TestRunnerCheck.check(expected.equals(actual), msg);
+        msg = "Stack trace should have the message with replacements";
+        TestRunnerCheck.check(failure.getTextContent().contains(expected), msg);
+        Files.delete(path);
+    }
+    
+    private static void checkJSONLinesWriter(Path directory) throws Exception {
+        System.out.println("JSONLinesWriter");
+        Path path = directory.resolve("results.jsonl");
+        TestRunner.run(Collections.singletonList(TEST_CLASS_NAME), 1, 
+                new JSONLinesWriter(path));
+        List<String> lines = Files.readAllLines(path);
+        String msg = "Expected " + EXPECTED_TOTAL + " lines, got " 
+                + lines.size();
+        TestRunnerCheck.check(lines.size() == EXPECTED_TOTAL, msg);
+        for (TestResultStatus status : TestResultStatus.values()) {
+            // No test is reported as not run without a failure budget, nor 
+            // as regressed without a baseline
+            if (status.compareTo(TestResultStatus.NOT_RUN) >= 0) {
+                continue;
+            }
+            String field = "\"status\":\"" + status + "\"";
+            long actual = lines.stream().filter(line -> line.contains(field))
+                    .count();
+            msg = "Expected " + EXPECTED_PER_STATUS + " lines with " + field 
+                    + ", got " + actual;
+            TestRunnerCheck.check(actual == EXPECTED_PER_STATUS, msg);
+        }
+        for (String line : lines) {
+            msg = "Line " + line + " should be a JSON object for " 
+                    + TEST_CLASS_NAME;
+            TestRunnerCheck.check(line.startsWith("{\"class\":\"" 
+                    + TEST_CLASS_NAME + "\"") && line.endsWith("}"), msg);
+        }
+        Files.delete(path);
+    }
+    
+    private static void checkQuote() {
+        System.out.println("quote");
+        StringBuilder builder = new StringBuilder();
+        JSONLinesWriter.quote(builder, "Expected \"a\\b\"\n\u0001");
+        String expected = "\"Expected \\\"a\\\\b\\\"\\n\\u0001\"";
+        String actual = builder.toString();
+        String msg = "Expected " + expected + ", got " + actual;
+        TestRunnerCheck.check(expected.equals(actual), msg);
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("reports");
+        try {
+            checkJUnitXMLWriter(directory);
+            checkJUnitXMLWriterReplacesIllegalCharacters(directory);
+            checkJSONLinesWriter(directory);
+        } finally {
+            Files.delete(directory);
+        }
+        checkQuote();
+        System.out.println("All checks have PASSED");
+    }
+
+}
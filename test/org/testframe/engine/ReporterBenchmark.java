@@ -0,0 +1,109 @@
+package org.testframe.engine;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how long TestResultsReporter takes to report 100,000 results, one 
+ * in ten of which is a failure with a stack trace, as might happen after a bad 
+ * merge. For comparison, it also measures printing the same results the way 
+ * TestResultsReporter used to, with several calls to <code>print()</code> and 
+ * <code>println()</code> per result and <code>printStackTrace()</code> for 
+ * each failure. The output is thrown away, so what's measured is the cost of 
+ * formatting and of the calls to the output stream. This is not a check, 
+ * there's nothing here that can pass or fail.
+ * @author Alonso del Arte
+ */
+public class ReporterBenchmark {
+    
+    private static final int NUMBER_OF_RESULTS = 100_000;
+    
+    private static final int FAILURE_INTERVAL = 10;
+    
+    private static final int WARMUP_ROUNDS = 3;
+    
+    private static final int MEASUREMENT_ROUNDS = 5;
+    
+    private static List<TestResult> makeResults() {
+        Method procedure = ReporterBenchmark.class.getDeclaredMethods()[0];
+        AssertionError failure = new AssertionError("Expected 1 but was 2");
+        List<TestResult> results = new ArrayList<>(NUMBER_OF_RESULTS);
+        for (int i = 0; i < NUMBER_OF_RESULTS; i++) {
+            if (i % FAILURE_INTERVAL == 0) {
+                results.add(new TestResult(procedure, TestResultStatus.FAILED, 
+                        failure));
+            } else {
+                results.add(new TestResult(procedure, TestResultStatus.PASSED, 
+                        null));
+            }
+        }
+        return results;
+    }
+    
+    private static void reportOldWay(List<TestResult> results, 
+            PrintStream out) {
+        out.println();
+        out.println("Test results for benchmark");
+        for (TestResult result : results) {
+            out.print(result.getProcedure().getName() + " ");
+            out.print(result.getStatus().toString() + " ");
+            if (result.hasStackTrace()) {
+                out.println(result.getInformation().getMessage());
+                result.getInformation().printStackTrace(out);
+            } else {
+                out.println();
+            }
+            out.println();
+        }
+        out.println("Total: " + results.size());
+    }
+    
+    private static double oldWayRound(List<TestResult> results, 
+            PrintStream out) {
+        long start = System.nanoTime();
+        reportOldWay(results, out);
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+    
+    private static double reporterRound(List<TestResult> results, 
+            PrintStream out, int maxFrames, boolean deduplicate) {
+        long start = System.nanoTime();
+        TestResultsReporter reporter = new TestResultsReporter("benchmark", 
+                out, maxFrames, deduplicate);
+        reporter.onRunStarted();
+        for (TestResult result : results) {
+            reporter.onTestFinished(result);
+        }
+        reporter.onRunFinished();
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+    
+    public static void main(String[] args) {
+        List<TestResult> results = makeResults();
+        PrintStream out = new PrintStream(OutputStream.nullOutputStream(), 
+                true);
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            oldWayRound(results, out);
+            reporterRound(results, out, 0, false);
+            reporterRound(results, out, 5, true);
+        }
+        double oldWayTotal = 0.0;
+        double reporterTotal = 0.0;
+        double shortenedTotal = 0.0;
+        for (int round = 0; round < MEASUREMENT_ROUNDS; round++) {
+            oldWayTotal += oldWayRound(results, out);
+            reporterTotal += reporterRound(results, out, 0, false);
+            shortenedTotal += reporterRound(results, out, 5, true);
+        }
+        System.out.println("Several prints per result: " 
+                + (oldWayTotal / MEASUREMENT_ROUNDS) + " ms");
+        System.out.println("TestResultsReporter: " 
+                + (reporterTotal / MEASUREMENT_ROUNDS) + " ms");
+        System.out.println("TestResultsReporter, -maxframes=5 -dedupe: " 
+                + (shortenedTotal / MEASUREMENT_ROUNDS) + " ms");
+    }
+    
+}
@@ -0,0 +1,203 @@
+package org.testframe.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks of ResultCache and the reporting of cached results.
+ * @author Alonso del Arte
+ */
+public class ResultCacheCheck {
+    
+    private static final String TEST_CLASS_NAME 
+            = "org.testframe.api.text.PlainTextProcessorTest";
+    
+    private static final String CLASS_UNDER_TEST_NAME 
+            = "org.testframe.api.text.PlainTextProcessor";
+    
+    private static final ClassLoader SYSTEM_LOADER 
+            = ClassLoader.getSystemClassLoader();
+    
+    private static List<TestResult> results;
+    
+    private static Map<String, Long> recordDependencies() throws Exception {
+        String classPath = System.getProperty("java.class.path");
+        try (DependencyRecordingClassLoader loader 
+                = new DependencyRecordingClassLoader(classPath, 
+                        SYSTEM_LOADER)) {
+            results = TestRunner.run(TEST_CLASS_NAME, loader);
+            TestRunnerCheck.check(!results.isEmpty(), "Tests should have run");
+            return loader.getLoadedClassHashes();
+        }
+    }
+    
+    private static void checkReplayAfterSaveAndLoad(Path path) 
+            throws Exception {
+        System.out.println("record, save, load, replay");
+        ResultCache cache = ResultCache.load(path);
+        List<TestResult> replayed = new ArrayList<>();
+        String msg = "Unknown test class should not be replayed";
+        TestRunnerCheck.check(!cache.replay(TEST_CLASS_NAME, SYSTEM_LOADER, 
+                replayed::add), msg);
+        Map<String, Long> hashes = recordDependencies();
+        cache.record(TEST_CLASS_NAME, hashes, results);
+        cache.save();
+        ResultCache reloaded = ResultCache.load(path);
+        msg = "Unchanged test class should be replayed";
+        TestRunnerCheck.check(reloaded.replay(TEST_CLASS_NAME, SYSTEM_LOADER, 
+                replayed::add), msg);
+        msg = "Expected " + results.size() + " replayed results, got " 
+                + replayed.size();
+        TestRunnerCheck.check(replayed.size() == results.size(), msg);
+        for (int i = 0; i < results.size(); i++) {
+            TestResult original = results.get(i);
+            TestResult copy = replayed.get(i);
+            msg = "Replayed result for " + copy.getProcedure().getName() 
+                    + " should match original and be marked cached";
+            TestRunnerCheck.check(copy.isCached() && !original.isCached() 
+                    && copy.getProcedure().getName()
+                            .equals(original.getProcedure().getName()) 
+                    && copy.getStatus() == original.getStatus() 
+                    && copy.getWallTime() == original.getWallTime(), msg);
+        }
+        Map<String, Long> altered = new HashMap<>(hashes);
+        altered.put(CLASS_UNDER_TEST_NAME, 
+                altered.get(CLASS_UNDER_TEST_NAME) + 1);
+        reloaded.record(TEST_CLASS_NAME, altered, results);
+        msg = "Test class with changed dependency should not be replayed";
+        TestRunnerCheck.check(!reloaded.replay(TEST_CLASS_NAME, SYSTEM_LOADER, 
+                replayed::add), msg);
+    }
+    
+    private static void checkReplayLeavesHistoryAlone(Path path, 
+            Path historyPath) throws IOException {
+        System.out.println("replay leaves duration history alone");
+        DurationHistory history = DurationHistory.load(historyPath);
+        history.append(results);
+        byte[] before = Files.readAllBytes(historyPath);
+        long estimate = history.estimate(TEST_CLASS_NAME);
+        history.onRunStarted();
+        boolean replayed = ResultCache.load(path).replay(TEST_CLASS_NAME, 
+                SYSTEM_LOADER, history);
+        history.onRunFinished();
+        String msg = "Unchanged test class should be replayed";
+        TestRunnerCheck.check(replayed, msg);
+        byte[] after = Files.readAllBytes(historyPath);
+        msg = "Replay should not have added to the duration history, went " 
+                + "from " + before.length + " bytes to " + after.length;
+        TestRunnerCheck.check(Arrays.equals(before, after), msg);
+        msg = "Replay should not have changed the estimate of " + estimate;
+        TestRunnerCheck.check(history.estimate(TEST_CLASS_NAME) == estimate, 
+                msg);
+    }
+    
+    private static void checkFailureNotCached(Path path) throws Exception {
+        System.out.println("failure not cached");
+        ResultCache cache = ResultCache.load(path);
+        Map<String, Long> hashes = recordDependencies();
+        List<TestResult> withFailure = new ArrayList<>(results);
+        withFailure.add(new TestResult(results.get(0).getProcedure(), 
+                TestResultStatus.FAILED, 
+                new AssertionError("For testing purposes")));
+        cache.record(TEST_CLASS_NAME, hashes, withFailure);
+        List<TestResult> replayed = new ArrayList<>();
+        String msg = "Test class with a failure should not be replayed";
+        TestRunnerCheck.check(!cache.replay(TEST_CLASS_NAME, SYSTEM_LOADER, 
+                replayed::add) && replayed.isEmpty(), msg);
+    }
+    
+    private static void checkChangedResourceNotReplayed(Path directory) 
+            throws Exception {
+        System.out.println("changed resource not replayed");
+        Path fixture = directory.resolve("fixture.txt");
+        Files.writeString(fixture, "Original fixture");
+        Path path = directory.resolve("resources.cache");
+        String classPath = System.getProperty("java.class.path") 
+                + File.pathSeparator + directory;
+        try (DependencyRecordingClassLoader loader 
+                = new DependencyRecordingClassLoader(classPath, 
+                        SYSTEM_LOADER);
+                URLClassLoader replayLoader = new URLClassLoader(new URL[] {
+                    directory.toUri().toURL()}, SYSTEM_LOADER)) {
+            String msg = "Fixture should be found as a resource";
+            TestRunnerCheck.check(loader.getResource("fixture.txt") != null, 
+                    msg);
+            Map<String, Long> hashes = loader.getLoadedClassHashes();
+            String key = DependencyRecordingClassLoader.RESOURCE_PREFIX 
+                    + "fixture.txt";
+            msg = "Fixture should be recorded as a dependency, got " 
+                    + hashes.keySet();
+            TestRunnerCheck.check(hashes.containsKey(key), msg);
+            Map<String, Long> merged = new HashMap<>(recordDependencies());
+            merged.putAll(hashes);
+            ResultCache cache = ResultCache.load(path);
+            cache.record(TEST_CLASS_NAME, merged, results);
+            List<TestResult> replayed = new ArrayList<>();
+            msg = "Test class with unchanged fixture should be replayed";
+            TestRunnerCheck.check(cache.replay(TEST_CLASS_NAME, replayLoader, 
+                    replayed::add), msg);
+            Files.writeString(fixture, "Changed fixture");
+            msg = "Test class with changed fixture should not be replayed";
+            TestRunnerCheck.check(!cache.replay(TEST_CLASS_NAME, replayLoader, 
+                    replayed::add), msg);
+        } finally {
+            Files.deleteIfExists(fixture);
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    private static void checkFrameworkHashed() {
+        System.out.println("framework hashed");
+        long hash = ResultCache.engineHash();
+        String msg = "Framework hash should be available and stable, was " 
+                + Long.toHexString(hash);
+        TestRunnerCheck.check(hash != 0L && hash == ResultCache.engineHash(), 
+                msg);
+    }
+    
+    private static void checkCachedResultsMarked() {
+        System.out.println("cached results marked in report");
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(interceptor);
+        TestResultsReporter reporter = new TestResultsReporter(TEST_CLASS_NAME, 
+                output, 0, false, 0);
+        reporter.onRunStarted();
+        reporter.onTestFinished(results.get(0).asCached());
+        reporter.onRunFinished();
+        String actual = interceptor.toString();
+        String msg = "Report should mark cached result, was\n" + actual;
+        TestRunnerCheck.check(actual.contains(" (cached) ") 
+                && actual.contains(". Replayed from cache: 1"), msg);
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("testframe");
+        Path path = directory.resolve("results.cache");
+        Path historyPath = directory.resolve("durations.tsv");
+        try {
+            checkReplayAfterSaveAndLoad(path);
+            checkReplayLeavesHistoryAlone(path, historyPath);
+            checkFailureNotCached(path);
+            checkChangedResourceNotReplayed(directory);
+        } finally {
+            Files.deleteIfExists(historyPath);
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(directory);
+        }
+        checkFrameworkHashed();
+        checkCachedResultsMarked();
+        System.out.println("All checks have PASSED");
+    }
+
+}
@@ -0,0 +1,161 @@
+package org.testframe.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks of Sharding and ShardMerger.
+ * @author Alonso del Arte
+ */
+public class ShardingCheck {
+    
+    private static final int NUMBER_OF_NAMES = 500;
+    
+    private static List<String> makeNames() {
+        List<String> names = new ArrayList<>(NUMBER_OF_NAMES);
+        for (int i = 0; i < NUMBER_OF_NAMES; i++) {
+            names.add("org.example.Example" + i + "Test");
+        }
+        return names;
+    }
+    
+    private static void checkEachClassInExactlyOneShard() {
+        System.out.println("select");
+        List<String> names = makeNames();
+        final int count = 4;
+        Set<String> seen = new HashSet<>();
+        int smallest = Integer.MAX_VALUE;
+        for (int index = 1; index <= count; index++) {
+            List<String> shard = Sharding.select(names, index, count);
+            smallest = Math.min(smallest, shard.size());
+            for (String name : shard) {
+                String msg = name + " should be in only one shard";
+                TestRunnerCheck.check(seen.add(name), msg);
+            }
+        }
+        String msg = "All " + NUMBER_OF_NAMES + " names should be in a shard";
+        TestRunnerCheck.check(seen.size() == NUMBER_OF_NAMES, msg);
+        msg = "Smallest shard has only " + smallest + " names";
+        TestRunnerCheck.check(smallest > NUMBER_OF_NAMES / count / 2, msg);
+    }
+    
+    private static void checkAddingShardOnlyMovesToNewShard() {
+        System.out.println("shardOf");
+        for (String name : makeNames()) {
+            int before = Sharding.shardOf(name, 5);
+            int after = Sharding.shardOf(name, 6);
+            String msg = name + " moved from shard " + before + " to " + after;
+            TestRunnerCheck.check(after == before || after == 6, msg);
+        }
+    }
+    
+    private static void checkBalancedShards() throws IOException {
+        System.out.println("selectBalanced");
+        Path directory = Files.createTempDirectory("sharding");
+        Path path = directory.resolve("durations.tsv");
+        try {
+            DurationHistory history = DurationHistory.load(path);
+            List<TestResult> results = new ArrayList<>();
+            long[] times = {9000L, 5000L, 4000L};
+            Class<?>[] types = {ToyTests.class, MoreToyTests.class, 
+                YetMoreToyTests.class};
+            for (int i = 0; i < types.length; i++) {
+                results.add(new TestResult(types[i].getMethods()[0], 
+                        TestResultStatus.PASSED, null, times[i], times[i]));
+            }
+            history.append(results);
+            List<String> names = Arrays.asList(types[2].getName(), 
+                    types[0].getName(), types[1].getName());
+            List<String> expected = Collections.singletonList(types[0]
+                    .getName());
+            List<String> actual = Sharding.selectBalanced(names, 1, 2, 
+                    history);
+            String msg = "Expected shard 1 to be " + expected + ", was " 
+                    + actual;
+            TestRunnerCheck.check(expected.equals(actual), msg);
+            expected = Arrays.asList(types[2].getName(), types[1].getName());
+            actual = Sharding.selectBalanced(names, 2, 2, history);
+            msg = "Expected shard 2 to be " + expected + ", was " + actual;
+            TestRunnerCheck.check(expected.equals(actual), msg);
+        } finally {
+            Files.deleteIfExists(path);
+            Files.delete(directory);
+        }
+    }
+    
+    private static void checkParseLine() {
+        System.out.println("parseLine");
+        String expected = "Expected \"a\\b\"\n\u0001";
+        StringBuilder builder = new StringBuilder("{\"message\":");
+        JSONLinesWriter.quote(builder, expected);
+        builder.append(",\"wallNanos\":-1}");
+        Map<String, String> fields = ShardMerger.parseLine(builder.toString());
+        String actual = fields.get("message");
+        String msg = "Expected " + expected + ", got " + actual;
+        TestRunnerCheck.check(expected.equals(actual), msg);
+        msg = "Expected wallNanos -1, got " + fields.get("wallNanos");
+        TestRunnerCheck.check("-1".equals(fields.get("wallNanos")), msg);
+    }
+    
+    private static void checkMerge() throws IOException {
+        System.out.println("merge");
+        String testClassName = "org.testframe.engine.YetMoreToyTests";
+        List<TestResult> expected = TestRunner.run(testClassName);
+        Path directory = Files.createTempDirectory("shards");
+        Path pathA = directory.resolve("shard1.jsonl");
+        Path pathB = directory.resolve("shard2.jsonl");
+        try {
+            int half = expected.size() / 2;
+            JSONLinesWriter writerA = new JSONLinesWriter(pathA);
+            JSONLinesWriter writerB = new JSONLinesWriter(pathB);
+            writerA.onRunStarted();
+            writerB.onRunStarted();
+            for (int i = 0; i < expected.size(); i++) {
+                (i < half ? writerA : writerB).onTestFinished(expected.get(i));
+            }
+            writerA.onRunFinished();
+            writerB.onRunFinished();
+            List<TestResult> actual = new ArrayList<>();
+            ShardMerger.merge(Arrays.asList(pathA, pathB), actual::add);
+            String msg = "Expected " + expected.size() + " results, got " 
+                    + actual.size();
+            TestRunnerCheck.check(expected.size() == actual.size(), msg);
+            for (int i = 0; i < expected.size(); i++) {
+                TestResult expectedResult = expected.get(i);
+                TestResult actualResult = actual.get(i);
+                msg = "Expected " + expectedResult.getProcedure().getName() 
+                        + " " + expectedResult.getStatus() + ", got " 
+                        + actualResult.getProcedure().getName() + " " 
+                        + actualResult.getStatus();
+                TestRunnerCheck.check(expectedResult.getProcedure()
+                        .equals(actualResult.getProcedure()) 
+                        && expectedResult.getStatus() 
+                                == actualResult.getStatus() 
+                        && expectedResult.hasStackTrace() 
+                                == actualResult.hasStackTrace(), msg);
+            }
+        } finally {
+            Files.deleteIfExists(pathA);
+            Files.deleteIfExists(pathB);
+            Files.delete(directory);
+        }
+    }
+    
+    public static void main(String[] args) throws IOException {
+        checkEachClassInExactlyOneShard();
+        checkAddingShardOnlyMovesToNewShard();
+        checkBalancedShards();
+        checkParseLine();
+        checkMerge();
+        System.out.println("All checks have PASSED");
+    }
+
+}
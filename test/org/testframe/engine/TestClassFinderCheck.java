@@ -0,0 +1,62 @@
+package org.testframe.engine;
+
+import java.util.List;
+
+/**
+ * Checks of the TestClassFinder class. These assume that the test classes were 
+ * compiled to a directory or JAR file on the class path.
+ * @author Alonso del Arte
+ */
+public class TestClassFinderCheck {
+    
+    private static void checkFindPattern() {
+        System.out.println("find");
+        TestClassFinder finder = new TestClassFinder();
+        List<String> names = finder.find("org.testframe.engine.*ToyTests");
+        String[] expected = {"org.testframe.engine.ConcurrentToyTests", 
+            "org.testframe.engine.MoreToyTests", 
+            "org.testframe.engine.RepeatedToyTests", 
+            "org.testframe.engine.ToyTests", 
+            "org.testframe.engine.YetMoreToyTests"};
+        for (String name : expected) {
+            String msg = "Expected to find " + name + " in " + names;
+            TestRunnerCheck.check(names.contains(name), msg);
+        }
+        String msg = "Expected only " + expected.length + " toy test classes in " 
+                + names;
+        TestRunnerCheck.check(names.size() == expected.length, msg);
+    }
+    
+    private static void checkFindSkipsClassesWithoutTests() {
+        TestClassFinder finder = new TestClassFinder();
+        List<String> names = finder.find();
+        String[] unexpected = {"org.testframe.engine.TestRunnerCheck", 
+            "org.testframe.engine.TestRunner", "org.testframe.api.Asserters"};
+        for (String name : unexpected) {
+            String msg = "Did not expect to find " + name;
+            TestRunnerCheck.check(!names.contains(name), msg);
+        }
+        String name = "org.testframe.api.AssertersTest";
+        String msg = "Expected to find " + name;
+        TestRunnerCheck.check(names.contains(name), msg);
+    }
+    
+    private static void checkDoubleAsteriskCrossesPackages() {
+        TestClassFinder finder = new TestClassFinder();
+        List<String> names = finder.find("org.testframe.**Test");
+        String name = "org.testframe.api.random.PseudorandomTest";
+        String msg = "Expected to find " + name + " in " + names;
+        TestRunnerCheck.check(names.contains(name), msg);
+        names = finder.find("org.testframe.*Test");
+        msg = "Single asterisk should not cross packages, found " + names;
+        TestRunnerCheck.check(names.isEmpty(), msg);
+    }
+    
+    public static void main(String[] args) {
+        checkFindPattern();
+        checkFindSkipsClassesWithoutTests();
+        checkDoubleAsteriskCrossesPackages();
+        System.out.println("All checks have PASSED");
+    }
+    
+}
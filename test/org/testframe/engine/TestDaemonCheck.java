@@ -0,0 +1,181 @@
+package org.testframe.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Checks of TestDaemon and TestDaemonClient. The daemon is started on a thread 
+ * of this check's own process, with a socket in a temporary directory.
+ * @author Alonso del Arte
+ */
+public class TestDaemonCheck {
+    
+    private static final String TEST_CLASS_NAME 
+            = "org.testframe.engine.YetMoreToyTests";
+    
+    private static void checkRepeatedRequests(TestDaemonClient client) 
+            throws IOException {
+        System.out.println("run");
+        String classPath = System.getProperty("java.class.path");
+        for (int i = 0; i < 3; i++) {
+            ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+            PrintStream out = new PrintStream(interceptor);
+            int problems = client.run(classPath, List.of(TEST_CLASS_NAME), out);
+            String resultsStr = interceptor.toString();
+            String msg = "Expected 9 problems, got " + problems + " in " 
+                    + resultsStr;
+            TestRunnerCheck.check(problems == 9, msg);
+            msg = "Expected 15 results in " + resultsStr;
+            TestRunnerCheck.check(resultsStr.contains("Total: 15"), msg);
+            msg = "Expected stack trace in " + resultsStr;
+            TestRunnerCheck.check(resultsStr.contains("\tat "), msg);
+        }
+    }
+    
+    // A class file that isn't really a class file makes the class loader 
+    // throw ClassFormatError, which is an Error rather than an exception
+    private static void checkErrorInTestClass(TestDaemonClient client, 
+            Path directory) throws IOException {
+        System.out.println("error in test class");
+        Path packageDir = directory.resolve("bogus");
+        Path classFile = packageDir.resolve("CorruptTest.class");
+        Files.createDirectories(packageDir);
+        Files.write(classFile, "Not a class file".getBytes());
+        try {
+            ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+            PrintStream out = new PrintStream(interceptor);
+            int problems = client.run(directory.toString(), 
+                    List.of("bogus.CorruptTest"), out);
+            String resultsStr = interceptor.toString();
+            String msg = "Expected ClassFormatError to be reported in " 
+                    + resultsStr;
+            TestRunnerCheck.check(problems == 1 
+                    && resultsStr.contains("ClassFormatError"), msg);
+        } finally {
+            Files.deleteIfExists(classFile);
+            Files.deleteIfExists(packageDir);
+        }
+    }
+    
+    private static void checkUnknownClassesReported(TestDaemonClient client) 
+            throws IOException {
+        System.out.println("unknown class and unmatched pattern");
+        String classPath = System.getProperty("java.class.path");
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(interceptor);
+        int problems = client.run(classPath, 
+                List.of("org.testframe.engine.MisspeltToyTests", 
+                        "org.testframe.nowhere.**Test"), out);
+        String resultsStr = interceptor.toString();
+        String msg = "Expected 2 problems, got " + problems + " in " 
+                + resultsStr;
+        TestRunnerCheck.check(problems == 2, msg);
+        msg = "Expected both to be named in " + resultsStr;
+        TestRunnerCheck.check(resultsStr.contains("MisspeltToyTests") 
+                && resultsStr.contains("org.testframe.nowhere.**Test"), msg);
+    }
+    
+    private static void checkSecondDaemonRefused(Path socket) {
+        System.out.println("second daemon on same socket");
+        try {
+            new TestDaemon(socket).listen();
+            TestRunnerCheck.check(false, 
+                    "Second daemon should not have taken over the socket");
+        } catch (IOException ioe) {
+            String msg = "Expected socket file to be left alone, " 
+                    + "but it's gone after " + ioe;
+            TestRunnerCheck.check(Files.exists(socket), msg);
+        }
+    }
+    
+    // Closing a bound server channel leaves the socket file behind, just like 
+    // a daemon that was killed
+    private static void checkStaleSocketReplaced(Path directory) 
+            throws Exception {
+        System.out.println("stale socket file");
+        Path socket = directory.resolve("stale.sock");
+        try (ServerSocketChannel server 
+                = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+        }
+        TestDaemon daemon = new TestDaemon(socket);
+        Thread thread = new Thread(() -> {
+            try {
+                daemon.listen();
+            } catch (IOException ioe) {
+                System.err.println("Daemon unable to listen: " + ioe);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        for (int i = 0; i < 500 && !daemon.isListening(); i++) {
+            Thread.sleep(10);
+        }
+        String msg = "Daemon should have replaced stale socket file";
+        TestRunnerCheck.check(daemon.isListening(), msg);
+        new TestDaemonClient(socket).stop();
+        thread.join(10000);
+        Files.deleteIfExists(socket);
+    }
+    
+    private static void checkBrokenRequests(Path socket) throws IOException {
+        System.out.println("broken requests");
+        try (SocketChannel channel 
+                = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            channel.write(ByteBuffer.wrap((TestDaemon.RUN_COMMAND + '\n')
+                    .getBytes(StandardCharsets.UTF_8)));
+        }
+        try (SocketChannel channel 
+                = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        // The toy tests are on this check's class path too, so the daemon's 
+        // class loader will defer to the system class loader to load them
+        ClassLoader.getSystemClassLoader().setDefaultAssertionStatus(true);
+        Path directory = Files.createTempDirectory("testframe");
+        Path socket = directory.resolve("check.sock");
+        TestDaemon daemon = new TestDaemon(socket);
+        Thread thread = new Thread(() -> {
+            try {
+                daemon.listen();
+            } catch (IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        while (!daemon.isListening()) {
+            Thread.sleep(10);
+        }
+        TestDaemonClient client = new TestDaemonClient(socket);
+        checkRepeatedRequests(client);
+        checkErrorInTestClass(client, directory);
+        checkUnknownClassesReported(client);
+        checkSecondDaemonRefused(socket);
+        checkBrokenRequests(socket);
+        String msg = "Daemon should still be listening after broken requests";
+        TestRunnerCheck.check(daemon.isListening() && thread.isAlive(), msg);
+        checkRepeatedRequests(client);
+        client.stop();
+        thread.join(10000);
+        TestRunnerCheck.check(!thread.isAlive(), "Daemon should have stopped");
+        checkStaleSocketReplaced(directory);
+        Files.deleteIfExists(directory);
+        System.out.println("All checks have PASSED");
+    }
+    
+}
@@ -0,0 +1,78 @@
+package org.testframe.engine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Checks that the test runner emits a TestLifecycleEvent for loading a test 
+ * class and for each invocation of an annotated procedure.
+ * @author Alonso del Arte
+ */
+public class TestLifecycleEventCheck {
+    
+    private static final String TEST_CLASS_NAME 
+            = YetMoreToyTests.class.getName();
+    
+    private static List<RecordedEvent> record() throws Exception {
+        Path path = Files.createTempFile("lifecycle", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TestLifecycleEvent.class);
+            recording.start();
+            TestRunner.run(TEST_CLASS_NAME);
+            recording.stop();
+            recording.dump(path);
+            return RecordingFile.readAllEvents(path);
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    private static void checkEventsRecorded() throws Exception {
+        System.out.println("lifecycle events");
+        List<RecordedEvent> events = record();
+        boolean loaded = false;
+        Set<String> invoked = new HashSet<>();
+        for (RecordedEvent event : events) {
+            if (!event.getEventType().getName() 
+                    .equals("org.testframe.TestLifecycle")) {
+                continue;
+            }
+            String phase = event.getString("phase");
+            String msg = "Event should be for " + TEST_CLASS_NAME + ", was " 
+                    + event;
+            TestRunnerCheck.check(TEST_CLASS_NAME 
+                    .equals(event.getString("testClass")), msg);
+            if (phase.equals(TestLifecycleEvent.LOAD_PHASE)) {
+                loaded = true;
+            } else if (phase.equals("@Test")) {
+                invoked.add(event.getString("procedure"));
+            }
+        }
+        String msg = "Expected an event for loading " + TEST_CLASS_NAME;
+        TestRunnerCheck.check(loaded, msg);
+        for (char letter = 'A'; letter < 'D'; letter++) {
+            for (String prefix : new String[] {"testThatShouldPass", 
+                    "testThatShouldFail", "testThatShouldCauseError"}) {
+                String name = prefix + letter;
+                msg = "Expected an event for invoking " + name;
+                TestRunnerCheck.check(invoked.contains(name), msg);
+            }
+            String name = "testThatShouldBeSkipped" + letter;
+            msg = "Expected no event for skipped test " + name;
+            TestRunnerCheck.check(!invoked.contains(name), msg);
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        checkEventsRecorded();
+        System.out.println("All checks have PASSED");
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.testframe.engine;
+
+/**
+ * Checks of the TestPlan class. Like the checks of TestRunner, these don't rely 
+ * on TestRunner or on assertions being turned on.
+ * @author Alonso del Arte
+ */
+public class TestPlanCheck {
+    
+    private static void checkPlanIsCached() {
+        System.out.println("of");
+        TestPlan expected = TestPlan.of(YetMoreToyTests.class);
+        TestPlan actual = TestPlan.of(YetMoreToyTests.class);
+        String msg = "Same test class should give same plan";
+        TestRunnerCheck.check(expected == actual, msg);
+    }
+    
+    private static void checkPlanSortsProcedures() {
+        System.out.println("tests, skips");
+        TestPlan plan = TestPlan.of(YetMoreToyTests.class);
+        int expected = 12;
+        int actual = plan.tests.size();
+        String msg = "Expected " + expected + " tests to run, got " + actual;
+        TestRunnerCheck.check(expected == actual, msg);
+        expected = 3;
+        actual = plan.skips.size();
+        msg = "Expected " + expected + " tests to skip, got " + actual;
+        TestRunnerCheck.check(expected == actual, msg);
+        long expectedTimeout = YetMoreToyTests.TIMEOUT_MILLISECONDS;
+        for (TestPlan.Step test : plan.tests) {
+            String name = test.procedure.getName();
+            long expectedForTest = name.startsWith("testThatShouldTimeOut") 
+                    ? expectedTimeout : 0L;
+            msg = "Expected timeout " + expectedForTest + " for " + name 
+                    + ", got " + test.timeout;
+            TestRunnerCheck.check(test.timeout == expectedForTest, msg);
+        }
+        msg = "Plan for YetMoreToyTests should not have set-ups or tear-downs";
+        TestRunnerCheck.check(plan.setUps.isEmpty() && plan.befores.isEmpty() 
+                && plan.afters.isEmpty() && plan.tearDowns.isEmpty(), msg);
+    }
+    
+    private static void checkInvokeDoesNotWrap() throws Exception {
+        System.out.println("invoke");
+        TestPlan plan = TestPlan.of(YetMoreToyTests.class);
+        Object instance = plan.newInstance();
+        boolean thrown = false;
+        for (TestPlan.Step test : plan.tests) {
+            if (test.procedure.getName().equals("testThatShouldCauseErrorA")) {
+                try {
+                    test.invoke(instance);
+                } catch (Throwable t) {
+                    thrown = true;
+                    String msg = "Expected RuntimeException, not wrapped, got " 
+                            + t.getClass().getName();
+                    TestRunnerCheck.check(t.getClass()
+                            .equals(RuntimeException.class), msg);
+                }
+            }
+        }
+        TestRunnerCheck.check(thrown, "Test should have thrown exception");
+    }
+    
+    public static void main(String[] args) throws Exception {
+        checkPlanIsCached();
+        checkPlanSortsProcedures();
+        checkInvokeDoesNotWrap();
+        System.out.println("All checks have PASSED");
+    }
+    
+}
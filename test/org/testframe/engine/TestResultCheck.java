@@ -1,6 +1,8 @@
 package org.testframe.engine;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Tests of the TestResult class. In hindsight, I should have tested this class 
@@ -72,6 +74,85 @@ public class TestResultCheck {
         }
     }
     
+    private static void checkGetWallTimeAndGetCPUTime() {
+        System.out.println("getWallTime, getCPUTime");
+        Method procedure = TestResultCheck.class.getMethods()[0];
+        TestResult untimed = new TestResult(procedure, TestResultStatus.PASSED, 
+                null);
+        String msg = "Result without timing information should have times 0";
+        TestRunnerCheck.check(untimed.getWallTime() == 0L 
+                && untimed.getCPUTime() == 0L, msg);
+        final long expectedWallTime = 1250000L;
+        final long expectedCPUTime = 980000L;
+        TestResult timed = new TestResult(procedure, TestResultStatus.PASSED, 
+                null, expectedWallTime, expectedCPUTime);
+        msg = "Expected wall time " + expectedWallTime + " and CPU time " 
+                + expectedCPUTime + ", got " + timed.getWallTime() + " and " 
+                + timed.getCPUTime();
+        TestRunnerCheck.check(timed.getWallTime() == expectedWallTime 
+                && timed.getCPUTime() == expectedCPUTime, msg);
+    }
+    
+    private static void checkGetAllocatedBytes() {
+        System.out.println("getAllocatedBytes");
+        Method procedure = TestResultCheck.class.getMethods()[0];
+        TestResult timed = new TestResult(procedure, TestResultStatus.PASSED, 
+                null, 1250000L, 980000L);
+        String msg = "Result without allocation information should have 0";
+        TestRunnerCheck.check(timed.getAllocatedBytes() == 0L, msg);
+        final long expected = 524288L;
+        TestResult measured = new TestResult(procedure, 
+                TestResultStatus.PASSED, null, 1250000L, 980000L, expected);
+        msg = "Expected " + expected + " bytes allocated, got " 
+                + measured.getAllocatedBytes();
+        TestRunnerCheck.check(measured.getAllocatedBytes() == expected, msg);
+    }
+    
+    private static void checkRunnerMeasuresAllocation() {
+        System.out.println("run measures allocation");
+        java.lang.management.ThreadMXBean bean 
+                = java.lang.management.ManagementFactory.getThreadMXBean();
+        boolean supported = bean instanceof com.sun.management.ThreadMXBean 
+                && ((com.sun.management.ThreadMXBean) bean)
+                        .isThreadAllocatedMemorySupported();
+        List<TestResult> results 
+                = TestRunner.run(YetMoreToyTests.class.getName());
+        for (TestResult result : results) {
+            long allocated = result.getAllocatedBytes();
+            String msg = result.getProcedure().getName() + " allocated " 
+                    + allocated + " bytes";
+            switch (result.getStatus()) {
+                case FAILED:
+                case ERROR:
+                    // Each of these at least makes an exception object
+                    TestRunnerCheck.check(supported ? allocated > 0 
+                            : allocated == -1L, msg + ", expected " 
+                                    + (supported ? "more than 0" : "-1"));
+                    break;
+                case SKIPPED:
+                    TestRunnerCheck.check(allocated == 0L, 
+                            msg + ", expected 0");
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+    
+    private static void checkRunnerMeasuresWallTime() {
+        System.out.println("run measures wall time");
+        List<TestResult> results 
+                = TestRunner.run(ConcurrentToyTests.class.getName());
+        final long minimum = TimeUnit.MILLISECONDS
+                .toNanos(ConcurrentToyTests.SLEEP_MILLISECONDS);
+        for (TestResult result : results) {
+            String msg = "Wall time " + result.getWallTime() + " of " 
+                    + result.getProcedure().getName() 
+                    + " should be at least " + minimum;
+            TestRunnerCheck.check(result.getWallTime() >= minimum, msg);
+        }
+    }
+    
     public static void main(String[] args) {
         try {
             checkGetProcedure();
@@ -82,6 +163,10 @@ public class TestResultCheck {
         checkDoesNotHaveStackTrace();
         checkHasStackTrace();
         checkGetInformation();
+        checkGetWallTimeAndGetCPUTime();
+        checkRunnerMeasuresWallTime();
+        checkGetAllocatedBytes();
+        checkRunnerMeasuresAllocation();
         System.out.println("All checks have PASSED");
     }
 
@@ -8,7 +8,8 @@ public class TestResultStatusCheck {
         System.out.println("ordinal");
         TestResultStatus[] statuses = {TestResultStatus.PASSED, 
                 TestResultStatus.SKIPPED, TestResultStatus.ERROR, 
-                TestResultStatus.FAILED};
+                TestResultStatus.FAILED, TestResultStatus.TIMED_OUT, 
+                TestResultStatus.NOT_RUN, TestResultStatus.REGRESSED};
         for (int expected = 0; expected < statuses.length; expected++) {
             TestResultStatus status = statuses[expected];
             int actual = status.ordinal();
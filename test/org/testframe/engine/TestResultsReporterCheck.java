@@ -0,0 +1,179 @@
+package org.testframe.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+
+/**
+ * Checks of TestResultsReporter. These check the stack trace options and the 
+ * list of heaviest tests, the rest of the report is checked by 
+ * TestRunnerCommandLineOptionsCheck.
+ * @author Alonso del Arte
+ */
+public class TestResultsReporterCheck {
+    
+    private static final Method PROCEDURE 
+            = TestResultsReporterCheck.class.getDeclaredMethods()[0];
+    
+    private static Throwable makeNestedThrowable() {
+        try {
+            try {
+                throw new IllegalStateException("Inner problem");
+            } catch (IllegalStateException ise) {
+                RuntimeException re = new RuntimeException("Outer problem", 
+                        ise);
+                re.addSuppressed(new ArithmeticException("Suppressed"));
+                throw re;
+            }
+        } catch (RuntimeException re) {
+            return re;
+        }
+    }
+    
+    private static String report(int maxFrames, boolean deduplicate, 
+            Throwable... throwables) {
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(interceptor);
+        TestResultsReporter reporter = new TestResultsReporter("Check", output, 
+                maxFrames, deduplicate);
+        reporter.onRunStarted();
+        for (Throwable throwable : throwables) {
+            reporter.onTestFinished(new TestResult(PROCEDURE, 
+                    TestResultStatus.ERROR, throwable));
+        }
+        reporter.onRunFinished();
+        return interceptor.toString();
+    }
+    
+    private static void checkFullStackTraceMatchesPrintStackTrace() {
+        System.out.println("stack trace in full");
+        Throwable throwable = makeNestedThrowable();
+        StringWriter writer = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(writer));
+        String expected = writer.toString().replace(System.lineSeparator(), 
+                "\n");
+        String actual = report(0, false, throwable);
+        String msg = "Report should contain stack trace\n" + expected 
+                + "\nbut was\n" + actual;
+        TestRunnerCheck.check(actual.contains(expected), msg);
+    }
+    
+    private static void checkStackTraceCutShort() {
+        System.out.println("stack trace cut short");
+        Throwable throwable = makeNestedThrowable();
+        String actual = report(1, false, throwable);
+        int expected = throwable.getStackTrace().length - 1;
+        String msg = "Report should say " + expected 
+                + " frames were omitted, but was\n" + actual;
+        TestRunnerCheck.check(actual.contains("\t... " + expected 
+                + " frames omitted"), msg);
+    }
+    
+    private static void checkDuplicateStackTraceReferencesFirst() {
+        System.out.println("duplicate stack trace");
+        Throwable throwable = makeNestedThrowable();
+        String actual = report(0, true, throwable, throwable);
+        String reference = "\t... same stack trace as " 
+                + PROCEDURE.getDeclaringClass().getName() + "." 
+                + PROCEDURE.getName();
+        int first = actual.indexOf(reference);
+        String msg = "Report should refer to earlier stack trace once, was\n" 
+                + actual;
+        TestRunnerCheck.check(first > -1 
+                && actual.indexOf(reference, first + 1) == -1, msg);
+        actual = report(0, false, throwable, throwable);
+        msg = "Report should not refer to earlier stack trace, was\n" + actual;
+        TestRunnerCheck.check(!actual.contains(reference), msg);
+    }
+    
+    private static void checkHeaviestTestsListed() {
+        System.out.println("heaviest tests");
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(interceptor);
+        TestResultsReporter reporter = new TestResultsReporter("Check", output, 
+                0, false, 2);
+        reporter.onRunStarted();
+        long[] allocations = {100L, 500L, -1L, 300L, 200L};
+        for (long allocated : allocations) {
+            reporter.onTestFinished(new TestResult(PROCEDURE, 
+                    TestResultStatus.PASSED, null, 2000000L, 1000000L, 
+                    allocated));
+        }
+        reporter.onRunFinished();
+        String actual = interceptor.toString();
+        int first = actual.indexOf(": 500 bytes, 1 ms processor, 2 ms wall");
+        int second = actual.indexOf(": 300 bytes");
+        String msg = "Report should list 500 bytes then 300 bytes, was\n" 
+                + actual;
+        TestRunnerCheck.check(first > -1 && second > first, msg);
+        msg = "Report should only list 2 heaviest tests, was\n" + actual;
+        TestRunnerCheck.check(!actual.contains(": 200 bytes") 
+                && !actual.contains(": 100 bytes") 
+                && !actual.contains(": -1 bytes"), msg);
+        msg = "Heaviest tests should come before the totals, was\n" + actual;
+        TestRunnerCheck.check(second < actual.indexOf("Total: 5"), msg);
+        actual = report(0, false, makeNestedThrowable());
+        msg = "Report should not list heaviest tests unless asked, was\n" 
+                + actual;
+        TestRunnerCheck.check(!actual.contains("Heaviest tests by"), msg);
+    }
+    
+    private static void checkRegressedTestReported() {
+        System.out.println("regressed test");
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(interceptor);
+        TestResultsReporter reporter = new TestResultsReporter("Check", output, 
+                0, false, 0);
+        reporter.onRunStarted();
+        String message = "Took 3.000 ms, slower than the baseline median of " 
+                + "1.000 ms (p = 0.0010)";
+        reporter.onTestFinished(new TestResult(PROCEDURE, 
+                TestResultStatus.REGRESSED, new AssertionError(message), 
+                3000000L, 3000000L));
+        reporter.onRunFinished();
+        String actual = interceptor.toString();
+        String msg = "Report should give the regression, was\n" + actual;
+        TestRunnerCheck.check(actual.contains("REGRESSED " + message), msg);
+        msg = "Report should count the regression, was\n" + actual;
+        TestRunnerCheck.check(actual.contains(". Regressed: 1"), msg);
+        msg = "Report should not have a stack trace for a regression, was\n" 
+                + actual;
+        TestRunnerCheck.check(!actual.contains("\tat "), msg);
+    }
+    
+    private static void checkResultFlushedWhileNextTestRuns() 
+            throws InterruptedException {
+        System.out.println("flush on timer");
+        ByteArrayOutputStream interceptor = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(interceptor);
+        TestResultsReporter reporter = new TestResultsReporter("Check", output, 
+                0, false, 0);
+        reporter.onRunStarted();
+        reporter.onTestFinished(new TestResult(PROCEDURE, 
+                TestResultStatus.PASSED, null, 1000000L, 1000000L));
+        String msg = "Result should wait in the buffer at first, report was\n" 
+                + interceptor;
+        TestRunnerCheck.check(interceptor.size() == 0, msg);
+        // As if the next test were taking a long time
+        Thread.sleep(2500);
+        String actual = interceptor.toString();
+        msg = "Result should have been written out by now, report was\n" 
+                + actual;
+        TestRunnerCheck.check(actual.contains(PROCEDURE.getName() 
+                + " PASSED"), msg);
+        reporter.onRunFinished();
+    }
+    
+    public static void main(String[] args) throws InterruptedException {
+        checkFullStackTraceMatchesPrintStackTrace();
+        checkStackTraceCutShort();
+        checkDuplicateStackTraceReferencesFirst();
+        checkHeaviestTestsListed();
+        checkRegressedTestReported();
+        checkResultFlushedWhileNextTestRuns();
+        System.out.println("All checks have PASSED");
+    }
+
+}
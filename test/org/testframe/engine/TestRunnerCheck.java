@@ -1,6 +1,12 @@
 package org.testframe.engine;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -252,6 +258,225 @@ public class TestRunnerCheck {
         }
     }
     
+    /**
+     * Checks that the tests of a test class annotated @Concurrent run at the 
+     * same time, each on a fresh instance of the test class.
+     */
+    private static void checkConcurrentTestsRunAtSameTime() {
+        String concurrentTestClassName = TEST_CLASS_NAME.replace("ToyTests", 
+                "ConcurrentToyTests");
+        long start = System.currentTimeMillis();
+        List<TestResult> results = TestRunner.run(concurrentTestClassName);
+        long elapsed = System.currentTimeMillis() - start;
+        String msg = "Expected " + ConcurrentToyTests.NUMBER_OF_TESTS 
+                + " results but got " + results.size();
+        check(results.size() == ConcurrentToyTests.NUMBER_OF_TESTS, msg);
+        for (TestResult result : results) {
+            msg = result.getProcedure().getName() + " should have passed";
+            check(result.getStatus() == TestResultStatus.PASSED, msg);
+        }
+        long sequentialTime = ConcurrentToyTests.NUMBER_OF_TESTS 
+                * ConcurrentToyTests.SLEEP_MILLISECONDS;
+        msg = "Concurrent tests took " + elapsed 
+                + " ms, should've taken less than " + sequentialTime + " ms";
+        check(elapsed < sequentialTime, msg);
+    }
+    
+    private static class EventCounter implements TestListener {
+        
+        final AtomicInteger inside = new AtomicInteger();
+        
+        final Set<Method> started = new HashSet<>();
+        
+        final List<TestResult> finished = new ArrayList<>();
+        
+        int runStartedCount = 0;
+        int runFinishedCount = 0;
+        int overlapCount = 0;
+        
+        private void enter() {
+            if (this.inside.incrementAndGet() > 1) {
+                this.overlapCount++;
+            }
+        }
+        
+        @Override
+        public void onRunStarted() {
+            this.enter();
+            this.runStartedCount++;
+            this.inside.decrementAndGet();
+        }
+        
+        @Override
+        public void onTestStarted(Method procedure) {
+            this.enter();
+            this.started.add(procedure);
+            this.inside.decrementAndGet();
+        }
+        
+        @Override
+        public void onTestFinished(TestResult result) {
+            this.enter();
+            this.finished.add(result);
+            this.inside.decrementAndGet();
+        }
+        
+        @Override
+        public void onRunFinished() {
+            this.enter();
+            this.runFinishedCount++;
+            this.inside.decrementAndGet();
+        }
+        
+    }
+    
+    private static void checkListenerHearsAboutEachTest() {
+        System.out.println("run with listener");
+        String otherTestClassName = TEST_CLASS_NAME.replace("ToyTests", 
+                "YetMoreToyTests");
+        String concurrentTestClassName = TEST_CLASS_NAME.replace("ToyTests", 
+                "ConcurrentToyTests");
+        EventCounter counter = new EventCounter();
+        TestRunner.run(Arrays.asList(otherTestClassName, 
+                concurrentTestClassName), 2, counter);
+        String msg = "Run should have started and finished once, not " 
+                + counter.runStartedCount + " and " 
+                + counter.runFinishedCount + " times";
+        check(counter.runStartedCount == 1 && counter.runFinishedCount == 1, 
+                msg);
+        int expected = TestRunner.run(otherTestClassName).size() 
+                + ConcurrentToyTests.NUMBER_OF_TESTS;
+        int actual = counter.finished.size();
+        msg = "Expected " + expected + " finished tests, got " + actual;
+        check(expected == actual, msg);
+        for (TestResult result : counter.finished) {
+            boolean started = counter.started.contains(result.getProcedure());
+            boolean skipped = result.getStatus() == TestResultStatus.SKIPPED;
+            msg = result.getProcedure().getName() 
+                    + " should have been started unless skipped";
+            check(started != skipped, msg);
+        }
+        msg = "Listener was called by " + counter.overlapCount 
+                + " threads at the same time";
+        check(counter.overlapCount == 0, msg);
+    }
+    
+    private static void checkTestsTimeOut() {
+        System.out.println("timeout");
+        String timingTestClassName = TEST_CLASS_NAME.replace("ToyTests", 
+                "YetMoreToyTests");
+        long start = System.currentTimeMillis();
+        List<TestResult> results = TestRunner.run(timingTestClassName);
+        long elapsed = System.currentTimeMillis() - start;
+        String msg = "Run took " + elapsed + " ms, should not have waited " 
+                + YetMoreToyTests.SLEEP_MILLISECONDS + " ms for timed out test";
+        check(elapsed < YetMoreToyTests.SLEEP_MILLISECONDS, msg);
+        int timedOutCount = 0;
+        for (TestResult result : results) {
+            String name = result.getProcedure().getName();
+            boolean shouldTimeOut = name.startsWith("testThatShouldTimeOut");
+            boolean timedOut = result.getStatus() == TestResultStatus.TIMED_OUT;
+            msg = name + " should " + (shouldTimeOut ? "" : "not ") 
+                    + "have timed out, status was " + result.getStatus();
+            check(shouldTimeOut == timedOut, msg);
+            if (timedOut) {
+                timedOutCount++;
+                boolean sleeping = false;
+                for (StackTraceElement element 
+                        : result.getInformation().getStackTrace()) {
+                    sleeping |= element.getMethodName().equals(name);
+                }
+                msg = "Stack trace of " + name + " should show where it was";
+                check(sleeping, msg);
+            }
+        }
+        msg = "Expected 3 tests to time out, not " + timedOutCount;
+        check(timedOutCount == 3, msg);
+    }
+    
+    private static void checkDefaultTimeoutForConcurrentTests() {
+        System.out.println("default timeout");
+        String concurrentTestClassName = TEST_CLASS_NAME.replace("ToyTests", 
+                "ConcurrentToyTests");
+        TestRunner.setDefaultTimeout(ConcurrentToyTests.SLEEP_MILLISECONDS / 5);
+        try {
+            List<TestResult> results = TestRunner.run(concurrentTestClassName);
+            String msg = "Expected " + ConcurrentToyTests.NUMBER_OF_TESTS 
+                    + " results but got " + results.size();
+            check(results.size() == ConcurrentToyTests.NUMBER_OF_TESTS, msg);
+            for (TestResult result : results) {
+                msg = result.getProcedure().getName() 
+                        + " should have timed out, status was " 
+                        + result.getStatus();
+                check(result.getStatus() == TestResultStatus.TIMED_OUT, msg);
+            }
+        } finally {
+            TestRunner.setDefaultTimeout(0L);
+        }
+    }
+    
+    private static void checkFailureBudgetStopsRun() {
+        System.out.println("failure budget");
+        String budgetTestClassName = TEST_CLASS_NAME.replace("ToyTests", 
+                "YetMoreToyTests");
+        String concurrentTestClassName = TEST_CLASS_NAME.replace("ToyTests", 
+                "ConcurrentToyTests");
+        FailureBudget budget = new FailureBudget(1);
+        EventCounter counter = new EventCounter();
+        TestListener listener = TestListener.combine(budget, counter);
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        TestRunner.run(budgetTestClassName, loader, listener, budget);
+        String msg = "Budget of 1 should be used up after " 
+                + budgetTestClassName;
+        check(budget.isExhausted(), msg);
+        int problemCount = 0;
+        boolean stopped = false;
+        for (TestResult result : counter.finished) {
+            TestResultStatus status = result.getStatus();
+            String name = result.getProcedure().getName();
+            switch (status) {
+                case FAILED:
+                case ERROR:
+                case TIMED_OUT:
+                    problemCount++;
+                    msg = name + " should not have run after the first problem";
+                    check(!stopped, msg);
+                    stopped = true;
+                    break;
+                case NOT_RUN:
+                    msg = name + " should not have been started";
+                    check(!counter.started.contains(result.getProcedure()), 
+                            msg);
+                    msg = name + " should not be reported as not run before " 
+                            + "the first problem";
+                    check(stopped, msg);
+                    break;
+                default:
+                    break;
+            }
+        }
+        msg = "Expected 1 problem, got " + problemCount;
+        check(problemCount == 1, msg);
+        int expected = counter.finished.size() 
+                + ConcurrentToyTests.NUMBER_OF_TESTS;
+        long start = System.currentTimeMillis();
+        TestRunner.run(concurrentTestClassName, loader, listener, budget);
+        long elapsed = System.currentTimeMillis() - start;
+        msg = "Expected " + expected + " results, got " 
+                + counter.finished.size();
+        check(counter.finished.size() == expected, msg);
+        msg = "Run after budget was used up took " + elapsed 
+                + " ms, should not have run any of the tests";
+        check(elapsed < ConcurrentToyTests.SLEEP_MILLISECONDS, msg);
+        for (TestResult result : counter.finished.subList(expected 
+                - ConcurrentToyTests.NUMBER_OF_TESTS, expected)) {
+            msg = result.getProcedure().getName() 
+                    + " should not have been run, status was " 
+                    + result.getStatus();
+            check(result.getStatus() == TestResultStatus.NOT_RUN, msg);
+        }
+    }
+    
     /**
      * Runs the checks.
      * @param args The command line arguments. These are completely ignored.
@@ -268,6 +493,11 @@ public class TestRunnerCheck {
         checkPreAndPostWereExecuted();
         checkPreAndPostWereExecutedInRightOrder();
         checkMultipleSetUpsAndTearDownsRun();
+        checkConcurrentTestsRunAtSameTime();
+        checkListenerHearsAboutEachTest();
+        checkTestsTimeOut();
+        checkDefaultTimeoutForConcurrentTests();
+        checkFailureBudgetStopsRun();
         System.out.println("All checks have PASSED");
     }
     
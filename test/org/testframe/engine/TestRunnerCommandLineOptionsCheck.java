@@ -14,8 +14,9 @@ public class TestRunnerCommandLineOptionsCheck {
 
     /**
      * Checks that the command line option "-sort" causes the test results to be 
-     * reported with passes first, then skips, then errors and lastly fails. 
-     * This check depends on YetMoreToyTests having three of each of those. 
+     * reported with passes first, then skips, then errors, then fails and 
+     * lastly timeouts. This check depends on YetMoreToyTests having three of 
+     * each of those. 
      */
     private static void checkMainSortCommandLineOption() {
         String extraTestClassName =  "org.testframe.engine.YetMoreToyTests";
@@ -29,7 +30,8 @@ public class TestRunnerCommandLineOptionsCheck {
         String resultsStr = interceptor.toString();
         int index = 0;
         TestResultStatus[] statuses = TestResultStatus.values();
-        int len = statuses.length;
+        // No test is reported as not run without a failure budget
+        int len = TestResultStatus.NOT_RUN.ordinal();
         for (int i = 0; i < len; i++) {
             String statusStr = statuses[i].toString();
             for (char letter = 'A'; letter < 'D'; letter++) {
@@ -41,12 +43,39 @@ public class TestRunnerCommandLineOptionsCheck {
         }
     }
     
+    /**
+     * Checks that the command line option "-parallel" runs several test classes 
+     * and merges their results into a single report. This check depends on 
+     * MoreToyTests having two tests and YetMoreToyTests having fifteen tests.
+     */
+    private static void checkMainParallelCommandLineOption() {
+        String testClassNameA = "org.testframe.engine.MoreToyTests";
+        String testClassNameB = "org.testframe.engine.YetMoreToyTests";
+        String args[] = {testClassNameA, testClassNameB, "-parallel=2"};
+        OutputStream interceptor = new ByteArrayOutputStream();
+        PrintStream usualOut = System.out;
+        PrintStream tempOut = new PrintStream(interceptor);
+        System.setOut(tempOut);
+        TestRunner.main(args);
+        System.setOut(usualOut);
+        String resultsStr = interceptor.toString();
+        String msg = "Report should give total of 17 tests from both classes";
+        TestRunnerCheck.check(resultsStr.contains("Total: 17"), msg);
+        String[] testClassNames = {testClassNameA, testClassNameB};
+        for (String testClassName : testClassNames) {
+            msg = "Report should qualify test names with " + testClassName;
+            TestRunnerCheck.check(resultsStr.contains(testClassName + ".test"), 
+                    msg);
+        }
+    }
+    
     /**
      * Runs the checks.
      * @param args The command line arguments. These are completely ignored.
      */
     public static void main(String[] args) {
         checkMainSortCommandLineOption();
+        checkMainParallelCommandLineOption();
         System.out.println("All checks have PASSED");
     }
     
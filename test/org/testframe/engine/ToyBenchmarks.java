@@ -0,0 +1,57 @@
+package org.testframe.engine;
+
+import org.testframe.api.BeforeEachTest;
+import org.testframe.api.Benchmark;
+import org.testframe.api.Blackhole;
+
+/**
+ * Toy benchmarks to check that BenchmarkRunner measures benchmark procedures 
+ * and reports those that can't be measured. The iterations are kept short so 
+ * that the checks don't take long.
+ * @author Alonso del Arte
+ */
+public class ToyBenchmarks {
+    
+    static final int ITERATIONS = 3;
+    
+    private int[] numbers;
+    
+    /**
+     * Prints a line, so that the checks can tell whether what benchmarks print 
+     * gets in the way of the scores forks pass back.
+     */
+    @BeforeEachTest
+    public void setUp() {
+        System.out.println("Setting up\ttoy benchmarks");
+        this.numbers = new int[64];
+        for (int i = 0; i < this.numbers.length; i++) {
+            this.numbers[i] = i * i;
+        }
+    }
+    
+    @Benchmark(warmups = 1, iterations = ITERATIONS, iterationMillis = 20)
+    public void benchmarkSum(Blackhole blackhole) {
+        int sum = 0;
+        for (int number : this.numbers) {
+            sum += number;
+        }
+        blackhole.consume(sum);
+    }
+    
+    @Benchmark(warmups = 1, iterations = ITERATIONS, iterationMillis = 20)
+    public void benchmarkWithoutBlackhole() {
+        this.numbers[0]++;
+    }
+    
+    @Benchmark(warmups = 1, iterations = ITERATIONS, iterationMillis = 20)
+    public void benchmarkThatThrows() {
+        throw new IllegalStateException("This benchmark should be reported " 
+                + "as having caused an error");
+    }
+    
+    @Benchmark(warmups = 1, iterations = ITERATIONS, iterationMillis = 20)
+    public void benchmarkWithWrongParameter(int number) {
+        this.numbers[0] = number;
+    }
+    
+}
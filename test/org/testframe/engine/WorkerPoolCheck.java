@@ -0,0 +1,257 @@
+package org.testframe.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testframe.api.BeforeAllTests;
+import org.testframe.api.Test;
+
+/**
+ * Checks of WorkerPool and ForkedWorker. These start actual worker processes, 
+ * so they take a few seconds.
+ * @author Alonso del Arte
+ */
+public class WorkerPoolCheck {
+    
+    private static final String TEST_CLASS_NAME 
+            = "org.testframe.engine.YetMoreToyTests";
+    
+    /**
+     * Tests whose @BeforeAllTests procedure throws an exception, so that the 
+     * test runner in the worker throws before running any of them.
+     */
+    public static class BrokenSetUpTests {
+        
+        @BeforeAllTests
+        public static void setUpClass() {
+            throw new IllegalStateException("Setup should fail");
+        }
+        
+        @Test
+        public void testThatShouldNotRunA() {
+            throw new AssertionError("This test should not have run");
+        }
+        
+        @Test
+        public void testThatShouldNotRunB() {
+            throw new AssertionError("This test should not have run");
+        }
+    
+    }
+    
+    /**
+     * Tests one of which brings down the worker process partway through.
+     */
+    public static class ExitingTests {
+        
+        @Test
+        public void testThatShouldPass() {
+            System.out.println("This test should pass unless run after exit");
+        }
+        
+        @Test
+        public void testThatShouldExit() {
+            System.exit(3);
+        }
+        
+        @Test
+        public void testThatShouldAlsoPass() {
+            System.out.println("This test should pass unless run after exit");
+        }
+    
+    }
+    
+    private static TestResult roundTrip(TestResult result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ForkedWorker.writeResult(new DataOutputStream(bytes), result);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                bytes.toByteArray()));
+        return ForkedWorker.readResult(in, 
+                ClassLoader.getSystemClassLoader());
+    }
+    
+    private static void checkResultRoundTrip() throws Exception {
+        System.out.println("writeResult, readResult");
+        Method procedure = YetMoreToyTests.class
+                .getMethod("testThatShouldFailA");
+        Throwable cause = new IllegalStateException("Inner problem");
+        Throwable information = new AssertionError("Outer problem", cause);
+        TestResult expected = new TestResult(procedure, 
+                TestResultStatus.FAILED, information, 1250000L, 980000L, 
+                524288L);
+        TestResult actual = roundTrip(expected);
+        String msg = "Expected procedure, status, times and allocation to " 
+                + "survive trip";
+        TestRunnerCheck.check(procedure.equals(actual.getProcedure()) 
+                && actual.getStatus() == TestResultStatus.FAILED 
+                && actual.getWallTime() == 1250000L 
+                && actual.getCPUTime() == 980000L 
+                && actual.getAllocatedBytes() == 524288L, msg);
+        Throwable actualInfo = actual.getInformation();
+        msg = "Expected " + information + ", got " + actualInfo;
+        TestRunnerCheck.check(actualInfo instanceof AssertionError 
+                && information.getMessage().equals(actualInfo.getMessage()), 
+                msg);
+        msg = "Expected stack trace to survive trip";
+        TestRunnerCheck.check(Arrays.equals(information.getStackTrace(), 
+                actualInfo.getStackTrace()), msg);
+        msg = "Expected cause " + cause + ", got " + actualInfo.getCause();
+        TestRunnerCheck.check(actualInfo.getCause() 
+                instanceof IllegalStateException, msg);
+    }
+    
+    private static void checkUnavailableThrowableClass() throws Exception {
+        System.out.println("ForkedThrowable");
+        Method procedure = YetMoreToyTests.class
+                .getMethod("testThatShouldCauseErrorA");
+        Throwable information = new Exception("No String constructor") {
+            private static final long serialVersionUID = 1L;
+        };
+        TestResult actual = roundTrip(new TestResult(procedure, 
+                TestResultStatus.ERROR, information));
+        String expected = information.getClass().getName() 
+                + ": No String constructor";
+        String msg = "Expected " + expected + ", got " 
+                + actual.getInformation();
+        TestRunnerCheck.check(expected.equals(actual.getInformation()
+                .toString()), msg);
+    }
+    
+    private static void checkRunMatchesInProcess() {
+        System.out.println("run");
+        List<TestResult> expected = TestRunner.run(TEST_CLASS_NAME);
+        List<TestResult> actual = new ArrayList<>();
+        try (WorkerPool pool = new WorkerPool(1, 1, 0L)) {
+            pool.run(TEST_CLASS_NAME, actual::add);
+            pool.run(TEST_CLASS_NAME, actual::add);
+        }
+        String msg = "Expected " + (2 * expected.size()) + " results, got " 
+                + actual.size();
+        TestRunnerCheck.check(2 * expected.size() == actual.size(), msg);
+        Map<Method, TestResultStatus> expectedStatuses = new HashMap<>();
+        for (TestResult result : expected) {
+            expectedStatuses.put(result.getProcedure(), result.getStatus());
+        }
+        for (TestResult result : actual) {
+            TestResultStatus expectedStatus 
+                    = expectedStatuses.get(result.getProcedure());
+            msg = "Expected " + result.getProcedure().getName() + " " 
+                    + expectedStatus + ", got " + result.getStatus();
+            TestRunnerCheck.check(expectedStatus == result.getStatus(), msg);
+        }
+    }
+    
+    private static void checkRunWithFailureBudget() {
+        System.out.println("run with failure budget");
+        String budgetTestClassName = YetMoreToyTests.class.getName();
+        List<TestResult> actual = new ArrayList<>();
+        FailureBudget budget = new FailureBudget(1);
+        try (WorkerPool pool = new WorkerPool(1, 0, 0L)) {
+            pool.run(budgetTestClassName, 
+                    TestListener.combine(budget, actual::add), budget);
+            int problemCount = 0;
+            int notRunCount = 0;
+            for (TestResult result : actual) {
+                switch (result.getStatus()) {
+                    case FAILED:
+                    case ERROR:
+                    case TIMED_OUT: 
+                        problemCount++;
+                        break;
+                    case NOT_RUN: 
+                        notRunCount++;
+                        break;
+                    default: 
+                        break;
+                }
+            }
+            String msg = "Expected worker to stop after 1 problem, got " 
+                    + problemCount + " problems and " + notRunCount 
+                    + " tests not run";
+            TestRunnerCheck.check(problemCount == 1 && notRunCount > 0, msg);
+            int expected = actual.size();
+            actual.clear();
+            long start = System.currentTimeMillis();
+            pool.run(budgetTestClassName, actual::add, budget);
+            long elapsed = System.currentTimeMillis() - start;
+            msg = "Expected " + expected + " results, got " + actual.size();
+            TestRunnerCheck.check(actual.size() == expected, msg);
+            for (TestResult result : actual) {
+                msg = result.getProcedure().getName() 
+                        + " should not have been run, status was " 
+                        + result.getStatus();
+                TestRunnerCheck.check(result.getStatus() 
+                        == TestResultStatus.NOT_RUN || result.getStatus() 
+                        == TestResultStatus.SKIPPED, msg);
+            }
+            msg = "Run after budget was used up took " + elapsed 
+                    + " ms, should not have run any of the tests";
+            TestRunnerCheck.check(elapsed 
+                    < YetMoreToyTests.SLEEP_MILLISECONDS, msg);
+        }
+    }
+    
+    private static void checkMissingTestsReported(Class<?> type, 
+            String failingName) {
+        List<TestResult> actual = new ArrayList<>();
+        try (WorkerPool pool = new WorkerPool(1, 0, 0L)) {
+            pool.run(type.getName(), actual::add);
+            pool.run(TEST_CLASS_NAME, actual::add);
+        }
+        Map<String, TestResultStatus> statuses = new HashMap<>();
+        for (TestResult result : actual) {
+            if (result.getProcedure().getDeclaringClass() == type) {
+                String name = result.getProcedure().getName();
+                String msg = name + " should be reported only once";
+                TestRunnerCheck.check(!statuses.containsKey(name), msg);
+                statuses.put(name, result.getStatus());
+            }
+        }
+        for (Method procedure : type.getMethods()) {
+            if (procedure.isAnnotationPresent(Test.class)) {
+                String name = procedure.getName();
+                String msg = name + " should have been reported";
+                TestRunnerCheck.check(statuses.containsKey(name), msg);
+            }
+        }
+        TestResultStatus status = statuses.get(failingName);
+        String msg = "Expected " + failingName + " to be reported as an " 
+                + "error, got " + status;
+        TestRunnerCheck.check(status == TestResultStatus.ERROR, msg);
+        msg = "Pool should go on to the next test class with a fresh worker";
+        TestRunnerCheck.check(actual.size() > statuses.size(), msg);
+    }
+    
+    private static void checkBrokenSetUpReported() {
+        System.out.println("failing @BeforeAllTests in worker");
+        checkMissingTestsReported(BrokenSetUpTests.class, 
+                "testThatShouldNotRunA");
+        checkMissingTestsReported(BrokenSetUpTests.class, 
+                "testThatShouldNotRunB");
+    }
+    
+    private static void checkWorkerExitReported() {
+        System.out.println("worker exits partway through");
+        checkMissingTestsReported(ExitingTests.class, "testThatShouldExit");
+    }
+    
+    public static void main(String[] args) throws Exception {
+        checkResultRoundTrip();
+        checkUnavailableThrowableClass();
+        checkRunMatchesInProcess();
+        checkRunWithFailureBudget();
+        checkBrokenSetUpReported();
+        checkWorkerExitReported();
+        System.out.println("All checks have PASSED");
+    }
+
+}
@@ -6,11 +6,15 @@ import org.testframe.api.Test;
 /**
  * Toy tests to check the "-sort" command line option for TestRunner. Three each 
  * are provided of tests that should pass, tests that should fail, tests that 
- * should cause an error and tests that should be skipped, but they're provided 
- * so as to be interleaved rather than in order.
+ * should cause an error, tests that should be skipped and tests that should 
+ * time out, but they're provided so as to be interleaved rather than in order.
  * @author Alonso del Arte
  */
 public class YetMoreToyTests {
+    
+    static final long TIMEOUT_MILLISECONDS = 100;
+    
+    static final long SLEEP_MILLISECONDS = 10000;
 
     @Test
     public void testThatShouldPassA() {
@@ -41,6 +45,13 @@ public class YetMoreToyTests {
         throw new RuntimeException(msg);
     }
     
+    @Test(timeout = TIMEOUT_MILLISECONDS)
+    public void testThatShouldTimeOutA() throws InterruptedException {
+        String msg = "This test should be reported as timed out (A)";
+        System.out.println(msg);
+        Thread.sleep(SLEEP_MILLISECONDS);
+    }
+    
     @Test
     public void testThatShouldPassB() {
         String msg = "This test should be reported as passing (B)";
@@ -70,6 +81,13 @@ public class YetMoreToyTests {
         throw new RuntimeException(msg);
     }
     
+    @Test(timeout = TIMEOUT_MILLISECONDS)
+    public void testThatShouldTimeOutB() throws InterruptedException {
+        String msg = "This test should be reported as timed out (B)";
+        System.out.println(msg);
+        Thread.sleep(SLEEP_MILLISECONDS);
+    }
+    
     @Test
     public void testThatShouldPassC() {
         String msg = "This test should be reported as passing (C)";
@@ -99,4 +117,11 @@ public class YetMoreToyTests {
         throw new RuntimeException(msg);
     }
     
+    @Test(timeout = TIMEOUT_MILLISECONDS)
+    public void testThatShouldTimeOutC() throws InterruptedException {
+        String msg = "This test should be reported as timed out (C)";
+        System.out.println(msg);
+        Thread.sleep(SLEEP_MILLISECONDS);
+    }
+    
 }